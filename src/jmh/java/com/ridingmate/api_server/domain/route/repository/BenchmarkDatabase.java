@@ -0,0 +1,33 @@
+package com.ridingmate.api_server.domain.route.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * DB 벤치마크용 PostgreSQL(PostGIS) 연결
+ *
+ * - 운영 DB가 아닌 벤치마크 전용 DB를 환경변수로 지정 (JMH fork JVM에도 그대로 전달됨)
+ *   BENCHMARK_DB_URL (예: jdbc:postgresql://localhost:5432/ridingmate_bench), BENCHMARK_DB_USERNAME, BENCHMARK_DB_PASSWORD
+ * - 벤치마크는 세션 임시 테이블만 사용하므로 실제 테이블은 변경하지 않음
+ */
+final class BenchmarkDatabase {
+
+    private BenchmarkDatabase() {
+    }
+
+    /**
+     * @param urlParameters URL에 덧붙일 드라이버 옵션 (예: reWriteBatchedInserts=true, 없으면 빈 문자열)
+     */
+    static Connection connect(String urlParameters) throws SQLException {
+        String url = System.getenv("BENCHMARK_DB_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("BENCHMARK_DB_URL 환경변수가 필요합니다");
+        }
+        if (!urlParameters.isEmpty()) {
+            url += (url.contains("?") ? "&" : "?") + urlParameters;
+        }
+        return DriverManager.getConnection(url,
+                System.getenv("BENCHMARK_DB_USERNAME"), System.getenv("BENCHMARK_DB_PASSWORD"));
+    }
+}
@@ -0,0 +1,186 @@
+package com.ridingmate.api_server.domain.route.repository;
+
+import com.ridingmate.api_server.domain.route.entity.Route;
+import com.ridingmate.api_server.domain.route.entity.RouteGpsLog;
+import com.ridingmate.api_server.global.config.GpsEncryptionKeyProperty;
+import com.ridingmate.api_server.global.util.GpsEncryptionUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로 GPS 로그 저장 방식 비교 (BENCHMARK_DB_URL의 PostgreSQL 필요, BenchmarkDatabase 참고)
+ *
+ * - perEntityInsert: 이전 saveAll 경로 재현. IDENTITY 전략이라 Hibernate가 엔티티마다 INSERT 후 생성 키를 받고,
+ *   컨버터가 좌표를 값마다 암호화하므로 같은 순서로 JDBC에서 실행 (Hibernate 세션 비용은 제외되어 실제보다 유리함)
+ * - batchInsertRewritten: RouteGpsLogJdbcRepository + reWriteBatchedInserts=true (multi-row INSERT로 재작성)
+ * - batchInsert: RouteGpsLogJdbcRepository + reWriteBatchedInserts=false (JDBC 배치만 사용)
+ * - 세션 임시 테이블 route_gps_logs가 실제 테이블을 가리므로 레포지토리 SQL을 그대로 실행해도 실제 데이터는 변경하지 않음
+ * - 한 번 호출이 경로 하나 저장 트랜잭션 (커밋 포함), 반복마다 임시 테이블을 비움
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RouteGpsLogInsertBenchmark {
+
+    private static final long ROUTE_ID = 1L;
+
+    private static final String PER_ENTITY_INSERT_SQL = """
+        INSERT INTO route_gps_logs
+            (route_id, log_time, longitude, latitude, elevation, waypoint_type, waypoint_title, waypoint_description)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    @Param({"1000", "10000"})
+    private int pointCount;
+
+    private Connection plainConnection;
+    private Connection rewriteConnection;
+    private GpsEncryptionUtil gpsEncryptionUtil;
+    private RouteGpsLogJdbcRepository batchRepository;
+    private RouteGpsLogJdbcRepository rewriteBatchRepository;
+    private Route route;
+    private List<RouteGpsLog> routeGpsLogs;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        byte[] key = new byte[32];
+        new Random(1).nextBytes(key);
+        gpsEncryptionUtil = new GpsEncryptionUtil(new GpsEncryptionKeyProperty(
+                null, Map.of(1, Base64.getEncoder().encodeToString(key)), 1));
+
+        plainConnection = openConnection("reWriteBatchedInserts=false");
+        rewriteConnection = openConnection("reWriteBatchedInserts=true");
+        batchRepository = new RouteGpsLogJdbcRepository(jdbcTemplate(plainConnection), gpsEncryptionUtil);
+        rewriteBatchRepository = new RouteGpsLogJdbcRepository(jdbcTemplate(rewriteConnection), gpsEncryptionUtil);
+
+        // 레포지토리는 route.getId()만 사용
+        route = new Route() {
+            @Override
+            public Long getId() {
+                return ROUTE_ID;
+            }
+        };
+
+        Random random = new Random(42);
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 1, 9, 0);
+        double longitude = 127.0;
+        double latitude = 37.5;
+        double elevation = 30.0;
+        routeGpsLogs = new ArrayList<>(pointCount);
+        for (int i = 0; i < pointCount; i++) {
+            longitude += random.nextGaussian() * 0.0001;
+            latitude += random.nextGaussian() * 0.0001;
+            elevation += random.nextGaussian() * 0.5;
+            routeGpsLogs.add(RouteGpsLog.builder()
+                    .route(route)
+                    .longitude(longitude)
+                    .latitude(latitude)
+                    .elevation(elevation)
+                    .logTime(startTime.plusSeconds(i))
+                    .build());
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        for (Connection connection : List.of(plainConnection, rewriteConnection)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("TRUNCATE route_gps_logs");
+            }
+            connection.commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        plainConnection.close();
+        rewriteConnection.close();
+    }
+
+    @Benchmark
+    public long perEntityInsert() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement ps = plainConnection.prepareStatement(PER_ENTITY_INSERT_SQL,
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (RouteGpsLog routeGpsLog : routeGpsLogs) {
+                ps.setLong(1, ROUTE_ID);
+                ps.setObject(2, routeGpsLog.getLogTime());
+                ps.setString(3, gpsEncryptionUtil.encrypt(routeGpsLog.getLongitude()));
+                ps.setString(4, gpsEncryptionUtil.encrypt(routeGpsLog.getLatitude()));
+                ps.setString(5, gpsEncryptionUtil.encrypt(routeGpsLog.getElevation()));
+                ps.setNull(6, Types.VARCHAR);
+                ps.setNull(7, Types.VARCHAR);
+                ps.setNull(8, Types.VARCHAR);
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        plainConnection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public void batchInsert() throws SQLException {
+        batchRepository.batchInsert(route, routeGpsLogs);
+        plainConnection.commit();
+    }
+
+    @Benchmark
+    public void batchInsertRewritten() throws SQLException {
+        rewriteBatchRepository.batchInsert(route, routeGpsLogs);
+        rewriteConnection.commit();
+    }
+
+    private Connection openConnection(String urlParameters) throws SQLException {
+        Connection connection = BenchmarkDatabase.connect(urlParameters);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TEMP TABLE route_gps_logs (
+                        id bigserial PRIMARY KEY,
+                        route_id bigint NOT NULL,
+                        log_time timestamp NOT NULL,
+                        longitude text NOT NULL,
+                        latitude text NOT NULL,
+                        elevation text,
+                        waypoint_type varchar(50),
+                        waypoint_title varchar(200),
+                        waypoint_description text
+                    )
+                    """);
+            statement.execute("CREATE INDEX ON route_gps_logs (route_id, log_time)");
+        }
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    private JdbcTemplate jdbcTemplate(Connection connection) {
+        return new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+    }
+}
@@ -0,0 +1,146 @@
+package com.ridingmate.api_server.domain.route.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가까운 순 추천 코스 KNN 쿼리 벤치마크 (BENCHMARK_DB_URL의 PostGIS 필요, BenchmarkDatabase 참고)
+ *
+ * - 세션 임시 테이블에 routeCount개의 출발 지점을 국내 범위(경도 126.0~129.5, 위도 34.0~38.5)에 무작위 생성
+ * - knnFirstPage/knnDeepPage: RouteRepository와 같은 geography KNN 정렬 (첫 페이지, 50번째 페이지)
+ * - fullSortFirstPage: 인덱스 없이 전체 행의 구면 거리를 계산해 정렬한 기준값
+ * - Setup에서 KNN이 GiST 인덱스 스캔을 쓰는지, 첫 페이지 순서가 기준값과 같은지 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RouteNearestQueryBenchmark {
+
+    private static final String TABLE = "route_knn_benchmark";
+
+    private static final String USER_POINT = "ST_SetSRID(ST_MakePoint(?, ?), 4326)::geography";
+
+    private static final String KNN_SQL = "SELECT id FROM " + TABLE
+            + " ORDER BY start_point::geography <-> " + USER_POINT + ", id LIMIT ? OFFSET ?";
+
+    private static final String FULL_SORT_SQL = "SELECT id FROM " + TABLE
+            + " ORDER BY ST_Distance(start_point::geography, " + USER_POINT + ", false), id LIMIT ? OFFSET ?";
+
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 50;
+    private static final int VERIFY_QUERY_COUNT = 20;
+
+    @Param({"100000", "300000"})
+    private int routeCount;
+
+    private Connection connection;
+    private PreparedStatement knnStatement;
+    private PreparedStatement fullSortStatement;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = BenchmarkDatabase.connect("");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMP TABLE " + TABLE
+                    + " (id bigint PRIMARY KEY, start_point geometry(Point, 4326))");
+            statement.execute("INSERT INTO " + TABLE + " (id, start_point)"
+                    + " SELECT g, ST_SetSRID(ST_MakePoint(126.0 + random() * 3.5, 34.0 + random() * 4.5), 4326)"
+                    + " FROM generate_series(1, " + routeCount + ") g");
+            statement.execute("CREATE INDEX ON " + TABLE + " USING GIST ((start_point::geography))");
+            statement.execute("ANALYZE " + TABLE);
+        }
+        knnStatement = connection.prepareStatement(KNN_SQL);
+        fullSortStatement = connection.prepareStatement(FULL_SORT_SQL);
+        random = new Random(42);
+
+        verifyKnnPlanAndOrder();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> knnFirstPage() throws SQLException {
+        return query(knnStatement, 0);
+    }
+
+    @Benchmark
+    public List<Long> knnDeepPage() throws SQLException {
+        return query(knnStatement, DEEP_PAGE * PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Long> fullSortFirstPage() throws SQLException {
+        return query(fullSortStatement, 0);
+    }
+
+    private List<Long> query(PreparedStatement statement, int offset) throws SQLException {
+        return query(statement, 126.0 + random.nextDouble() * 3.5, 34.0 + random.nextDouble() * 4.5, offset);
+    }
+
+    private List<Long> query(PreparedStatement statement, double userLon, double userLat, int offset)
+            throws SQLException {
+        statement.setDouble(1, userLon);
+        statement.setDouble(2, userLat);
+        statement.setInt(3, PAGE_SIZE);
+        statement.setInt(4, offset);
+        List<Long> ids = new ArrayList<>(PAGE_SIZE);
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    private void verifyKnnPlanAndOrder() throws SQLException {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + KNN_SQL)) {
+            explain.setDouble(1, 127.0);
+            explain.setDouble(2, 37.5);
+            explain.setInt(3, PAGE_SIZE);
+            explain.setInt(4, 0);
+            boolean indexScan = false;
+            try (ResultSet resultSet = explain.executeQuery()) {
+                while (resultSet.next()) {
+                    indexScan |= resultSet.getString(1).contains("Index Scan");
+                }
+            }
+            if (!indexScan) {
+                throw new IllegalStateException("geography KNN 쿼리가 GiST 인덱스 스캔을 사용하지 않습니다");
+            }
+        }
+
+        Random verifyRandom = new Random(7);
+        for (int i = 0; i < VERIFY_QUERY_COUNT; i++) {
+            double userLon = 126.0 + verifyRandom.nextDouble() * 3.5;
+            double userLat = 34.0 + verifyRandom.nextDouble() * 4.5;
+            List<Long> knnIds = query(knnStatement, userLon, userLat, 0);
+            List<Long> fullSortIds = query(fullSortStatement, userLon, userLat, 0);
+            if (!knnIds.equals(fullSortIds)) {
+                throw new IllegalStateException("KNN 순서가 전체 정렬 기준값과 다릅니다: userLon=" + userLon
+                        + ", userLat=" + userLat);
+            }
+        }
+    }
+}
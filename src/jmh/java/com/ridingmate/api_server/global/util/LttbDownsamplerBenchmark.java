@@ -0,0 +1,81 @@
+package com.ridingmate.api_server.global.util;
+
+import com.ggalmazor.ltdownsampling.DoublePoint;
+import com.ggalmazor.ltdownsampling.LTThreeBuckets;
+import com.ggalmazor.ltdownsampling.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LttbDownsampler와 기존 lttb_downsampling 라이브러리 비교
+ *
+ * - 라이브러리 경로는 제거 전 GeometryUtil과 같이 DoublePoint 변환 후 인덱스를 다시 꺼내는 비용까지 포함
+ * - 입력은 고도 프로필과 비슷한 랜덤 워크 (일부 구간 NaN)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LttbDownsamplerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"500"})
+    private int targetSize;
+
+    private double[] values;
+    private double[][] channels;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        values = new double[size];
+        double[] speeds = new double[size];
+        double[] heartRates = new double[size];
+        double elevation = 50;
+        for (int i = 0; i < size; i++) {
+            elevation += random.nextGaussian();
+            values[i] = i % 997 < 10 ? Double.NaN : elevation;
+            speeds[i] = Math.max(0, 6 + random.nextGaussian() * 2);
+            heartRates[i] = 130 + random.nextGaussian() * 10;
+        }
+        channels = new double[][]{values, speeds, heartRates};
+    }
+
+    @Benchmark
+    public int[] inHouseSingleChannel() {
+        return LttbDownsampler.downsample(values, targetSize);
+    }
+
+    @Benchmark
+    public int[] inHouseMultiChannel() {
+        return LttbDownsampler.downsample(channels, targetSize);
+    }
+
+    @Benchmark
+    public int[] librarySingleChannel() {
+        List<Point> points = new ArrayList<>(values.length);
+        double last = 0.0;
+        for (int i = 0; i < values.length; i++) {
+            if (Double.isFinite(values[i])) {
+                last = values[i];
+            }
+            points.add(new DoublePoint(i, last));
+        }
+        // 버킷 수 + 첫/마지막 포인트
+        return LTThreeBuckets.sorted(points, targetSize - 2).stream()
+                .mapToInt(point -> (int) point.getX())
+                .toArray();
+    }
+}
@@ -5,7 +5,9 @@ import com.ridingmate.api_server.domain.activity.dto.request.ActivityStatsReques
 import com.ridingmate.api_server.domain.activity.dto.request.AppleWorkoutsImportRequest;
 import com.ridingmate.api_server.domain.activity.dto.request.UpdateActivityTitleRequest;
 import com.ridingmate.api_server.domain.activity.dto.response.*;
+import com.ridingmate.api_server.domain.activity.enums.TrackResolution;
 import com.ridingmate.api_server.domain.auth.security.AuthUser;
+import com.ridingmate.api_server.domain.thumbnail.dto.response.ThumbnailStatusResponse;
 import com.ridingmate.api_server.global.exception.CommonResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,6 +22,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -51,7 +54,7 @@ public interface ActivityApi {
 
     @Operation(
             summary = "주행 기록 상세 조회",
-            description = "특정 주행 기록의 상세 정보를 조회합니다. GPS 좌표, 고도 프로필, 이미지 등 모든 정보를 포함합니다."
+            description = "특정 주행 기록의 상세 정보를 조회합니다. GPS 좌표, 고도 프로필, 이미지 등 모든 정보를 포함합니다. GPS 좌표는 요청한 해상도로 미리 다운샘플링된 트랙을 반환합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -61,6 +64,24 @@ public interface ActivityApi {
             ),
     })
     ResponseEntity<CommonResponse<ActivityDetailResponse>> getActivityDetail(
+            @Parameter(description = "조회할 주행 기록 ID", example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable String activityId,
+            @Parameter(description = "트랙 해상도 (LOW: 128, MEDIUM: 512, HIGH: 2048 포인트, FULL: 원본)", example = "LOW")
+            @RequestParam(defaultValue = "LOW") TrackResolution resolution
+    );
+
+    @Operation(
+            summary = "주행 기록 썸네일 생성 상태 조회",
+            description = "썸네일은 주행 기록 생성 후 비동기로 만들어집니다. 생성 상태와 완료된 경우 썸네일 URL을 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "썸네일 생성 상태 조회 성공",
+                    content = @Content(schema = @Schema(implementation = ThumbnailStatusResponse.class))
+            ),
+    })
+    ResponseEntity<CommonResponse<ThumbnailStatusResponse>> getActivityThumbnailStatus(
             @Parameter(description = "조회할 주행 기록 ID", example = "123e4567-e89b-12d3-a456-426614174000")
             @PathVariable String activityId
     );
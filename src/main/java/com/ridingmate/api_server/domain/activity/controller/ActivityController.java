@@ -11,9 +11,11 @@ import com.ridingmate.api_server.domain.activity.dto.response.AppleWorkoutsImpor
 import com.ridingmate.api_server.domain.activity.dto.response.DeleteActivityImageResponse;
 import com.ridingmate.api_server.domain.activity.dto.response.UpdateActivityTitleResponse;
 import com.ridingmate.api_server.domain.activity.dto.response.UploadActivityImagesResponse;
+import com.ridingmate.api_server.domain.activity.enums.TrackResolution;
 import com.ridingmate.api_server.domain.activity.exception.ActivitySuccessCode;
 import com.ridingmate.api_server.domain.activity.facade.ActivityFacade;
 import com.ridingmate.api_server.domain.auth.security.AuthUser;
+import com.ridingmate.api_server.domain.thumbnail.dto.response.ThumbnailStatusResponse;
 import com.ridingmate.api_server.global.exception.CommonResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -47,14 +49,26 @@ public class ActivityController implements ActivityApi {
     @GetMapping("/{activityId}")
     @Override
     public ResponseEntity<CommonResponse<ActivityDetailResponse>> getActivityDetail(
-            @PathVariable String activityId
+            @PathVariable String activityId,
+            @RequestParam(defaultValue = "LOW") TrackResolution resolution
     ) {
-        ActivityDetailResponse response = activityFacade.getActivityDetail(activityId);
+        ActivityDetailResponse response = activityFacade.getActivityDetail(activityId, resolution);
         return ResponseEntity
                 .status(ActivitySuccessCode.ACTIVITY_DETAIL_FETCHED.getStatus())
                 .body(CommonResponse.success(ActivitySuccessCode.ACTIVITY_DETAIL_FETCHED, response));
     }
 
+    @GetMapping("/{activityId}/thumbnail")
+    @Override
+    public ResponseEntity<CommonResponse<ThumbnailStatusResponse>> getActivityThumbnailStatus(
+            @PathVariable String activityId
+    ) {
+        ThumbnailStatusResponse response = activityFacade.getActivityThumbnailStatus(activityId);
+        return ResponseEntity
+                .status(ActivitySuccessCode.ACTIVITY_THUMBNAIL_STATUS_FETCHED.getStatus())
+                .body(CommonResponse.success(ActivitySuccessCode.ACTIVITY_THUMBNAIL_STATUS_FETCHED, response));
+    }
+
     @GetMapping("/stats")
     @Override
     public ResponseEntity<CommonResponse<ActivityStatsResponse>> getActivityStats(
@@ -0,0 +1,15 @@
+package com.ridingmate.api_server.domain.activity.dto.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 기간 단위(일/월/연) 버킷별 활동 통계
+ * bucketDate는 date_trunc 결과로 각 버킷의 시작일
+ */
+public interface ActivityStatsBucketProjection {
+    LocalDate getBucketDate();
+    Long getCount();
+    Double getTotalDistance();
+    Double getTotalElevation();
+    Long getTotalDurationSeconds();
+}
@@ -1,18 +1,16 @@
 package com.ridingmate.api_server.domain.activity.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.ggalmazor.ltdownsampling.Point;
 import com.ridingmate.api_server.domain.activity.entity.Activity;
-import com.ridingmate.api_server.domain.activity.entity.ActivityGpsLog;
-import com.ridingmate.api_server.domain.activity.dto.projection.GpsLogProjection;
+import com.ridingmate.api_server.domain.activity.entity.ActivityPerformance;
+import com.ridingmate.api_server.domain.activity.track.TrackLevel;
+import com.ridingmate.api_server.domain.activity.track.TrackSamples;
 import io.swagger.v3.oas.annotations.media.Schema;
-import org.locationtech.jts.geom.Coordinate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 public record ActivityDetailResponse(
         @Schema(description = "활동 ID", example = "123e4567-e89b-12d3-a456-426614174000")
@@ -38,13 +36,13 @@ public record ActivityDetailResponse(
         @Schema(description = "이동 거리 (m)", example = "3140")
         Double distanceM,
 
-        @Schema(description = "평균 속도 (km/h)", example = "18.16")
+        @Schema(description = "평균 속도 (km/h, 이동 시간 기준 / 성능 지표가 없는 활동은 운동 시간 기준)", example = "18.16")
         Double averageSpeed,
 
         @Schema(description = "상승 고도 (m)", example = "124")
         Double elevationGain,
 
-        @Schema(description = "하강 고도 (m)", example = "124")
+        @Schema(description = "하강 고도 (m, 트랙이 없거나 성능 지표가 아직 생성되지 않은 활동은 null)", example = "124", nullable = true)
         Double elevationLoss,
 
         @Schema(description = "케이던스", example = "157")
@@ -144,42 +142,43 @@ public record ActivityDetailResponse(
 
     public static ActivityDetailResponse from(
             Activity activity,
-            List<Point> gpsPoints,
-            Coordinate[] originalCoordinates,
-            List<GpsLogProjection> gpsLogProjections,
+            ActivityPerformance performance,
+            TrackLevel trackLevel,
             String profileImageUrl,
             String thumbnailImageUrl,
-            List<ActivityImageResponse> activityImages,
-            List<Double> bbox
+            List<ActivityImageResponse> activityImages
     ) {
-        List<TrackPoint> trackPoints = IntStream.range(0, gpsPoints.size())
-                .mapToObj(i -> {
-                    Point point = gpsPoints.get(i);
-                    int originalIndex = (int) point.getX(); // LTTB에서 X는 원본 인덱스
-                    org.locationtech.jts.geom.Coordinate originalCoord = originalCoordinates[originalIndex];
-                    
-                    // 원본 인덱스에 해당하는 GPS 로그 Projection에서 속도와 심박수 데이터 가져오기
-                    GpsLogProjection gpsLogProjection =
-                            originalIndex < gpsLogProjections.size() ? gpsLogProjections.get(originalIndex) : null;
-                    
-                    return new TrackPoint(
-                            i, // 다운샘플링된 인덱스
-                            point.getY(), // 고도
-                            originalCoord.y, // 위도
-                            originalCoord.x, // 경도
-                            gpsLogProjection != null ? gpsLogProjection.getSpeedInKmh() : null, // 속도 (km/h)
-                            gpsLogProjection != null ? gpsLogProjection.heartRate() : null // 심박수 (bpm)
-                    );
-                })
-                .collect(Collectors.toList());
+        TrackSamples samples = trackLevel.samples();
+        double[] latitudes = samples.latitudes();
+        double[] longitudes = samples.longitudes();
+        double[] elevations = samples.elevations();
+        double[] speeds = samples.speeds();
+        double[] heartRates = samples.heartRates();
+
+        List<TrackPoint> trackPoints = new ArrayList<>(samples.size());
+        for (int i = 0; i < samples.size(); i++) {
+            trackPoints.add(new TrackPoint(
+                    i, // 다운샘플링된 인덱스
+                    Double.isNaN(elevations[i]) ? 0.0 : elevations[i], // 고도
+                    latitudes[i], // 위도
+                    longitudes[i], // 경도
+                    Double.isNaN(speeds[i]) ? null : speeds[i] * 3.6, // 속도 (km/h)
+                    Double.isNaN(heartRates[i]) ? null : heartRates[i] // 심박수 (bpm)
+            ));
+        }
 
         Duration totalDuration = Duration.between(activity.getStartedAt(), activity.getEndedAt());
         Duration activeDuration = activity.getDuration();
 
-        // 평균 속도 계산 (km/h)
-        double averageSpeed = activeDuration.toSeconds() > 0 
-                ? (activity.getDistance() / 1000.0) / (activeDuration.toSeconds() / 3600.0)
-                : 0.0;
+        // 평균 속도 (km/h): 트랙 분석값 우선, 없으면 운동 시간 기준으로 계산
+        double averageSpeed;
+        if (performance != null && performance.getAverageSpeed() != null) {
+            averageSpeed = performance.getAverageSpeed();
+        } else {
+            averageSpeed = activeDuration.toSeconds() > 0
+                    ? (activity.getDistance() / 1000.0) / (activeDuration.toSeconds() / 3600.0)
+                    : 0.0;
+        }
 
         // 사용자 정보 생성
         UserInfo userInfo = UserInfo.from(activity.getUser(), profileImageUrl);
@@ -194,7 +193,7 @@ public record ActivityDetailResponse(
                 activity.getDistance(), // 미터 단위 그대로 사용
                 Math.round(averageSpeed * 100.0) / 100.0, // 소수점 2자리 반올림
                 activity.getElevationGain(),
-                activity.getElevationGain(), // TODO: 실제 하강 고도 필드 추가 시 변경
+                performance != null ? performance.getElevationLoss() : null,
                 activity.getCadence(),
                 activity.getAverageHeartRate(),
                 activity.getMaxHeartRate(),
@@ -207,7 +206,7 @@ public record ActivityDetailResponse(
                 activityImages,
                 trackPoints.size(),
                 trackPoints,
-                bbox
+                trackLevel.bbox()
         );
     }
 }
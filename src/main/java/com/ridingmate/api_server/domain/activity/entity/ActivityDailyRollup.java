@@ -0,0 +1,71 @@
+package com.ridingmate.api_server.domain.activity.entity;
+
+import com.ridingmate.api_server.domain.user.entity.User;
+import com.ridingmate.api_server.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 일간 활동 집계 엔티티
+ * 활동 생성/삭제 시 증분 갱신되며 통계 조회는 이 테이블만 사용
+ */
+@Entity
+@Table(name = "activity_daily_rollups",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "day"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ActivityDailyRollup extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    /**
+     * 집계 일자 (활동 시작일 기준)
+     */
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    /**
+     * 활동 수
+     */
+    @Column(name = "count", nullable = false)
+    private long count;
+
+    /**
+     * 총 거리 (단위: 미터)
+     */
+    @Column(name = "distance", nullable = false)
+    private double distance;
+
+    /**
+     * 총 상승 고도 (단위: 미터)
+     */
+    @Column(name = "elevation", nullable = false)
+    private double elevation;
+
+    /**
+     * 총 소요 시간 (단위: 초)
+     */
+    @Column(name = "duration_seconds", nullable = false)
+    private long durationSeconds;
+
+    @Builder
+    private ActivityDailyRollup(User user, LocalDate day, long count, double distance, double elevation, long durationSeconds) {
+        this.user = user;
+        this.day = day;
+        this.count = count;
+        this.distance = distance;
+        this.elevation = elevation;
+        this.durationSeconds = durationSeconds;
+    }
+}
@@ -1,12 +1,18 @@
 package com.ridingmate.api_server.domain.activity.entity;
 
+import com.ridingmate.api_server.domain.activity.track.TrackAnalysis;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.Duration;
 
+/**
+ * 활동 성능 지표
+ * 활동 생성 시 GPS 트랙을 한 번 분석하여 저장 (상세 조회 시 원본 트랙을 다시 계산하지 않음)
+ */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -21,15 +27,27 @@ public class ActivityPerformance {
     @JoinColumn(name = "activity_id")
     private Activity activity;
 
+    /**
+     * 이동 시간 기준 평균 속도 (km/h)
+     */
     @Column(name = "average_speed")
     private Double averageSpeed;
 
+    /**
+     * 최고 속도 (km/h)
+     */
     @Column(name = "max_speed")
     private Double maxSpeed;
 
+    /**
+     * 이동 시간 (정지 구간 제외)
+     */
     @Column(name = "moving_time")
     private Duration movingTime;
 
+    /**
+     * 총 하강 고도 (단위: 미터)
+     */
     @Column(name = "elevation_loss")
     private Double elevationLoss;
 
@@ -47,4 +65,46 @@ public class ActivityPerformance {
 
     @Column(name = "max_power")
     private Double maxPower;
+
+    @Builder
+    private ActivityPerformance(Activity activity, Double averageSpeed, Double maxSpeed, Duration movingTime,
+                                Double elevationLoss, Double averageCadence, Double maxCadence,
+                                Double averageHeartRate, Double averagePower, Double maxPower) {
+        this.activity = activity;
+        this.averageSpeed = averageSpeed;
+        this.maxSpeed = maxSpeed;
+        this.movingTime = movingTime;
+        this.elevationLoss = elevationLoss;
+        this.averageCadence = averageCadence;
+        this.maxCadence = maxCadence;
+        this.averageHeartRate = averageHeartRate;
+        this.averagePower = averagePower;
+        this.maxPower = maxPower;
+    }
+
+    /**
+     * 트랙 분석 결과로 성능 지표 생성
+     */
+    public static ActivityPerformance createFromTrackAnalysis(Activity activity, TrackAnalysis analysis) {
+        return ActivityPerformance.builder()
+                .activity(activity)
+                .averageSpeed(toKmh(analysis.averageSpeed()))
+                .maxSpeed(toKmh(analysis.maxSpeed()))
+                .movingTime(Duration.ofSeconds(analysis.movingTimeSeconds()))
+                .elevationLoss(orNull(analysis.elevationLoss()))
+                .averageCadence(orNull(analysis.averageCadence()))
+                .maxCadence(orNull(analysis.maxCadence()))
+                .averageHeartRate(orNull(analysis.averageHeartRate()))
+                .averagePower(orNull(analysis.averagePower()))
+                .maxPower(orNull(analysis.maxPower()))
+                .build();
+    }
+
+    private static Double toKmh(double metersPerSecond) {
+        return Double.isNaN(metersPerSecond) ? null : Math.round(metersPerSecond * 3.6 * 100.0) / 100.0;
+    }
+
+    private static Double orNull(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
 }
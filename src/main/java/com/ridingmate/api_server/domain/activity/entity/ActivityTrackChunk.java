@@ -0,0 +1,60 @@
+package com.ridingmate.api_server.domain.activity.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 활동 GPS 트랙 청크 엔티티
+ * 최대 N개 포인트를 컬럼형 인코딩 + 압축 + 암호화한 하나의 블롭으로 저장
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "activity_track_chunks",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"activity_id", "chunk_index"}))
+public class ActivityTrackChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "activity_id", nullable = false)
+    private Activity activity;
+
+    /**
+     * 청크 순번 (0부터 시작)
+     */
+    @Column(name = "chunk_index", nullable = false)
+    private int chunkIndex;
+
+    /**
+     * 청크 포인트 수
+     */
+    @Column(name = "point_count", nullable = false)
+    private int pointCount;
+
+    /**
+     * 인코딩 포맷 버전
+     */
+    @Column(name = "format_version", nullable = false)
+    private int formatVersion;
+
+    /**
+     * 암호화된 트랙 데이터 (IV + 암호문)
+     */
+    @Column(name = "payload", nullable = false, columnDefinition = "BYTEA")
+    private byte[] payload;
+
+    @Builder
+    private ActivityTrackChunk(Activity activity, int chunkIndex, int pointCount, int formatVersion, byte[] payload) {
+        this.activity = activity;
+        this.chunkIndex = chunkIndex;
+        this.pointCount = pointCount;
+        this.formatVersion = formatVersion;
+        this.payload = payload;
+    }
+}
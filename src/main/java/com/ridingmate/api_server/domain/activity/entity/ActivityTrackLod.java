@@ -0,0 +1,95 @@
+package com.ridingmate.api_server.domain.activity.entity;
+
+import com.ridingmate.api_server.domain.activity.enums.TrackResolution;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 활동 GPS 트랙 해상도별(LOD) 다운샘플링 결과 엔티티
+ * 해상도마다 한 행, 트랙 청크와 같은 인코딩 + 압축 + 암호화 블롭으로 저장
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "activity_track_lods",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"activity_id", "resolution"}))
+public class ActivityTrackLod {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "activity_id", nullable = false)
+    private Activity activity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resolution", nullable = false, length = 16)
+    private TrackResolution resolution;
+
+    /**
+     * 다운샘플링된 포인트 수
+     */
+    @Column(name = "point_count", nullable = false)
+    private int pointCount;
+
+    /**
+     * 원본 트랙 포인트 수
+     */
+    @Column(name = "source_point_count", nullable = false)
+    private int sourcePointCount;
+
+    /**
+     * 인코딩 포맷 버전
+     */
+    @Column(name = "format_version", nullable = false)
+    private int formatVersion;
+
+    /**
+     * 암호화된 트랙 데이터 (IV + 암호문)
+     */
+    @Column(name = "payload", nullable = false, columnDefinition = "BYTEA")
+    private byte[] payload;
+
+    /**
+     * 원본 트랙 Bounding Box
+     */
+    @Column(name = "min_lon", nullable = false)
+    private double minLon;
+
+    @Column(name = "min_lat", nullable = false)
+    private double minLat;
+
+    @Column(name = "max_lon", nullable = false)
+    private double maxLon;
+
+    @Column(name = "max_lat", nullable = false)
+    private double maxLat;
+
+    @Builder
+    private ActivityTrackLod(Activity activity, TrackResolution resolution, int pointCount, int sourcePointCount,
+                             int formatVersion, byte[] payload, List<Double> bbox) {
+        this.activity = activity;
+        this.resolution = resolution;
+        this.pointCount = pointCount;
+        this.sourcePointCount = sourcePointCount;
+        this.formatVersion = formatVersion;
+        this.payload = payload;
+        this.minLon = bbox.get(0);
+        this.minLat = bbox.get(1);
+        this.maxLon = bbox.get(2);
+        this.maxLat = bbox.get(3);
+    }
+
+    /**
+     * @return [minLon, minLat, maxLon, maxLat] 형태의 리스트
+     */
+    public List<Double> getBbox() {
+        return List.of(minLon, minLat, maxLon, maxLat);
+    }
+}
@@ -6,11 +6,15 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum ActivityStatsPeriod {
-    WEEK("주간", "주"),
-    MONTH("월간", "월"), 
-    YEAR("연간", "년"),
-    ALL("전체", "전체");
+    WEEK("주간", "주", "day"),
+    MONTH("월간", "월", "day"),
+    YEAR("연간", "년", "month"),
+    ALL("전체", "전체", "year");
 
     private final String description;
     private final String unit;
+    /**
+     * 상세 통계 버킷 단위 (PostgreSQL date_trunc 필드)
+     */
+    private final String bucketUnit;
 }
@@ -0,0 +1,33 @@
+package com.ridingmate.api_server.domain.activity.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 트랙 조회 해상도 (LOD)
+ * FULL을 제외한 단계는 트랙 저장 시 미리 다운샘플링하여 저장
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrackResolution {
+    LOW("저해상도 (목록/차트)", 128),
+    MEDIUM("중해상도 (상세 지도)", 512),
+    HIGH("고해상도 (확대 지도)", 2048),
+    FULL("원본", Integer.MAX_VALUE);
+
+    private final String description;
+
+    /**
+     * 최대 포인트 수
+     */
+    private final int maxPoints;
+
+    /**
+     * 미리 계산해서 저장하는 해상도 목록
+     */
+    public static List<TrackResolution> storedLevels() {
+        return List.of(LOW, MEDIUM, HIGH);
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.http.HttpStatus;
 public enum ActivitySuccessCode implements SuccessCode {
     ACTIVITY_LIST_FETCHED(HttpStatus.OK, "주행 기록 목록이 조회되었습니다."),
     ACTIVITY_DETAIL_FETCHED(HttpStatus.OK, "주행 기록 세부 정보가 조회되었습니다."),
+    ACTIVITY_THUMBNAIL_STATUS_FETCHED(HttpStatus.OK, "주행 기록 썸네일 생성 상태가 조회되었습니다."),
     ACTIVITY_STATS_FETCHED(HttpStatus.OK, "주행 기록 통계가 조회되었습니다."),
     ACTIVITY_CREATED(HttpStatus.CREATED, "주행 기록이 생성되었습니다."),
     ACTIVITY_UPDATED(HttpStatus.OK, "주행 기록이 수정되었습니다."),
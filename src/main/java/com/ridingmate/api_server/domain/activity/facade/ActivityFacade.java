@@ -1,19 +1,25 @@
 package com.ridingmate.api_server.domain.activity.facade;
 
-import com.ggalmazor.ltdownsampling.Point;
 import com.ridingmate.api_server.domain.activity.dto.request.ActivityListRequest;
 import com.ridingmate.api_server.domain.activity.dto.request.ActivityStatsRequest;
 import com.ridingmate.api_server.domain.activity.dto.request.AppleWorkoutsImportRequest;
 import com.ridingmate.api_server.domain.activity.dto.request.UpdateActivityTitleRequest;
 import com.ridingmate.api_server.domain.activity.dto.response.*;
 import com.ridingmate.api_server.domain.activity.entity.Activity;
-import com.ridingmate.api_server.domain.activity.entity.ActivityGpsLog;
-import com.ridingmate.api_server.domain.activity.dto.projection.GpsLogProjection;
 import com.ridingmate.api_server.domain.activity.entity.ActivityImage;
+import com.ridingmate.api_server.domain.activity.entity.ActivityPerformance;
+import com.ridingmate.api_server.domain.activity.enums.TrackResolution;
 import com.ridingmate.api_server.domain.activity.exception.ActivityException;
 import com.ridingmate.api_server.domain.activity.exception.code.ActivityCommonErrorCode;
 import com.ridingmate.api_server.domain.activity.service.ActivityService;
+import com.ridingmate.api_server.domain.activity.track.TrackLevel;
+import com.ridingmate.api_server.domain.activity.track.TrackSamples;
 import com.ridingmate.api_server.domain.auth.security.AuthUser;
+import com.ridingmate.api_server.domain.thumbnail.dto.response.ThumbnailStatusResponse;
+import com.ridingmate.api_server.domain.thumbnail.entity.ThumbnailJob;
+import com.ridingmate.api_server.domain.thumbnail.enums.ThumbnailJobStatus;
+import com.ridingmate.api_server.domain.thumbnail.enums.ThumbnailTargetType;
+import com.ridingmate.api_server.domain.thumbnail.service.ThumbnailJobService;
 import com.ridingmate.api_server.domain.user.entity.AppleUser;
 import com.ridingmate.api_server.domain.privacy.service.LocationDataAccessLogService;
 import com.ridingmate.api_server.domain.user.entity.User;
@@ -21,7 +27,6 @@ import com.ridingmate.api_server.domain.user.service.AppleUserService;
 import com.ridingmate.api_server.domain.user.service.UserService;
 import com.ridingmate.api_server.global.util.GeometryUtil;
 import com.ridingmate.api_server.infra.aws.s3.S3Manager;
-import com.ridingmate.api_server.infra.geoapify.GeoapifyClient;
 import com.ridingmate.api_server.infra.terra.dto.response.TerraPayload;
 import com.ridingmate.api_server.infra.terra.TerraMapper;
 import lombok.RequiredArgsConstructor;
@@ -32,7 +37,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -42,7 +49,7 @@ public class ActivityFacade {
 
     private final ActivityService activityService;
     private final S3Manager s3Manager;
-    private final GeoapifyClient geoapifyClient;
+    private final ThumbnailJobService thumbnailJobService;
     private final TerraMapper terraMapper;
     private final AppleUserService appleUserService;
     private final UserService userService;
@@ -54,11 +61,13 @@ public class ActivityFacade {
      * @param activityData Terra 활동 데이터
      * @param terraData Terra 원본 데이터 (GPS 좌표 추출용)
      * @param terraUser Terra 사용자 정보 (provider 정보 포함)
+     * @param track 활동 GPS 트랙 (성능 지표 계산용)
      * @return 생성된 Activity (썸네일 경로 포함)
      */
-    public Activity createActivityFromTerraData(User user, TerraPayload.Data activityData, TerraPayload.Data terraData, TerraPayload.User terraUser) {
-        // 1. ActivityService를 통해 순수 도메인 로직으로 Activity 생성
-        Activity activity = activityService.createActivityFromTerraData(user, activityData, terraUser);
+    public Activity createActivityFromTerraData(User user, TerraPayload.Data activityData, TerraPayload.Data terraData,
+                                                TerraPayload.User terraUser, TrackSamples track) {
+        // 1. ActivityService를 통해 순수 도메인 로직으로 Activity 및 성능 지표 생성
+        Activity activity = activityService.createActivityFromTerraData(user, activityData, terraUser, track);
         
         // 2. 위치정보 수집 기록 생성
         locationDataAccessLogService.logLocationCollection(
@@ -68,32 +77,20 @@ public class ActivityFacade {
                 "TERRA_WEBHOOK"
         );
         
-        // 3. 썸네일 생성 시도 (실패해도 Activity 생성은 계속)
+        // 3. 썸네일 생성 작업 등록 (실패해도 Activity 생성은 계속)
         try {
             Coordinate[] coordinates = terraMapper.toCoordinates(terraData);
 
             if (coordinates.length >= 2) {
                 LineString routeLine = GeometryUtil.createLineStringFromCoordinates(coordinates);
-
-                // Geoapify를 통해 썸네일 생성
-                byte[] thumbnailBytes = geoapifyClient.getStaticMap(routeLine);
-
-                // 썸네일 경로 설정 및 S3 업로드
-                String thumbnailPath = createThumbnailImagePath(activity.getId());
-                activity.updateThumbnailImagePath(thumbnailPath);
-                s3Manager.uploadByteFiles(thumbnailPath, thumbnailBytes, "image/png");
-                
-                // 썸네일을 activity_images 테이블에도 추가 (displayOrder = 0으로 설정하여 가장 앞에 표시)
-                activityService.addThumbnailToActivityImages(activity, thumbnailPath);
-                
-                log.info("[Activity] 썸네일 생성 성공: activityId={}, path={}, coordCount={}", 
-                        activity.getId(), thumbnailPath, coordinates.length);
+                thumbnailJobService.enqueue(ThumbnailTargetType.ACTIVITY, activity.getId(), routeLine,
+                        createThumbnailImagePath(activity.getId()));
             } else {
                 log.warn("[Activity] GPS 좌표 부족으로 썸네일 생성 건너뜀: activityId={}, coordCount={}", 
                         activity.getId(), coordinates.length);
             }
         } catch (Exception e) {
-            log.error("[Activity] 썸네일 생성 실패 (Activity 생성은 계속): activityId={}, error={}", 
+            log.error("[Activity] 썸네일 작업 등록 실패 (Activity 생성은 계속): activityId={}, error={}", 
                     activity.getId(), e.getMessage(), e);
         }
         
@@ -121,22 +118,20 @@ public class ActivityFacade {
                 authUser.id(), request.page(), request.size());
         Page<Activity> activityPage = activityService.getActivitiesByUser(authUser.id(), request);
 
+        // 페이지 내 이미지 URL 일괄 생성 (같은 프로필 이미지는 한 번만 서명)
+        List<String> imagePaths = new ArrayList<>();
+        for (Activity activity : activityPage.getContent()) {
+            imagePaths.add(activity.getThumbnailImagePath());
+            imagePaths.add(activity.getUser().getProfileImagePath());
+        }
+        Map<String, String> imageUrls = s3Manager.getPresignedUrls(imagePaths);
+
         List<ActivityListItemResponse> activityItems = activityPage.getContent().stream()
-                .map(activity -> {
-                    String thumbnailImageUrl = activity.getThumbnailImagePath() != null
-                            ? s3Manager.getPresignedUrl(activity.getThumbnailImagePath())
-                            : null;
-
-                    String userProfileImageUrl = activity.getUser().getProfileImagePath() != null
-                            ? s3Manager.getPresignedUrl(activity.getUser().getProfileImagePath())
-                            : null;
-
-                    return ActivityListItemResponse.from(
-                            activity,
-                            thumbnailImageUrl,
-                            userProfileImageUrl
-                    );
-                })
+                .map(activity -> ActivityListItemResponse.from(
+                        activity,
+                        imageUrls.get(activity.getThumbnailImagePath()),
+                        imageUrls.get(activity.getUser().getProfileImagePath())
+                ))
                 .toList();
 
         log.info("[ActivityFacade] 주행 기록 목록 조회 완료: userId={}, totalElements={}", 
@@ -147,10 +142,11 @@ public class ActivityFacade {
     /**
      * 활동 상세 정보 조회
      * @param activityId 활동 ID
+     * @param resolution 트랙 해상도
      * @return 활동 상세 응답
      */
-    public ActivityDetailResponse getActivityDetail(String activityId) {
-        log.info("[ActivityFacade] 주행 기록 상세 조회 시작: activityId={}", activityId);
+    public ActivityDetailResponse getActivityDetail(String activityId, TrackResolution resolution) {
+        log.info("[ActivityFacade] 주행 기록 상세 조회 시작: activityId={}, resolution={}", activityId, resolution);
         Activity activity = activityService.getActivityWithUserByActivityId(activityId);
 
         // 위치정보 조회 기록 생성
@@ -164,20 +160,17 @@ public class ActivityFacade {
                 null   // User-Agent도 Controller에서 가져올 수 없으므로 null
         );
 
-        List<GpsLogProjection> gpsLogProjections = activityService.getActivityGpsLogProjections(activity);
+        TrackLevel trackLevel = activityService.getActivityTrackLevel(activity, resolution);
 
-        Coordinate[] coordinates = gpsLogProjections.stream()
-                .map(GpsLogProjection::toCoordinate)
-                .toArray(Coordinate[]::new);
-        
-        List<Point> elevationPoints =
-                GeometryUtil.downsampleElevationProfile(coordinates, activity.getDistance() / 1000.0);
+        ActivityPerformance performance = activityService.getActivityPerformance(activity.getId());
 
         List<ActivityImage> activityImages = activityService.getActivityImages(activity.getId());
+        Map<String, String> activityImageUrls = s3Manager.getPresignedUrls(
+                activityImages.stream().map(ActivityImage::getImagePath).toList());
         List<ActivityDetailResponse.ActivityImageResponse> imageResponses = activityImages.stream()
                 .map(image -> ActivityDetailResponse.ActivityImageResponse.from(
                         image,
-                        s3Manager.getPresignedUrl(image.getImagePath())
+                        activityImageUrls.get(image.getImagePath())
                 ))
                 .collect(Collectors.toList());
 
@@ -190,24 +183,38 @@ public class ActivityFacade {
                 ? s3Manager.getPresignedUrl(activity.getThumbnailImagePath())
                 : null;
 
-        // Bounding Box 계산
-        List<Double> bbox = GeometryUtil.calculateBoundingBoxList(coordinates);
-
-        log.info("[ActivityFacade] 주행 기록 상세 조회 완료: activityId={}, coordCount={}, imageCount={}", 
-                activityId, coordinates.length, imageResponses.size());
+        log.info("[ActivityFacade] 주행 기록 상세 조회 완료: activityId={}, resolution={}, coordCount={}, imageCount={}",
+                activityId, resolution, trackLevel.samples().size(), imageResponses.size());
         
         return ActivityDetailResponse.from(
                 activity,
-                elevationPoints,
-                coordinates,
-                gpsLogProjections,
+                performance,
+                trackLevel,
                 profileImageUrl,
                 thumbnailImageUrl,
-                imageResponses,
-                bbox
+                imageResponses
         );
     }
 
+    /**
+     * 활동 썸네일 생성 상태 조회
+     * @param activityId 활동 ID
+     * @return 썸네일 생성 상태 응답
+     */
+    public ThumbnailStatusResponse getActivityThumbnailStatus(String activityId) {
+        Activity activity = activityService.getActivityWithUserByActivityId(activityId);
+
+        if (activity.getThumbnailImagePath() != null) {
+            return ThumbnailStatusResponse.of(ThumbnailJobStatus.SUCCEEDED,
+                    s3Manager.getPresignedUrl(activity.getThumbnailImagePath()));
+        }
+
+        ThumbnailJobStatus status = thumbnailJobService.findLatestJob(ThumbnailTargetType.ACTIVITY, activity.getId())
+                .map(ThumbnailJob::getStatus)
+                .orElse(null);
+        return ThumbnailStatusResponse.of(status, null);
+    }
+
     /**
      * 사용자의 활동 통계 조회
      * @param authUser 인증된 사용자
@@ -338,19 +345,17 @@ public class ActivityFacade {
      */
     private void generateThumbnailForAppleActivity(String activityId) {
         try {
-            // Activity와 GPS 로그 조회
+            // Activity와 GPS 트랙 조회
             Activity activity = activityService.getActivityWithUserByActivityId(activityId);
-            List<ActivityGpsLog> gpsLogs = activityService.getActivityGpsLogs(activity.getId());
+            TrackSamples track = activityService.getActivityTrack(activity.getId());
             
-            if (gpsLogs == null || gpsLogs.isEmpty()) {
-                log.warn("Apple 운동 기록 썸네일 생성 건너뜀: activityId={}, gpsLogs가 비어있음", activityId);
+            if (track.isEmpty()) {
+                log.warn("Apple 운동 기록 썸네일 생성 건너뜀: activityId={}, GPS 트랙이 비어있음", activityId);
                 return;
             }
 
             // GPS 좌표를 Coordinate 배열로 변환
-            Coordinate[] coordinates = gpsLogs.stream()
-                    .map(gpsLog -> new Coordinate(gpsLog.getLongitude(), gpsLog.getLatitude()))
-                    .toArray(Coordinate[]::new);
+            Coordinate[] coordinates = track.toCoordinates();
 
             if (coordinates.length < 2) {
                 log.warn("Apple 운동 기록 썸네일 생성 건너뜀: activityId={}, 좌표 부족 (count={})", 
@@ -358,22 +363,10 @@ public class ActivityFacade {
                 return;
             }
 
-            // LineString 생성
+            // LineString 생성 후 썸네일 생성 작업 등록
             LineString routeLine = GeometryUtil.createLineStringFromCoordinates(coordinates);
-
-            // Geoapify를 통해 썸네일 생성
-            byte[] thumbnailBytes = geoapifyClient.getStaticMap(routeLine);
-
-            // 썸네일 경로 생성 및 S3 업로드
-            String thumbnailPath = createThumbnailImagePath(activity.getId());
-            activity.updateThumbnailImagePath(thumbnailPath);
-            s3Manager.uploadByteFiles(thumbnailPath, thumbnailBytes, "image/png");
-            
-            // 썸네일을 activity_images 테이블에도 추가
-            activityService.addThumbnailToActivityImages(activity, thumbnailPath);
-            
-            log.info("Apple 운동 기록 썸네일 생성 성공: activityId={}, path={}, coordCount={}", 
-                    activityId, thumbnailPath, coordinates.length);
+            thumbnailJobService.enqueue(ThumbnailTargetType.ACTIVITY, activity.getId(), routeLine,
+                    createThumbnailImagePath(activity.getId()));
 
         } catch (Exception e) {
             log.error("Apple 운동 기록 썸네일 생성 실패: activityId={}, error={}", 
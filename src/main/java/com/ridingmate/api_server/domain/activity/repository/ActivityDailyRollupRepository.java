@@ -0,0 +1,121 @@
+package com.ridingmate.api_server.domain.activity.repository;
+
+import com.ridingmate.api_server.domain.activity.dto.projection.ActivityStatsBucketProjection;
+import com.ridingmate.api_server.domain.activity.entity.ActivityDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사용자별 일간 활동 집계 레포지토리
+ */
+@Repository
+public interface ActivityDailyRollupRepository extends JpaRepository<ActivityDailyRollup, Long> {
+
+    /**
+     * 일간 집계에 증감분 반영 (없으면 생성)
+     * 삭제 시에는 음수 값을 전달
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO activity_daily_rollups 
+            (user_id, day, count, distance, elevation, duration_seconds, created_at, updated_at)
+        VALUES 
+            (:userId, :day, :count, :distance, :elevation, :durationSeconds, now(), now())
+        ON CONFLICT (user_id, day) DO UPDATE SET
+            count = activity_daily_rollups.count + EXCLUDED.count,
+            distance = activity_daily_rollups.distance + EXCLUDED.distance,
+            elevation = activity_daily_rollups.elevation + EXCLUDED.elevation,
+            duration_seconds = activity_daily_rollups.duration_seconds + EXCLUDED.duration_seconds,
+            updated_at = now()
+        """, nativeQuery = true)
+    void applyDelta(@Param("userId") Long userId,
+                    @Param("day") LocalDate day,
+                    @Param("count") long count,
+                    @Param("distance") double distance,
+                    @Param("elevation") double elevation,
+                    @Param("durationSeconds") long durationSeconds);
+
+    /**
+     * 활동이 모두 삭제된 일간 집계 제거
+     */
+    @Modifying
+    @Query("DELETE FROM ActivityDailyRollup r WHERE r.user.id = :userId AND r.day = :day AND r.count <= 0")
+    void deleteEmptyRollup(@Param("userId") Long userId, @Param("day") LocalDate day);
+
+    /**
+     * 특정 기간 동안의 활동 통계를 버킷(day/month/year) 단위로 조회
+     * 활동이 없는 버킷은 반환되지 않으므로 호출부에서 채워야 함
+     * @param bucketUnit date_trunc 단위 (day, month, year)
+     * @param endDate 종료일 (미포함)
+     */
+    @Query(value = """
+        SELECT 
+            CAST(date_trunc(:bucketUnit, CAST(day AS TIMESTAMP)) AS DATE) as bucketDate,
+            CAST(SUM(count) AS BIGINT) as count,
+            CAST(SUM(distance) AS DOUBLE PRECISION) as totalDistance,
+            CAST(SUM(elevation) AS DOUBLE PRECISION) as totalElevation,
+            CAST(SUM(duration_seconds) AS BIGINT) as totalDurationSeconds
+        FROM activity_daily_rollups 
+        WHERE user_id = :userId 
+        AND day >= :startDate 
+        AND day < :endDate
+        AND count > 0
+        GROUP BY 1
+        ORDER BY 1
+        """, nativeQuery = true)
+    List<ActivityStatsBucketProjection> findStatsBuckets(@Param("userId") Long userId,
+                                                         @Param("bucketUnit") String bucketUnit,
+                                                         @Param("startDate") LocalDate startDate,
+                                                         @Param("endDate") LocalDate endDate);
+
+    /**
+     * 사용자의 가장 오래된 활동 일자 조회
+     */
+    @Query("SELECT MIN(r.day) FROM ActivityDailyRollup r WHERE r.user.id = :userId AND r.count > 0")
+    LocalDate findOldestDay(@Param("userId") Long userId);
+
+    /**
+     * 재구축 동안 일간 집계 쓰기 차단 (트랜잭션 종료 시 해제)
+     * 증분 갱신(ROW EXCLUSIVE)과 다른 재구축은 커밋까지 대기하고, 조회(ACCESS SHARE)는 허용
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE activity_daily_rollups IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    /**
+     * 전체 일간 집계 삭제 (재구축용)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM activity_daily_rollups", nativeQuery = true)
+    int deleteAllRollups();
+
+    /**
+     * activities 테이블로부터 일간 집계 재구축
+     * 소요 시간은 증분 갱신과 동일하게 활동 단위로 초 반올림 후 합산
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO activity_daily_rollups 
+            (user_id, day, count, distance, elevation, duration_seconds, created_at, updated_at)
+        SELECT 
+            user_id,
+            CAST(started_at AS DATE),
+            COUNT(*),
+            COALESCE(SUM(distance), 0.0),
+            COALESCE(SUM(elevation_gain), 0.0),
+            COALESCE(SUM(ROUND(duration / 1000000000.0)), 0),
+            now(),
+            now()
+        FROM activities 
+        WHERE is_delete = false 
+        AND started_at IS NOT NULL
+        GROUP BY user_id, CAST(started_at AS DATE)
+        """, nativeQuery = true)
+    int rebuildFromActivities();
+}
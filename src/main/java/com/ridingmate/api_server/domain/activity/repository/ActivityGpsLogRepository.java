@@ -5,6 +5,7 @@ import com.ridingmate.api_server.domain.activity.entity.Activity;
 import com.ridingmate.api_server.domain.activity.entity.ActivityGpsLog;
 import org.locationtech.jts.geom.Coordinate;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -72,8 +73,34 @@ public interface ActivityGpsLogRepository extends JpaRepository<ActivityGpsLog,
     List<ActivityGpsLog> findByActivityIdOrderByLogTimeAsc(Long activityId);
 
     /**
-     * 특정 활동의 모든 GPS 로그 삭제
+     * 기존 row 단위 GPS 로그가 남아있는 활동 ID 조회 (트랙 마이그레이션용)
+     * @param afterActivityId 이 ID 이후부터 조회
+     * @param limit 최대 조회 수
+     * @return 활동 ID 리스트 (오름차순)
+     */
+    @Query(value = """
+        SELECT DISTINCT activity_id
+        FROM activity_gps_logs
+        WHERE activity_id > :afterActivityId
+        ORDER BY activity_id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Long> findActivityIdsAfter(@Param("afterActivityId") Long afterActivityId, @Param("limit") int limit);
+
+    /**
+     * 특정 활동의 모든 GPS 로그 삭제 (엔티티 로딩 없이 일괄 삭제)
      * @param activityId 활동 ID
      */
-    void deleteByActivityId(Long activityId);
+    @Modifying
+    @Query("DELETE FROM ActivityGpsLog agl WHERE agl.activity.id = :activityId")
+    void deleteByActivityId(@Param("activityId") Long activityId);
+
+    /**
+     * 지정한 GPS 로그 삭제 (트랙 청크로 변환된 행만 삭제)
+     * @param ids GPS 로그 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM ActivityGpsLog agl WHERE agl.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
\ No newline at end of file
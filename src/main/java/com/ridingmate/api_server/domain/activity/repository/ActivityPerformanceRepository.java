@@ -0,0 +1,32 @@
+package com.ridingmate.api_server.domain.activity.repository;
+
+import com.ridingmate.api_server.domain.activity.entity.ActivityPerformance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ActivityPerformanceRepository extends JpaRepository<ActivityPerformance, Long> {
+
+    /**
+     * 트랙은 있지만 성능 지표가 없는 활동 ID 조회 (성능 지표 도입 이전 활동의 소급 생성용)
+     * @param afterActivityId 이 ID 이후부터 조회
+     * @param limit 최대 조회 수
+     * @return 활동 ID 리스트 (오름차순)
+     */
+    @Query(value = """
+        SELECT a.id
+        FROM activities a
+        WHERE a.id > :afterActivityId
+          AND NOT EXISTS (SELECT 1 FROM activity_performances p WHERE p.activity_id = a.id)
+          AND (EXISTS (SELECT 1 FROM activity_track_chunks c WHERE c.activity_id = a.id)
+               OR EXISTS (SELECT 1 FROM activity_gps_logs g WHERE g.activity_id = a.id))
+        ORDER BY a.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Long> findActivityIdsWithoutPerformanceAfter(@Param("afterActivityId") Long afterActivityId,
+                                                      @Param("limit") int limit);
+}
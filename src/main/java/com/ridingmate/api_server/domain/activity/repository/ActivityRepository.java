@@ -1,9 +1,7 @@
 package com.ridingmate.api_server.domain.activity.repository;
 
 import com.ridingmate.api_server.domain.activity.dto.projection.ActivityDateRangeProjection;
-import com.ridingmate.api_server.domain.activity.dto.projection.ActivityStatsProjection;
-import com.ridingmate.api_server.domain.activity.dto.projection.MonthlyStatsProjection;
-import com.ridingmate.api_server.domain.activity.dto.projection.YearlyStatsProjection;
+import com.ridingmate.api_server.domain.activity.dto.projection.ActivityStatsBucketProjection;
 import com.ridingmate.api_server.domain.activity.entity.Activity;
 import com.ridingmate.api_server.domain.user.entity.User;
 import org.springframework.data.domain.Page;
@@ -66,11 +64,13 @@ public interface ActivityRepository extends JpaRepository<Activity, Long> {
     ActivityDateRangeProjection findFirstAndLastActivityDate(@Param("user") User user);
 
     /**
-     * 특정 기간 동안의 활동 통계 조회
-     * Native Query 사용으로 Duration 집계 처리 (나노초 → 초 단위 변환)
+     * 특정 기간 동안의 활동 통계를 버킷(day/month/year) 단위로 한 번에 조회 (일간 집계 재구축 전 대체 조회)
+     * 활동이 없는 버킷은 반환되지 않으므로 호출부에서 채워야 함
+     * @param bucketUnit date_trunc 단위 (day, month, year)
      */
     @Query(value = """
         SELECT 
+            CAST(date_trunc(:bucketUnit, started_at) AS DATE) as bucketDate,
             CAST(COUNT(*) AS BIGINT) as count,
             CAST(COALESCE(SUM(distance), 0.0) AS DOUBLE PRECISION) as totalDistance,
             CAST(COALESCE(SUM(elevation_gain), 0.0) AS DOUBLE PRECISION) as totalElevation,
@@ -80,61 +80,13 @@ public interface ActivityRepository extends JpaRepository<Activity, Long> {
         AND started_at >= :startDate 
         AND started_at < :endDate
         AND is_delete = false
+        GROUP BY 1
+        ORDER BY 1
         """, nativeQuery = true)
-    ActivityStatsProjection findActivityStatsByPeriod(@Param("userId") Long userId,
-                                                      @Param("startDate") LocalDateTime startDate,
-                                                      @Param("endDate") LocalDateTime endDate);
-
-    /**
-     * 전체 활동 통계 조회
-     * Native Query 사용으로 Duration 집계 처리 (나노초 → 초 단위 변환)
-     */
-    @Query(value = """
-        SELECT 
-            CAST(COUNT(*) AS BIGINT) as count,
-            CAST(COALESCE(SUM(distance), 0.0) AS DOUBLE PRECISION) as totalDistance,
-            CAST(COALESCE(SUM(elevation_gain), 0.0) AS DOUBLE PRECISION) as totalElevation,
-            CAST(ROUND(COALESCE(SUM(duration), 0.0) / 1000000000.0) AS BIGINT) as totalDurationSeconds
-        FROM activities 
-        WHERE user_id = :userId AND is_delete = false
-        """, nativeQuery = true)
-    ActivityStatsProjection findOverallActivityStats(@Param("userId") Long userId);
-
-    /**
-     * 연별 활동 통계 조회
-     */
-    @Query(value = """
-        SELECT 
-            EXTRACT(YEAR FROM started_at) as year,
-            CAST(COUNT(*) AS BIGINT) as count,
-            CAST(COALESCE(SUM(distance), 0.0) AS DOUBLE PRECISION) as totalDistance,
-            CAST(COALESCE(SUM(elevation_gain), 0.0) AS DOUBLE PRECISION) as totalElevation,
-            CAST(ROUND(COALESCE(SUM(duration), 0.0) / 1000000000.0) AS BIGINT) as totalDurationSeconds
-        FROM activities 
-        WHERE user_id = :userId AND is_delete = false
-        GROUP BY EXTRACT(YEAR FROM started_at)
-        ORDER BY year DESC
-        """, nativeQuery = true)
-    List<YearlyStatsProjection> findYearlyActivityStats(@Param("userId") Long userId);
-
-    /**
-     * 월별 활동 통계 조회 (특정 연도)
-     */
-    @Query(value = """
-        SELECT 
-            EXTRACT(MONTH FROM started_at) as month,
-            CAST(COUNT(*) AS BIGINT) as count,
-            CAST(COALESCE(SUM(distance), 0.0) AS DOUBLE PRECISION) as totalDistance,
-            CAST(COALESCE(SUM(elevation_gain), 0.0) AS DOUBLE PRECISION) as totalElevation,
-            CAST(ROUND(COALESCE(SUM(duration), 0.0) / 1000000000.0) AS BIGINT) as totalDurationSeconds
-        FROM activities 
-        WHERE user_id = :userId 
-        AND EXTRACT(YEAR FROM started_at) = :year 
-        AND is_delete = false
-        GROUP BY EXTRACT(MONTH FROM started_at)
-        ORDER BY month ASC
-        """, nativeQuery = true)
-    List<MonthlyStatsProjection> findMonthlyActivityStats(@Param("userId") Long userId, @Param("year") Integer year);
+    List<ActivityStatsBucketProjection> findActivityStatsBuckets(@Param("userId") Long userId,
+                                                                 @Param("bucketUnit") String bucketUnit,
+                                                                 @Param("startDate") LocalDateTime startDate,
+                                                                 @Param("endDate") LocalDateTime endDate);
 
     /**
      * 특정 사용자의 모든 활동 조회 (삭제된 활동 포함)
@@ -0,0 +1,40 @@
+package com.ridingmate.api_server.domain.activity.repository;
+
+import com.ridingmate.api_server.domain.activity.entity.ActivityTrackChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ActivityTrackChunkRepository extends JpaRepository<ActivityTrackChunk, Long> {
+
+    /**
+     * 특정 활동의 트랙 청크를 순서대로 조회
+     * @param activityId 활동 ID
+     * @return 트랙 청크 리스트
+     */
+    @Query("""
+        SELECT c
+        FROM ActivityTrackChunk c
+        WHERE c.activity.id = :activityId
+        ORDER BY c.chunkIndex ASC
+        """)
+    List<ActivityTrackChunk> findByActivityIdOrderByChunkIndex(@Param("activityId") Long activityId);
+
+    /**
+     * 특정 활동의 트랙 저장 여부 확인
+     */
+    boolean existsByActivityId(Long activityId);
+
+    /**
+     * 특정 활동의 모든 트랙 청크 삭제
+     * @param activityId 활동 ID
+     */
+    @Modifying
+    @Query("DELETE FROM ActivityTrackChunk c WHERE c.activity.id = :activityId")
+    void deleteByActivityId(@Param("activityId") Long activityId);
+}
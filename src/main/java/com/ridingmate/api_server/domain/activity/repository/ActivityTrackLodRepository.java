@@ -0,0 +1,56 @@
+package com.ridingmate.api_server.domain.activity.repository;
+
+import com.ridingmate.api_server.domain.activity.entity.ActivityTrackLod;
+import com.ridingmate.api_server.domain.activity.enums.TrackResolution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ActivityTrackLodRepository extends JpaRepository<ActivityTrackLod, Long> {
+
+    /**
+     * 특정 활동의 해상도별 트랙 조회
+     * @param activityId 활동 ID
+     * @param resolution 해상도
+     * @return 해당 해상도 트랙 (없으면 empty)
+     */
+    @Query("""
+        SELECT l
+        FROM ActivityTrackLod l
+        WHERE l.activity.id = :activityId
+          AND l.resolution = :resolution
+        """)
+    Optional<ActivityTrackLod> findByActivityIdAndResolution(@Param("activityId") Long activityId,
+                                                             @Param("resolution") TrackResolution resolution);
+
+    /**
+     * 트랙 청크는 있지만 해상도별 트랙이 없는 활동 ID 조회 (LOD 소급 생성용)
+     * @param afterActivityId 이 ID 이후부터 조회
+     * @param limit 최대 조회 수
+     * @return 활동 ID 리스트 (오름차순)
+     */
+    @Query(value = """
+        SELECT DISTINCT c.activity_id
+        FROM activity_track_chunks c
+        WHERE c.activity_id > :afterActivityId
+          AND NOT EXISTS (SELECT 1 FROM activity_track_lods l WHERE l.activity_id = c.activity_id)
+        ORDER BY c.activity_id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Long> findActivityIdsWithoutLodsAfter(@Param("afterActivityId") Long afterActivityId,
+                                               @Param("limit") int limit);
+
+    /**
+     * 특정 활동의 모든 해상도별 트랙 삭제
+     * @param activityId 활동 ID
+     */
+    @Modifying
+    @Query("DELETE FROM ActivityTrackLod l WHERE l.activity.id = :activityId")
+    void deleteByActivityId(@Param("activityId") Long activityId);
+}
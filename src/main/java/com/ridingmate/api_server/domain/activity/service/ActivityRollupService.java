@@ -0,0 +1,135 @@
+package com.ridingmate.api_server.domain.activity.service;
+
+import com.ridingmate.api_server.domain.activity.entity.Activity;
+import com.ridingmate.api_server.domain.activity.repository.ActivityDailyRollupRepository;
+import com.ridingmate.api_server.global.service.BatchCheckpointService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 사용자별 일간 활동 집계(activity_daily_rollups) 관리 서비스
+ * 활동 생성/삭제와 같은 트랜잭션에서 증분 갱신
+ *
+ * - 전체 재구축이 한 번 끝나야 집계를 조회에 사용 (완료 여부는 배치 체크포인트로 기록)
+ * - 애플리케이션 시작 시 재구축 기록이 없으면 자동 실행, 실패하면 다음 시작 시 재시도
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityRollupService {
+
+    private static final String REBUILD_JOB_NAME = "activity-daily-rollups";
+
+    private final ActivityDailyRollupRepository activityDailyRollupRepository;
+    private final BatchCheckpointService batchCheckpointService;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile boolean rebuilt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (isReady()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> rebuild());
+        } catch (Exception e) {
+            log.warn("[ActivityRollupService] 일간 활동 집계 자동 재구축 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 일간 집계를 통계 조회에 사용할 수 있는지 확인
+     * @return 전체 재구축이 한 번 이상 완료되었으면 true (그 전에는 activities 실시간 집계 사용)
+     */
+    public boolean isReady() {
+        if (!rebuilt) {
+            rebuilt = batchCheckpointService.getLastProcessedId(REBUILD_JOB_NAME) > 0;
+        }
+        return rebuilt;
+    }
+
+    /**
+     * 생성된 활동을 일간 집계에 반영
+     * @param activity 저장된 활동
+     */
+    @Transactional
+    public void applyActivityCreated(Activity activity) {
+        if (activity.getStartedAt() == null) {
+            return;
+        }
+
+        activityDailyRollupRepository.applyDelta(
+                activity.getUser().getId(),
+                activity.getStartedAt().toLocalDate(),
+                1L,
+                valueOrZero(activity.getDistance()),
+                valueOrZero(activity.getElevationGain()),
+                toRoundedSeconds(activity.getDuration())
+        );
+    }
+
+    /**
+     * 삭제(마스킹)될 활동을 일간 집계에서 제외
+     * 마스킹 이후에는 값이 남지 않으므로 반드시 마스킹 전에 호출
+     * @param activity 삭제할 활동
+     */
+    @Transactional
+    public void applyActivityRemoved(Activity activity) {
+        if (activity.isDeleted() || activity.getStartedAt() == null) {
+            return;
+        }
+
+        Long userId = activity.getUser().getId();
+        LocalDate day = activity.getStartedAt().toLocalDate();
+
+        activityDailyRollupRepository.applyDelta(
+                userId,
+                day,
+                -1L,
+                -valueOrZero(activity.getDistance()),
+                -valueOrZero(activity.getElevationGain()),
+                -toRoundedSeconds(activity.getDuration())
+        );
+        activityDailyRollupRepository.deleteEmptyRollup(userId, day);
+    }
+
+    /**
+     * activities 테이블로부터 전체 일간 집계 재구축
+     * @return 생성된 일간 집계 수
+     */
+    @Transactional
+    public int rebuildAll() {
+        return rebuild();
+    }
+
+    private int rebuild() {
+        log.info("[ActivityRollupService] 일간 활동 집계 재구축 시작");
+
+        // 삭제와 재삽입 사이에 증분 갱신이나 다른 인스턴스의 재구축이 끼어들면 (user_id, day) 중복이 생기므로 잠금
+        activityDailyRollupRepository.lockForRebuild();
+        int deleted = activityDailyRollupRepository.deleteAllRollups();
+        int inserted = activityDailyRollupRepository.rebuildFromActivities();
+        // 재구축 완료 표시 (같은 트랜잭션으로 커밋)
+        batchCheckpointService.advance(REBUILD_JOB_NAME, 1L);
+
+        log.info("[ActivityRollupService] 일간 활동 집계 재구축 완료: deleted={}, inserted={}", deleted, inserted);
+        return inserted;
+    }
+
+    private double valueOrZero(Double value) {
+        return value != null ? value : 0.0;
+    }
+
+    private long toRoundedSeconds(Duration duration) {
+        return duration != null ? Math.round(duration.toMillis() / 1000.0) : 0L;
+    }
+}
@@ -1,8 +1,6 @@
 package com.ridingmate.api_server.domain.activity.service;
 
-import com.ridingmate.api_server.domain.activity.dto.projection.ActivityStatsProjection;
-import com.ridingmate.api_server.domain.activity.dto.projection.GpsLogProjection;
-import com.ridingmate.api_server.domain.activity.dto.projection.YearlyStatsProjection;
+import com.ridingmate.api_server.domain.activity.dto.projection.ActivityStatsBucketProjection;
 import com.ridingmate.api_server.domain.activity.dto.request.ActivityListRequest;
 import com.ridingmate.api_server.domain.activity.dto.request.ActivityStatsRequest;
 import com.ridingmate.api_server.domain.activity.dto.request.AppleWorkoutImportRequest;
@@ -12,17 +10,25 @@ import com.ridingmate.api_server.domain.activity.dto.response.AppleWorkoutImport
 import com.ridingmate.api_server.domain.activity.dto.response.AppleWorkoutsImportResponse;
 import com.ridingmate.api_server.domain.activity.dto.response.DeleteActivityImageResponse;
 import com.ridingmate.api_server.domain.activity.entity.Activity;
-import com.ridingmate.api_server.domain.activity.entity.ActivityGpsLog;
 import com.ridingmate.api_server.domain.activity.entity.ActivityImage;
+import com.ridingmate.api_server.domain.activity.entity.ActivityPerformance;
 import com.ridingmate.api_server.domain.activity.enums.ActivityProvider;
 import com.ridingmate.api_server.domain.activity.enums.ActivityStatsPeriod;
+import com.ridingmate.api_server.domain.activity.enums.TrackResolution;
 import com.ridingmate.api_server.domain.activity.exception.ActivityException;
 import com.ridingmate.api_server.domain.activity.exception.code.ActivityCommonErrorCode;
 import com.ridingmate.api_server.domain.activity.exception.code.ActivityImageErrorCode;
 import com.ridingmate.api_server.domain.activity.exception.code.ActivityValidationErrorCode;
-import com.ridingmate.api_server.domain.activity.repository.ActivityGpsLogRepository;
+import com.ridingmate.api_server.domain.activity.repository.ActivityDailyRollupRepository;
 import com.ridingmate.api_server.domain.activity.repository.ActivityImageRepository;
+import com.ridingmate.api_server.domain.activity.repository.ActivityPerformanceRepository;
 import com.ridingmate.api_server.domain.activity.repository.ActivityRepository;
+import com.ridingmate.api_server.domain.activity.track.SampleAligner;
+import com.ridingmate.api_server.domain.activity.track.TrackAnalysis;
+import com.ridingmate.api_server.domain.activity.track.TrackAnalyzer;
+import com.ridingmate.api_server.domain.activity.track.TrackLevel;
+import com.ridingmate.api_server.domain.activity.track.TrackSamples;
+import com.ridingmate.api_server.domain.activity.track.TrackStore;
 import com.ridingmate.api_server.domain.auth.exception.AuthErrorCode;
 import com.ridingmate.api_server.domain.auth.exception.AuthException;
 import com.ridingmate.api_server.domain.user.entity.User;
@@ -43,7 +49,10 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -52,8 +61,11 @@ import java.util.UUID;
 public class ActivityService {
 
     private final ActivityRepository activityRepository;
-    private final ActivityGpsLogRepository activityGpsLogRepository;
+    private final TrackStore trackStore;
     private final ActivityImageRepository activityImageRepository;
+    private final ActivityPerformanceRepository activityPerformanceRepository;
+    private final ActivityDailyRollupRepository activityDailyRollupRepository;
+    private final ActivityRollupService activityRollupService;
     private final UserRepository userRepository;
     private final S3Manager s3Manager;
 
@@ -62,10 +74,12 @@ public class ActivityService {
      * @param user 사용자
      * @param activityData Terra 활동 데이터
      * @param terraUser Terra 사용자 정보 (provider 정보 포함)
+     * @param track 활동 GPS 트랙 (성능 지표 계산용, 없으면 빈 트랙)
      * @return 생성된 Activity
      */
     @Transactional
-    public Activity createActivityFromTerraData(User user, TerraPayload.Data activityData, TerraPayload.User terraUser) {
+    public Activity createActivityFromTerraData(User user, TerraPayload.Data activityData, TerraPayload.User terraUser,
+                                               TrackSamples track) {
         TerraPayload.Metadata metadata = activityData.metadata();
         TerraPayload.DistanceData.Summary distanceSummary = activityData.distanceData().summary();
 
@@ -92,6 +106,12 @@ public class ActivityService {
         // Terra 사용자 정보에서 provider 추출
         ActivityProvider provider = ActivityProvider.fromCode(terraUser != null ? terraUser.provider() : null);
 
+        // 상승 고도는 하강 고도와 같은 기준으로 트랙에서 계산 (고도 데이터가 없으면 Terra 요약값)
+        TrackAnalysis analysis = TrackAnalyzer.analyze(track);
+        Double elevationGain = analysis.hasElevation()
+                ? analysis.elevationGain()
+                : distanceSummary.elevation() != null ? distanceSummary.elevation().gainActualMeters() : 0.0;
+
         Activity activity = Activity.builder()
                 .user(user)
                 .title(metadata.name() != null ? metadata.name() : "Terra 연동 활동")
@@ -99,7 +119,7 @@ public class ActivityService {
                 .endedAt(metadata.endTime().toLocalDateTime())
                 .distance(distanceSummary.distanceMeters())
                 .duration(Duration.ofSeconds((long) activityData.activeDurationsData().activitySeconds()))
-                .elevationGain(distanceSummary.elevation() != null ? distanceSummary.elevation().gainActualMeters() : 0.0)
+                .elevationGain(elevationGain)
                 .cadence(avgCadence)
                 .averageHeartRate(avgHeartRate)
                 .maxHeartRate(maxHeartRate)
@@ -109,8 +129,21 @@ public class ActivityService {
                 .provider(provider) // Terra에서 제공하는 provider 정보
                 .build();
 
-        // Activity 저장
-        return activityRepository.save(activity);
+        // Activity 저장 및 일간 집계 반영
+        Activity savedActivity = activityRepository.save(activity);
+        activityRollupService.applyActivityCreated(savedActivity);
+        savePerformance(savedActivity, track, analysis);
+        return savedActivity;
+    }
+
+    /**
+     * 트랙 분석 결과를 활동 성능 지표로 저장 (트랙이 없으면 저장하지 않음)
+     */
+    private void savePerformance(Activity activity, TrackSamples track, TrackAnalysis analysis) {
+        if (track.isEmpty()) {
+            return;
+        }
+        activityPerformanceRepository.save(ActivityPerformance.createFromTrackAnalysis(activity, analysis));
     }
 
     /**
@@ -164,6 +197,35 @@ public class ActivityService {
         return activity;
     }
 
+    /**
+     * 활동 생성 시 트랙에서 계산한 성능 지표 조회
+     * @param activityId 활동 ID
+     * @return 성능 지표 (트랙이 없거나 아직 소급 생성되지 않은 이전 활동이면 null)
+     */
+    @Transactional(readOnly = true)
+    public ActivityPerformance getActivityPerformance(Long activityId) {
+        return activityPerformanceRepository.findById(activityId).orElse(null);
+    }
+
+    /**
+     * 성능 지표가 없는 기존 활동의 트랙을 분석하여 성능 지표 저장 (소급 생성용)
+     * @param activityId 활동 ID
+     * @return 분석한 포인트 수 (트랙이 없거나 이미 성능 지표가 있으면 0)
+     */
+    @Transactional
+    public int backfillPerformance(Long activityId) {
+        if (activityPerformanceRepository.existsById(activityId)) {
+            return 0;
+        }
+        TrackSamples track = trackStore.load(activityId);
+        if (track.isEmpty()) {
+            return 0;
+        }
+        Activity activity = activityRepository.getReferenceById(activityId);
+        activityPerformanceRepository.save(ActivityPerformance.createFromTrackAnalysis(activity, TrackAnalyzer.analyze(track)));
+        return track.size();
+    }
+
     /**
      * 특정 활동의 모든 이미지를 순서대로 조회
      * @param activityId 활동 ID
@@ -182,33 +244,35 @@ public class ActivityService {
         @Transactional(readOnly = true)
         public Coordinate[] getActivityGpsCoordinates(Long activityId) {
             Activity activity = getActivityWithUser(activityId);
-            List<Coordinate> coordinateList = activityGpsLogRepository.findCoordinatesByActivity(activity);
-            return coordinateList.toArray(new Coordinate[0]);
+            return trackStore.load(activity.getId()).toCoordinates();
         }
 
         /**
-         * 특정 활동의 GPS 로그 목록을 조회
+         * 특정 활동의 GPS 트랙을 조회
          * @param activityId 활동 ID
-         * @return GPS 로그 리스트
+         * @return 시간순 트랙 샘플
          */
         @Transactional(readOnly = true)
-        public List<ActivityGpsLog> getActivityGpsLogs(Long activityId) {
+        public TrackSamples getActivityTrack(Long activityId) {
             Activity activity = getActivityWithUser(activityId);
-            return activityGpsLogRepository.findGpsLogsByActivity(activity);
+            return trackStore.load(activity.getId());
         }
 
         /**
-         * 특정 활동의 GPS 좌표와 상세 정보를 한 번에 조회 (최적화된 방법)
+         * 특정 활동의 해상도별 GPS 트랙 조회 (미리 계산된 LOD만 복호화)
          * @param activity 활동
-         * @return GPS 로그 Projection 리스트
+         * @param resolution 해상도
+         * @return 해당 해상도 트랙과 원본 Bounding Box
          */
         @Transactional(readOnly = true)
-        public List<GpsLogProjection> getActivityGpsLogProjections(Activity activity) {
-            return activityGpsLogRepository.findGpsLogProjectionsByActivity(activity);
+        public TrackLevel getActivityTrackLevel(Activity activity, TrackResolution resolution) {
+            return trackStore.loadLevel(activity.getId(), resolution);
         }
 
     /**
      * 사용자의 활동 통계 조회
+     * 일간 집계 테이블에서 기간 내 버킷(일/월/연) 통계를 한 번에 가져와 요약과 상세 데이터를 함께 생성
+     * 일간 집계 재구축 전에는 activities 테이블에서 같은 버킷으로 실시간 집계
      * @param userId 사용자 ID
      * @param request 통계 요청
      * @return 활동 통계 응답
@@ -222,26 +286,32 @@ public class ActivityService {
         // 기간 유효성 검증
         validatePeriod(request);
 
+        boolean rollupReady = activityRollupService.isReady();
+
+        // 가장 오래된 활동 날짜 조회 (ALL 기간 계산과 응답에 공통 사용)
+        LocalDate oldestActivityDate = rollupReady
+                ? activityDailyRollupRepository.findOldestDay(user.getId())
+                : toLocalDate(activityRepository.findOldestActivityDate(user));
+
         // 기간 정보 생성
-        ActivityStatsResponse.PeriodInfo periodInfo = createPeriodInfo(request, user);
+        ActivityStatsResponse.PeriodInfo periodInfo = createPeriodInfo(request, oldestActivityDate);
 
-        // 전체 기간 통계 조회
-        ActivityStatsProjection summaryStats = getSummaryStats(user, request);
+        // 조회 구간 계산 (종료일 미포함)
+        LocalDate startDate = periodInfo.startDate();
+        LocalDate endDate = periodInfo.endDate().plusDays(1);
 
-        // 요약 정보 생성
-        ActivityStatsResponse.SummaryInfo summaryInfo = new ActivityStatsResponse.SummaryInfo(
-                summaryStats.getTotalDistanceInKm() * 1000, // km를 m로 변환
-                summaryStats.totalElevation(),
-                summaryStats.getTotalDurationSeconds(),
-                summaryStats.count().intValue()
-        );
+        // 버킷별 통계 일괄 조회
+        List<ActivityStatsBucketProjection> buckets = rollupReady
+                ? activityDailyRollupRepository.findStatsBuckets(
+                        user.getId(), request.period().getBucketUnit(), startDate, endDate)
+                : activityRepository.findActivityStatsBuckets(
+                        user.getId(), request.period().getBucketUnit(), startDate.atStartOfDay(), endDate.atStartOfDay());
 
-        // 일별 상세 데이터 생성
-        List<ActivityStatsResponse.DetailInfo> details = generateDailyDetails(user, request);
+        // 요약 정보 생성
+        ActivityStatsResponse.SummaryInfo summaryInfo = createSummaryInfo(buckets);
 
-        // 가장 오래된 활동 날짜 조회
-        LocalDateTime oldestActivityDateTime = activityRepository.findOldestActivityDate(user);
-        LocalDate oldestActivityDate = oldestActivityDateTime != null ? oldestActivityDateTime.toLocalDate() : null;
+        // 상세 데이터 생성
+        List<ActivityStatsResponse.DetailInfo> details = generateDetails(request, buckets);
 
         ActivityStatsResponse response = ActivityStatsResponse.of(periodInfo, summaryInfo, details, oldestActivityDate);
         log.info("[ActivityService] 주행 기록 통계 조회 완료: userId={}, totalActivities={}, totalDistance={}", 
@@ -249,30 +319,32 @@ public class ActivityService {
         return response;
     }
 
+    private LocalDate toLocalDate(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toLocalDate() : null;
+    }
+
     /**
-     * 기간별 요약 통계 조회
+     * 버킷 통계를 합산하여 요약 정보 생성
      */
-    private ActivityStatsProjection getSummaryStats(User user, ActivityStatsRequest request) {
-        return switch (request.period()) {
-            case WEEK, MONTH, YEAR -> activityRepository.findActivityStatsByPeriod(
-                    user.getId(), 
-                    request.startDate().atStartOfDay(), 
-                    request.endDate().plusDays(1).atStartOfDay()
-            );
-            case ALL -> {
-                // ALL 기간일 때: 가장 오래된 기록부터 오늘까지
-                LocalDateTime oldestActivityDateTime = activityRepository.findOldestActivityDate(user);
-                LocalDateTime startDateTime = oldestActivityDateTime != null ? 
-                        oldestActivityDateTime : LocalDateTime.now().minusYears(1);
-                LocalDateTime endDateTime = LocalDateTime.now();
-                
-                yield activityRepository.findActivityStatsByPeriod(
-                        user.getId(), 
-                        startDateTime, 
-                        endDateTime
-                );
-            }
-        };
+    private ActivityStatsResponse.SummaryInfo createSummaryInfo(List<ActivityStatsBucketProjection> buckets) {
+        long totalCount = 0L;
+        double totalDistance = 0.0;
+        double totalElevation = 0.0;
+        long totalDurationSeconds = 0L;
+
+        for (ActivityStatsBucketProjection bucket : buckets) {
+            totalCount += bucket.getCount();
+            totalDistance += bucket.getTotalDistance();
+            totalElevation += bucket.getTotalElevation();
+            totalDurationSeconds += bucket.getTotalDurationSeconds();
+        }
+
+        return new ActivityStatsResponse.SummaryInfo(
+                totalDistance,
+                totalElevation,
+                totalDurationSeconds,
+                (int) totalCount
+        );
     }
 
     /**
@@ -313,16 +385,15 @@ public class ActivityService {
     /**
      * 기간 정보 생성
      */
-    private ActivityStatsResponse.PeriodInfo createPeriodInfo(ActivityStatsRequest request, User user) {
+    private ActivityStatsResponse.PeriodInfo createPeriodInfo(ActivityStatsRequest request, LocalDate oldestActivityDate) {
         String type = request.period().name().toLowerCase();
         
         // ALL 기간일 때는 실제 날짜 범위 계산
         LocalDate startDate, endDate;
         if (request.period() == ActivityStatsPeriod.ALL) {
             // ALL 기간일 때: 가장 오래된 기록부터 오늘까지
-            LocalDateTime oldestActivityDateTime = activityRepository.findOldestActivityDate(user);
-            startDate = oldestActivityDateTime != null ? 
-                    oldestActivityDateTime.toLocalDate() : LocalDate.now().minusYears(1);
+            startDate = oldestActivityDate != null ? 
+                    oldestActivityDate : LocalDate.now().minusYears(1);
             endDate = LocalDate.now();
         } else {
             startDate = request.startDate();
@@ -352,89 +423,51 @@ public class ActivityService {
     }
 
     /**
-     * 일별 상세 데이터 생성
+     * 상세 데이터 생성
+     * 주간/월간은 일별, 연간은 월별로 빈 버킷을 0으로 채우고, 전체는 활동이 있는 연도만 최신순으로 반환
      */
-    private List<ActivityStatsResponse.DetailInfo> generateDailyDetails(User user, ActivityStatsRequest request) {
-        return switch (request.period()) {
-            case WEEK, MONTH -> generateDailyDetailsForWeekOrMonth(user, request);
-            case YEAR -> generateMonthlyDetailsForYear(user, request);
-            case ALL -> generateYearlyStats(user);
-        };
-    }
+    private List<ActivityStatsResponse.DetailInfo> generateDetails(ActivityStatsRequest request,
+                                                                   List<ActivityStatsBucketProjection> buckets) {
+        if (request.period() == ActivityStatsPeriod.ALL) {
+            List<ActivityStatsResponse.DetailInfo> details = new ArrayList<>(buckets.size());
+            for (int i = buckets.size() - 1; i >= 0; i--) {
+                ActivityStatsBucketProjection bucket = buckets.get(i);
+                details.add(new ActivityStatsResponse.DetailInfo(
+                        generateDayLabel(request.period(), bucket.getBucketDate()),
+                        toDetailValue(bucket)
+                ));
+            }
+            return details;
+        }
 
-    /**
-     * 주간/월간 일별 상세 데이터 생성
-     */
-    private List<ActivityStatsResponse.DetailInfo> generateDailyDetailsForWeekOrMonth(User user, ActivityStatsRequest request) {
+        Map<LocalDate, ActivityStatsBucketProjection> bucketsByDate = new HashMap<>();
+        for (ActivityStatsBucketProjection bucket : buckets) {
+            bucketsByDate.put(bucket.getBucketDate(), bucket);
+        }
+
+        boolean monthly = request.period() == ActivityStatsPeriod.YEAR;
+        LocalDate current = monthly ? request.startDate().withDayOfMonth(1) : request.startDate();
         List<ActivityStatsResponse.DetailInfo> details = new ArrayList<>();
-        LocalDate current = request.startDate();
-        
+
         while (!current.isAfter(request.endDate())) {
-            // 해당 일의 통계 조회
-            ActivityStatsProjection dayStats = activityRepository.findActivityStatsByPeriod(
-                    user.getId(),
-                    current.atStartOfDay(),
-                    current.plusDays(1).atStartOfDay()
-            );
-            
-            // 라벨 생성
-            String label = generateDayLabel(request.period(), current);
-            
-            // 상세 값 생성
-            ActivityStatsResponse.DetailValue value = new ActivityStatsResponse.DetailValue(
-                    dayStats.getTotalDistanceInKm() * 1000, // km를 m로 변환
-                    dayStats.totalElevation(),
-                    dayStats.getTotalDurationSeconds()
-            );
-            
-            details.add(new ActivityStatsResponse.DetailInfo(label, value));
-            current = current.plusDays(1);
+            ActivityStatsBucketProjection bucket = bucketsByDate.get(current);
+            ActivityStatsResponse.DetailValue value = bucket != null
+                    ? toDetailValue(bucket)
+                    : new ActivityStatsResponse.DetailValue(0.0, 0.0, 0L);
+
+            details.add(new ActivityStatsResponse.DetailInfo(generateDayLabel(request.period(), current), value));
+            current = monthly ? current.plusMonths(1) : current.plusDays(1);
         }
-        
+
         return details;
     }
 
-    /**
-     * 연간 월별 상세 데이터 생성
-     */
-    private List<ActivityStatsResponse.DetailInfo> generateMonthlyDetailsForYear(User user, ActivityStatsRequest request) {
-        List<ActivityStatsResponse.DetailInfo> details = new ArrayList<>();
-        
-        // 시작 월부터 종료 월까지 반복
-        LocalDate current = request.startDate().withDayOfMonth(1);
-        LocalDate endMonth = request.endDate().withDayOfMonth(1);
-        
-        while (!current.isAfter(endMonth)) {
-            // 해당 월의 시작일과 종료일 계산
-            LocalDate monthStart = current;
-            LocalDate monthEnd = current.withDayOfMonth(current.lengthOfMonth());
-            
-            // 요청된 기간과 겹치는 부분만 계산
-            LocalDate actualStart = monthStart.isBefore(request.startDate()) ? request.startDate() : monthStart;
-            LocalDate actualEnd = monthEnd.isAfter(request.endDate()) ? request.endDate() : monthEnd;
-            
-            // 해당 월의 통계 조회
-            ActivityStatsProjection monthStats = activityRepository.findActivityStatsByPeriod(
-                    user.getId(),
-                    actualStart.atStartOfDay(),
-                    actualEnd.plusDays(1).atStartOfDay()
-            );
-            
-            // 라벨 생성 (월)
-            String label = generateDayLabel(request.period(), current);
-            
-            // 상세 값 생성
-            ActivityStatsResponse.DetailValue value = new ActivityStatsResponse.DetailValue(
-                    monthStats.getTotalDistanceInKm() * 1000, // km를 m로 변환
-                    monthStats.totalElevation(),
-                    monthStats.getTotalDurationSeconds()
-            );
-            
-            details.add(new ActivityStatsResponse.DetailInfo(label, value));
-            current = current.plusMonths(1);
-        }
-        
-        return details;
+    private ActivityStatsResponse.DetailValue toDetailValue(ActivityStatsBucketProjection bucket) {
+        return new ActivityStatsResponse.DetailValue(
+                bucket.getTotalDistance(), // 미터 단위 그대로 사용
+                bucket.getTotalElevation(),
+                bucket.getTotalDurationSeconds()
+        );
     }
 
     /**
@@ -640,6 +673,9 @@ public class ActivityService {
         log.info("활동 정보 마스킹 및 소프트 삭제 처리 시작: count={}", activities.size());
         
         for (Activity activity : activities) {
+            // 마스킹으로 값이 사라지기 전에 일간 집계에서 제외
+            activityRollupService.applyActivityRemoved(activity);
+
             // 모든 개인정보 필드 마스킹 및 소프트 삭제 처리 (통합)
             activity.maskPersonalDataForDeletion();
             
@@ -735,6 +771,7 @@ public class ActivityService {
             deleteAllActivityImages(activity);
             deleteAllActivityGpsLogs(activity);
 
+            activityRollupService.applyActivityRemoved(activity);
             activity.maskPersonalDataForDeletion();
 
             log.info("주행 기록 삭제 완료: activityId={}", activity.getId());
@@ -746,39 +783,16 @@ public class ActivityService {
     }
 
     private void deleteAllActivityGpsLogs(Activity activity){
-        List<ActivityGpsLog> activityGpsLogs = activityGpsLogRepository.findByActivityIdOrderByLogTimeAsc(activity.getId());
-
-        log.debug("주행 기록 GPS 로그 삭제 시작: activityId={}, count={}", activity.getId(), activityGpsLogs.size());
+        log.debug("주행 기록 GPS 로그 삭제 시작: activityId={}", activity.getId());
 
-        // DB에서 모든 GPS 로그 하드 삭제
-        activityGpsLogRepository.deleteByActivityId(activity.getId());
+        // DB에서 모든 GPS 트랙과 트랙에서 계산한 성능 지표 하드 삭제
+        trackStore.delete(activity.getId());
+        activityPerformanceRepository.findById(activity.getId())
+                .ifPresent(activityPerformanceRepository::delete);
 
         log.debug("주행 기록 GPS 로그 하드 삭제 완료: activityId={}", activity.getId());
     }
 
-    /**
-     * 연별 통계 데이터 생성 (ALL 기간용)
-     */
-    private List<ActivityStatsResponse.DetailInfo> generateYearlyStats(User user) {
-        List<YearlyStatsProjection> yearlyProjections = activityRepository.findYearlyActivityStats(user.getId());
-        
-        return yearlyProjections.stream()
-                .map(yearlyProjection -> {
-                    // 연도 라벨 생성 (예: "2025")
-                    String yearLabel = yearlyProjection.getYear().toString();
-                    
-                    // 연도별 통계 값 생성
-                    ActivityStatsResponse.DetailValue yearValue = new ActivityStatsResponse.DetailValue(
-                            yearlyProjection.getTotalDistance(), // 미터 단위 그대로 사용
-                            yearlyProjection.getTotalElevation(),
-                            yearlyProjection.getTotalDurationSeconds()
-                    );
-                    
-                    return new ActivityStatsResponse.DetailInfo(yearLabel, yearValue);
-                })
-                .toList();
-    }
-
     /**
      * Apple HealthKit 운동 기록 업로드
      * @param user 사용자
@@ -793,19 +807,23 @@ public class ActivityService {
 
         for (AppleWorkoutImportRequest workoutRequest : request.workouts()) {
             try {
-                // 1. Activity 먼저 생성 및 저장
-                Activity activity = createActivityFromAppleWorkout(user, workoutRequest);
+                // 1. GPS 트랙 생성 및 분석
+                TrackSamples track = createTrackFromAppleWorkout(workoutRequest);
+                TrackAnalysis analysis = TrackAnalyzer.analyze(track);
+
+                // 2. Activity 생성 및 저장
+                Activity activity = createActivityFromAppleWorkout(user, workoutRequest, analysis);
                 Activity savedActivity = activityRepository.save(activity);
-                
-                // 2. GPS 로그 생성 및 저장
-                List<ActivityGpsLog> gpsLogs = createActivityGpsLogsFromAppleWorkout(savedActivity, workoutRequest);
-                
-                if (!gpsLogs.isEmpty()) {
-                    activityGpsLogRepository.saveAll(gpsLogs);
+                activityRollupService.applyActivityCreated(savedActivity);
+
+                // 3. GPS 트랙 및 성능 지표 저장
+                if (!track.isEmpty()) {
+                    trackStore.save(savedActivity, track);
                 }
-                
+                savePerformance(savedActivity, track, analysis);
+
 
-                AppleWorkoutImportResponse response = AppleWorkoutImportResponse.from(savedActivity, gpsLogs.size());
+                AppleWorkoutImportResponse response = AppleWorkoutImportResponse.from(savedActivity, track.size());
                 importedActivities.add(response);
 
                 log.info("Apple 운동 기록 업로드 성공: activityId={}, title={}", 
@@ -827,7 +845,7 @@ public class ActivityService {
     /**
      * Apple HealthKit 운동 데이터로부터 Activity 생성
      */
-    private Activity createActivityFromAppleWorkout(User user, AppleWorkoutImportRequest request) {
+    private Activity createActivityFromAppleWorkout(User user, AppleWorkoutImportRequest request, TrackAnalysis analysis) {
         // 심박수 데이터에서 평균/최대값 계산
         Integer averageHeartRate = null;
         Integer maxHeartRate = null;
@@ -847,20 +865,8 @@ public class ActivityService {
                     .orElse(0);
         }
 
-        // 위치 데이터에서 고도 변화 계산 (elevationGain)
-        Double elevationGain = null;
-        if (request.locationData() != null && !request.locationData().isEmpty()) {
-            List<Double> altitudes = request.locationData().stream()
-                    .filter(location -> location.altitude() != null)
-                    .map(AppleWorkoutImportRequest.LocationData::altitude)
-                    .toList();
-            
-            if (!altitudes.isEmpty()) {
-                double minAltitude = altitudes.stream().mapToDouble(Double::doubleValue).min().orElse(0.0);
-                double maxAltitude = altitudes.stream().mapToDouble(Double::doubleValue).max().orElse(0.0);
-                elevationGain = Math.max(0.0, maxAltitude - minAltitude);
-            }
-        }
+        // 위치 데이터의 고도로 계산한 상승 고도 (고도 데이터가 없으면 null)
+        Double elevationGain = analysis.hasElevation() ? analysis.elevationGain() : null;
 
         return Activity.builder()
                 .user(user)
@@ -881,61 +887,62 @@ public class ActivityService {
     }
 
     /**
-     * Apple HealthKit 운동 데이터로부터 GPS 로그 생성
+     * Apple HealthKit 운동 데이터로부터 GPS 트랙 생성
+     * 심박수는 위치 샘플 시간축에 가장 가까운 샘플 기준으로 병합
      */
-    private List<ActivityGpsLog> createActivityGpsLogsFromAppleWorkout(Activity activity, AppleWorkoutImportRequest request) {
-        List<ActivityGpsLog> gpsLogs = new ArrayList<>();
-
-        // 위치 데이터 처리
-        if (request.locationData() != null && !request.locationData().isEmpty()) {
-            for (AppleWorkoutImportRequest.LocationData locationData : request.locationData()) {
-                ActivityGpsLog gpsLog = ActivityGpsLog.builder()
-                        .activity(activity)
-                        .logTime(locationData.timestamp())
-                        .latitude(locationData.latitude())
-                        .longitude(locationData.longitude())
-                        .elevation(locationData.altitude())
-                        .speed(locationData.speed())
-                        .distance(null) // Apple HealthKit에서는 누적 거리를 별도로 제공하지 않음
-                        .build();
-                gpsLogs.add(gpsLog);
-            }
+    private TrackSamples createTrackFromAppleWorkout(AppleWorkoutImportRequest request) {
+        List<AppleWorkoutImportRequest.LocationData> locationData = request.locationData();
+        if (locationData == null || locationData.isEmpty()) {
+            return TrackSamples.empty();
         }
 
-        // 심박수 데이터를 GPS 로그에 병합
-        if (request.heartRateData() != null && !request.heartRateData().isEmpty()) {
-            mergeHeartRateData(gpsLogs, request.heartRateData());
+        long[] logTimes = new long[locationData.size()];
+        for (int i = 0; i < logTimes.length; i++) {
+            AppleWorkoutImportRequest.LocationData location = locationData.get(i);
+            if (location.latitude() == null || location.longitude() == null || location.timestamp() == null) {
+                throw new ActivityException(ActivityValidationErrorCode.INVALID_GPS_LOG_COORDINATES);
+            }
+            logTimes[i] = TrackSamples.toEpochMillis(location.timestamp());
         }
 
-        return gpsLogs;
+        double[] heartRates = alignHeartRates(logTimes, request.heartRateData());
+
+        TrackSamples.Builder builder = TrackSamples.builder(logTimes.length);
+        for (int i = 0; i < logTimes.length; i++) {
+            AppleWorkoutImportRequest.LocationData location = locationData.get(i);
+            builder.addRaw(
+                    logTimes[i],
+                    location.latitude(),
+                    location.longitude(),
+                    location.altitude() != null ? location.altitude() : Double.NaN,
+                    location.speed() != null ? location.speed() : Double.NaN,
+                    Double.NaN, // Apple HealthKit에서는 누적 거리를 별도로 제공하지 않음
+                    heartRates[i],
+                    Double.NaN,
+                    Double.NaN
+            );
+        }
+        return builder.build();
     }
 
     /**
-     * 심박수 데이터를 GPS 로그에 병합
+     * 심박수 데이터를 위치 샘플 시간축에 정렬
      */
-    private void mergeHeartRateData(List<ActivityGpsLog> gpsLogs, List<AppleWorkoutImportRequest.HeartRateSample> heartRateData) {
-        for (ActivityGpsLog gpsLog : gpsLogs) {
-            // 가장 가까운 시간의 심박수 데이터 찾기
-            AppleWorkoutImportRequest.HeartRateSample closestHeartRate = findClosestHeartRateSample(
-                    gpsLog.getLogTime(), heartRateData);
-            if (closestHeartRate != null) {
-                gpsLog.updateHeartRate(closestHeartRate.heartRate().doubleValue());
-            }
+    private double[] alignHeartRates(long[] logTimes, List<AppleWorkoutImportRequest.HeartRateSample> heartRateData) {
+        if (heartRateData == null || heartRateData.isEmpty()) {
+            double[] empty = new double[logTimes.length];
+            Arrays.fill(empty, Double.NaN);
+            return empty;
         }
-    }
 
-    /**
-     * 가장 가까운 시간의 심박수 샘플 찾기
-     */
-    private AppleWorkoutImportRequest.HeartRateSample findClosestHeartRateSample(
-            LocalDateTime targetTime, List<AppleWorkoutImportRequest.HeartRateSample> heartRateData) {
-        return heartRateData.stream()
-                .min((a, b) -> {
-                    long diffA = Math.abs(java.time.Duration.between(targetTime, a.timestamp()).toSeconds());
-                    long diffB = Math.abs(java.time.Duration.between(targetTime, b.timestamp()).toSeconds());
-                    return Long.compare(diffA, diffB);
-                })
-                .orElse(null);
+        SampleAligner.Series.Builder series = SampleAligner.series(heartRateData.size());
+        for (AppleWorkoutImportRequest.HeartRateSample sample : heartRateData) {
+            if (sample.timestamp() == null || sample.heartRate() == null) {
+                continue;
+            }
+            series.add(TrackSamples.toEpochMillis(sample.timestamp()), sample.heartRate().doubleValue());
+        }
+        return SampleAligner.align(logTimes, series.build(), SampleAligner.Mode.NEAREST);
     }
 
 }
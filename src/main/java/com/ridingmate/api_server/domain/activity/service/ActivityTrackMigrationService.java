@@ -0,0 +1,172 @@
+package com.ridingmate.api_server.domain.activity.service;
+
+import com.ridingmate.api_server.domain.activity.repository.ActivityGpsLogRepository;
+import com.ridingmate.api_server.domain.activity.repository.ActivityPerformanceRepository;
+import com.ridingmate.api_server.domain.activity.repository.ActivityTrackLodRepository;
+import com.ridingmate.api_server.domain.activity.track.PackedTrackStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기존 row 단위 GPS 로그(activity_gps_logs)를 청크 블롭(activity_track_chunks)으로 이전하는 서비스
+ * 트랙 청크만 있고 해상도별 트랙(activity_track_lods)이 없는 활동의 소급 생성도 담당
+ * 성능 지표(activity_performances) 도입 이전 활동의 성능 지표 소급 생성도 담당
+ * 활동 단위로 독립 트랜잭션 처리하므로 중단 후 재실행 가능
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityTrackMigrationService {
+
+    private static final int ACTIVITY_BATCH_SIZE = 100;
+
+    private final ActivityGpsLogRepository activityGpsLogRepository;
+    private final ActivityTrackLodRepository activityTrackLodRepository;
+    private final ActivityPerformanceRepository activityPerformanceRepository;
+    private final PackedTrackStore packedTrackStore;
+    private final ActivityService activityService;
+
+    /**
+     * 모든 기존 GPS 로그를 트랙 청크로 이전
+     * @return 처리 결과 (활동 수, 포인트 수, 실패 수)
+     */
+    public Map<String, Object> migrateLegacyGpsLogs() {
+        log.info("[ActivityTrackMigration] GPS 로그 트랙 이전 시작");
+
+        long lastActivityId = 0L;
+        int migratedActivities = 0;
+        long migratedPoints = 0L;
+        long skippedRows = 0L;
+        int failedActivities = 0;
+
+        while (true) {
+            List<Long> activityIds = activityGpsLogRepository.findActivityIdsAfter(lastActivityId, ACTIVITY_BATCH_SIZE);
+            if (activityIds.isEmpty()) {
+                break;
+            }
+
+            for (Long activityId : activityIds) {
+                try {
+                    PackedTrackStore.LegacyMigrationResult migration = packedTrackStore.migrateLegacyRows(activityId);
+                    migratedPoints += migration.packedPoints();
+                    skippedRows += migration.skippedRows();
+                    migratedActivities++;
+                } catch (Exception e) {
+                    failedActivities++;
+                    log.error("[ActivityTrackMigration] 트랙 이전 실패: activityId={}", activityId, e);
+                }
+                lastActivityId = activityId;
+            }
+
+            log.info("[ActivityTrackMigration] 진행 상황: lastActivityId={}, activities={}, points={}, skippedRows={}, failed={}",
+                    lastActivityId, migratedActivities, migratedPoints, skippedRows, failedActivities);
+        }
+
+        log.info("[ActivityTrackMigration] GPS 로그 트랙 이전 완료: activities={}, points={}, skippedRows={}, failed={}",
+                migratedActivities, migratedPoints, skippedRows, failedActivities);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("migratedActivities", migratedActivities);
+        result.put("migratedPoints", migratedPoints);
+        result.put("skippedRows", skippedRows);
+        result.put("failedActivities", failedActivities);
+        return result;
+    }
+
+    /**
+     * 해상도별 트랙이 없는 모든 활동의 LOD 생성
+     * @return 처리 결과 (활동 수, 포인트 수, 실패 수)
+     */
+    public Map<String, Object> buildMissingTrackLevels() {
+        log.info("[ActivityTrackMigration] 해상도별 트랙 생성 시작");
+
+        long lastActivityId = 0L;
+        int builtActivities = 0;
+        long sourcePoints = 0L;
+        int failedActivities = 0;
+
+        while (true) {
+            List<Long> activityIds =
+                    activityTrackLodRepository.findActivityIdsWithoutLodsAfter(lastActivityId, ACTIVITY_BATCH_SIZE);
+            if (activityIds.isEmpty()) {
+                break;
+            }
+
+            for (Long activityId : activityIds) {
+                try {
+                    sourcePoints += packedTrackStore.rebuildLevels(activityId);
+                    builtActivities++;
+                } catch (Exception e) {
+                    failedActivities++;
+                    log.error("[ActivityTrackMigration] 해상도별 트랙 생성 실패: activityId={}", activityId, e);
+                }
+                lastActivityId = activityId;
+            }
+
+            log.info("[ActivityTrackMigration] 진행 상황: lastActivityId={}, activities={}, points={}, failed={}",
+                    lastActivityId, builtActivities, sourcePoints, failedActivities);
+        }
+
+        log.info("[ActivityTrackMigration] 해상도별 트랙 생성 완료: activities={}, points={}, failed={}",
+                builtActivities, sourcePoints, failedActivities);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("builtActivities", builtActivities);
+        result.put("sourcePoints", sourcePoints);
+        result.put("failedActivities", failedActivities);
+        return result;
+    }
+
+    /**
+     * 성능 지표가 없는 모든 활동의 트랙을 분석하여 성능 지표 생성
+     * (하강 고도, 이동 시간 기준 평균 속도 등은 이 작업 전까지 상세 조회에서 null 또는 운동 시간 기준 값)
+     * @return 처리 결과 (활동 수, 포인트 수, 실패 수)
+     */
+    public Map<String, Object> buildMissingPerformances() {
+        log.info("[ActivityTrackMigration] 성능 지표 생성 시작");
+
+        long lastActivityId = 0L;
+        int builtActivities = 0;
+        long analyzedPoints = 0L;
+        int failedActivities = 0;
+
+        while (true) {
+            List<Long> activityIds =
+                    activityPerformanceRepository.findActivityIdsWithoutPerformanceAfter(lastActivityId, ACTIVITY_BATCH_SIZE);
+            if (activityIds.isEmpty()) {
+                break;
+            }
+
+            for (Long activityId : activityIds) {
+                try {
+                    int points = activityService.backfillPerformance(activityId);
+                    if (points > 0) {
+                        analyzedPoints += points;
+                        builtActivities++;
+                    }
+                } catch (Exception e) {
+                    failedActivities++;
+                    log.error("[ActivityTrackMigration] 성능 지표 생성 실패: activityId={}", activityId, e);
+                }
+                lastActivityId = activityId;
+            }
+
+            log.info("[ActivityTrackMigration] 진행 상황: lastActivityId={}, activities={}, points={}, failed={}",
+                    lastActivityId, builtActivities, analyzedPoints, failedActivities);
+        }
+
+        log.info("[ActivityTrackMigration] 성능 지표 생성 완료: activities={}, points={}, failed={}",
+                builtActivities, analyzedPoints, failedActivities);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("builtActivities", builtActivities);
+        result.put("analyzedPoints", analyzedPoints);
+        result.put("failedActivities", failedActivities);
+        return result;
+    }
+}
@@ -1,16 +1,17 @@
 package com.ridingmate.api_server.domain.activity.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ridingmate.api_server.domain.activity.entity.Activity;
-import com.ridingmate.api_server.domain.activity.entity.ActivityGpsLog;
 import com.ridingmate.api_server.domain.activity.facade.ActivityFacade;
-import com.ridingmate.api_server.domain.activity.repository.ActivityGpsLogRepository;
 import com.ridingmate.api_server.domain.activity.repository.ActivityRepository;
+import com.ridingmate.api_server.domain.activity.track.SampleAligner;
+import com.ridingmate.api_server.domain.activity.track.TrackSamples;
+import com.ridingmate.api_server.domain.activity.track.TrackStore;
 import com.ridingmate.api_server.domain.user.entity.TerraUser;
 import com.ridingmate.api_server.domain.user.exception.TerraUserErrorCode;
 import com.ridingmate.api_server.domain.user.exception.TerraUserException;
 import com.ridingmate.api_server.domain.user.repository.TerraUserRepository;
+import com.ridingmate.api_server.infra.terra.TerraPayloadReader;
+import com.ridingmate.api_server.infra.terra.TerraPayloadSource;
 import com.ridingmate.api_server.infra.terra.TerraProvider;
 import com.ridingmate.api_server.infra.terra.dto.response.TerraPayload;
 import com.ridingmate.api_server.infra.terra.TerraActivityType;
@@ -20,32 +21,31 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 
-import java.time.Duration;
+import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TerraWebhookProcessingService {
 
-    private final ObjectMapper objectMapper;
+    private final TerraPayloadReader terraPayloadReader;
     private final UserRepository userRepository;
     private final ActivityRepository activityRepository;
-    private final ActivityGpsLogRepository activityGpsLogRepository;
+    private final TrackStore trackStore;
     private final TerraUserRepository terraUserRepository;
     private final ActivityFacade activityFacade;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
-    public void processAuthEvent(String payload) throws JsonProcessingException {
-        TerraPayload terraPayload = objectMapper.readValue(payload, TerraPayload.class);
-        TerraPayload.User user = terraPayload.user();
-
+    public void processAuthEvent(TerraPayload.User user) {
         if (user == null || user.referenceId() == null) {
-            log.error("Auth 이벤트에 user 객체 또는 reference_id가 없습니다: {}", payload);
+            log.error("Auth 이벤트에 user 객체 또는 reference_id가 없습니다: {}", user);
             return;
         }
 
@@ -88,47 +88,75 @@ public class TerraWebhookProcessingService {
         }
     }
 
-    @Transactional
-    public void processActivityEvent(String payload) throws JsonProcessingException {
-        TerraPayload terraPayload = objectMapper.readValue(payload, TerraPayload.class);
-        if (terraPayload.user() == null || terraPayload.user().referenceId() == null) {
+    /**
+     * Activity 이벤트 처리
+     * data[]를 스트리밍으로 읽어 활동마다 독립 트랜잭션으로 저장하므로
+     * 페이로드 크기와 무관하게 활동 하나 분량만 메모리(영속성 컨텍스트 포함)에 유지
+     * 개별 활동 저장 실패는 로그만 남기고 계속 진행 (이미 커밋된 활동이 재처리로 중복 저장되지 않도록 예외를 던지지 않음)
+     * @param terraUser 페이로드 헤더의 Terra 사용자 정보
+     * @param source 페이로드 원본
+     */
+    public void processActivityEvent(TerraPayload.User terraUser, TerraPayloadSource source) throws IOException {
+        if (terraUser == null || terraUser.referenceId() == null) {
             log.warn("[Terra] Activity 이벤트에 user 정보 또는 reference_id가 없어 처리를 건너뜁니다.");
             return;
         }
 
-        User user = userRepository.findByUuid(UUID.fromString(terraPayload.user().referenceId()))
+        User user = userRepository.findByUuid(UUID.fromString(terraUser.referenceId()))
                 .orElseThrow(() -> {
-                    log.error("[Terra] Activity의 reference_id에 해당하는 유저를 찾을 수 없습니다: {}", terraPayload.user().referenceId());
+                    log.error("[Terra] Activity의 reference_id에 해당하는 유저를 찾을 수 없습니다: {}", terraUser.referenceId());
                     return new RuntimeException("유저를 찾을 수 없습니다.");
                 });
 
-        List<TerraPayload.Data> cyclingActivities = terraPayload.data().stream()
-                .filter(data -> TerraActivityType.isCyclingActivity(data.metadata().type()))
-                .toList();
+        List<Integer> skippedTypes = new ArrayList<>();
+        int[] cyclingCount = {0};
+        int[] failedCount = {0};
 
-        if (CollectionUtils.isEmpty(cyclingActivities)) {
-            log.info("[Terra] 처리할 자전거 활동 데이터가 없습니다. (들어온 활동 타입: {})",
-                    terraPayload.data().stream().map(d -> d.metadata().type()).toList());
-            return;
+        terraPayloadReader.readData(source, activityData -> {
+            if (!TerraActivityType.isCyclingActivity(activityData.metadata().type())) {
+                skippedTypes.add(activityData.metadata().type());
+                return;
+            }
+            cyclingCount[0]++;
+            try {
+                transactionTemplate.executeWithoutResult(status -> processCyclingActivity(user, terraUser, activityData));
+            } catch (Exception e) {
+                failedCount[0]++;
+                log.error("[Terra] 활동 저장 실패: userId={}, name={}, startTime={}",
+                        user.getId(), activityData.metadata().name(), activityData.metadata().startTime(), e);
+            }
+        });
+
+        if (cyclingCount[0] == 0) {
+            log.info("[Terra] 처리할 자전거 활동 데이터가 없습니다. (들어온 활동 타입: {})", skippedTypes);
+        } else if (failedCount[0] > 0) {
+            log.error("[Terra] 일부 활동 저장 실패: userId={}, total={}, failed={}",
+                    user.getId(), cyclingCount[0], failedCount[0]);
         }
+    }
 
-        for (TerraPayload.Data activityData : cyclingActivities) {
-            // ActivityFacade를 통해 Activity 생성 (썸네일 포함)
-            Activity newActivity = activityFacade.createActivityFromTerraData(user, activityData, activityData, terraPayload.user());
-            
-            // GPS 로그 생성 및 저장
-            List<ActivityGpsLog> gpsLogs = createActivityGpsLogEntities(newActivity, activityData);
-            if (!CollectionUtils.isEmpty(gpsLogs)) {
-                activityGpsLogRepository.saveAll(gpsLogs);
-            }
-            
-            log.info("[Terra] 활동 저장 완료 (썸네일 포함): activityId={}, gpsLogCount={}, thumbnailPath={}", 
-                    newActivity.getId(), gpsLogs.size(), newActivity.getThumbnailImagePath());
+    private void processCyclingActivity(User user, TerraPayload.User terraUser, TerraPayload.Data activityData) {
+        // GPS 트랙 생성 (성능 지표 계산에도 사용)
+        TrackSamples track = createTrackSamples(activityData);
+
+        // ActivityFacade를 통해 Activity 생성 (썸네일, 성능 지표 포함)
+        Activity newActivity = activityFacade.createActivityFromTerraData(user, activityData, activityData, terraUser, track);
+
+        // GPS 트랙 저장
+        if (!track.isEmpty()) {
+            trackStore.save(newActivity, track);
         }
+
+        log.info("[Terra] 활동 저장 완료 (썸네일 포함): activityId={}, gpsLogCount={}, thumbnailPath={}", 
+                newActivity.getId(), track.size(), newActivity.getThumbnailImagePath());
     }
 
 
-    private List<ActivityGpsLog> createActivityGpsLogEntities(Activity activity, TerraPayload.Data data) {
+    /**
+     * Terra 활동 데이터로부터 GPS 트랙 생성
+     * 위치 샘플 시간축에 고도/속도/거리/케이던스/심박/파워 스트림을 가장 가까운 샘플 기준으로 정렬
+     */
+    private TrackSamples createTrackSamples(TerraPayload.Data data) {
         List<TerraPayload.PositionSample> positionSamples = data.positionData() != null ? data.positionData().positionSamples() : Collections.emptyList();
         List<TerraPayload.ElevationSample> elevationSamples = data.distanceData().detailed() != null ? data.distanceData().detailed().elevationSamples() : Collections.emptyList();
         List<TerraPayload.SpeedSample> speedSamples = data.movementData().speedSamples() != null ? data.movementData().speedSamples() : Collections.emptyList();
@@ -138,116 +166,73 @@ public class TerraWebhookProcessingService {
         List<TerraPayload.PowerSample> powerSamples = data.powerData() != null && data.powerData().powerSamples() != null ? data.powerData().powerSamples() : Collections.emptyList();
 
         if (CollectionUtils.isEmpty(positionSamples)) {
-            return Collections.emptyList();
+            return TrackSamples.empty();
         }
 
-        NavigableMap<OffsetDateTime, Double> elevationMap = elevationSamples.stream()
-                .collect(Collectors.toMap(
-                    TerraPayload.ElevationSample::timestamp,
-                    TerraPayload.ElevationSample::elevationMeters,
-                    (e1, e2) -> e1, // 중복 키의 경우 첫 번째 값을 사용
-                    TreeMap::new
-                ));
-
-        NavigableMap<OffsetDateTime, Double> speedMap = speedSamples.stream()
-                .collect(Collectors.toMap(
-                        TerraPayload.SpeedSample::timestamp,
-                        TerraPayload.SpeedSample::speedMetersPerSecond,
-                        (e1, e2) -> e1,
-                        TreeMap::new
-                ));
-
-        NavigableMap<OffsetDateTime, Double> distanceMap = distanceSamples.stream()
-                .collect(Collectors.toMap(
-                        TerraPayload.DistanceSample::timestamp,
-                        TerraPayload.DistanceSample::distanceMeters,
-                        (e1, e2) -> e1,
-                        TreeMap::new
-                ));
-
-        // 새로운 데이터들을 위한 Map 생성 (null 체크 추가)
-        log.debug("Terra 데이터 처리: cadenceSamples={}, heartRateSamples={}, powerSamples={}", 
-                cadenceSamples != null ? cadenceSamples.size() : 0,
-                heartRateSamples != null ? heartRateSamples.size() : 0,
-                powerSamples != null ? powerSamples.size() : 0);
-                
-        NavigableMap<OffsetDateTime, Double> cadenceMap = cadenceSamples != null ? cadenceSamples.stream()
-                .filter(sample -> sample != null && sample.timestamp() != null && sample.cadenceRpm() != null)
-                .collect(Collectors.toMap(
-                        TerraPayload.CadenceSample::timestamp,
-                        TerraPayload.CadenceSample::cadenceRpm,
-                        (e1, e2) -> e1,
-                        TreeMap::new
-                )) : new TreeMap<>();
-
-        NavigableMap<OffsetDateTime, Double> heartRateMap = heartRateSamples != null ? heartRateSamples.stream()
-                .filter(sample -> sample != null && sample.timestamp() != null && sample.heartRateBpm() != null)
-                .collect(Collectors.toMap(
-                        TerraPayload.HeartRateSample::timestamp,
-                        TerraPayload.HeartRateSample::heartRateBpm,
-                        (e1, e2) -> e1,
-                        TreeMap::new
-                )) : new TreeMap<>();
-
-        NavigableMap<OffsetDateTime, Double> powerMap = powerSamples != null ? powerSamples.stream()
-                .filter(sample -> sample != null && sample.timestamp() != null && sample.powerWatts() != null)
-                .collect(Collectors.toMap(
-                        TerraPayload.PowerSample::timestamp,
-                        TerraPayload.PowerSample::powerWatts,
-                        (e1, e2) -> e1,
-                        TreeMap::new
-                )) : new TreeMap<>();
-
-
-
-
-        return positionSamples.stream()
-                .map(pos -> {
-                    List<Double> coords = pos.coordsLatLngDeg();
-                    if (coords == null || coords.size() < 2) return null;
-
-                    Double elevation = findClosestData(pos.timestamp(), elevationMap);
-                    Double speed = findClosestData(pos.timestamp(), speedMap);
-                    Double distance = findClosestData(pos.timestamp(), distanceMap);
-                    
-                    // 새로운 데이터들
-                    Double cadence = findClosestData(pos.timestamp(), cadenceMap);
-                    Double heartRate = findClosestData(pos.timestamp(), heartRateMap);
-                    Double power = findClosestData(pos.timestamp(), powerMap);
-
-                    return ActivityGpsLog.builder()
-                            .activity(activity)
-                            .logTime(pos.timestamp().toLocalDateTime())
-                            .latitude(coords.get(0))
-                            .longitude(coords.get(1))
-                            .elevation(elevation)
-                            .speed(speed)
-                            .distance(distance)
-                            .heartRate(heartRate)
-                            .cadence(cadence)
-                            .power(power)
-                            .build();
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-    }
+        log.debug("Terra 데이터 처리: positionSamples={}, cadenceSamples={}, heartRateSamples={}, powerSamples={}",
+                positionSamples.size(), cadenceSamples.size(), heartRateSamples.size(), powerSamples.size());
 
-    private Double findClosestData(OffsetDateTime targetTime, NavigableMap<OffsetDateTime, Double> dataMap) {
-        if (dataMap.isEmpty()) {
-            return null;
+        // 유효한 위치 샘플만 기준 시간축으로 사용
+        List<TerraPayload.PositionSample> validPositions = new ArrayList<>(positionSamples.size());
+        for (TerraPayload.PositionSample pos : positionSamples) {
+            List<Double> coords = pos.coordsLatLngDeg();
+            if (pos.timestamp() == null || coords == null || coords.size() < 2
+                    || coords.get(0) == null || coords.get(1) == null) {
+                continue;
+            }
+            validPositions.add(pos);
         }
-        // 타임스탬프와 가장 가까운 키(시간)를 찾음
-        Map.Entry<OffsetDateTime, Double> floorEntry = dataMap.floorEntry(targetTime);
-        Map.Entry<OffsetDateTime, Double> ceilingEntry = dataMap.ceilingEntry(targetTime);
 
-        if (floorEntry == null && ceilingEntry == null) return null;
-        if (floorEntry == null) return ceilingEntry.getValue();
-        if (ceilingEntry == null) return floorEntry.getValue();
+        long[] targetTimes = new long[validPositions.size()];
+        for (int i = 0; i < targetTimes.length; i++) {
+            targetTimes[i] = toEpochMillis(validPositions.get(i).timestamp());
+        }
 
-        // 두 시간과의 차이를 계산하여 더 가까운 쪽의 고도 값을 반환
-        long diffToFloor = Duration.between(floorEntry.getKey(), targetTime).abs().toMillis();
-        long diffToCeiling = Duration.between(ceilingEntry.getKey(), targetTime).abs().toMillis();
+        double[] elevations = alignNearest(targetTimes, elevationSamples,
+                TerraPayload.ElevationSample::timestamp, TerraPayload.ElevationSample::elevationMeters);
+        double[] speeds = alignNearest(targetTimes, speedSamples,
+                TerraPayload.SpeedSample::timestamp, TerraPayload.SpeedSample::speedMetersPerSecond);
+        double[] distances = alignNearest(targetTimes, distanceSamples,
+                TerraPayload.DistanceSample::timestamp, TerraPayload.DistanceSample::distanceMeters);
+        double[] cadences = alignNearest(targetTimes, cadenceSamples,
+                TerraPayload.CadenceSample::timestamp, TerraPayload.CadenceSample::cadenceRpm);
+        double[] heartRates = alignNearest(targetTimes, heartRateSamples,
+                TerraPayload.HeartRateSample::timestamp, TerraPayload.HeartRateSample::heartRateBpm);
+        double[] powers = alignNearest(targetTimes, powerSamples,
+                TerraPayload.PowerSample::timestamp, TerraPayload.PowerSample::powerWatts);
+
+        TrackSamples.Builder builder = TrackSamples.builder(targetTimes.length);
+        for (int i = 0; i < targetTimes.length; i++) {
+            TerraPayload.PositionSample pos = validPositions.get(i);
+            List<Double> coords = pos.coordsLatLngDeg();
+            builder.addRaw(
+                    TrackSamples.toEpochMillis(pos.timestamp().toLocalDateTime()),
+                    coords.get(0),
+                    coords.get(1),
+                    elevations[i],
+                    speeds[i],
+                    distances[i],
+                    heartRates[i],
+                    cadences[i],
+                    powers[i]
+            );
+        }
+        return builder.build();
+    }
+
+    private <T> double[] alignNearest(long[] targetTimes, List<T> samples,
+                                      Function<T, OffsetDateTime> timestampGetter, Function<T, Double> valueGetter) {
+        SampleAligner.Series.Builder series = SampleAligner.series(samples.size());
+        for (T sample : samples) {
+            if (sample == null || timestampGetter.apply(sample) == null) {
+                continue;
+            }
+            series.add(toEpochMillis(timestampGetter.apply(sample)), valueGetter.apply(sample));
+        }
+        return SampleAligner.align(targetTimes, series.build(), SampleAligner.Mode.NEAREST);
+    }
 
-        return diffToFloor < diffToCeiling ? floorEntry.getValue() : ceilingEntry.getValue();
+    private long toEpochMillis(OffsetDateTime timestamp) {
+        return timestamp.toInstant().toEpochMilli();
     }
 }
@@ -0,0 +1,245 @@
+package com.ridingmate.api_server.domain.activity.track;
+
+import com.ridingmate.api_server.domain.activity.entity.Activity;
+import com.ridingmate.api_server.domain.activity.entity.ActivityGpsLog;
+import com.ridingmate.api_server.domain.activity.entity.ActivityTrackChunk;
+import com.ridingmate.api_server.domain.activity.entity.ActivityTrackLod;
+import com.ridingmate.api_server.domain.activity.enums.TrackResolution;
+import com.ridingmate.api_server.domain.activity.repository.ActivityGpsLogRepository;
+import com.ridingmate.api_server.domain.activity.repository.ActivityRepository;
+import com.ridingmate.api_server.domain.activity.repository.ActivityTrackChunkRepository;
+import com.ridingmate.api_server.domain.activity.repository.ActivityTrackLodRepository;
+import com.ridingmate.api_server.global.util.GpsEncryptionUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 청크 단위 압축/암호화 블롭 기반 TrackStore 구현
+ * - 활동당 CHUNK_SIZE 포인트마다 activity_track_chunks 한 행
+ * - 저장 시 해상도별 다운샘플링 트랙을 activity_track_lods에 함께 저장 (상세/지도 조회는 해당 행만 복호화)
+ * - 아직 마이그레이션되지 않은 활동은 기존 activity_gps_logs에서 조회
+ * - 청크는 FLUSH_INTERVAL_SAMPLES 포인트마다 flush 후 영속성 컨텍스트에서 분리 (긴 트랙도 블롭을 쌓아두지 않음)
+ * - 블롭은 "활동ID:청크순번" / "활동ID:해상도"를 연관 데이터로 암호화 (다른 활동/순번으로 옮기면 복호화 실패)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PackedTrackStore implements TrackStore {
+
+    static final int CHUNK_SIZE = 4096;
+    static final int FLUSH_INTERVAL_SAMPLES = CHUNK_SIZE * 4;
+    private static final int LEGACY_DELETE_BATCH_SIZE = 10_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ActivityTrackChunkRepository activityTrackChunkRepository;
+    private final ActivityTrackLodRepository activityTrackLodRepository;
+    private final ActivityGpsLogRepository activityGpsLogRepository;
+    private final ActivityRepository activityRepository;
+    private final GpsEncryptionUtil gpsEncryptionUtil;
+
+    @Override
+    @Transactional
+    public void save(Activity activity, TrackSamples samples) {
+        activityTrackChunkRepository.deleteByActivityId(activity.getId());
+        activityTrackLodRepository.deleteByActivityId(activity.getId());
+        if (samples.isEmpty()) {
+            return;
+        }
+
+        List<ActivityTrackChunk> unflushedChunks = new ArrayList<>();
+        int unflushedSamples = 0;
+        int chunkCount = 0;
+        for (int from = 0; from < samples.size(); from += CHUNK_SIZE, chunkCount++) {
+            int to = Math.min(from + CHUNK_SIZE, samples.size());
+            TrackSamples chunk = from == 0 && to == samples.size() ? samples : samples.slice(from, to);
+
+            unflushedChunks.add(activityTrackChunkRepository.save(ActivityTrackChunk.builder()
+                    .activity(activity)
+                    .chunkIndex(chunkCount)
+                    .pointCount(chunk.size())
+                    .formatVersion(TrackCodec.FORMAT_VERSION)
+                    .payload(gpsEncryptionUtil.encryptBytes(TrackCodec.encode(chunk),
+                            chunkAssociatedData(activity.getId(), chunkCount)))
+                    .build()));
+            unflushedSamples += chunk.size();
+
+            if (unflushedSamples >= FLUSH_INTERVAL_SAMPLES) {
+                flushAndDetach(unflushedChunks);
+                unflushedSamples = 0;
+            }
+        }
+        flushAndDetach(unflushedChunks);
+        saveLevels(activity, samples);
+
+        log.debug("[PackedTrackStore] 트랙 저장: activityId={}, pointCount={}, chunkCount={}",
+                activity.getId(), samples.size(), chunkCount);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TrackSamples load(Long activityId) {
+        List<ActivityTrackChunk> chunks = activityTrackChunkRepository.findByActivityIdOrderByChunkIndex(activityId);
+        if (chunks.isEmpty()) {
+            return loadLegacyRows(activityId);
+        }
+
+        List<TrackSamples> parts = new ArrayList<>(chunks.size());
+        for (ActivityTrackChunk chunk : chunks) {
+            parts.add(TrackCodec.decode(gpsEncryptionUtil.decryptBytes(chunk.getPayload(),
+                    chunkAssociatedData(activityId, chunk.getChunkIndex()))));
+        }
+        return TrackSamples.concat(parts);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TrackLevel loadLevel(Long activityId, TrackResolution resolution) {
+        if (resolution == TrackResolution.FULL) {
+            return TrackLevel.of(resolution, load(activityId));
+        }
+
+        return activityTrackLodRepository.findByActivityIdAndResolution(activityId, resolution)
+                .map(lod -> new TrackLevel(
+                        resolution,
+                        TrackCodec.decode(gpsEncryptionUtil.decryptBytes(lod.getPayload(),
+                                levelAssociatedData(activityId, resolution))),
+                        lod.getSourcePointCount(),
+                        lod.getBbox()))
+                .orElseGet(() -> {
+                    // 해상도별 트랙이 아직 없는 활동 (소급 생성 전)은 원본에서 계산
+                    log.debug("[PackedTrackStore] 해상도별 트랙 없음, 원본에서 계산: activityId={}, resolution={}",
+                            activityId, resolution);
+                    return TrackLevel.of(resolution, load(activityId));
+                });
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long activityId) {
+        activityTrackChunkRepository.deleteByActivityId(activityId);
+        activityTrackLodRepository.deleteByActivityId(activityId);
+        activityGpsLogRepository.deleteByActivityId(activityId);
+    }
+
+    /**
+     * 기존 row 단위 GPS 로그를 청크 블롭으로 변환 후 변환된 원본 행만 삭제 (활동 단위 독립 트랜잭션)
+     * - 위경도/시간이 없는 행은 트랙에 넣을 수 없으므로 삭제하지 않고 남겨둠 (건수 반환)
+     * - 이미 트랙 청크가 있는 활동은 기존 행을 건드리지 않음
+     * @param activityId 활동 ID
+     * @return 변환된 포인트 수와 남겨둔 행 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public LegacyMigrationResult migrateLegacyRows(Long activityId) {
+        List<ActivityGpsLog> gpsLogs = activityGpsLogRepository.findByActivityIdOrderByLogTimeAsc(activityId);
+        if (activityTrackChunkRepository.existsByActivityId(activityId)) {
+            log.warn("[PackedTrackStore] 트랙 청크가 이미 있어 기존 GPS 로그 유지: activityId={}, rows={}",
+                    activityId, gpsLogs.size());
+            return new LegacyMigrationResult(0, gpsLogs.size());
+        }
+
+        List<ActivityGpsLog> packableLogs = gpsLogs.stream().filter(PackedTrackStore::isPackable).toList();
+        TrackSamples samples = TrackSamples.fromGpsLogs(packableLogs);
+        if (samples.size() != packableLogs.size()) {
+            throw new IllegalStateException("트랙 변환 포인트 수 불일치: activityId=" + activityId
+                    + ", rows=" + packableLogs.size() + ", samples=" + samples.size());
+        }
+        if (!samples.isEmpty()) {
+            save(activityRepository.getReferenceById(activityId), samples);
+        }
+
+        List<Long> packedIds = packableLogs.stream().map(ActivityGpsLog::getId).toList();
+        for (int from = 0; from < packedIds.size(); from += LEGACY_DELETE_BATCH_SIZE) {
+            activityGpsLogRepository.deleteByIdIn(
+                    packedIds.subList(from, Math.min(from + LEGACY_DELETE_BATCH_SIZE, packedIds.size())));
+        }
+
+        int skippedRows = gpsLogs.size() - packableLogs.size();
+        if (skippedRows > 0) {
+            log.warn("[PackedTrackStore] 위경도/시간 없는 GPS 로그는 변환하지 않고 유지: activityId={}, skippedRows={}",
+                    activityId, skippedRows);
+        }
+        return new LegacyMigrationResult(samples.size(), skippedRows);
+    }
+
+    /**
+     * 저장된 트랙 청크로 해상도별 트랙 생성 (LOD 도입 이전 활동 소급 처리, 활동 단위 독립 트랜잭션)
+     * @param activityId 활동 ID
+     * @return 원본 트랙 포인트 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int rebuildLevels(Long activityId) {
+        TrackSamples samples = load(activityId);
+        activityTrackLodRepository.deleteByActivityId(activityId);
+        if (!samples.isEmpty()) {
+            saveLevels(activityRepository.getReferenceById(activityId), samples);
+        }
+        return samples.size();
+    }
+
+    private void saveLevels(Activity activity, TrackSamples samples) {
+        List<ActivityTrackLod> lods = new ArrayList<>();
+        for (TrackResolution resolution : TrackResolution.storedLevels()) {
+            TrackLevel level = TrackLevel.of(resolution, samples);
+            lods.add(ActivityTrackLod.builder()
+                    .activity(activity)
+                    .resolution(resolution)
+                    .pointCount(level.samples().size())
+                    .sourcePointCount(level.sourcePointCount())
+                    .formatVersion(TrackCodec.FORMAT_VERSION)
+                    .payload(gpsEncryptionUtil.encryptBytes(TrackCodec.encode(level.samples()),
+                            levelAssociatedData(activity.getId(), resolution)))
+                    .bbox(level.bbox())
+                    .build());
+        }
+        activityTrackLodRepository.saveAll(lods);
+    }
+
+    /**
+     * 저장한 청크를 DB에 반영하고 영속성 컨텍스트에서 분리
+     * 컨텍스트 전체를 비우면 호출한 쪽이 사용 중인 활동 엔티티까지 분리되므로 청크만 분리
+     */
+    private void flushAndDetach(List<ActivityTrackChunk> chunks) {
+        if (chunks.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        chunks.forEach(entityManager::detach);
+        chunks.clear();
+    }
+
+    public static byte[] chunkAssociatedData(Long activityId, int chunkIndex) {
+        return (activityId + ":" + chunkIndex).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static byte[] levelAssociatedData(Long activityId, TrackResolution resolution) {
+        return (activityId + ":" + resolution.name()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean isPackable(ActivityGpsLog gpsLog) {
+        return gpsLog.getLatitude() != null && gpsLog.getLongitude() != null && gpsLog.getLogTime() != null;
+    }
+
+    private TrackSamples loadLegacyRows(Long activityId) {
+        List<ActivityGpsLog> gpsLogs = activityGpsLogRepository.findByActivityIdOrderByLogTimeAsc(activityId);
+        return gpsLogs.isEmpty() ? TrackSamples.empty() : TrackSamples.fromGpsLogs(gpsLogs);
+    }
+
+    /**
+     * 기존 GPS 로그 이전 결과
+     * @param packedPoints 트랙 청크로 변환 후 삭제한 행 수
+     * @param skippedRows 변환하지 못해 남겨둔 행 수
+     */
+    public record LegacyMigrationResult(int packedPoints, int skippedRows) {
+    }
+}
@@ -0,0 +1,236 @@
+package com.ridingmate.api_server.domain.activity.track;
+
+import java.util.Arrays;
+
+/**
+ * 서로 다른 시간축의 센서 스트림을 기준 시간축(위치 샘플)에 정렬
+ *
+ * - 시간은 epoch millis, 값은 double 배열로 다루어 박싱 없이 처리
+ * - 기준 시간축이 정렬되어 있으면 스트림당 한 번의 선형 스윕(O(n + m))으로 정렬
+ * - 기준 시간축이 역행하는 구간은 이진 탐색으로 커서를 재배치
+ * - 매칭되는 값이 없으면 NaN
+ */
+public final class SampleAligner {
+
+    public enum Mode {
+        /**
+         * 가장 가까운 샘플 값 (거리가 같으면 이후 샘플)
+         */
+        NEAREST,
+        /**
+         * 기준 시각 이전(같은 시각 포함)의 마지막 샘플 값, 첫 샘플 이전은 NaN
+         */
+        PREVIOUS,
+        /**
+         * 앞뒤 샘플 사이 선형 보간, 범위 밖은 양 끝 샘플 값
+         */
+        LINEAR
+    }
+
+    private SampleAligner() {
+    }
+
+    /**
+     * 스트림 값을 기준 시간축에 정렬
+     * @param targetTimes 기준 시간축 (epoch millis)
+     * @param series 정렬할 스트림
+     * @param mode 정렬 방식
+     * @return 기준 시간축과 같은 길이의 값 배열 (값 없음은 NaN)
+     */
+    public static double[] align(long[] targetTimes, Series series, Mode mode) {
+        double[] result = new double[targetTimes.length];
+        if (series.isEmpty()) {
+            Arrays.fill(result, Double.NaN);
+            return result;
+        }
+
+        long[] times = series.times;
+        double[] values = series.values;
+        int cursor = 0;
+        long previousTarget = Long.MIN_VALUE;
+
+        for (int i = 0; i < targetTimes.length; i++) {
+            long target = targetTimes[i];
+            if (target < previousTarget) {
+                cursor = upperBound(times, target);
+            }
+            // cursor: target보다 늦은 첫 샘플 위치
+            while (cursor < times.length && times[cursor] <= target) {
+                cursor++;
+            }
+            previousTarget = target;
+
+            result[i] = valueAt(times, values, cursor, target, mode);
+        }
+        return result;
+    }
+
+    private static double valueAt(long[] times, double[] values, int cursor, long target, Mode mode) {
+        int floor = cursor - 1;
+
+        if (mode == Mode.PREVIOUS) {
+            return floor >= 0 ? values[floor] : Double.NaN;
+        }
+        if (floor < 0) {
+            return values[0];
+        }
+        if (cursor == times.length || times[floor] == target) {
+            return values[floor];
+        }
+
+        long diffToFloor = target - times[floor];
+        long diffToCeiling = times[cursor] - target;
+
+        if (mode == Mode.NEAREST) {
+            return diffToFloor < diffToCeiling ? values[floor] : values[cursor];
+        }
+
+        double ratio = (double) diffToFloor / (diffToFloor + diffToCeiling);
+        return values[floor] + (values[cursor] - values[floor]) * ratio;
+    }
+
+    private static int upperBound(long[] times, long target) {
+        int low = 0;
+        int high = times.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times[mid] <= target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public static Series.Builder series(int expectedSize) {
+        return new Series.Builder(expectedSize);
+    }
+
+    /**
+     * 시간순으로 정렬되고 시각이 중복되지 않는 (시간, 값) 스트림
+     */
+    public static final class Series {
+
+        private static final Series EMPTY = new Series(new long[0], new double[0]);
+
+        private final long[] times;
+        private final double[] values;
+
+        private Series(long[] times, double[] values) {
+            this.times = times;
+            this.values = values;
+        }
+
+        public int size() {
+            return times.length;
+        }
+
+        public boolean isEmpty() {
+            return times.length == 0;
+        }
+
+        /**
+         * 샘플을 추가하여 Series 생성
+         * - 값이 없는(null/NaN) 샘플은 제외
+         * - 입력이 정렬되지 않은 경우에만 안정 정렬 수행
+         * - 같은 시각의 샘플은 먼저 추가된 값을 사용
+         */
+        public static final class Builder {
+
+            private int size;
+            private long[] times;
+            private double[] values;
+            private boolean sorted = true;
+
+            private Builder(int expectedSize) {
+                int capacity = Math.max(expectedSize, 16);
+                this.times = new long[capacity];
+                this.values = new double[capacity];
+            }
+
+            public Builder add(long time, Double value) {
+                return value != null ? add(time, value.doubleValue()) : this;
+            }
+
+            public Builder add(long time, double value) {
+                if (Double.isNaN(value)) {
+                    return this;
+                }
+                if (size == times.length) {
+                    times = Arrays.copyOf(times, size * 2);
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                if (size > 0 && time < times[size - 1]) {
+                    sorted = false;
+                }
+                times[size] = time;
+                values[size] = value;
+                size++;
+                return this;
+            }
+
+            public Series build() {
+                if (size == 0) {
+                    return EMPTY;
+                }
+                if (!sorted) {
+                    sortByTime();
+                }
+
+                // 중복 시각 제거 (첫 번째 값 유지)
+                int distinct = 1;
+                for (int i = 1; i < size; i++) {
+                    if (times[i] != times[distinct - 1]) {
+                        times[distinct] = times[i];
+                        values[distinct] = values[i];
+                        distinct++;
+                    }
+                }
+                return new Series(Arrays.copyOf(times, distinct), Arrays.copyOf(values, distinct));
+            }
+
+            /**
+             * 시간 기준 안정 정렬 (박싱 없이 시간/값 배열을 함께 병합 정렬)
+             */
+            private void sortByTime() {
+                long[] sourceTimes = Arrays.copyOf(times, size);
+                double[] sourceValues = Arrays.copyOf(values, size);
+                long[] targetTimes = new long[size];
+                double[] targetValues = new double[size];
+
+                for (int width = 1; width < size; width <<= 1) {
+                    for (int low = 0; low < size; low += width << 1) {
+                        int middle = Math.min(low + width, size);
+                        int high = Math.min(low + (width << 1), size);
+                        merge(sourceTimes, sourceValues, targetTimes, targetValues, low, middle, high);
+                    }
+                    long[] swapTimes = sourceTimes;
+                    sourceTimes = targetTimes;
+                    targetTimes = swapTimes;
+                    double[] swapValues = sourceValues;
+                    sourceValues = targetValues;
+                    targetValues = swapValues;
+                }
+                this.times = sourceTimes;
+                this.values = sourceValues;
+            }
+
+            private static void merge(long[] sourceTimes, double[] sourceValues,
+                                      long[] targetTimes, double[] targetValues, int low, int middle, int high) {
+                int left = low;
+                int right = middle;
+                for (int i = low; i < high; i++) {
+                    // 같은 시각이면 앞쪽(먼저 추가된) 샘플 우선
+                    if (left < middle && (right >= high || sourceTimes[left] <= sourceTimes[right])) {
+                        targetTimes[i] = sourceTimes[left];
+                        targetValues[i] = sourceValues[left++];
+                    } else {
+                        targetTimes[i] = sourceTimes[right];
+                        targetValues[i] = sourceValues[right++];
+                    }
+                }
+            }
+        }
+    }
+}
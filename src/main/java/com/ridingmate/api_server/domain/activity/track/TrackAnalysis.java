@@ -0,0 +1,36 @@
+package com.ridingmate.api_server.domain.activity.track;
+
+/**
+ * 트랙 분석 결과 (값이 없는 항목은 NaN)
+ * @param distanceMeters 좌표 간 대원 거리 합 (m)
+ * @param elevationGain 히스테리시스 적용 상승 고도 (m)
+ * @param elevationLoss 히스테리시스 적용 하강 고도 (m)
+ * @param movingTimeSeconds 이동 시간 (초)
+ * @param averageSpeed 이동 시간 기준 평균 속도 (m/s)
+ * @param maxSpeed 최고 속도 (m/s)
+ * @param averageHeartRate 평균 심박수 (bpm)
+ * @param maxHeartRate 최대 심박수 (bpm)
+ * @param averageCadence 평균 케이던스 (rpm)
+ * @param maxCadence 최대 케이던스 (rpm)
+ * @param averagePower 평균 파워 (W)
+ * @param maxPower 최고 파워 (W)
+ */
+public record TrackAnalysis(
+        double distanceMeters,
+        double elevationGain,
+        double elevationLoss,
+        long movingTimeSeconds,
+        double averageSpeed,
+        double maxSpeed,
+        double averageHeartRate,
+        double maxHeartRate,
+        double averageCadence,
+        double maxCadence,
+        double averagePower,
+        double maxPower
+) {
+
+    public boolean hasElevation() {
+        return !Double.isNaN(elevationGain);
+    }
+}
@@ -0,0 +1,179 @@
+package com.ridingmate.api_server.domain.activity.track;
+
+/**
+ * 트랙 샘플을 한 번 순회하며 거리/고도/이동 시간/센서 통계를 계산하는 스트리밍 분석기
+ *
+ * - 샘플을 시간순으로 accept하고 마지막에 result 호출 (샘플을 보관하지 않음)
+ * - 거리: 연속 좌표 간 haversine 거리 합
+ * - 상승/하강 고도: 기준 고도에서 임계값 이상 벗어난 변화만 누적 (GPS/기압계 잡음 제거)
+ * - 이동 시간: 구간 속도가 임계값 이상인 구간의 시간 합 (센서 속도 우선, 샘플 간격이 길면 좌표로 계산)
+ * - 속도/심박/케이던스/파워: NaN을 제외한 평균과 최대값
+ */
+public final class TrackAnalyzer {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000.0;
+    private static final double ELEVATION_HYSTERESIS_METERS = 3.0;
+    private static final double MOVING_SPEED_THRESHOLD = 1.0; // m/s (3.6km/h)
+    private static final long MAX_SENSOR_SPEED_GAP_MILLIS = 10_000;
+    private static final double MAX_PLAUSIBLE_SPEED = 33.3; // m/s (120km/h), 초과는 GPS 튐으로 보고 최고 속도에서 제외
+
+    private int count;
+    private long previousTime;
+    private double previousLatitude;
+    private double previousLongitude;
+
+    private double distanceMeters;
+    private long movingMillis;
+
+    private double elevationReference = Double.NaN;
+    private double elevationGain;
+    private double elevationLoss;
+
+    private double maxSensorSpeed = Double.NaN;
+    private double maxDerivedSpeed = Double.NaN;
+
+    private final ChannelStats heartRate = new ChannelStats();
+    private final ChannelStats cadence = new ChannelStats();
+    private final ChannelStats power = new ChannelStats();
+
+    /**
+     * 트랙 전체 분석
+     */
+    public static TrackAnalysis analyze(TrackSamples samples) {
+        TrackAnalyzer analyzer = new TrackAnalyzer();
+        long[] times = samples.times();
+        double[] latitudes = samples.latitudes();
+        double[] longitudes = samples.longitudes();
+        double[] elevations = samples.elevations();
+        double[] speeds = samples.speeds();
+        double[] heartRates = samples.heartRates();
+        double[] cadences = samples.cadences();
+        double[] powers = samples.powers();
+
+        for (int i = 0; i < times.length; i++) {
+            analyzer.accept(times[i], latitudes[i], longitudes[i], elevations[i],
+                    speeds[i], heartRates[i], cadences[i], powers[i]);
+        }
+        return analyzer.result();
+    }
+
+    /**
+     * 샘플 하나 반영 (값이 없으면 NaN)
+     * @param time epoch millis
+     * @param speed 센서 속도 (m/s)
+     */
+    public void accept(long time, double latitude, double longitude, double elevation,
+                       double speed, double heartRateValue, double cadenceValue, double powerValue) {
+        if (count > 0) {
+            double segmentMeters = haversineMeters(previousLatitude, previousLongitude, latitude, longitude);
+            distanceMeters += segmentMeters;
+
+            long elapsedMillis = time - previousTime;
+            if (elapsedMillis > 0) {
+                double derivedSpeed = segmentMeters * 1000.0 / elapsedMillis;
+                double segmentSpeed = !Double.isNaN(speed) && elapsedMillis <= MAX_SENSOR_SPEED_GAP_MILLIS
+                        ? speed : derivedSpeed;
+                if (segmentSpeed >= MOVING_SPEED_THRESHOLD) {
+                    movingMillis += elapsedMillis;
+                }
+                if (derivedSpeed <= MAX_PLAUSIBLE_SPEED) {
+                    maxDerivedSpeed = max(maxDerivedSpeed, derivedSpeed);
+                }
+            }
+        }
+
+        if (!Double.isNaN(speed) && speed <= MAX_PLAUSIBLE_SPEED) {
+            maxSensorSpeed = max(maxSensorSpeed, speed);
+        }
+        acceptElevation(elevation);
+        heartRate.accept(heartRateValue);
+        cadence.accept(cadenceValue);
+        power.accept(powerValue);
+
+        previousTime = time;
+        previousLatitude = latitude;
+        previousLongitude = longitude;
+        count++;
+    }
+
+    public TrackAnalysis result() {
+        long movingTimeSeconds = movingMillis / 1000;
+        boolean hasElevation = !Double.isNaN(elevationReference);
+
+        return new TrackAnalysis(
+                distanceMeters,
+                hasElevation ? elevationGain : Double.NaN,
+                hasElevation ? elevationLoss : Double.NaN,
+                movingTimeSeconds,
+                movingTimeSeconds > 0 ? distanceMeters / movingTimeSeconds : Double.NaN,
+                // 센서 속도가 있으면 좌표로 계산한 속도보다 우선
+                !Double.isNaN(maxSensorSpeed) ? maxSensorSpeed : maxDerivedSpeed,
+                heartRate.average(),
+                heartRate.max,
+                cadence.average(),
+                cadence.max,
+                power.average(),
+                power.max
+        );
+    }
+
+    /**
+     * 두 좌표 간 대원 거리 (m)
+     */
+    public static double haversineMeters(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double latitudeDelta = Math.toRadians(latitude2 - latitude1);
+        double longitudeDelta = Math.toRadians(longitude2 - longitude1);
+        double sinLatitude = Math.sin(latitudeDelta / 2);
+        double sinLongitude = Math.sin(longitudeDelta / 2);
+        double a = sinLatitude * sinLatitude
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * sinLongitude * sinLongitude;
+        return 2 * EARTH_RADIUS_METERS * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    private void acceptElevation(double elevation) {
+        if (Double.isNaN(elevation)) {
+            return;
+        }
+        if (Double.isNaN(elevationReference)) {
+            elevationReference = elevation;
+            return;
+        }
+
+        double delta = elevation - elevationReference;
+        if (delta >= ELEVATION_HYSTERESIS_METERS) {
+            elevationGain += delta;
+            elevationReference = elevation;
+        } else if (delta <= -ELEVATION_HYSTERESIS_METERS) {
+            elevationLoss -= delta;
+            elevationReference = elevation;
+        }
+    }
+
+    private static double max(double current, double value) {
+        return Double.isNaN(current) || value > current ? value : current;
+    }
+
+    /**
+     * 센서 채널 평균/최대 누적
+     */
+    private static final class ChannelStats {
+
+        private double sum;
+        private long count;
+        private double max = Double.NaN;
+
+        private void accept(double value) {
+            if (Double.isNaN(value)) {
+                return;
+            }
+            sum += value;
+            count++;
+            max = TrackAnalyzer.max(max, value);
+        }
+
+        private double average() {
+            return count > 0 ? sum / count : Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.ridingmate.api_server.domain.activity.track;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * TrackSamples 바이너리 인코더/디코더 (포맷 버전 1)
+ *
+ * 구조: [샘플 수][시간 채널][값 채널 x 8] → Deflate 압축
+ * - 시간: 첫 값 + 이전 값과의 차이 (zigzag varint)
+ * - 값 채널: 고정 소수점 정수로 양자화 후 이전 유효값과의 차이 (zigzag varint)
+ * - 결측치(NaN)는 채널별 존재 비트맵으로 표현
+ */
+public final class TrackCodec {
+
+    public static final int FORMAT_VERSION = 1;
+
+    /**
+     * 채널별 양자화 배율
+     * 위경도 1e-7도(약 1cm), 고도/거리 1cm, 속도 1mm/s, 심박/케이던스/파워 0.1 단위
+     */
+    private static final double LAT_LON_SCALE = 1e7;
+    private static final double ELEVATION_SCALE = 100;
+    private static final double SPEED_SCALE = 1000;
+    private static final double DISTANCE_SCALE = 100;
+    private static final double SENSOR_SCALE = 10;
+
+    private static final byte PRESENCE_NONE = 0;
+    private static final byte PRESENCE_ALL = 1;
+    private static final byte PRESENCE_BITMAP = 2;
+
+    private TrackCodec() {
+    }
+
+    public static byte[] encode(TrackSamples samples) {
+        Writer writer = new Writer(samples.size() * 12 + 16);
+        int size = samples.size();
+        writer.writeVarLong(size);
+
+        long previousTime = 0L;
+        long[] times = samples.times();
+        for (int i = 0; i < size; i++) {
+            writer.writeVarLong(zigzag(times[i] - previousTime));
+            previousTime = times[i];
+        }
+
+        writeChannel(writer, samples.latitudes(), LAT_LON_SCALE);
+        writeChannel(writer, samples.longitudes(), LAT_LON_SCALE);
+        writeChannel(writer, samples.elevations(), ELEVATION_SCALE);
+        writeChannel(writer, samples.speeds(), SPEED_SCALE);
+        writeChannel(writer, samples.distances(), DISTANCE_SCALE);
+        writeChannel(writer, samples.heartRates(), SENSOR_SCALE);
+        writeChannel(writer, samples.cadences(), SENSOR_SCALE);
+        writeChannel(writer, samples.powers(), SENSOR_SCALE);
+
+        return deflate(writer.toByteArray());
+    }
+
+    public static TrackSamples decode(byte[] payload) {
+        Reader reader = new Reader(inflate(payload));
+        int size = (int) reader.readVarLong();
+
+        long[] times = new long[size];
+        long previousTime = 0L;
+        for (int i = 0; i < size; i++) {
+            previousTime += unzigzag(reader.readVarLong());
+            times[i] = previousTime;
+        }
+
+        return new TrackSamples(
+                times,
+                readChannel(reader, size, LAT_LON_SCALE),
+                readChannel(reader, size, LAT_LON_SCALE),
+                readChannel(reader, size, ELEVATION_SCALE),
+                readChannel(reader, size, SPEED_SCALE),
+                readChannel(reader, size, DISTANCE_SCALE),
+                readChannel(reader, size, SENSOR_SCALE),
+                readChannel(reader, size, SENSOR_SCALE),
+                readChannel(reader, size, SENSOR_SCALE)
+        );
+    }
+
+    private static void writeChannel(Writer writer, double[] values, double scale) {
+        int present = 0;
+        for (double value : values) {
+            if (!Double.isNaN(value)) {
+                present++;
+            }
+        }
+
+        if (present == 0) {
+            writer.writeByte(PRESENCE_NONE);
+            return;
+        }
+
+        if (present == values.length) {
+            writer.writeByte(PRESENCE_ALL);
+        } else {
+            writer.writeByte(PRESENCE_BITMAP);
+            byte[] bitmap = new byte[(values.length + 7) >>> 3];
+            for (int i = 0; i < values.length; i++) {
+                if (!Double.isNaN(values[i])) {
+                    bitmap[i >>> 3] |= (byte) (1 << (i & 7));
+                }
+            }
+            writer.writeBytes(bitmap);
+        }
+
+        long previous = 0L;
+        for (double value : values) {
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            long quantized = Math.round(value * scale);
+            writer.writeVarLong(zigzag(quantized - previous));
+            previous = quantized;
+        }
+    }
+
+    private static double[] readChannel(Reader reader, int size, double scale) {
+        double[] values = new double[size];
+        byte presence = reader.readByte();
+
+        if (presence == PRESENCE_NONE) {
+            Arrays.fill(values, Double.NaN);
+            return values;
+        }
+
+        byte[] bitmap = presence == PRESENCE_BITMAP ? reader.readBytes((size + 7) >>> 3) : null;
+
+        long previous = 0L;
+        for (int i = 0; i < size; i++) {
+            if (bitmap != null && (bitmap[i >>> 3] & (1 << (i & 7))) == 0) {
+                values[i] = Double.NaN;
+                continue;
+            }
+            previous += unzigzag(reader.readVarLong());
+            values[i] = previous / scale;
+        }
+        return values;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, input.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                output.write(buffer, 0, length);
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream output = new ByteArrayOutputStream(input.length * 2);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("GPS 트랙 데이터가 손상되었습니다.");
+                }
+                output.write(buffer, 0, length);
+            }
+            return output.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("GPS 트랙 데이터 압축 해제에 실패했습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer;
+        private int position;
+
+        private Writer(int initialCapacity) {
+            this.buffer = new byte[Math.max(initialCapacity, 16)];
+        }
+
+        private void writeByte(byte value) {
+            ensureCapacity(1);
+            buffer[position++] = value;
+        }
+
+        private void writeBytes(byte[] values) {
+            ensureCapacity(values.length);
+            System.arraycopy(values, 0, buffer, position, values.length);
+            position += values.length;
+        }
+
+        private void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        private Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        private byte readByte() {
+            return buffer[position++];
+        }
+
+        private byte[] readBytes(int length) {
+            byte[] values = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return values;
+        }
+
+        private long readVarLong() {
+            long result = 0L;
+            int shift = 0;
+            byte current;
+            do {
+                current = buffer[position++];
+                result |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ridingmate.api_server.domain.activity.track;
+
+import com.ridingmate.api_server.domain.activity.enums.TrackResolution;
+import com.ridingmate.api_server.global.util.LttbDownsampler;
+
+import java.util.List;
+
+/**
+ * 해상도별 트랙 조회 결과
+ * @param resolution 해상도
+ * @param samples 다운샘플링된 트랙 (FULL이면 원본)
+ * @param sourcePointCount 원본 트랙 포인트 수
+ * @param bbox 원본 트랙 Bounding Box [minLon, minLat, maxLon, maxLat]
+ */
+public record TrackLevel(
+        TrackResolution resolution,
+        TrackSamples samples,
+        int sourcePointCount,
+        List<Double> bbox
+) {
+
+    /**
+     * 원본 트랙을 해상도에 맞게 다운샘플링 (고도, 속도, 심박수 피크를 함께 유지)
+     * @param resolution 해상도
+     * @param samples 원본 트랙
+     */
+    public static TrackLevel of(TrackResolution resolution, TrackSamples samples) {
+        TrackSamples levelSamples = samples.size() > resolution.getMaxPoints()
+                ? samples.select(LttbDownsampler.downsample(
+                        new double[][]{samples.elevations(), samples.speeds(), samples.heartRates()},
+                        resolution.getMaxPoints()))
+                : samples;
+        return new TrackLevel(resolution, levelSamples, samples.size(), boundingBox(samples));
+    }
+
+    /**
+     * 트랙 Bounding Box 계산
+     * @return [minLon, minLat, maxLon, maxLat] 형태의 리스트 (빈 트랙이면 0)
+     */
+    private static List<Double> boundingBox(TrackSamples samples) {
+        if (samples.isEmpty()) {
+            return List.of(0.0, 0.0, 0.0, 0.0);
+        }
+
+        double[] latitudes = samples.latitudes();
+        double[] longitudes = samples.longitudes();
+        double minLon = Double.POSITIVE_INFINITY;
+        double minLat = Double.POSITIVE_INFINITY;
+        double maxLon = Double.NEGATIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < samples.size(); i++) {
+            minLon = Math.min(minLon, longitudes[i]);
+            minLat = Math.min(minLat, latitudes[i]);
+            maxLon = Math.max(maxLon, longitudes[i]);
+            maxLat = Math.max(maxLat, latitudes[i]);
+        }
+        return List.of(minLon, minLat, maxLon, maxLat);
+    }
+}
@@ -0,0 +1,323 @@
+package com.ridingmate.api_server.domain.activity.track;
+
+import com.ridingmate.api_server.domain.activity.dto.projection.GpsLogProjection;
+import com.ridingmate.api_server.domain.activity.entity.ActivityGpsLog;
+import org.locationtech.jts.geom.Coordinate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 활동 GPS 트랙의 컬럼형 표현
+ * - 시간은 epoch millis(UTC 기준 LocalDateTime), 나머지 채널은 double 배열
+ * - 값이 없는 경우 NaN
+ */
+public final class TrackSamples {
+
+    private static final TrackSamples EMPTY = new TrackSamples(
+            new long[0], new double[0], new double[0], new double[0], new double[0],
+            new double[0], new double[0], new double[0], new double[0]);
+
+    private final long[] times;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double[] elevations;
+    private final double[] speeds;
+    private final double[] distances;
+    private final double[] heartRates;
+    private final double[] cadences;
+    private final double[] powers;
+
+    TrackSamples(long[] times, double[] latitudes, double[] longitudes, double[] elevations,
+                 double[] speeds, double[] distances, double[] heartRates, double[] cadences, double[] powers) {
+        this.times = times;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.elevations = elevations;
+        this.speeds = speeds;
+        this.distances = distances;
+        this.heartRates = heartRates;
+        this.cadences = cadences;
+        this.powers = powers;
+    }
+
+    public static TrackSamples empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    /**
+     * 기존 row 단위 GPS 로그를 컬럼형 트랙으로 변환
+     * @param gpsLogs 시간순으로 정렬된 GPS 로그
+     */
+    public static TrackSamples fromGpsLogs(List<ActivityGpsLog> gpsLogs) {
+        Builder builder = builder(gpsLogs.size());
+        for (ActivityGpsLog gpsLog : gpsLogs) {
+            if (gpsLog.getLatitude() == null || gpsLog.getLongitude() == null || gpsLog.getLogTime() == null) {
+                continue;
+            }
+            builder.add(
+                    gpsLog.getLogTime(),
+                    gpsLog.getLatitude(),
+                    gpsLog.getLongitude(),
+                    gpsLog.getElevation(),
+                    gpsLog.getSpeed(),
+                    gpsLog.getDistance(),
+                    gpsLog.getHeartRate(),
+                    gpsLog.getCadence(),
+                    gpsLog.getPower()
+            );
+        }
+        return builder.build();
+    }
+
+    /**
+     * 여러 트랙 조각을 순서대로 이어붙임
+     */
+    public static TrackSamples concat(List<TrackSamples> parts) {
+        if (parts.isEmpty()) {
+            return EMPTY;
+        }
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+
+        int total = parts.stream().mapToInt(TrackSamples::size).sum();
+        Builder builder = builder(total);
+        for (TrackSamples part : parts) {
+            for (int i = 0; i < part.size(); i++) {
+                builder.addRaw(part.times[i], part.latitudes[i], part.longitudes[i], part.elevations[i],
+                        part.speeds[i], part.distances[i], part.heartRates[i], part.cadences[i], part.powers[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return times.length;
+    }
+
+    public boolean isEmpty() {
+        return times.length == 0;
+    }
+
+    /**
+     * [from, to) 구간의 트랙 조각 반환
+     */
+    public TrackSamples slice(int from, int to) {
+        return new TrackSamples(
+                Arrays.copyOfRange(times, from, to),
+                Arrays.copyOfRange(latitudes, from, to),
+                Arrays.copyOfRange(longitudes, from, to),
+                Arrays.copyOfRange(elevations, from, to),
+                Arrays.copyOfRange(speeds, from, to),
+                Arrays.copyOfRange(distances, from, to),
+                Arrays.copyOfRange(heartRates, from, to),
+                Arrays.copyOfRange(cadences, from, to),
+                Arrays.copyOfRange(powers, from, to)
+        );
+    }
+
+    /**
+     * 지정한 인덱스의 샘플만 모은 트랙 반환
+     * @param indices 오름차순 원본 인덱스
+     */
+    public TrackSamples select(int[] indices) {
+        if (indices.length == size()) {
+            return this;
+        }
+
+        Builder builder = builder(indices.length);
+        for (int i : indices) {
+            builder.addRaw(times[i], latitudes[i], longitudes[i], elevations[i],
+                    speeds[i], distances[i], heartRates[i], cadences[i], powers[i]);
+        }
+        return builder.build();
+    }
+
+    public long[] times() {
+        return times;
+    }
+
+    public double[] latitudes() {
+        return latitudes;
+    }
+
+    public double[] longitudes() {
+        return longitudes;
+    }
+
+    public double[] elevations() {
+        return elevations;
+    }
+
+    public double[] speeds() {
+        return speeds;
+    }
+
+    public double[] distances() {
+        return distances;
+    }
+
+    public double[] heartRates() {
+        return heartRates;
+    }
+
+    public double[] cadences() {
+        return cadences;
+    }
+
+    public double[] powers() {
+        return powers;
+    }
+
+    public LocalDateTime logTimeAt(int index) {
+        return toLocalDateTime(times[index]);
+    }
+
+    /**
+     * 좌표 배열로 변환 (고도 없음은 0.0)
+     */
+    public Coordinate[] toCoordinates() {
+        Coordinate[] coordinates = new Coordinate[size()];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(longitudes[i], latitudes[i], orZero(elevations[i]));
+        }
+        return coordinates;
+    }
+
+    /**
+     * 상세 조회 응답용 Projection 리스트로 변환
+     */
+    public List<GpsLogProjection> toGpsLogProjections() {
+        List<GpsLogProjection> projections = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            projections.add(new GpsLogProjection(
+                    longitudes[i],
+                    latitudes[i],
+                    orZero(elevations[i]),
+                    orNull(speeds[i]),
+                    orNull(heartRates[i]),
+                    orNull(cadences[i]),
+                    orNull(powers[i])
+            ));
+        }
+        return projections;
+    }
+
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    private static double orZero(double value) {
+        return Double.isNaN(value) ? 0.0 : value;
+    }
+
+    private static Double orNull(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    /**
+     * 시간순으로 샘플을 추가하여 TrackSamples 생성
+     */
+    public static final class Builder {
+
+        private int size;
+        private long[] times;
+        private double[] latitudes;
+        private double[] longitudes;
+        private double[] elevations;
+        private double[] speeds;
+        private double[] distances;
+        private double[] heartRates;
+        private double[] cadences;
+        private double[] powers;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 16);
+            this.times = new long[capacity];
+            this.latitudes = new double[capacity];
+            this.longitudes = new double[capacity];
+            this.elevations = new double[capacity];
+            this.speeds = new double[capacity];
+            this.distances = new double[capacity];
+            this.heartRates = new double[capacity];
+            this.cadences = new double[capacity];
+            this.powers = new double[capacity];
+        }
+
+        public Builder add(LocalDateTime logTime, double latitude, double longitude, Double elevation,
+                           Double speed, Double distance, Double heartRate, Double cadence, Double power) {
+            return addRaw(toEpochMillis(logTime), latitude, longitude, nan(elevation),
+                    nan(speed), nan(distance), nan(heartRate), nan(cadence), nan(power));
+        }
+
+        public Builder addRaw(long time, double latitude, double longitude, double elevation,
+                              double speed, double distance, double heartRate, double cadence, double power) {
+            ensureCapacity();
+            times[size] = time;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            elevations[size] = elevation;
+            speeds[size] = speed;
+            distances[size] = distance;
+            heartRates[size] = heartRate;
+            cadences[size] = cadence;
+            powers[size] = power;
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public TrackSamples build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            return new TrackSamples(
+                    Arrays.copyOf(times, size),
+                    Arrays.copyOf(latitudes, size),
+                    Arrays.copyOf(longitudes, size),
+                    Arrays.copyOf(elevations, size),
+                    Arrays.copyOf(speeds, size),
+                    Arrays.copyOf(distances, size),
+                    Arrays.copyOf(heartRates, size),
+                    Arrays.copyOf(cadences, size),
+                    Arrays.copyOf(powers, size)
+            );
+        }
+
+        private void ensureCapacity() {
+            if (size < times.length) {
+                return;
+            }
+            int capacity = times.length * 2;
+            times = Arrays.copyOf(times, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            elevations = Arrays.copyOf(elevations, capacity);
+            speeds = Arrays.copyOf(speeds, capacity);
+            distances = Arrays.copyOf(distances, capacity);
+            heartRates = Arrays.copyOf(heartRates, capacity);
+            cadences = Arrays.copyOf(cadences, capacity);
+            powers = Arrays.copyOf(powers, capacity);
+        }
+
+        private static double nan(Double value) {
+            return value != null ? value : Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ridingmate.api_server.domain.activity.track;
+
+import com.ridingmate.api_server.domain.activity.entity.Activity;
+import com.ridingmate.api_server.domain.activity.enums.TrackResolution;
+
+/**
+ * 활동 GPS 트랙 저장소
+ * 상세 조회, 썸네일 생성, 삭제 등 모든 트랙 접근은 이 인터페이스를 통해 수행
+ */
+public interface TrackStore {
+
+    /**
+     * 활동 트랙 저장 (기존 트랙은 대체)
+     * @param activity 활동
+     * @param samples 시간순 트랙 샘플
+     */
+    void save(Activity activity, TrackSamples samples);
+
+    /**
+     * 활동 트랙 조회
+     * @param activityId 활동 ID
+     * @return 시간순 트랙 샘플 (없으면 빈 트랙)
+     */
+    TrackSamples load(Long activityId);
+
+    /**
+     * 해상도별 활동 트랙 조회
+     * @param activityId 활동 ID
+     * @param resolution 해상도 (FULL이면 원본 트랙)
+     * @return 해당 해상도 트랙과 원본 Bounding Box
+     */
+    TrackLevel loadLevel(Long activityId, TrackResolution resolution);
+
+    /**
+     * 활동 트랙 삭제
+     * @param activityId 활동 ID
+     */
+    void delete(Long activityId);
+}
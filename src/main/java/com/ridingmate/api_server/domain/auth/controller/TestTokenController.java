@@ -1,5 +1,7 @@
 package com.ridingmate.api_server.domain.auth.controller;
 
+import com.ridingmate.api_server.domain.activity.service.ActivityRollupService;
+import com.ridingmate.api_server.domain.activity.service.ActivityTrackMigrationService;
 import com.ridingmate.api_server.domain.auth.dto.TokenInfo;
 import com.ridingmate.api_server.domain.auth.exception.AuthSuccessCode;
 import com.ridingmate.api_server.domain.auth.service.TokenService;
@@ -7,6 +9,8 @@ import com.ridingmate.api_server.domain.privacy.service.LocationDataAccessLogSer
 import com.ridingmate.api_server.domain.route.dto.response.GpxUploadResponse;
 import com.ridingmate.api_server.domain.route.exception.RouteSuccessCode;
 import com.ridingmate.api_server.domain.route.service.GpxRecommendationService;
+import com.ridingmate.api_server.domain.route.service.RouteProfileMigrationService;
+import com.ridingmate.api_server.domain.route.service.RouteStartPointMigrationService;
 import com.ridingmate.api_server.domain.user.entity.User;
 import com.ridingmate.api_server.domain.user.repository.UserRepository;
 import com.ridingmate.api_server.global.exception.CommonResponse;
@@ -41,6 +45,10 @@ public class TestTokenController {
     private final GpxRecommendationService gpxRecommendationService;
     private final GpsDataEncryptionService gpsDataEncryptionService;
     private final LocationDataAccessLogService locationDataAccessLogService;
+    private final ActivityRollupService activityRollupService;
+    private final ActivityTrackMigrationService activityTrackMigrationService;
+    private final RouteProfileMigrationService routeProfileMigrationService;
+    private final RouteStartPointMigrationService routeStartPointMigrationService;
 
     @Operation(
             summary = "ID 1번 사용자 토큰 생성",
@@ -170,13 +178,14 @@ public class TestTokenController {
     @Operation(
             summary = "기존 GPS 데이터 암호화 (마이그레이션용)",
             description = """
-            기존 DOUBLE 타입으로 저장된 GPS 데이터를 암호화합니다.
+            기존 평문으로 저장된 GPS 데이터를 백그라운드에서 암호화합니다.
             
-            **주의사항:**
-            - 이 작업은 한 번만 실행해야 합니다!
-            - 대량의 데이터가 있을 경우 시간이 오래 걸릴 수 있습니다.
-            - ActivityGpsLog와 RouteGpsLog의 lat/lng/elevation을 암호화합니다.
-            - 배치 단위로 처리되므로 중간에 실패해도 일부는 암호화됩니다.
+            **동작 방식:**
+            - GPS 로그 ID 범위(청크) 단위로 여러 작업 스레드가 병렬 처리합니다.
+            - 평문 행만 암호화하므로 여러 번 실행해도 안전합니다.
+            - 진행 위치가 저장되어 중지/재시작 시 이어서 처리합니다.
+            - DB 활성 세션이 많으면 자동으로 대기합니다.
+            - 진행 상황은 GET /api/test/encrypt-gps-data/status로 확인합니다.
             
             **실행 전 확인:**
             1. DB 백업 완료 여부
@@ -185,22 +194,73 @@ public class TestTokenController {
             """
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "성공: 암호화 완료"),
-            @ApiResponse(responseCode = "500", description = "실패: 암호화 중 오류 발생")
+            @ApiResponse(responseCode = "202", description = "성공: 암호화 시작"),
+            @ApiResponse(responseCode = "409", description = "실패: 이미 실행 중")
     })
     @PostMapping("/encrypt-gps-data")
-    public ResponseEntity<String> encryptGpsData() {
-        log.warn("🔐 [GPS 암호화] 기존 GPS 데이터 암호화 시작 - 이 작업은 한 번만 실행해야 합니다!");
-        
-        try {
-            gpsDataEncryptionService.encryptAllGpsData();
-            log.info("✅ [GPS 암호화] 기존 GPS 데이터 암호화 완료");
-            return ResponseEntity.ok("✅ GPS 데이터 암호화가 완료되었습니다.");
-            
-        } catch (Exception e) {
-            log.error("❌ [GPS 암호화] 기존 GPS 데이터 암호화 실패", e);
-            return ResponseEntity.status(500).body("❌ 암호화 실패: " + e.getMessage());
+    public ResponseEntity<Map<String, Object>> encryptGpsData(
+            @Parameter(description = "저장된 진행 위치를 무시하고 처음부터 실행")
+            @RequestParam(defaultValue = "false") boolean fromStart
+    ) {
+        if (!gpsDataEncryptionService.start(fromStart)) {
+            return ResponseEntity.status(409).body(Map.of(
+                    "message", "GPS 데이터 암호화가 이미 실행 중입니다."
+            ));
+        }
+        log.warn("🔐 [GPS 암호화] 기존 GPS 데이터 암호화 시작: fromStart={}", fromStart);
+        return ResponseEntity.status(202).body(Map.of(
+                "message", "GPS 데이터 암호화를 시작했습니다."
+        ));
+    }
+
+    /**
+     * GPS 데이터 암호화 진행 상황 (테이블별 진행률, 처리 속도, 예상 남은 시간)
+     */
+    @GetMapping("/encrypt-gps-data/status")
+    public ResponseEntity<Map<String, Object>> getGpsDataEncryptionStatus() {
+        return ResponseEntity.ok(gpsDataEncryptionService.getStatus());
+    }
+
+    @Operation(
+            summary = "GPS 데이터 재암호화 (키 교체용)",
+            description = """
+            이전 키 버전으로 암호화된 GPS 데이터를 현재 키 버전(gps.encryption.active-version)으로 백그라운드에서 다시 암호화합니다.
+            GPS 로그 테이블 다음으로 트랙 블롭(activity_track_chunks, activity_track_lods, route_profiles)도 다시 암호화합니다.
+
+            **키 교체 절차:**
+            1. gps.encryption.keys에 새 버전 키를 추가하고 active-version을 새 버전으로 배포
+            2. 이 API로 재암호화 실행 (서비스 운영 중 실행 가능, DB 부하에 따라 자동 대기)
+            3. GET /api/test/encrypt-gps-data/status의 completed가 true인지 확인 후 이전 버전 키 제거
+               (실패한 청크/행이 있으면 false이므로 원인 확인 후 다시 실행)
+            """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "성공: 재암호화 시작"),
+            @ApiResponse(responseCode = "409", description = "실패: 이미 실행 중")
+    })
+    @PostMapping("/reencrypt-gps-data")
+    public ResponseEntity<Map<String, Object>> reencryptGpsData(
+            @Parameter(description = "저장된 진행 위치를 무시하고 처음부터 실행")
+            @RequestParam(defaultValue = "false") boolean fromStart
+    ) {
+        if (!gpsDataEncryptionService.startReencryption(fromStart)) {
+            return ResponseEntity.status(409).body(Map.of(
+                    "message", "GPS 데이터 암호화 작업이 이미 실행 중입니다."
+            ));
         }
+        log.warn("🔐 [GPS 암호화] GPS 데이터 재암호화 시작: fromStart={}", fromStart);
+        return ResponseEntity.status(202).body(Map.of(
+                "message", "GPS 데이터 재암호화를 시작했습니다."
+        ));
+    }
+
+    /**
+     * GPS 데이터 암호화 중지 (처리 중인 청크까지 완료 후 중지, 다시 시작하면 이어서 처리)
+     */
+    @PostMapping("/encrypt-gps-data/stop")
+    public ResponseEntity<Map<String, Object>> stopGpsDataEncryption() {
+        gpsDataEncryptionService.stop();
+        return ResponseEntity.ok(gpsDataEncryptionService.getStatus());
     }
 
     /**
@@ -227,9 +287,12 @@ public class TestTokenController {
      * (테스트/마이그레이션용)
      */
     @PostMapping("/test/backfill-location-logs")
-    public ResponseEntity<Map<String, Object>> backfillLocationAccessLogs() {
+    public ResponseEntity<Map<String, Object>> backfillLocationAccessLogs(
+            @Parameter(description = "저장된 진행 위치를 무시하고 처음부터 실행")
+            @RequestParam(defaultValue = "false") boolean fromStart
+    ) {
         try {
-            Map<String, Object> result = locationDataAccessLogService.backfillCollectionLogs();
+            Map<String, Object> result = locationDataAccessLogService.backfillCollectionLogs(fromStart);
             return ResponseEntity.ok(result);
         } catch (Exception e) {
             log.error("위치정보 수집 로그 소급 생성 실패", e);
@@ -240,4 +303,115 @@ public class TestTokenController {
         }
     }
 
-} 
\ No newline at end of file
+    /**
+     * activities 테이블로부터 일간 활동 집계 재구축
+     * (애플리케이션 시작 시 자동 실행되며, 이 API는 수동 재구축용)
+     */
+    @PostMapping("/backfill-activity-rollups")
+    public ResponseEntity<Map<String, Object>> backfillActivityRollups() {
+        try {
+            int rollupCount = activityRollupService.rebuildAll();
+            return ResponseEntity.ok(Map.of(
+                    "rollupCount", rollupCount,
+                    "message", "일간 활동 집계 재구축 완료"
+            ));
+        } catch (Exception e) {
+            log.error("일간 활동 집계 재구축 실패", e);
+            return ResponseEntity.status(500).body(Map.of(
+                    "error", e.getMessage(),
+                    "message", "일간 활동 집계 재구축 실패"
+            ));
+        }
+    }
+
+    /**
+     * 기존 activity_gps_logs 행을 트랙 청크 블롭으로 이전
+     * (테스트/마이그레이션용, 중단 후 재실행 가능)
+     */
+    @PostMapping("/migrate-activity-tracks")
+    public ResponseEntity<Map<String, Object>> migrateActivityTracks() {
+        try {
+            Map<String, Object> result = activityTrackMigrationService.migrateLegacyGpsLogs();
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error("GPS 트랙 이전 실패", e);
+            return ResponseEntity.status(500).body(Map.of(
+                    "error", e.getMessage(),
+                    "message", "GPS 트랙 이전 실패"
+            ));
+        }
+    }
+
+    /**
+     * 해상도별 트랙(LOD)이 없는 활동의 LOD 소급 생성
+     * (테스트/마이그레이션용, 중단 후 재실행 가능)
+     */
+    @PostMapping("/build-activity-track-levels")
+    public ResponseEntity<Map<String, Object>> buildActivityTrackLevels() {
+        try {
+            Map<String, Object> result = activityTrackMigrationService.buildMissingTrackLevels();
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error("해상도별 트랙 생성 실패", e);
+            return ResponseEntity.status(500).body(Map.of(
+                    "error", e.getMessage(),
+                    "message", "해상도별 트랙 생성 실패"
+            ));
+        }
+    }
+
+    /**
+     * 성능 지표가 없는 기존 활동의 성능 지표(하강 고도, 이동 시간, 평균 속도 등) 소급 생성
+     * (테스트/마이그레이션용, 중단 후 재실행 가능)
+     */
+    @PostMapping("/build-activity-performances")
+    public ResponseEntity<Map<String, Object>> buildActivityPerformances() {
+        try {
+            Map<String, Object> result = activityTrackMigrationService.buildMissingPerformances();
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error("활동 성능 지표 생성 실패", e);
+            return ResponseEntity.status(500).body(Map.of(
+                    "error", e.getMessage(),
+                    "message", "활동 성능 지표 생성 실패"
+            ));
+        }
+    }
+
+    /**
+     * 프로필이 없는 경로의 상세 조회용 프로필 소급 생성
+     * (테스트/마이그레이션용, 중단 후 재실행 가능)
+     */
+    @PostMapping("/build-route-profiles")
+    public ResponseEntity<Map<String, Object>> buildRouteProfiles() {
+        try {
+            Map<String, Object> result = routeProfileMigrationService.buildMissingProfiles();
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error("경로 프로필 생성 실패", e);
+            return ResponseEntity.status(500).body(Map.of(
+                    "error", e.getMessage(),
+                    "message", "경로 프로필 생성 실패"
+            ));
+        }
+    }
+
+    /**
+     * 출발 지점이 없는 기존 경로의 start_point 소급 저장 및 geography GiST 인덱스 생성
+     * (마이그레이션용, 중단 후 재실행 가능)
+     */
+    @PostMapping("/fill-route-start-points")
+    public ResponseEntity<Map<String, Object>> fillRouteStartPoints() {
+        try {
+            Map<String, Object> result = routeStartPointMigrationService.fillMissingStartPoints();
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error("경로 출발 지점 소급 저장 실패", e);
+            return ResponseEntity.status(500).body(Map.of(
+                    "error", e.getMessage(),
+                    "message", "경로 출발 지점 소급 저장 실패"
+            ));
+        }
+    }
+
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ridingmate.api_server.global.exception.CommonResponse;
 import com.ridingmate.api_server.global.exception.ErrorResponse;
 import com.ridingmate.api_server.domain.auth.exception.AuthErrorCode;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -50,12 +51,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = extractTokenFromRequest(request);
 
             if (StringUtils.hasText(token)) {
-                // JWT 토큰 검증 및 인증 정보 설정
-                if (jwtTokenProvider.validateToken(token)) {
-                    Authentication authentication = jwtTokenProvider.getAuthentication(token);
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.debug("JWT 인증 성공 - 사용자: {}, 요청 URI: {}", authentication.getName(), request.getRequestURI());
-                }
+                // JWT 토큰 검증 및 인증 정보 설정 (서명 검증은 요청당 한 번)
+                Claims claims = jwtTokenProvider.parseValidClaims(token);
+                Authentication authentication = jwtTokenProvider.getAuthentication(claims);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                log.debug("JWT 인증 성공 - 사용자: {}, 요청 URI: {}", authentication.getName(), request.getRequestURI());
             } else {
                 // 토큰이 없는 경우
                 String authHeader = request.getHeader("Authorization");
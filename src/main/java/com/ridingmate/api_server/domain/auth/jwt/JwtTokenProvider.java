@@ -5,7 +5,6 @@ import com.ridingmate.api_server.domain.auth.dto.AuthUserInfo;
 import com.ridingmate.api_server.domain.auth.dto.TokenInfo;
 import com.ridingmate.api_server.domain.auth.security.CustomUserDetailsService;
 import io.jsonwebtoken.*;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -17,13 +16,27 @@ import java.util.Date;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
     private final SecretKey jwtSecretKey;
     private final CustomUserDetailsService customUserDetailsService;
 
+    /**
+     * 서명 검증용 파서 (불변 객체이므로 요청마다 만들지 않고 재사용)
+     */
+    private final JwtParser jwtParser;
+
+    public JwtTokenProvider(JwtProperties jwtProperties, SecretKey jwtSecretKey,
+                            CustomUserDetailsService customUserDetailsService) {
+        this.jwtProperties = jwtProperties;
+        this.jwtSecretKey = jwtSecretKey;
+        this.customUserDetailsService = customUserDetailsService;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(jwtSecretKey)
+                .build();
+    }
+
     /**
      * AuthUserInfo 정보로부터 JWT 액세스 토큰 생성
      * @param authUserInfo 인증된 사용자 정보 DTO
@@ -82,13 +95,22 @@ public class JwtTokenProvider {
     }
 
     /**
-     * JWT 토큰에서 Authentication 객체 생성 (DB 조회 방식)
+     * JWT 토큰에서 Authentication 객체 생성
      * @param token JWT 토큰 문자열
      * @return Spring Security Authentication 객체
      */
     public Authentication getAuthentication(String token) {
-        String subject = parseClaims(token).getSubject();
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(subject);
+        return getAuthentication(parseClaims(token));
+    }
+
+    /**
+     * 검증된 Claims로부터 Authentication 객체 생성 (서명 재검증 없음)
+     * 인증 주체는 CustomUserDetailsService의 캐시를 거쳐 조회
+     * @param claims parseValidClaims로 검증된 Claims
+     * @return Spring Security Authentication 객체
+     */
+    public Authentication getAuthentication(Claims claims) {
+        UserDetails userDetails = customUserDetailsService.loadUserByUsername(claims.getSubject());
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
@@ -99,12 +121,19 @@ public class JwtTokenProvider {
      * @return 유효하면 true
      */
     public boolean validateToken(String token) {
+        parseValidClaims(token);
+        return true;
+    }
+
+    /**
+     * JWT 토큰 서명/만료 검증과 Claims 추출을 한 번에 수행
+     * JWT 예외들을 JwtExceptionFilter에서 처리할 수 있도록 그대로 던짐
+     * @param token JWT 토큰 문자열
+     * @return 검증된 JWT Claims
+     */
+    public Claims parseValidClaims(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(jwtSecretKey)
-                .build()
-                .parseSignedClaims(token);
-            return true;
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             log.debug("만료된 JWT 토큰 - JwtExceptionFilter로 전달: {}", e.getMessage());
             throw e;
@@ -130,13 +159,9 @@ public class JwtTokenProvider {
      */
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(jwtSecretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims(); // 만료된 토큰이어도 Claims는 추출 가능
         }
     }
-} 
\ No newline at end of file
+}
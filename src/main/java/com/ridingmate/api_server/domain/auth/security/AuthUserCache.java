@@ -0,0 +1,81 @@
+package com.ridingmate.api_server.domain.auth.security;
+
+import com.ridingmate.api_server.domain.user.service.UserDeletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 인증 주체(AuthUser) 캐시
+ *
+ * - 키는 액세스 토큰의 subject (provider:socialId)
+ * - 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ * - AuthUser의 id/uuid/username은 가입 후 바뀌지 않으므로 삭제 시 무효화 + 짧은 TTL로 충분
+ * - 사용자 삭제 트랜잭션이 커밋된 뒤 무효화하여 커밋 전 조회로 다시 채워지는 것을 방지
+ * - 무효화마다 세대(generation)를 올려, 무효화 이전에 시작된 조회 결과는 캐시에 저장하지 않음
+ */
+@Slf4j
+@Component
+public class AuthUserCache {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final int MAX_SIZE = 10_000;
+
+    private final Map<String, CachedAuthUser> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedAuthUser> eldest) {
+                    return size() > MAX_SIZE;
+                }
+            });
+
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 캐시된 AuthUser 조회, 없거나 만료되었으면 loader로 조회 후 저장
+     * @param username provider:socialId
+     * @param loader 캐시 미스 시 호출할 조회 함수
+     * @return 인증 주체
+     */
+    public AuthUser get(String username, Supplier<AuthUser> loader) {
+        long now = System.currentTimeMillis();
+        CachedAuthUser cached = cache.get(username);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.authUser();
+        }
+
+        long loadGeneration = generation.get();
+        AuthUser authUser = loader.get();
+        synchronized (cache) {
+            // 조회 도중 무효화가 있었다면 삭제 이전 상태일 수 있으므로 저장하지 않음
+            if (generation.get() == loadGeneration) {
+                cache.put(username, new CachedAuthUser(authUser, now + TTL.toMillis()));
+            }
+        }
+        return authUser;
+    }
+
+    public void evict(String username) {
+        synchronized (cache) {
+            generation.incrementAndGet();
+            cache.remove(username);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        evict(event.username());
+        log.debug("[AuthUserCache] 삭제된 사용자 인증 캐시 제거: userId={}", event.userId());
+    }
+
+    private record CachedAuthUser(AuthUser authUser, long expiresAt) {
+    }
+}
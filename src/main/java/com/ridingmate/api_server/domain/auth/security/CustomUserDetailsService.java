@@ -9,7 +9,6 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -17,10 +16,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final AuthUserCache authUserCache;
 
+    /**
+     * 인증 주체 조회 (캐시 우선)
+     * 캐시 적중 시 트랜잭션/커넥션 없이 반환하도록 메서드 트랜잭션은 두지 않음
+     */
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return authUserCache.get(username, () -> loadFromDatabase(username));
+    }
+
+    private AuthUser loadFromDatabase(String username) {
         log.debug("사용자 인증 시도: {}", username);
         
         // username 형식: "provider:socialId" (예: "KAKAO:1234567890")
@@ -1,9 +1,9 @@
 package com.ridingmate.api_server.domain.auth.validator;
 
 import com.ridingmate.api_server.domain.auth.dto.AppleUserInfo;
-import com.ridingmate.api_server.infra.apple.AppleClient;
 import com.ridingmate.api_server.infra.apple.AppleErrorCode;
 import com.ridingmate.api_server.infra.apple.AppleException;
+import com.ridingmate.api_server.infra.apple.AppleJwksKeyStore;
 import com.ridingmate.api_server.infra.apple.AppleProperty;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwsHeader;
@@ -25,7 +25,7 @@ import java.util.Optional;
 public class AppleIdTokenValidator {
 
     private final AppleProperty appleProperty;
-    private final AppleClient appleClient;
+    private final AppleJwksKeyStore appleJwksKeyStore;
 
     /**
      * Apple ID 토큰 검증 (JWKS 기반)
@@ -42,7 +42,7 @@ public class AppleIdTokenValidator {
             String keyId = extractKeyIdFromToken(idToken);
             log.debug("[Apple] Extracted Key ID: {}", keyId);
             
-            // 2. Apple JWKS에서 공개키 조회
+            // 2. Apple JWKS 공개키 저장소에서 공개키 조회
             PublicKey publicKey = getApplePublicKey(keyId);
             
             // 3. JWT 파싱 및 서명 검증
@@ -139,10 +139,10 @@ public class AppleIdTokenValidator {
     }
 
     /**
-     * Apple JWKS에서 공개키 조회
+     * Apple JWKS 공개키 저장소에서 공개키 조회
      */
     private PublicKey getApplePublicKey(String keyId) {
-        Optional<PublicKey> publicKey = appleClient.getPublicKeyByKeyId(keyId);
+        Optional<PublicKey> publicKey = appleJwksKeyStore.getPublicKey(keyId);
         
         if (publicKey.isEmpty()) {
             log.error("[Apple] Key ID에 해당하는 공개키를 찾을 수 없음: {}", keyId);
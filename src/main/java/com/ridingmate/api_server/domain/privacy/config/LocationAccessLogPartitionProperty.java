@@ -0,0 +1,13 @@
+package com.ridingmate.api_server.domain.privacy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 위치정보 조회 기록 월별 파티션 전환 설정 (1회성 마이그레이션)
+ * @param migrateOnStartup true면 애플리케이션 시작 시 일반 테이블을 파티션 테이블로 전환 (기본값 false, 전환 후에는 다시 끌 것)
+ */
+@ConfigurationProperties(prefix = "location-access-log-partition")
+public record LocationAccessLogPartitionProperty(
+        Boolean migrateOnStartup
+) {
+}
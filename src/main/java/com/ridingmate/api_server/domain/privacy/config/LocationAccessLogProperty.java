@@ -0,0 +1,19 @@
+package com.ridingmate.api_server.domain.privacy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 위치정보 조회 기록 비동기 저장 설정
+ * @param spillDirectory DB 저장 실패/큐 포화 시 기록을 보관할 로컬 디렉터리 (기본값 ./location-access-spill)
+ * @param queueCapacity 메모리 큐 크기 (기본값 10000)
+ * @param batchSize 한 번에 저장할 최대 기록 수 (기본값 500)
+ * @param flushIntervalMillis 기록이 batchSize만큼 쌓이지 않아도 저장하는 주기 (기본값 1000)
+ */
+@ConfigurationProperties(prefix = "location-access-log")
+public record LocationAccessLogProperty(
+        String spillDirectory,
+        Integer queueCapacity,
+        Integer batchSize,
+        Long flushIntervalMillis
+) {
+}
@@ -0,0 +1,22 @@
+package com.ridingmate.api_server.domain.privacy.dto;
+
+import com.ridingmate.api_server.domain.privacy.enums.LocationAccessType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장 대기 중인 위치정보 조회 기록
+ * 엔티티 대신 ID만 보관하여 요청 스레드의 영속성 컨텍스트와 분리
+ */
+public record LocationAccessRecord(
+        Long userId,
+        Long accessorId,
+        LocationAccessType accessType,
+        LocalDateTime accessedAt,
+        String ipAddress,
+        String userAgent,
+        String dataType,
+        String dataId,
+        String purpose
+) {
+}
@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 /**
  * 위치정보 조회 기록 엔티티
  * 위치정보보호법 제16조에 따른 위치정보 수집·이용·제공 기록 보존
+ * 파티션 테이블로 전환된 경우 accessed_at 기준 월별 파티션에 저장됨 (LocationDataAccessLogRetentionService)
  */
 @Entity
 @Getter
@@ -21,7 +22,8 @@ import java.time.LocalDateTime;
 @Table(name = "location_data_access_logs", indexes = {
         @Index(name = "idx_location_access_user_id", columnList = "user_id"),
         @Index(name = "idx_location_access_accessed_at", columnList = "accessed_at"),
-        @Index(name = "idx_location_access_access_type", columnList = "access_type")
+        @Index(name = "idx_location_access_access_type", columnList = "access_type"),
+        @Index(name = "idx_location_access_data_id_access_type", columnList = "data_id, access_type")
 })
 public class LocationDataAccessLog extends BaseTimeEntity {
 
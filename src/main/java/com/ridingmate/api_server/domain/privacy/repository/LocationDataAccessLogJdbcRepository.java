@@ -0,0 +1,165 @@
+package com.ridingmate.api_server.domain.privacy.repository;
+
+import com.ridingmate.api_server.domain.privacy.dto.LocationAccessRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 위치정보 조회 기록 대량 처리용 JDBC 레포지토리
+ * - IDENTITY 전략으로 Hibernate 배치가 불가능한 location_data_access_logs를 JDBC 배치 INSERT로 저장
+ * - 수집 기록 소급 생성과 보존기간 만료 삭제를 집합 연산으로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class LocationDataAccessLogJdbcRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO location_data_access_logs
+            (user_id, accessor_id, access_type, accessed_at, ip_address, user_agent,
+             data_type, data_id, purpose, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    /**
+     * 활동 수집 기록 소급 생성 (생성일시를 수집일시로, 제공자별 수집 목적)
+     */
+    private static final String INSERT_ACTIVITY_COLLECTION_SQL = """
+        INSERT INTO location_data_access_logs
+            (user_id, accessor_id, access_type, accessed_at, data_type, data_id, purpose, created_at, updated_at)
+        SELECT a.user_id, a.user_id, 'COLLECTION', a.created_at, 'ACTIVITY_GPS', a.activity_id::text,
+               CASE a.provider
+                   WHEN 'APPLE_HEALTH_KIT' THEN 'APPLE_HEALTHKIT_IMPORT'
+                   WHEN 'GARMIN' THEN 'GARMIN_IMPORT'
+                   WHEN 'SAMSUNG_HEALTH' THEN 'SAMSUNG_HEALTH_IMPORT'
+                   WHEN 'GOOGLE_FIT' THEN 'GOOGLE_FIT_IMPORT'
+                   WHEN 'STRAVA' THEN 'STRAVA_IMPORT'
+                   WHEN 'SUUNTO' THEN 'SUUNTO_IMPORT'
+                   ELSE 'MANUAL_CREATION'
+               END,
+               now(), now()
+        FROM activities a
+        WHERE a.id > ? AND a.id <= ?
+          AND NOT EXISTS (
+              SELECT 1 FROM location_data_access_logs l
+              WHERE l.data_id = a.activity_id::text AND l.access_type = 'COLLECTION'
+          )
+        """;
+
+    /**
+     * 경로 수집 기록 소급 생성 (생성일시를 수집일시로)
+     */
+    private static final String INSERT_ROUTE_COLLECTION_SQL = """
+        INSERT INTO location_data_access_logs
+            (user_id, accessor_id, access_type, accessed_at, data_type, data_id, purpose, created_at, updated_at)
+        SELECT r.user_id, r.user_id, 'COLLECTION', r.created_at, 'ROUTE_GPS', r.id::text, 'ROUTE_CREATION',
+               now(), now()
+        FROM routes r
+        WHERE r.id > ? AND r.id <= ?
+          AND NOT EXISTS (
+              SELECT 1 FROM location_data_access_logs l
+              WHERE l.data_id = r.id::text AND l.access_type = 'COLLECTION'
+          )
+        """;
+
+    private static final String FIND_ACTIVITY_CHUNK_END_SQL =
+            "SELECT max(id) FROM (SELECT id FROM activities WHERE id > ? ORDER BY id LIMIT ?) chunk";
+
+    private static final String FIND_ROUTE_CHUNK_END_SQL =
+            "SELECT max(id) FROM (SELECT id FROM routes WHERE id > ? ORDER BY id LIMIT ?) chunk";
+
+    private static final String DELETE_ACCESSED_BEFORE_SQL = """
+        DELETE FROM location_data_access_logs
+        WHERE id IN (
+            SELECT id FROM location_data_access_logs WHERE accessed_at < ? LIMIT ?
+        )
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조회 기록 일괄 저장
+     * @param records 저장할 기록
+     */
+    public void batchInsert(List<LocationAccessRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                LocationAccessRecord record = records.get(i);
+
+                ps.setLong(1, record.userId());
+                if (record.accessorId() != null) {
+                    ps.setLong(2, record.accessorId());
+                } else {
+                    ps.setNull(2, Types.BIGINT);
+                }
+                ps.setString(3, record.accessType().name());
+                ps.setObject(4, record.accessedAt());
+                ps.setString(5, record.ipAddress());
+                ps.setString(6, record.userAgent());
+                ps.setString(7, record.dataType());
+                ps.setString(8, record.dataId());
+                ps.setString(9, record.purpose());
+                ps.setObject(10, now);
+                ps.setObject(11, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return records.size();
+            }
+        });
+    }
+
+    /**
+     * afterId 다음부터 chunkSize개 활동 중 마지막 ID
+     * @return 마지막 ID, 남은 활동이 없으면 null
+     */
+    public Long findActivityChunkEndId(long afterId, int chunkSize) {
+        return jdbcTemplate.queryForObject(FIND_ACTIVITY_CHUNK_END_SQL, Long.class, afterId, chunkSize);
+    }
+
+    /**
+     * afterId 다음부터 chunkSize개 경로 중 마지막 ID
+     * @return 마지막 ID, 남은 경로가 없으면 null
+     */
+    public Long findRouteChunkEndId(long afterId, int chunkSize) {
+        return jdbcTemplate.queryForObject(FIND_ROUTE_CHUNK_END_SQL, Long.class, afterId, chunkSize);
+    }
+
+    /**
+     * (afterId, upToId] 범위 활동 중 수집 기록이 없는 활동의 수집 기록 생성
+     * @return 생성된 기록 수
+     */
+    public int insertActivityCollectionLogs(long afterId, long upToId) {
+        return jdbcTemplate.update(INSERT_ACTIVITY_COLLECTION_SQL, afterId, upToId);
+    }
+
+    /**
+     * (afterId, upToId] 범위 경로 중 수집 기록이 없는 경로의 수집 기록 생성
+     * @return 생성된 기록 수
+     */
+    public int insertRouteCollectionLogs(long afterId, long upToId) {
+        return jdbcTemplate.update(INSERT_ROUTE_COLLECTION_SQL, afterId, upToId);
+    }
+
+    /**
+     * 기준 시각 이전 기록을 최대 limit개 삭제 (파티션이 없는 테이블의 보존기간 만료 처리)
+     * @return 삭제된 기록 수
+     */
+    public int deleteAccessedBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(DELETE_ACCESSED_BEFORE_SQL, cutoff, limit);
+    }
+}
@@ -0,0 +1,163 @@
+package com.ridingmate.api_server.domain.privacy.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * location_data_access_logs 월별 파티션 관리 (PostgreSQL 선언적 파티셔닝)
+ * 파티션 이름: location_data_access_logs_pYYYYMM, 범위 밖 기록은 location_data_access_logs_default
+ */
+@Repository
+@RequiredArgsConstructor
+public class LocationDataAccessLogPartitionRepository {
+
+    private static final String TABLE_NAME = "location_data_access_logs";
+    private static final String LEGACY_TABLE_NAME = TABLE_NAME + "_legacy";
+    private static final String DEFAULT_PARTITION_NAME = TABLE_NAME + "_default";
+    private static final String ID_SEQUENCE_NAME = TABLE_NAME + "_partitioned_id_seq";
+    private static final Pattern MONTHLY_PARTITION_PATTERN = Pattern.compile(TABLE_NAME + "_p(\\d{6})");
+    private static final DateTimeFormatter PARTITION_SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    /**
+     * 엔티티에 정의된 인덱스 (파티션 테이블 전환 시 같은 이름으로 다시 생성)
+     */
+    private static final List<String[]> INDEXES = List.of(
+            new String[]{"idx_location_access_user_id", "user_id"},
+            new String[]{"idx_location_access_accessed_at", "accessed_at"},
+            new String[]{"idx_location_access_access_type", "access_type"},
+            new String[]{"idx_location_access_data_id_access_type", "data_id, access_type"}
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 파티션 전환 트랜잭션 잠금 (여러 인스턴스가 동시에 전환하지 않도록, 트랜잭션 종료 시 해제)
+     */
+    public void lockConversion() {
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(hashtext(?))", Object.class,
+                TABLE_NAME + "_partition_conversion");
+    }
+
+    public boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (
+                    SELECT 1 FROM pg_partitioned_table p
+                    JOIN pg_class c ON c.oid = p.partrelid
+                    WHERE c.relname = ? AND pg_table_is_visible(c.oid)
+                )
+                """, Boolean.class, TABLE_NAME);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    /**
+     * 존재하는 월별 파티션의 월 목록
+     */
+    public List<YearMonth> findMonthlyPartitions() {
+        List<String> partitionNames = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = ? AND pg_table_is_visible(p.oid)
+                """, String.class, TABLE_NAME);
+
+        return partitionNames.stream()
+                .map(this::parsePartitionMonth)
+                .flatMap(Optional::stream)
+                .sorted()
+                .toList();
+    }
+
+    public void createMonthlyPartition(YearMonth month) {
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                partitionName(month), TABLE_NAME, month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    public void createDefaultPartition() {
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s DEFAULT", DEFAULT_PARTITION_NAME, TABLE_NAME));
+    }
+
+    /**
+     * 월별 파티션 삭제 (해당 월 기록 전체가 한 번에 삭제됨)
+     */
+    public void dropMonthlyPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName(month));
+    }
+
+    /**
+     * 가장 오래된 기록의 월
+     */
+    public Optional<YearMonth> findOldestAccessMonth() {
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "SELECT min(accessed_at) FROM " + TABLE_NAME, Timestamp.class);
+        return Optional.ofNullable(oldest).map(timestamp -> YearMonth.from(timestamp.toLocalDateTime()));
+    }
+
+    /**
+     * 일반 테이블을 accessed_at 기준 월별 파티션 테이블로 전환 (호출한 트랜잭션 안에서 실행)
+     *
+     * - 기존 테이블은 _legacy로 이름을 바꿔 남겨두고 데이터를 복사 (확인 후 수동 삭제)
+     * - 파티션 테이블의 PK는 파티션 키를 포함해야 하므로 (id, accessed_at)
+     * - id는 파티션 테이블용 시퀀스를 기본값으로 사용 (기존 최대 ID 다음부터)
+     * - 전환 중에는 테이블 잠금으로 기록 저장이 대기함
+     *
+     * @param fromMonth 생성할 첫 월별 파티션
+     * @param toMonth 생성할 마지막 월별 파티션
+     * @return 복사한 기록 수
+     */
+    public int convertToPartitionedTable(YearMonth fromMonth, YearMonth toMonth) {
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " RENAME TO " + LEGACY_TABLE_NAME);
+        jdbcTemplate.execute("ALTER INDEX IF EXISTS " + TABLE_NAME + "_pkey RENAME TO " + LEGACY_TABLE_NAME + "_pkey");
+        for (String[] index : INDEXES) {
+            jdbcTemplate.execute("ALTER INDEX IF EXISTS " + index[0] + " RENAME TO " + index[0] + "_legacy");
+        }
+
+        jdbcTemplate.execute("CREATE TABLE " + TABLE_NAME + " (LIKE " + LEGACY_TABLE_NAME + ")"
+                + " PARTITION BY RANGE (accessed_at)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " ADD PRIMARY KEY (id, accessed_at)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME
+                + " ADD FOREIGN KEY (user_id) REFERENCES users (id)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME
+                + " ADD FOREIGN KEY (accessor_id) REFERENCES users (id)");
+        for (String[] index : INDEXES) {
+            jdbcTemplate.execute("CREATE INDEX " + index[0] + " ON " + TABLE_NAME + " (" + index[1] + ")");
+        }
+
+        for (YearMonth month = fromMonth; !month.isAfter(toMonth); month = month.plusMonths(1)) {
+            createMonthlyPartition(month);
+        }
+        createDefaultPartition();
+
+        int copied = jdbcTemplate.update("INSERT INTO " + TABLE_NAME + " SELECT * FROM " + LEGACY_TABLE_NAME);
+
+        jdbcTemplate.execute("CREATE SEQUENCE " + ID_SEQUENCE_NAME + " OWNED BY " + TABLE_NAME + ".id");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME
+                + " ALTER COLUMN id SET DEFAULT nextval('" + ID_SEQUENCE_NAME + "')");
+        jdbcTemplate.queryForObject("SELECT setval('" + ID_SEQUENCE_NAME + "', "
+                + "(SELECT COALESCE(max(id), 0) + 1 FROM " + TABLE_NAME + "), false)", Long.class);
+
+        return copied;
+    }
+
+    private String partitionName(YearMonth month) {
+        return TABLE_NAME + "_p" + month.format(PARTITION_SUFFIX_FORMAT);
+    }
+
+    private Optional<YearMonth> parsePartitionMonth(String partitionName) {
+        Matcher matcher = MONTHLY_PARTITION_PATTERN.matcher(partitionName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.parse(matcher.group(1), PARTITION_SUFFIX_FORMAT));
+    }
+}
@@ -29,12 +29,6 @@ public interface LocationDataAccessLogRepository extends JpaRepository<LocationD
                                                       @Param("endDate") LocalDateTime endDate,
                                                       Pageable pageable);
 
-    /**
-     * 만료된 기록 조회 (보존기간 만료)
-     */
-    @Query("SELECT l FROM LocationDataAccessLog l WHERE l.accessedAt < :expiredDate")
-    List<LocationDataAccessLog> findExpiredLogs(@Param("expiredDate") LocalDateTime expiredDate);
-
     /**
      * 특정 데이터 타입의 조회 기록
      */
@@ -48,15 +42,4 @@ public interface LocationDataAccessLogRepository extends JpaRepository<LocationD
     @Query("SELECT l FROM LocationDataAccessLog l WHERE l.accessType = :accessType ORDER BY l.accessedAt DESC")
     Page<LocationDataAccessLog> findByAccessType(@Param("accessType") LocationAccessType accessType,
                                                 Pageable pageable);
-
-    /**
-     * 만료된 기록 삭제
-     */
-    @Query("DELETE FROM LocationDataAccessLog l WHERE l.accessedAt < :expiredDate")
-    void deleteExpiredLogs(@Param("expiredDate") LocalDateTime expiredDate);
-
-    /**
-     * 특정 데이터 ID와 접근 유형으로 로그 존재 여부 확인
-     */
-    boolean existsByDataIdAndAccessType(String dataId, LocationAccessType accessType);
 }
@@ -0,0 +1,39 @@
+package com.ridingmate.api_server.domain.privacy.service;
+
+import com.ridingmate.api_server.domain.privacy.config.LocationAccessLogPartitionProperty;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 위치정보 조회 기록 월별 파티션 전환 (1회성 마이그레이션)
+ *
+ * - 법정 보존 대상 테이블의 스키마 변경이므로 HTTP로 노출하지 않고 배포 설정으로만 실행
+ * - location-access-log-partition.migrate-on-startup=true로 배포한 인스턴스가 시작 시 전환
+ * - 이미 파티션 테이블이면 아무것도 하지 않으므로 여러 인스턴스가 동시에 실행해도 한 번만 전환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationDataAccessLogPartitionMigration {
+
+    private final LocationAccessLogPartitionProperty property;
+    private final LocationDataAccessLogRetentionService retentionService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (!Boolean.TRUE.equals(property.migrateOnStartup())) {
+            return;
+        }
+
+        log.info("[LocationDataAccessLog] 파티션 테이블 전환 시작");
+        try {
+            int copiedRows = retentionService.convertToPartitionedTable();
+            log.info("[LocationDataAccessLog] 파티션 테이블 전환 종료: copiedRows={}", copiedRows);
+        } catch (Exception e) {
+            log.error("[LocationDataAccessLog] 파티션 테이블 전환 실패: error={}", e.getMessage(), e);
+        }
+    }
+}
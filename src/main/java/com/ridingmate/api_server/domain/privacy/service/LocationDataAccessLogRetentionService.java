@@ -0,0 +1,132 @@
+package com.ridingmate.api_server.domain.privacy.service;
+
+import com.ridingmate.api_server.domain.privacy.repository.LocationDataAccessLogJdbcRepository;
+import com.ridingmate.api_server.domain.privacy.repository.LocationDataAccessLogPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 위치정보 조회 기록 보존기간(3년) 관리
+ *
+ * - 파티션 테이블: 다음 달 파티션을 미리 만들고, 보존기간이 모두 지난 월 파티션은 DROP
+ * - 일반 테이블 또는 DEFAULT 파티션에 남은 만료 기록은 청크 단위 DELETE
+ * - 일반 테이블은 convertToPartitionedTable로 한 번 전환 (배포 설정으로 시작 시 실행, LocationDataAccessLogPartitionMigration)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LocationDataAccessLogRetentionService {
+
+    private static final int RETENTION_DAYS = 1095; // 3년
+    private static final int PRECREATE_MONTHS = 3;
+    private static final int DELETE_CHUNK_SIZE = 10_000;
+
+    private final LocationDataAccessLogPartitionRepository partitionRepository;
+    private final LocationDataAccessLogJdbcRepository locationDataAccessLogJdbcRepository;
+
+    /**
+     * 매일 새벽 파티션 생성 및 만료 기록 정리
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void runDailyMaintenance() {
+        try {
+            applyRetention();
+        } catch (Exception e) {
+            log.error("[LocationDataAccessLog] 보존기간 관리 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 파티션 준비 및 보존기간 만료 기록 삭제
+     * @return 삭제한 파티션 수와 청크 삭제한 기록 수
+     */
+    public Map<String, Object> applyRetention() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(RETENTION_DAYS);
+        int droppedPartitions = 0;
+
+        if (partitionRepository.isPartitioned()) {
+            ensureFuturePartitions();
+            droppedPartitions = dropExpiredPartitions(cutoff);
+        }
+
+        // 파티션으로 지우지 못한 만료 기록 (일반 테이블, DEFAULT 파티션, 경계 월)
+        long deletedRows = 0;
+        int deleted;
+        do {
+            deleted = locationDataAccessLogJdbcRepository.deleteAccessedBefore(cutoff, DELETE_CHUNK_SIZE);
+            deletedRows += deleted;
+        } while (deleted == DELETE_CHUNK_SIZE);
+
+        log.info("[LocationDataAccessLog] 보존기간 만료 기록 정리 완료: cutoff={}, droppedPartitions={}, deletedRows={}",
+                cutoff, droppedPartitions, deletedRows);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("cutoff", cutoff);
+        result.put("droppedPartitions", droppedPartitions);
+        result.put("deletedRows", deletedRows);
+        return result;
+    }
+
+    /**
+     * 일반 테이블을 월별 파티션 테이블로 전환
+     * 보존기간 시작 월부터 PRECREATE_MONTHS 이후까지 파티션을 만들고 그 밖의 기록은 DEFAULT 파티션에 저장
+     * @return 복사한 기록 수
+     */
+    @Transactional
+    public int convertToPartitionedTable() {
+        partitionRepository.lockConversion();
+        if (partitionRepository.isPartitioned()) {
+            log.info("[LocationDataAccessLog] 이미 파티션 테이블이므로 전환 생략");
+            return 0;
+        }
+
+        YearMonth retentionStart = YearMonth.from(LocalDateTime.now().minusDays(RETENTION_DAYS));
+        YearMonth fromMonth = partitionRepository.findOldestAccessMonth()
+                .filter(oldest -> oldest.isAfter(retentionStart))
+                .orElse(retentionStart);
+        YearMonth toMonth = YearMonth.now().plusMonths(PRECREATE_MONTHS);
+
+        int copied = partitionRepository.convertToPartitionedTable(fromMonth, toMonth);
+        log.info("[LocationDataAccessLog] 파티션 테이블 전환 완료: partitions={}~{}, copiedRows={}",
+                fromMonth, toMonth, copied);
+        return copied;
+    }
+
+    private void ensureFuturePartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= PRECREATE_MONTHS; i++) {
+            try {
+                partitionRepository.createMonthlyPartition(current.plusMonths(i));
+            } catch (Exception e) {
+                // DEFAULT 파티션에 해당 월 기록이 이미 있으면 생성 실패 (DEFAULT에서 계속 저장됨)
+                log.warn("[LocationDataAccessLog] 월별 파티션 생성 실패: month={}, error={}",
+                        current.plusMonths(i), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 모든 기록이 기준 시각 이전인 월 파티션 삭제
+     */
+    private int dropExpiredPartitions(LocalDateTime cutoff) {
+        List<YearMonth> partitions = partitionRepository.findMonthlyPartitions();
+        int dropped = 0;
+        for (YearMonth month : partitions) {
+            if (!month.plusMonths(1).atDay(1).atStartOfDay().isAfter(cutoff)) {
+                partitionRepository.dropMonthlyPartition(month);
+                dropped++;
+                log.info("[LocationDataAccessLog] 만료 파티션 삭제: month={}", month);
+            }
+        }
+        return dropped;
+    }
+}
@@ -1,17 +1,17 @@
 package com.ridingmate.api_server.domain.privacy.service;
 
-import com.ridingmate.api_server.domain.activity.entity.Activity;
-import com.ridingmate.api_server.domain.activity.repository.ActivityRepository;
+import com.ridingmate.api_server.domain.privacy.dto.LocationAccessRecord;
 import com.ridingmate.api_server.domain.privacy.entity.LocationDataAccessLog;
 import com.ridingmate.api_server.domain.privacy.enums.LocationAccessType;
+import com.ridingmate.api_server.domain.privacy.repository.LocationDataAccessLogJdbcRepository;
 import com.ridingmate.api_server.domain.privacy.repository.LocationDataAccessLogRepository;
-import com.ridingmate.api_server.domain.route.entity.Route;
-import com.ridingmate.api_server.domain.route.repository.RouteRepository;
 import com.ridingmate.api_server.domain.user.entity.User;
+import com.ridingmate.api_server.global.service.BatchCheckpointService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -21,16 +21,22 @@ import java.util.Map;
 /**
  * 위치정보 조회 기록 관리 서비스
  * 위치정보보호법 제16조에 따른 기록 보존 및 관리
+ * 조회 기록은 LocationDataAccessLogWriter를 통해 요청 스레드 밖에서 일괄 저장
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class LocationDataAccessLogService {
 
+    private static final String ACTIVITY_BACKFILL_JOB = "location-access-log-backfill:activity";
+    private static final String ROUTE_BACKFILL_JOB = "location-access-log-backfill:route";
+    private static final int BACKFILL_CHUNK_SIZE = 5_000;
+
     private final LocationDataAccessLogRepository locationDataAccessLogRepository;
-    private final ActivityRepository activityRepository;
-    private final RouteRepository routeRepository;
+    private final LocationDataAccessLogJdbcRepository locationDataAccessLogJdbcRepository;
+    private final LocationDataAccessLogWriter locationDataAccessLogWriter;
+    private final BatchCheckpointService batchCheckpointService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 위치정보 조회 기록 생성
@@ -41,13 +47,19 @@ public class LocationDataAccessLogService {
                                     String ipAddress, String userAgent,
                                     String dataType, String dataId, String purpose) {
         try {
-            LocationDataAccessLog accessLog = LocationDataAccessLog.createAccessLog(
-                    user, accessor, accessType, ipAddress, userAgent, dataType, dataId, purpose
-            );
-            
-            locationDataAccessLogRepository.save(accessLog);
+            locationDataAccessLogWriter.enqueue(new LocationAccessRecord(
+                    user.getId(),
+                    accessor != null ? accessor.getId() : null,
+                    accessType,
+                    LocalDateTime.now(),
+                    ipAddress,
+                    userAgent,
+                    dataType,
+                    dataId,
+                    purpose
+            ));
             
-            log.info("[LocationDataAccessLog] 위치정보 조회 기록 생성: userId={}, accessorId={}, accessType={}, dataType={}, dataId={}, purpose={}",
+            log.info("[LocationDataAccessLog] 위치정보 조회 기록 등록: userId={}, accessorId={}, accessType={}, dataType={}, dataId={}, purpose={}",
                     user.getId(), accessor != null ? accessor.getId() : null, accessType, dataType, dataId, purpose);
                     
         } catch (Exception e) {
@@ -103,20 +115,6 @@ public class LocationDataAccessLogService {
                 dataType, dataId, purpose + " -> " + recipient);
     }
 
-    /**
-     * 만료된 기록 삭제 (보존기간 만료)
-     */
-    public void deleteExpiredLogs() {
-        LocalDateTime expiredDate = LocalDateTime.now().minusDays(1095); // 3년
-        
-        List<LocationDataAccessLog> expiredLogs = locationDataAccessLogRepository.findExpiredLogs(expiredDate);
-        
-        if (!expiredLogs.isEmpty()) {
-            locationDataAccessLogRepository.deleteExpiredLogs(expiredDate);
-            log.info("[LocationDataAccessLog] 만료된 기록 삭제 완료: count={}", expiredLogs.size());
-        }
-    }
-
     /**
      * 특정 사용자의 조회 기록 조회
      */
@@ -129,151 +127,78 @@ public class LocationDataAccessLogService {
     /**
      * 기존 Route/Activity에 대한 위치정보 수집 로그 소급 생성
      * (마이그레이션/테스트용)
+     *
+     * - PK 범위 청크마다 INSERT ... SELECT ... WHERE NOT EXISTS 한 번으로 처리 (엔티티 로딩 없음)
+     * - 청크 결과와 진행 위치를 한 트랜잭션으로 커밋하므로 중단 후 재실행 시 이어서 처리
+     * - 이미 수집 기록이 있는 대상은 NOT EXISTS로 제외되므로 재실행해도 중복 생성되지 않음
+     * - 진행 위치는 끝까지 처리한 뒤에도 유지되므로, 전체를 다시 검사하려면 fromStart로 초기화
+     * @param fromStart true이면 저장된 진행 위치를 지우고 처음부터 실행
      */
-    public Map<String, Object> backfillCollectionLogs() {
-        log.info("========================================");
-        log.info("[LocationDataAccessLog] 소급 생성 시작");
-        log.info("========================================");
-        
+    public Map<String, Object> backfillCollectionLogs(boolean fromStart) {
+        log.info("[LocationDataAccessLog] 소급 생성 시작: fromStart={}", fromStart);
         long startTime = System.currentTimeMillis();
-        int activityCount = 0;
-        int routeCount = 0;
-        int activityFailed = 0;
-        int routeFailed = 0;
-        
-        // 1. Activity 수집 로그 생성
-        log.info("[Activity] 위치정보 수집 로그 생성 시작");
-        List<Activity> activities = activityRepository.findAll();
-        log.info("[Activity] 대상: {}개", activities.size());
-        
-        for (Activity activity : activities) {
-            try {
-                // 이미 로그가 있는지 확인
-                boolean exists = locationDataAccessLogRepository.existsByDataIdAndAccessType(
-                        activity.getActivityId().toString(), 
-                        LocationAccessType.COLLECTION
-                );
-                
-                if (exists) {
-                    log.debug("[Activity] 이미 로그 존재, 스킵: activityId={}", activity.getActivityId());
-                    continue;
-                }
-                
-                // created_at을 accessedAt으로 사용
-                LocationDataAccessLog log = LocationDataAccessLog.builder()
-                        .user(activity.getUser())
-                        .accessor(activity.getUser())
-                        .accessType(LocationAccessType.COLLECTION)
-                        .accessedAt(activity.getCreatedAt())  // 생성일시를 수집일시로
-                        .ipAddress(null)
-                        .userAgent(null)
-                        .dataType("ACTIVITY_GPS")
-                        .dataId(activity.getActivityId().toString())
-                        .purpose(determinePurpose(activity))
-                        .build();
-                
-                locationDataAccessLogRepository.save(log);
-                activityCount++;
-                
-                if (activityCount % 100 == 0) {
-                    this.log.info("[Activity] 진행: {}개 처리", activityCount);
-                }
-                
-            } catch (Exception e) {
-                this.log.error("[Activity] 로그 생성 실패: activityId={}", 
-                        activity.getActivityId(), e);
-                activityFailed++;
-            }
-        }
-        
-        // 2. Route 수집 로그 생성
-        log.info("[Route] 위치정보 수집 로그 생성 시작");
-        List<Route> routes = routeRepository.findAll();
-        log.info("[Route] 대상: {}개", routes.size());
-        
-        for (Route route : routes) {
-            try {
-                // 이미 로그가 있는지 확인
-                boolean exists = locationDataAccessLogRepository.existsByDataIdAndAccessType(
-                        route.getId().toString(), 
-                        LocationAccessType.COLLECTION
-                );
-                
-                if (exists) {
-                    log.debug("[Route] 이미 로그 존재, 스킵: routeId={}", route.getId());
-                    continue;
-                }
-                
-                // created_at을 accessedAt으로 사용
-                LocationDataAccessLog log = LocationDataAccessLog.builder()
-                        .user(route.getUser())
-                        .accessor(route.getUser())
-                        .accessType(LocationAccessType.COLLECTION)
-                        .accessedAt(route.getCreatedAt())  // 생성일시를 수집일시로
-                        .ipAddress(null)
-                        .userAgent(null)
-                        .dataType("ROUTE_GPS")
-                        .dataId(route.getId().toString())
-                        .purpose("ROUTE_CREATION")
-                        .build();
-                
-                locationDataAccessLogRepository.save(log);
-                routeCount++;
-                
-                if (routeCount % 100 == 0) {
-                    this.log.info("[Route] 진행: {}개 처리", routeCount);
-                }
-                
-            } catch (Exception e) {
-                this.log.error("[Route] 로그 생성 실패: routeId={}", 
-                        route.getId(), e);
-                routeFailed++;
-            }
+
+        if (fromStart) {
+            batchCheckpointService.reset(ACTIVITY_BACKFILL_JOB);
+            batchCheckpointService.reset(ROUTE_BACKFILL_JOB);
         }
-        
+
+        long activityCount = backfillInChunks(ACTIVITY_BACKFILL_JOB,
+                locationDataAccessLogJdbcRepository::findActivityChunkEndId,
+                locationDataAccessLogJdbcRepository::insertActivityCollectionLogs);
+        long routeCount = backfillInChunks(ROUTE_BACKFILL_JOB,
+                locationDataAccessLogJdbcRepository::findRouteChunkEndId,
+                locationDataAccessLogJdbcRepository::insertRouteCollectionLogs);
+
         long elapsed = (System.currentTimeMillis() - startTime) / 1000;
-        
-        log.info("========================================");
-        log.info("✅ [LocationDataAccessLog] 소급 생성 완료!");
-        log.info("   - Activity: {}개 성공, {}개 실패", activityCount, activityFailed);
-        log.info("   - Route: {}개 성공, {}개 실패", routeCount, routeFailed);
-        log.info("   - 총 소요시간: {}초", elapsed);
-        log.info("========================================");
-        
+        log.info("[LocationDataAccessLog] 소급 생성 완료: activityLogs={}, routeLogs={}, elapsedSeconds={}",
+                activityCount, routeCount, elapsed);
+
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
         result.put("activityLogs", activityCount);
         result.put("routeLogs", routeCount);
-        result.put("activityFailed", activityFailed);
-        result.put("routeFailed", routeFailed);
         result.put("totalLogs", activityCount + routeCount);
         result.put("elapsedSeconds", elapsed);
-        
+
         return result;
     }
-    
+
     /**
-     * Activity의 수집 목적 결정
+     * 진행 위치부터 청크 단위로 소급 생성
+     * @return 생성된 기록 수
      */
-    private String determinePurpose(Activity activity) {
-        if (activity.getProvider() != null) {
-            switch (activity.getProvider()) {
-                case APPLE_HEALTH_KIT:
-                    return "APPLE_HEALTHKIT_IMPORT";
-                case GARMIN:
-                    return "GARMIN_IMPORT";
-                case SAMSUNG_HEALTH:
-                    return "SAMSUNG_HEALTH_IMPORT";
-                case GOOGLE_FIT:
-                    return "GOOGLE_FIT_IMPORT";
-                case STRAVA:
-                    return "STRAVA_IMPORT";
-                case SUUNTO:
-                    return "SUUNTO_IMPORT";
-                default:
-                    return "MANUAL_CREATION";
+    private long backfillInChunks(String jobName, ChunkEndFinder chunkEndFinder, ChunkInserter chunkInserter) {
+        long lastId = batchCheckpointService.getLastProcessedId(jobName);
+        long inserted = 0;
+
+        while (true) {
+            Long chunkEndId = chunkEndFinder.find(lastId, BACKFILL_CHUNK_SIZE);
+            if (chunkEndId == null) {
+                break;
             }
+
+            long afterId = lastId;
+            Integer chunkInserted = transactionTemplate.execute(status -> {
+                int count = chunkInserter.insert(afterId, chunkEndId);
+                batchCheckpointService.advance(jobName, chunkEndId);
+                return count;
+            });
+            inserted += chunkInserted != null ? chunkInserted : 0;
+            lastId = chunkEndId;
+
+            log.info("[LocationDataAccessLog] 소급 생성 진행: job={}, lastId={}, inserted={}", jobName, lastId, inserted);
         }
-        return "MANUAL_CREATION";
+        return inserted;
+    }
+
+    @FunctionalInterface
+    private interface ChunkEndFinder {
+        Long find(long afterId, int chunkSize);
+    }
+
+    @FunctionalInterface
+    private interface ChunkInserter {
+        int insert(long afterId, long upToId);
     }
 }
@@ -0,0 +1,346 @@
+package com.ridingmate.api_server.domain.privacy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ridingmate.api_server.domain.privacy.config.LocationAccessLogProperty;
+import com.ridingmate.api_server.domain.privacy.dto.LocationAccessRecord;
+import com.ridingmate.api_server.domain.privacy.repository.LocationDataAccessLogJdbcRepository;
+import com.ridingmate.api_server.global.service.BatchCheckpointService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 위치정보 조회 기록 비동기 저장기
+ *
+ * - 요청 스레드는 메모리 큐에 기록만 넣고 반환
+ * - 전용 스레드가 batchSize개가 모이거나 flushInterval이 지나면 한 트랜잭션으로 일괄 저장
+ * - 큐가 가득 찼거나 DB 저장에 실패한 기록은 로컬 파일(JSON Lines)에 추가하고, 주기적으로 다시 저장
+ * - 로컬 파일 재저장은 파일별 완료 표시(batch_checkpoints)와 함께 커밋하여, 커밋 후 파일 삭제 전에 중단되어도 중복 저장하지 않음
+ * - 로컬 파일 기록에 실패했거나 보관 파일의 손상된 줄은 유실 (dropped 지표로 집계, 손상된 줄은 .corrupt 파일로 보관)
+ * - 종료 시 큐에 남은 기록을 저장 (실패 시 로컬 파일로 보관)
+ */
+@Slf4j
+@Component
+public class LocationDataAccessLogWriter {
+
+    private static final String METRIC_NAME = "location_access_log";
+    private static final String SPILL_FILE_NAME = "location-access-spill.jsonl";
+    private static final String PENDING_SUFFIX = ".pending";
+    private static final String CORRUPT_SUFFIX = ".corrupt";
+    private static final String SPILL_REPLAY_JOB_PREFIX = "location-access-spill:";
+    private static final long SPILL_REPLAY_INTERVAL_MILLIS = 60_000;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private static final String DEFAULT_SPILL_DIRECTORY = "location-access-spill";
+    private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1_000;
+
+    private final LocationDataAccessLogJdbcRepository locationDataAccessLogJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BatchCheckpointService batchCheckpointService;
+    private final ObjectMapper objectMapper;
+
+    private final BlockingQueue<LocationAccessRecord> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Path spillDirectory;
+    private final Path spillFile;
+    private final Object spillLock = new Object();
+
+    private final Counter writtenCounter;
+    private final Counter spilledCounter;
+    private final Counter droppedCounter;
+
+    private Thread flusherThread;
+    private volatile boolean running = true;
+    private long lastSpillReplayAt;
+
+    public LocationDataAccessLogWriter(LocationDataAccessLogJdbcRepository locationDataAccessLogJdbcRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       BatchCheckpointService batchCheckpointService,
+                                       ObjectMapper objectMapper,
+                                       LocationAccessLogProperty property,
+                                       MeterRegistry meterRegistry) {
+        this.locationDataAccessLogJdbcRepository = locationDataAccessLogJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchCheckpointService = batchCheckpointService;
+        this.objectMapper = objectMapper;
+
+        this.queue = new ArrayBlockingQueue<>(property.queueCapacity() != null
+                ? property.queueCapacity() : DEFAULT_QUEUE_CAPACITY);
+        this.batchSize = property.batchSize() != null ? property.batchSize() : DEFAULT_BATCH_SIZE;
+        this.flushIntervalMillis = property.flushIntervalMillis() != null
+                ? property.flushIntervalMillis() : DEFAULT_FLUSH_INTERVAL_MILLIS;
+        this.spillDirectory = Paths.get(property.spillDirectory() != null && !property.spillDirectory().isBlank()
+                ? property.spillDirectory() : DEFAULT_SPILL_DIRECTORY);
+        this.spillFile = spillDirectory.resolve(SPILL_FILE_NAME);
+
+        Gauge.builder(METRIC_NAME + ".queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 위치정보 조회 기록 수")
+                .register(meterRegistry);
+        this.writtenCounter = recordCounter(meterRegistry, "written");
+        this.spilledCounter = recordCounter(meterRegistry, "spilled");
+        this.droppedCounter = recordCounter(meterRegistry, "dropped");
+    }
+
+    /**
+     * 의존성 주입이 끝난 뒤 저장 스레드 시작
+     */
+    @PostConstruct
+    public void start() {
+        this.flusherThread = new Thread(this::runFlushLoop, "location-access-log-writer");
+        this.flusherThread.setDaemon(true);
+        this.flusherThread.start();
+    }
+
+    /**
+     * 기록 등록 (요청 스레드에서 DB 접근 없음)
+     * 큐가 가득 찬 경우 로컬 파일에 보관
+     */
+    public void enqueue(LocationAccessRecord record) {
+        if (running && queue.offer(record)) {
+            return;
+        }
+        log.warn("[LocationDataAccessLog] 기록 큐가 가득 차 로컬 파일에 보관: userId={}, dataId={}",
+                record.userId(), record.dataId());
+        spill(List.of(record));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 저장을 끊지 않도록 인터럽트 없이 루프 종료를 기다림 (최대 flushInterval + 저장 시간)
+        running = false;
+        try {
+            if (flusherThread != null) {
+                flusherThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 저장 스레드가 제한 시간 안에 끝나지 않았거나 종료 직전에 등록된 기록 처리
+        List<LocationAccessRecord> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+        log.info("[LocationDataAccessLog] 기록 저장기 종료: remaining={}", remaining.size());
+    }
+
+    private void runFlushLoop() {
+        List<LocationAccessRecord> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                long deadline = System.currentTimeMillis() + flushIntervalMillis;
+                while (batch.size() < batchSize) {
+                    long waitMillis = deadline - System.currentTimeMillis();
+                    if (waitMillis <= 0) {
+                        break;
+                    }
+                    LocationAccessRecord record = queue.poll(waitMillis, TimeUnit.MILLISECONDS);
+                    if (record == null) {
+                        break;
+                    }
+                    batch.add(record);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                // 모아둔 기록 저장 후 종료
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+            if (running && queue.isEmpty()) {
+                replaySpillIfDue();
+            }
+        }
+
+        queue.drainTo(batch);
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            flush(batch.subList(from, Math.min(from + batchSize, batch.size())));
+        }
+    }
+
+    /**
+     * 한 트랜잭션으로 일괄 저장, 실패 시 로컬 파일에 보관
+     */
+    private void flush(List<LocationAccessRecord> records) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    locationDataAccessLogJdbcRepository.batchInsert(records));
+            writtenCounter.increment(records.size());
+        } catch (Exception e) {
+            log.error("[LocationDataAccessLog] 기록 일괄 저장 실패, 로컬 파일에 보관: count={}, error={}",
+                    records.size(), e.getMessage());
+            spill(records);
+        }
+    }
+
+    /**
+     * 로컬 파일에 JSON Lines로 추가
+     */
+    private void spill(List<LocationAccessRecord> records) {
+        synchronized (spillLock) {
+            try {
+                Files.createDirectories(spillDirectory);
+                try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (LocationAccessRecord record : records) {
+                        writer.write(objectMapper.writeValueAsString(record));
+                        writer.newLine();
+                    }
+                }
+                spilledCounter.increment(records.size());
+            } catch (IOException e) {
+                droppedCounter.increment(records.size());
+                log.error("[LocationDataAccessLog] 기록 로컬 보관 실패로 유실: count={}, error={}",
+                        records.size(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 로컬 파일에 보관된 기록을 DB에 다시 저장
+     * 현재 파일을 .pending으로 바꾼 뒤 파일 단위 트랜잭션으로 저장하고, 성공한 파일만 삭제
+     * 파일별 완료 표시를 같은 트랜잭션에 기록하여, 이미 커밋된 파일은 다시 저장하지 않고 삭제만 수행
+     */
+    private void replaySpillIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - lastSpillReplayAt < SPILL_REPLAY_INTERVAL_MILLIS) {
+            return;
+        }
+        lastSpillReplayAt = now;
+
+        try {
+            synchronized (spillLock) {
+                if (Files.exists(spillFile)) {
+                    Files.move(spillFile, spillDirectory.resolve(SPILL_FILE_NAME + "." + now + PENDING_SUFFIX),
+                            StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            if (!Files.isDirectory(spillDirectory)) {
+                return;
+            }
+
+            List<Path> pendingFiles = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(spillDirectory, "*" + PENDING_SUFFIX)) {
+                stream.forEach(pendingFiles::add);
+            }
+            pendingFiles.sort(null);
+
+            for (Path pendingFile : pendingFiles) {
+                replaySpillFile(pendingFile);
+            }
+        } catch (Exception e) {
+            // 파일은 남아 있으므로 다음 주기에 다시 시도
+            log.warn("[LocationDataAccessLog] 로컬 보관 기록 재저장 실패: error={}", e.getMessage());
+        }
+    }
+
+    private void replaySpillFile(Path pendingFile) throws IOException {
+        String jobName = SPILL_REPLAY_JOB_PREFIX + pendingFile.getFileName();
+        if (batchCheckpointService.getLastProcessedId(jobName) > 0) {
+            // 이전 주기에 커밋 후 파일 삭제 전에 중단된 경우
+            Files.delete(pendingFile);
+            batchCheckpointService.reset(jobName);
+            log.info("[LocationDataAccessLog] 이미 재저장된 로컬 보관 파일 삭제: file={}", pendingFile.getFileName());
+            return;
+        }
+
+        SpillContents contents = readSpillFile(pendingFile);
+        List<LocationAccessRecord> records = contents.records();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < records.size(); from += batchSize) {
+                locationDataAccessLogJdbcRepository.batchInsert(
+                        records.subList(from, Math.min(from + batchSize, records.size())));
+            }
+            batchCheckpointService.advance(jobName, 1L);
+        });
+        writtenCounter.increment(records.size());
+
+        if (!contents.corruptLines().isEmpty()) {
+            keepCorruptLines(pendingFile, contents.corruptLines());
+        }
+        Files.delete(pendingFile);
+        batchCheckpointService.reset(jobName);
+        log.info("[LocationDataAccessLog] 로컬 보관 기록 재저장 완료: file={}, count={}, corrupt={}",
+                pendingFile.getFileName(), records.size(), contents.corruptLines().size());
+    }
+
+    private SpillContents readSpillFile(Path file) throws IOException {
+        List<LocationAccessRecord> records = new ArrayList<>();
+        List<String> corruptLines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    records.add(objectMapper.readValue(line, LocationAccessRecord.class));
+                } catch (IOException e) {
+                    // 비정상 종료로 잘린 줄 등은 재저장 대상에서 제외
+                    log.warn("[LocationDataAccessLog] 손상된 로컬 보관 기록 제외: file={}, error={}",
+                            file.getFileName(), e.getMessage());
+                    corruptLines.add(line);
+                }
+            }
+        }
+        return new SpillContents(records, corruptLines);
+    }
+
+    /**
+     * 손상된 줄을 .corrupt 파일로 보관하고 유실로 집계 (수동 확인용)
+     */
+    private void keepCorruptLines(Path pendingFile, List<String> corruptLines) {
+        droppedCounter.increment(corruptLines.size());
+        String fileName = pendingFile.getFileName().toString();
+        Path corruptFile = spillDirectory.resolve(
+                fileName.substring(0, fileName.length() - PENDING_SUFFIX.length()) + CORRUPT_SUFFIX);
+        try {
+            Files.write(corruptFile, corruptLines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            log.error("[LocationDataAccessLog] 손상된 로컬 보관 기록 유실: file={}, count={}",
+                    corruptFile.getFileName(), corruptLines.size());
+        } catch (IOException e) {
+            log.error("[LocationDataAccessLog] 손상된 로컬 보관 기록 보관 실패: count={}, error={}",
+                    corruptLines.size(), e.getMessage(), e);
+        }
+    }
+
+    private Counter recordCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_NAME + ".records")
+                .description("위치정보 조회 기록 처리 결과별 건수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record SpillContents(List<LocationAccessRecord> records, List<String> corruptLines) {
+    }
+}
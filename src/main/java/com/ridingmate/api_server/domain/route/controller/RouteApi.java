@@ -1,11 +1,15 @@
 package com.ridingmate.api_server.domain.route.controller;
 
+import com.ridingmate.api_server.domain.activity.enums.TrackResolution;
 import com.ridingmate.api_server.domain.auth.security.AuthUser;
 import com.ridingmate.api_server.domain.route.dto.request.AddRouteToMyRoutesRequest;
 import com.ridingmate.api_server.domain.route.dto.request.CreateRouteRequest;
+import com.ridingmate.api_server.domain.route.dto.request.RouteAreaSearchRequest;
 import com.ridingmate.api_server.domain.route.dto.request.RouteListRequest;
 import com.ridingmate.api_server.domain.route.dto.request.RouteSegmentRequest;
 import com.ridingmate.api_server.domain.route.dto.response.*;
+import com.ridingmate.api_server.domain.route.enums.FileDownloadMode;
+import com.ridingmate.api_server.domain.thumbnail.dto.response.ThumbnailStatusResponse;
 import com.ridingmate.api_server.global.exception.CommonResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,12 +17,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "Route API", description = "경로 기능 API")
 public interface RouteApi {
@@ -96,7 +103,7 @@ public interface RouteApi {
                     특정 경로(Route)의 상세 정보를 조회합니다.
                                         
                     - 경로의 기본 정보(이름, 설명, 거리, 고도 등)
-                    - 경로를 구성하는 모든 GPS 좌표 목록 (위도, 경도, 고도)
+                    - 경로를 구성하는 GPS 좌표 목록 (위도, 경도, 고도, resolution에 따라 다운샘플링)
                     """
     )
     @ApiResponses({
@@ -105,6 +112,25 @@ public interface RouteApi {
             @ApiResponse(responseCode = "404", description = "존재하지 않는 경로입니다."),
     })
     ResponseEntity<CommonResponse<RouteDetailResponse>> getRouteDetail(
+            @Parameter(description = "경로 ID")
+            @PathVariable String routeId,
+            @Parameter(description = "고도 프로필 해상도 (LOW: 128, MEDIUM: 512, HIGH: 2048 포인트, FULL: 원본), Waypoint는 항상 포함", example = "FULL")
+            @RequestParam(defaultValue = "FULL") TrackResolution resolution);
+
+    @Operation(
+            summary = "경로 썸네일 생성 상태 조회",
+            description = """
+                    경로 썸네일은 경로 생성 후 비동기로 만들어집니다.
+                    
+                    - status: PENDING, RUNNING, SUCCEEDED, FAILED (생성 작업이 없으면 null)
+                    - thumbnailImageUrl: 생성 완료 시 썸네일 URL
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "성공: 썸네일 생성 상태 조회 완료"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 경로입니다."),
+    })
+    ResponseEntity<CommonResponse<ThumbnailStatusResponse>> getRouteThumbnailStatus(
             @Parameter(description = "경로 ID")
             @PathVariable String routeId);
 
@@ -135,6 +161,26 @@ public interface RouteApi {
             @RequestParam Double lat
     );
 
+    @Operation(
+            summary = "영역 내 경로 검색",
+            description = """
+                    지도 영역(bbox) 또는 위치/경로 주변 반경 안을 지나는 경로를 검색합니다.
+                    
+                    - bbox 검색: minLon, minLat, maxLon, maxLat를 모두 지정
+                    - 반경 검색: lon, lat 또는 polyline과 radiusM(최대 50km) 지정
+                    - 검색 대상: 추천 코스와 내 경로 목록의 경로
+                    - 경로는 검색 영역 크기에 맞게 단순화한 Google Polyline으로 반환
+                    - 커서 페이지네이션: 응답의 nextCursor를 다음 요청의 cursor로 전달
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "성공: 영역 내 경로 조회 완료"),
+            @ApiResponse(responseCode = "400", description = "검색 영역 또는 반경이 올바르지 않습니다.")
+    })
+    ResponseEntity<CommonResponse<RouteAreaSearchResponse>> searchRoutesInArea(
+            @AuthenticationPrincipal AuthUser authUser,
+            @ModelAttribute RouteAreaSearchRequest request);
+
     @Operation(
             summary = "경로 GPX 파일 다운로드",
             description = """
@@ -143,16 +189,28 @@ public interface RouteApi {
                     - GPX 파일은 GPS 추적 데이터를 포함한 표준 형식입니다.
                     - 대부분의 GPS 앱과 호환됩니다.
                     - 파일명: {경로제목}.gpx
+                    - mode=STREAM(기본): 저장된 파일을 서버가 그대로 전달하며 Range 요청(이어받기)을 지원합니다.
+                    - mode=REDIRECT: 저장된 파일의 S3 Presigned URL(5분 유효)로 302 리다이렉트합니다.
+                    - 저장된 파일이 없으면 경로 데이터로 생성하며, Accept-Encoding에 gzip이 있으면 gzip으로 압축해서 전송합니다.
                     """
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "성공: GPX 파일 다운로드 완료"),
+            @ApiResponse(responseCode = "206", description = "성공: 요청한 범위의 GPX 파일 전송"),
+            @ApiResponse(responseCode = "302", description = "성공: GPX 파일 다운로드 URL로 리다이렉트"),
             @ApiResponse(responseCode = "404", description = "경로를 찾을 수 없습니다."),
+            @ApiResponse(responseCode = "416", description = "요청한 파일 범위가 올바르지 않습니다."),
             @ApiResponse(responseCode = "500", description = "GPX 파일 생성 중 오류가 발생했습니다."),
     })
-    ResponseEntity<byte[]> downloadGpxFile(
+    ResponseEntity<StreamingResponseBody> downloadGpxFile(
             @Parameter(description = "경로 ID")
-            @PathVariable String routeId
+            @PathVariable String routeId,
+            @Parameter(description = "저장된 파일 전달 방식 (STREAM, REDIRECT)")
+            @RequestParam(defaultValue = "STREAM") FileDownloadMode mode,
+            @Parameter(description = "요청 바이트 범위 (예: bytes=0-1023), STREAM 방식의 저장된 파일에만 적용")
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     );
 
     @Operation(
@@ -164,16 +222,28 @@ public interface RouteApi {
                     - Garmin 사이클링 컴퓨터와 완벽 호환됩니다.
                     - Waypoint 정보가 포함되어 있습니다.
                     - 파일명: {경로제목}.tcx
+                    - mode=STREAM(기본): 저장된 파일을 서버가 그대로 전달하며 Range 요청(이어받기)을 지원합니다.
+                    - mode=REDIRECT: 저장된 파일의 S3 Presigned URL(5분 유효)로 302 리다이렉트합니다.
+                    - 저장된 파일이 없으면 경로 데이터로 생성하며, Accept-Encoding에 gzip이 있으면 gzip으로 압축해서 전송합니다.
                     """
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "성공: TCX 파일 다운로드 완료"),
+            @ApiResponse(responseCode = "206", description = "성공: 요청한 범위의 TCX 파일 전송"),
+            @ApiResponse(responseCode = "302", description = "성공: TCX 파일 다운로드 URL로 리다이렉트"),
             @ApiResponse(responseCode = "404", description = "경로를 찾을 수 없습니다."),
+            @ApiResponse(responseCode = "416", description = "요청한 파일 범위가 올바르지 않습니다."),
             @ApiResponse(responseCode = "500", description = "TCX 파일 생성 중 오류가 발생했습니다."),
     })
-    ResponseEntity<byte[]> downloadTcxFile(
+    ResponseEntity<StreamingResponseBody> downloadTcxFile(
             @Parameter(description = "경로 ID")
-            @PathVariable String routeId
+            @PathVariable String routeId,
+            @Parameter(description = "저장된 파일 전달 방식 (STREAM, REDIRECT)")
+            @RequestParam(defaultValue = "STREAM") FileDownloadMode mode,
+            @Parameter(description = "요청 바이트 범위 (예: bytes=0-1023), STREAM 방식의 저장된 파일에만 적용")
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     );
 
     @Operation(
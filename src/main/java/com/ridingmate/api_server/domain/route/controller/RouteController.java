@@ -1,16 +1,22 @@
 package com.ridingmate.api_server.domain.route.controller;
 
 import com.ridingmate.api_server.domain.auth.exception.AuthErrorCode;
+import com.ridingmate.api_server.domain.activity.enums.TrackResolution;
 import com.ridingmate.api_server.domain.auth.security.AuthUser;
 import com.ridingmate.api_server.domain.route.dto.request.AddRouteToMyRoutesRequest;
 import com.ridingmate.api_server.domain.route.dto.request.CreateRouteRequest;
+import com.ridingmate.api_server.domain.route.dto.request.RouteAreaSearchRequest;
 import com.ridingmate.api_server.domain.route.dto.request.RouteListRequest;
 import com.ridingmate.api_server.domain.route.dto.request.RouteSegmentRequest;
 import com.ridingmate.api_server.domain.route.dto.response.*;
+import com.ridingmate.api_server.domain.route.enums.FileDownloadMode;
 import com.ridingmate.api_server.domain.route.exception.code.RouteCommonErrorCode;
 import com.ridingmate.api_server.domain.route.exception.RouteSuccessCode;
 import com.ridingmate.api_server.domain.route.exception.code.RouteCreationErrorCode;
+import com.ridingmate.api_server.domain.route.exception.code.RouteDetailErrorCode;
+import com.ridingmate.api_server.domain.route.exception.code.RouteSearchErrorCode;
 import com.ridingmate.api_server.domain.route.facade.RouteFacade;
+import com.ridingmate.api_server.domain.thumbnail.dto.response.ThumbnailStatusResponse;
 import com.ridingmate.api_server.global.exception.ApiErrorCodeExample;
 import com.ridingmate.api_server.global.exception.CommonResponse;
 import com.ridingmate.api_server.infra.kakao.KakaoErrorCode;
@@ -18,12 +24,17 @@ import com.ridingmate.api_server.infra.ors.OrsErrorCode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
 
 @Slf4j
 @RestController
@@ -31,6 +42,8 @@ import java.nio.charset.StandardCharsets;
 @RequiredArgsConstructor
 public class RouteController implements RouteApi{
 
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
     private final RouteFacade routeFacade;
 
     @Override
@@ -92,15 +105,29 @@ public class RouteController implements RouteApi{
     @GetMapping("/{routeId}")
     @ApiErrorCodeExample(RouteCommonErrorCode.class)
     public ResponseEntity<CommonResponse<RouteDetailResponse>> getRouteDetail(
-        @PathVariable String routeId
+        @PathVariable String routeId,
+        @RequestParam(defaultValue = "FULL") TrackResolution resolution
     ) {
-        log.info("[Route] GET detail request - routeId={}", routeId);
-        RouteDetailResponse response = routeFacade.getRouteDetail(routeId);
+        log.info("[Route] GET detail request - routeId={}, resolution={}", routeId, resolution);
+        RouteDetailResponse response = routeFacade.getRouteDetail(routeId, resolution);
         return ResponseEntity
             .status(RouteSuccessCode.ROUTE_DETAIL_FETCHED.getStatus())
             .body(CommonResponse.success(RouteSuccessCode.ROUTE_DETAIL_FETCHED, response));
     }
 
+    @Override
+    @GetMapping("/{routeId}/thumbnail")
+    @ApiErrorCodeExample(RouteCommonErrorCode.class)
+    public ResponseEntity<CommonResponse<ThumbnailStatusResponse>> getRouteThumbnailStatus(
+        @PathVariable String routeId
+    ) {
+        log.info("[Route] GET thumbnail status request - routeId={}", routeId);
+        ThumbnailStatusResponse response = routeFacade.getRouteThumbnailStatus(routeId);
+        return ResponseEntity
+            .status(RouteSuccessCode.ROUTE_THUMBNAIL_STATUS_FETCHED.getStatus())
+            .body(CommonResponse.success(RouteSuccessCode.ROUTE_THUMBNAIL_STATUS_FETCHED, response));
+    }
+
     @Override
     @GetMapping("/search")
     @ApiErrorCodeExample(KakaoErrorCode.class)
@@ -115,36 +142,90 @@ public class RouteController implements RouteApi{
                 .body(CommonResponse.success(RouteSuccessCode.MAP_SEARCH_FETCHED, response));
     }
 
+    @Override
+    @GetMapping("/area")
+    @ApiErrorCodeExample(RouteSearchErrorCode.class)
+    public ResponseEntity<CommonResponse<RouteAreaSearchResponse>> searchRoutesInArea(
+            @AuthenticationPrincipal AuthUser authUser,
+            @ModelAttribute RouteAreaSearchRequest request) {
+        log.info("[Route] GET area search request - userId={}, params={}",
+                authUser != null ? authUser.id() : null, request);
+        RouteAreaSearchResponse response = routeFacade.searchRoutesInArea(authUser, request);
+        return ResponseEntity
+                .status(RouteSuccessCode.ROUTE_AREA_SEARCH_FETCHED.getStatus())
+                .body(CommonResponse.success(RouteSuccessCode.ROUTE_AREA_SEARCH_FETCHED, response));
+    }
+
     @Override
     @GetMapping("/{routeId}/gpx")
     @ApiErrorCodeExample(RouteCommonErrorCode.class)
-    public ResponseEntity<byte[]> downloadGpxFile(@PathVariable String routeId) {
-        log.info("[Route] GET GPX download request - routeId={}", routeId);
-        GpxDownloadInfo downloadInfo = routeFacade.downloadGpxFile(routeId);
-
-        String encodedFileName = URLEncoder.encode(downloadInfo.fileName(), StandardCharsets.UTF_8);
-        
-        return ResponseEntity.ok()
-                .header("Content-Type", downloadInfo.contentType())
-                .header("Content-Disposition", "attachment; filename=\"" + encodedFileName + "\"")
-                .body(downloadInfo.content());
+    @ApiErrorCodeExample(RouteDetailErrorCode.class)
+    public ResponseEntity<StreamingResponseBody> downloadGpxFile(
+            @PathVariable String routeId,
+            @RequestParam(defaultValue = "STREAM") FileDownloadMode mode,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.info("[Route] GET GPX download request - routeId={}, mode={}, range={}", routeId, mode, range);
+        RouteFileDownloadInfo downloadInfo = routeFacade.downloadGpxFile(routeId, mode, range);
+        return toFileResponse(downloadInfo, acceptEncoding);
     }
 
     @Override
     @GetMapping("/{routeId}/tcx")
     @ApiErrorCodeExample(RouteCommonErrorCode.class)
-    public ResponseEntity<byte[]> downloadTcxFile(@PathVariable String routeId) {
-        log.info("[Route] GET TCX download request - routeId={}", routeId);
-        TcxDownloadInfo downloadInfo = routeFacade.downloadTcxFile(routeId);
+    @ApiErrorCodeExample(RouteDetailErrorCode.class)
+    public ResponseEntity<StreamingResponseBody> downloadTcxFile(
+            @PathVariable String routeId,
+            @RequestParam(defaultValue = "STREAM") FileDownloadMode mode,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.info("[Route] GET TCX download request - routeId={}, mode={}, range={}", routeId, mode, range);
+        RouteFileDownloadInfo downloadInfo = routeFacade.downloadTcxFile(routeId, mode, range);
+        return toFileResponse(downloadInfo, acceptEncoding);
+    }
+
+    /**
+     * 파일 다운로드 응답 생성
+     * - 리다이렉트: Presigned URL로 302
+     * - 저장된 파일: S3 본문을 그대로 전달 (Content-Length, Range 요청이면 206 + Content-Range)
+     * - 생성 파일: 응답 스트림에 바로 작성, 클라이언트가 지원하면 gzip 압축
+     */
+    private ResponseEntity<StreamingResponseBody> toFileResponse(RouteFileDownloadInfo downloadInfo, String acceptEncoding) {
+        if (downloadInfo.isRedirect()) {
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create(downloadInfo.redirectUrl()))
+                    .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                    .build();
+        }
 
         String encodedFileName = URLEncoder.encode(downloadInfo.fileName(), StandardCharsets.UTF_8);
-        
-        return ResponseEntity.ok()
+        ResponseEntity.BodyBuilder builder = ResponseEntity
+                .status(downloadInfo.isPartial() ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
                 .header("Content-Type", downloadInfo.contentType())
-                .header("Content-Disposition", "attachment; filename=\"" + encodedFileName + "\"")
-                .body(downloadInfo.content());
-    }
+                .header("Content-Disposition", "attachment; filename=\"" + encodedFileName + "\"");
+        StreamingResponseBody body = downloadInfo.body();
+
+        if (downloadInfo.isStored()) {
+            builder.header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .contentLength(downloadInfo.contentLength());
+            if (downloadInfo.isPartial()) {
+                builder.header(HttpHeaders.CONTENT_RANGE, downloadInfo.contentRange());
+            }
+            return builder.body(body);
+        }
 
+        builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null || !acceptEncoding.toLowerCase().contains("gzip")) {
+            return builder.body(body);
+        }
+        return builder
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(out -> {
+                    GZIPOutputStream gzip = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                    body.writeTo(gzip);
+                    gzip.finish();
+                });
+    }
 
     @Override
     @PostMapping("/my-routes")
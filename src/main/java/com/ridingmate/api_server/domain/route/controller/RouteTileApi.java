@@ -0,0 +1,33 @@
+package com.ridingmate.api_server.domain.route.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@Tag(name = "Route Tile API", description = "경로 벡터 타일 API")
+public interface RouteTileApi {
+
+    @Operation(
+            summary = "추천 코스 경로 벡터 타일 조회",
+            description = """
+                    추천 코스 경로를 Mapbox Vector Tile(MVT)로 반환합니다.
+                    
+                    - 좌표: Web Mercator XYZ (z: 0~20)
+                    - 레이어: routes (속성: route_id, title, distance, difficulty, recommendation_type)
+                    - 줌 레벨에 맞게 단순화된 경로가 포함됩니다.
+                    - 타일에 경로가 없으면 빈 본문을 반환합니다.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "성공: 벡터 타일 조회 완료"),
+            @ApiResponse(responseCode = "400", description = "타일 좌표(z/x/y)가 올바르지 않습니다.")
+    })
+    ResponseEntity<byte[]> getRouteTile(
+            @Parameter(description = "줌 레벨", example = "12") @PathVariable int z,
+            @Parameter(description = "타일 X", example = "3492") @PathVariable int x,
+            @Parameter(description = "타일 Y", example = "1586") @PathVariable int y);
+}
@@ -0,0 +1,37 @@
+package com.ridingmate.api_server.domain.route.controller;
+
+import com.ridingmate.api_server.domain.route.exception.code.RouteSearchErrorCode;
+import com.ridingmate.api_server.domain.route.facade.RouteFacade;
+import com.ridingmate.api_server.domain.route.service.RouteTileCache;
+import com.ridingmate.api_server.global.exception.ApiErrorCodeExample;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/tiles")
+@RequiredArgsConstructor
+public class RouteTileController implements RouteTileApi {
+
+    private static final String MVT_CONTENT_TYPE = "application/vnd.mapbox-vector-tile";
+
+    private final RouteFacade routeFacade;
+
+    @Override
+    @GetMapping("/routes/{z}/{x}/{y}.mvt")
+    @ApiErrorCodeExample(RouteSearchErrorCode.class)
+    public ResponseEntity<byte[]> getRouteTile(@PathVariable int z, @PathVariable int x, @PathVariable int y) {
+        log.debug("[RouteTile] GET tile request - z={}, x={}, y={}", z, x, y);
+        byte[] tile = routeFacade.getRouteTile(z, x, y);
+        return ResponseEntity.ok()
+                .header("Content-Type", MVT_CONTENT_TYPE)
+                .cacheControl(CacheControl.maxAge(RouteTileCache.TTL).cachePrivate())
+                .body(tile);
+    }
+}
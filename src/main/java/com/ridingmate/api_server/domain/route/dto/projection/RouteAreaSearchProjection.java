@@ -0,0 +1,17 @@
+package com.ridingmate.api_server.domain.route.dto.projection;
+
+import java.util.UUID;
+
+/**
+ * 영역 검색 결과 Projection DTO (표시용으로 단순화한 경로 포함)
+ */
+public record RouteAreaSearchProjection(
+    Long id,
+    UUID routeId,
+    String title,
+    Double distance,
+    Double elevationGain,
+    boolean recommended,
+    String polyline
+) {
+}
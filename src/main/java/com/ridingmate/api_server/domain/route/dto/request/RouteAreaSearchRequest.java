@@ -0,0 +1,51 @@
+package com.ridingmate.api_server.domain.route.dto.request;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springdoc.core.annotations.ParameterObject;
+
+@ParameterObject
+public record RouteAreaSearchRequest(
+    @Parameter(description = "지도 영역 최소 경도 (bbox 검색)", example = "126.90")
+    Double minLon,
+
+    @Parameter(description = "지도 영역 최소 위도 (bbox 검색)", example = "37.50")
+    Double minLat,
+
+    @Parameter(description = "지도 영역 최대 경도 (bbox 검색)", example = "127.10")
+    Double maxLon,
+
+    @Parameter(description = "지도 영역 최대 위도 (bbox 검색)", example = "37.60")
+    Double maxLat,
+
+    @Parameter(description = "중심 위치 경도 (반경 검색)", example = "127.0")
+    Double lon,
+
+    @Parameter(description = "중심 위치 위도 (반경 검색)", example = "37.5")
+    Double lat,
+
+    @Parameter(description = "기준 경로 Google Polyline (경로 주변 검색, 중심 위치 대신 사용)")
+    String polyline,
+
+    @Parameter(description = "반경 (미터, 반경/경로 주변 검색시 필요)", example = "1000")
+    Double radiusM,
+
+    @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 비움)")
+    Long cursor,
+
+    @Parameter(
+        description = "페이지 크기 (기본 값: 50, 최대 200)",
+        example = "50",
+        schema = @Schema(type = "integer", defaultValue = "50")
+    )
+    Integer size
+) {
+
+    public boolean isBoundingBoxSearch() {
+        return minLon != null && minLat != null && maxLon != null && maxLat != null;
+    }
+
+    public boolean isCorridorSearch() {
+        return radiusM != null && ((lon != null && lat != null) || (polyline != null && !polyline.isBlank()));
+    }
+}
@@ -2,6 +2,8 @@ package com.ridingmate.api_server.domain.route.dto.response;
 
 import com.ridingmate.api_server.domain.route.entity.Recommendation;
 import com.ridingmate.api_server.domain.route.entity.Route;
+import com.ridingmate.api_server.domain.thumbnail.dto.response.ThumbnailStatusResponse;
+import com.ridingmate.api_server.domain.thumbnail.enums.ThumbnailJobStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
@@ -37,16 +39,19 @@ public record GpxUploadResponse(
         @Schema(description = "추천 타입", example = "유명 코스")
         String recommendationType,
 
-        @Schema(description = "썸네일 이미지 URL", example = "https://s3.amazonaws.com/bucket/thumbnails/route-1.png")
+        @Schema(description = "썸네일 이미지 URL (자동 생성 중이면 null, 경로 썸네일 상태 조회 API로 확인)", example = "https://s3.amazonaws.com/bucket/thumbnails/route-1.png")
         String thumbnailImageUrl,
 
+        @Schema(description = "썸네일 생성 상태 (사용자 업로드 시 SUCCEEDED, 자동 생성 시 PENDING / 생성 작업이 없으면 null)", example = "PENDING")
+        ThumbnailJobStatus thumbnailStatus,
+
         @Schema(description = "GPX 파일 URL", example = "https://s3.amazonaws.com/bucket/gpx/route-1.gpx")
         String gpxFileUrl,
 
         @Schema(description = "생성일시", example = "2024-01-15T10:30:00")
         LocalDateTime createdAt
 ) {
-    public static GpxUploadResponse from(Route route, Recommendation recommendation, String thumbnailUrl, String gpxFileUrl) {
+    public static GpxUploadResponse from(Route route, Recommendation recommendation, ThumbnailStatusResponse thumbnail, String gpxFileUrl) {
         return new GpxUploadResponse(
                 route.getRouteId().toString(),
                 route.getTitle(),
@@ -58,7 +63,8 @@ public record GpxUploadResponse(
                 route.getDifficulty().getDisplayName(),
                 route.getLandscapeType().getDisplayName(),
                 recommendation.getRecommendationType().getDisplayName(),
-                thumbnailUrl,
+                thumbnail.thumbnailImageUrl(),
+                thumbnail.status(),
                 gpxFileUrl,
                 route.getCreatedAt()
         );
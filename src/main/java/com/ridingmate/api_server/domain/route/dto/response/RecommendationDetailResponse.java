@@ -1,7 +1,6 @@
 package com.ridingmate.api_server.domain.route.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.ggalmazor.ltdownsampling.Point;
 import com.ridingmate.api_server.domain.route.entity.Recommendation;
 import com.ridingmate.api_server.domain.route.entity.Route;
 import com.ridingmate.api_server.domain.route.enums.LandscapeType;
@@ -9,11 +8,11 @@ import com.ridingmate.api_server.domain.route.enums.RecommendationType;
 import com.ridingmate.api_server.domain.route.enums.Region;
 import com.ridingmate.api_server.global.util.GeometryUtil;
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.locationtech.jts.geom.Coordinate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 public record RecommendationDetailResponse(
     @Schema(description = "경로 ID", example = "550e8400-e29b-41d4-a716-446655440000")
@@ -80,10 +79,13 @@ public record RecommendationDetailResponse(
             double elevation
     ) {}
 
-    public static RecommendationDetailResponse from(Route route, List<Point> routeGpsPoints, String profileImageUrl) {
-        List<ElevationPoint> elevationPoints = IntStream.range(0, routeGpsPoints.size())
-                .mapToObj(i -> new ElevationPoint(i, routeGpsPoints.get(i).getY()))
-                .collect(Collectors.toList());
+    public static RecommendationDetailResponse from(Route route, Coordinate[] coordinates, int[] profileIndices,
+                                                    String profileImageUrl) {
+        List<ElevationPoint> elevationPoints = new ArrayList<>(profileIndices.length);
+        for (int i = 0; i < profileIndices.length; i++) {
+            double elevation = coordinates[profileIndices[i]].getZ();
+            elevationPoints.add(new ElevationPoint(i, Double.isNaN(elevation) ? 0.0 : elevation));
+        }
 
         return new RecommendationDetailResponse(
                 route.getRouteId().toString(),
@@ -0,0 +1,36 @@
+package com.ridingmate.api_server.domain.route.dto.response;
+
+import com.ridingmate.api_server.domain.route.dto.projection.RouteAreaSearchProjection;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record RouteAreaSearchItemResponse(
+        @Schema(description = "경로 ID", example = "550e8400-e29b-41d4-a716-446655440000")
+        String routeId,
+
+        @Schema(description = "경로 제목", example = "한강 라이딩 경로")
+        String title,
+
+        @Schema(description = "이동 거리 (m)", example = "13200")
+        Double distanceM,
+
+        @Schema(description = "총 상승 고도 (m)", example = "120.4")
+        Double elevationGain,
+
+        @Schema(description = "추천 코스 여부", example = "true")
+        boolean recommended,
+
+        @Schema(description = "지도 표시용으로 단순화한 경로 (Google Polyline)", example = "_p~iF~ps|U_ulLnnqC_mqNvxq`@")
+        String polyline
+) {
+
+    public static RouteAreaSearchItemResponse from(RouteAreaSearchProjection projection) {
+        return new RouteAreaSearchItemResponse(
+                projection.routeId().toString(),
+                projection.title(),
+                projection.distance(),
+                projection.elevationGain() != null ? Math.round(projection.elevationGain() * 100.0) / 100.0 : null,
+                projection.recommended(),
+                projection.polyline()
+        );
+    }
+}
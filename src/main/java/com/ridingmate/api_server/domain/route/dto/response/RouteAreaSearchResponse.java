@@ -0,0 +1,17 @@
+package com.ridingmate.api_server.domain.route.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record RouteAreaSearchResponse(
+        @Schema(description = "영역 내 경로 목록")
+        List<RouteAreaSearchItemResponse> routes,
+
+        @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "1024")
+        Long nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext
+) {
+}
@@ -2,7 +2,7 @@ package com.ridingmate.api_server.domain.route.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.ggalmazor.ltdownsampling.Point;
+import com.ridingmate.api_server.domain.activity.track.TrackSamples;
 import com.ridingmate.api_server.domain.route.entity.Route;
 import com.ridingmate.api_server.domain.route.entity.RouteGpsLog;
 import com.ridingmate.api_server.domain.route.enums.WaypointType;
@@ -12,9 +12,10 @@ import jakarta.validation.constraints.NotEmpty;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Map;
 
 public record RouteDetailResponse(
     @Schema(description = "경로 ID", example = "550e8400-e29b-41d4-a716-446655440000")
@@ -95,30 +96,49 @@ public record RouteDetailResponse(
         ) {}
     }
     
-    public static RouteDetailResponse fromWithWaypoints(Route route, List<RouteGpsLog> routeGpsLogs, String profileImageUrl){
-        List<ElevationPoint> elevationPoints = IntStream.range(0, routeGpsLogs.size())
-                .mapToObj(i -> {
-                    RouteGpsLog gpsLog = routeGpsLogs.get(i);
-                    
-                    // Waypoint 정보 처리
-                    ElevationPoint.WaypointInfo waypointInfo = null;
-                    if (gpsLog.isWaypoint()) {
-                        waypointInfo = new ElevationPoint.WaypointInfo(
-                            gpsLog.getWaypointType(),
-                            gpsLog.getWaypointTitle(),
-                            gpsLog.getWaypointDescription()
-                        );
-                    }
-                    
-                    return new ElevationPoint(
-                        i,
-                        gpsLog.getLongitude(),
-                        gpsLog.getLatitude(),
-                        gpsLog.getElevation(),
-                        waypointInfo
-                    );
-                })
-                .collect(Collectors.toList());
+    /**
+     * 경로 프로필로 상세 응답 생성
+     * @param route 경로 (Polyline, Bounding Box는 저장된 값 사용)
+     * @param profile 경로 트랙 프로필
+     * @param indices 응답에 포함할 프로필 인덱스 (오름차순)
+     * @param waypoints Waypoint GPS 로그 (기록 시각으로 프로필 포인트와 매칭)
+     * @param profileImageUrl 프로필 이미지 URL
+     */
+    public static RouteDetailResponse fromProfile(Route route, TrackSamples profile, int[] indices,
+                                                  List<RouteGpsLog> waypoints, String profileImageUrl) {
+        Map<Long, RouteGpsLog> waypointsByTime = new HashMap<>();
+        for (RouteGpsLog waypoint : waypoints) {
+            waypointsByTime.put(TrackSamples.toEpochMillis(waypoint.getLogTime()), waypoint);
+        }
+
+        long[] times = profile.times();
+        double[] longitudes = profile.longitudes();
+        double[] latitudes = profile.latitudes();
+        double[] elevations = profile.elevations();
+
+        List<ElevationPoint> elevationPoints = new ArrayList<>(indices.length);
+        for (int i = 0; i < indices.length; i++) {
+            int index = indices[i];
+
+            // Waypoint 정보 처리
+            ElevationPoint.WaypointInfo waypointInfo = null;
+            RouteGpsLog waypoint = waypointsByTime.get(times[index]);
+            if (waypoint != null) {
+                waypointInfo = new ElevationPoint.WaypointInfo(
+                    waypoint.getWaypointType(),
+                    waypoint.getWaypointTitle(),
+                    waypoint.getWaypointDescription()
+                );
+            }
+
+            elevationPoints.add(new ElevationPoint(
+                i,
+                longitudes[index],
+                latitudes[index],
+                Double.isNaN(elevations[index]) ? 0.0 : elevations[index],
+                waypointInfo
+            ));
+        }
 
         return new RouteDetailResponse(
             route.getRouteId().toString(),
@@ -0,0 +1,47 @@
+package com.ridingmate.api_server.domain.route.dto.response;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 경로 파일(GPX/TCX) 다운로드 정보 DTO
+ *
+ * - 생성: 트랙 데이터로 응답에 바로 작성 (길이 모름, gzip 전송 가능)
+ * - 저장 파일: S3 본문을 그대로 전달 (Content-Length/Content-Range 포함)
+ * - 리다이렉트: Presigned URL로 302 응답 (body 없음)
+ */
+public record RouteFileDownloadInfo(
+        String fileName,
+        String contentType,
+        StreamingResponseBody body,
+        Long contentLength,
+        String contentRange,
+        String redirectUrl
+) {
+    public static final String GPX_CONTENT_TYPE = "application/gpx+xml";
+    public static final String TCX_CONTENT_TYPE = "application/vnd.garmin.tcx+xml";
+
+    public static RouteFileDownloadInfo generated(StreamingResponseBody body, String fileName, String contentType) {
+        return new RouteFileDownloadInfo(fileName, contentType, body, null, null, null);
+    }
+
+    public static RouteFileDownloadInfo stored(StreamingResponseBody body, String fileName, String contentType,
+                                               Long contentLength, String contentRange) {
+        return new RouteFileDownloadInfo(fileName, contentType, body, contentLength, contentRange, null);
+    }
+
+    public static RouteFileDownloadInfo redirect(String redirectUrl, String fileName, String contentType) {
+        return new RouteFileDownloadInfo(fileName, contentType, null, null, null, redirectUrl);
+    }
+
+    public boolean isRedirect() {
+        return redirectUrl != null;
+    }
+
+    public boolean isStored() {
+        return contentLength != null;
+    }
+
+    public boolean isPartial() {
+        return contentRange != null;
+    }
+}
@@ -13,6 +13,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
 
 import java.time.Duration;
 import java.util.List;
@@ -95,6 +96,12 @@ public class Route extends BaseTimeEntity {
     @Column(name = "route_line", columnDefinition = "geometry(LineString, 4326)")
     private LineString routeLine;
 
+    /**
+     * 출발 지점 (가까운 순 KNN 정렬용, geography 표현식 GiST 인덱스 idx_routes_start_point_geography)
+     */
+    @Column(name = "start_point", columnDefinition = "geometry(Point, 4326)")
+    private Point startPoint;
+
     @OneToOne(mappedBy = "route", cascade = CascadeType.ALL)
     private Recommendation recommendation;
 
@@ -123,6 +130,7 @@ public class Route extends BaseTimeEntity {
         this.minLat = minLat;
         this.minLon = minLon;
         this.routeLine = routeLine;
+        this.startPoint = GeometryUtil.getStartPoint(routeLine);
     }
 
     /**
@@ -209,6 +217,7 @@ public class Route extends BaseTimeEntity {
         this.minLat = null;
         this.minLon = null;
         this.routeLine = null;
+        this.startPoint = null;
         
         // 2. 소프트 삭제 처리
         this.isDelete = true;
@@ -0,0 +1,53 @@
+package com.ridingmate.api_server.domain.route.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 경로 상세 조회용 트랙 프로필 엔티티
+ * 경로 GPS 로그 전체(시간, 위경도, 고도)를 컬럼형 인코딩 + 압축 + 암호화한 하나의 블롭으로 저장
+ * 상세 조회는 GPS 로그 행 대신 이 블롭 하나만 복호화
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "route_profiles")
+public class RouteProfile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "route_id", nullable = false, unique = true)
+    private Route route;
+
+    /**
+     * 프로필 포인트 수
+     */
+    @Column(name = "point_count", nullable = false)
+    private int pointCount;
+
+    /**
+     * 인코딩 포맷 버전
+     */
+    @Column(name = "format_version", nullable = false)
+    private int formatVersion;
+
+    /**
+     * 암호화된 트랙 데이터 (IV + 암호문)
+     */
+    @Column(name = "payload", nullable = false, columnDefinition = "BYTEA")
+    private byte[] payload;
+
+    @Builder
+    private RouteProfile(Route route, int pointCount, int formatVersion, byte[] payload) {
+        this.route = route;
+        this.pointCount = pointCount;
+        this.formatVersion = formatVersion;
+        this.payload = payload;
+    }
+}
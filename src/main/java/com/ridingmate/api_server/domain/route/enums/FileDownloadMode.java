@@ -0,0 +1,20 @@
+package com.ridingmate.api_server.domain.route.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+@Schema(description = "경로 파일 다운로드 방식")
+public enum FileDownloadMode {
+    STREAM("스트리밍", "서버가 S3 파일을 메모리에 읽지 않고 그대로 전달 (Range 요청 지원)"),
+    REDIRECT("리다이렉트", "S3 Presigned URL로 302 리다이렉트"),
+    ;
+
+    @Schema(description = "다운로드 방식 이름")
+    private final String displayName;
+
+    @Schema(description = "다운로드 방식 설명")
+    private final String description;
+}
@@ -28,7 +28,7 @@ public enum RecommendationSortType {
      */
     public Sort getSort() {
         return switch (this) {
-            case NEAREST -> Sort.by("id").ascending();
+            case NEAREST -> Sort.by("id").ascending(); // 사용자 위치가 없을 때만 사용 (위치가 있으면 KNN 쿼리)
             case DISTANCE_LONG -> Sort.by("distance").descending();
             case DISTANCE_SHORT -> Sort.by("distance").ascending();
             case DIFFICULTY_HIGH -> Sort.by("difficulty").descending();
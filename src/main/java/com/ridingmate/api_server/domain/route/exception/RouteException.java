@@ -4,6 +4,7 @@ import com.ridingmate.api_server.domain.route.entity.Route;
 import com.ridingmate.api_server.domain.route.exception.code.RouteCommonErrorCode;
 import com.ridingmate.api_server.domain.route.exception.code.RouteCreationErrorCode;
 import com.ridingmate.api_server.domain.route.exception.code.RouteDetailErrorCode;
+import com.ridingmate.api_server.domain.route.exception.code.RouteSearchErrorCode;
 import com.ridingmate.api_server.domain.route.exception.code.RouteShareErrorCode;
 import com.ridingmate.api_server.global.exception.BusinessException;
 
@@ -24,4 +25,8 @@ public class RouteException extends BusinessException {
     public RouteException(RouteDetailErrorCode errorCode){
         super(errorCode);
     }
+
+    public RouteException(RouteSearchErrorCode errorCode){
+        super(errorCode);
+    }
 }
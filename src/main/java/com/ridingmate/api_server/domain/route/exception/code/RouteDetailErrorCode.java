@@ -9,6 +9,7 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum RouteDetailErrorCode implements ErrorCode {
     ROUTE_GPS_LOGS_INVALID(HttpStatus.UNPROCESSABLE_ENTITY, "ROUTE_GPS_LOGS_INVALID", "경로의 좌표가 2개 미만으로 불충분합니다"),
+    FILE_RANGE_NOT_SATISFIABLE(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, "FILE_RANGE_NOT_SATISFIABLE", "요청한 파일 범위가 올바르지 않습니다"),
     ;
 
     private final HttpStatus status;
@@ -0,0 +1,19 @@
+package com.ridingmate.api_server.domain.route.exception.code;
+
+import com.ridingmate.api_server.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum RouteSearchErrorCode implements ErrorCode {
+    SEARCH_AREA_INVALID(HttpStatus.BAD_REQUEST, "SEARCH_AREA_INVALID", "검색 영역(bbox 또는 중심 위치/경로와 반경)이 올바르지 않습니다."),
+    SEARCH_RADIUS_OUT_OF_RANGE(HttpStatus.BAD_REQUEST, "SEARCH_RADIUS_OUT_OF_RANGE", "검색 반경은 1m 이상 50km 이하여야 합니다."),
+    TILE_COORDINATE_INVALID(HttpStatus.BAD_REQUEST, "TILE_COORDINATE_INVALID", "타일 좌표(z/x/y)가 올바르지 않습니다."),
+    ;
+
+    private final HttpStatus status;
+    private final String code;
+    private final String message;
+}
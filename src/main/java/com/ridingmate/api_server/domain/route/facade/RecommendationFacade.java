@@ -1,6 +1,5 @@
 package com.ridingmate.api_server.domain.route.facade;
 
-import com.ggalmazor.ltdownsampling.Point;
 import com.ridingmate.api_server.domain.route.dto.request.RecommendationListRequest;
 import com.ridingmate.api_server.domain.route.dto.FilterRangeInfo;
 import com.ridingmate.api_server.domain.route.dto.response.CreateRouteResponse;
@@ -9,13 +8,14 @@ import com.ridingmate.api_server.domain.route.dto.response.RecommendationListRes
 import com.ridingmate.api_server.domain.route.entity.Recommendation;
 import com.ridingmate.api_server.domain.route.entity.Route;
 import com.ridingmate.api_server.domain.route.service.RouteService;
+import com.ridingmate.api_server.domain.thumbnail.enums.ThumbnailTargetType;
+import com.ridingmate.api_server.domain.thumbnail.service.ThumbnailJobService;
 import com.ridingmate.api_server.domain.user.entity.User;
 import com.ridingmate.api_server.domain.user.service.UserService;
 import com.ridingmate.api_server.global.dto.PaginationResponse;
 import com.ridingmate.api_server.global.util.GeometryUtil;
 import com.ridingmate.api_server.global.util.GpxGenerator;
 import com.ridingmate.api_server.infra.aws.s3.S3Manager;
-import com.ridingmate.api_server.infra.geoapify.GeoapifyClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Coordinate;
@@ -24,6 +24,7 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 추천 코스 관련 Facade
@@ -33,7 +34,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RecommendationFacade {
 
-    private final GeoapifyClient geoapifyClient;
+    private final ThumbnailJobService thumbnailJobService;
     private final RouteService routeService;
     private final S3Manager s3Manager;
     private final UserService userService;
@@ -47,10 +48,14 @@ public class RecommendationFacade {
         // Service에서 추천 코스 목록 조회
         Page<Route> routePage = routeService.getRecommendationRoutes(request);
 
+        // 페이지 내 썸네일 URL 일괄 생성
+        Map<String, String> thumbnailUrls = s3Manager.getPresignedUrls(
+                routePage.getContent().stream().map(Route::getThumbnailImagePath).toList());
+
         // DTO 생성 시 썸네일 URL 추가
         List<RecommendationListResponse.RecommendationItemResponse> recommendationItems = routePage.getContent().stream()
             .map(route -> {
-                String thumbnailUrl = s3Manager.getPresignedUrl(route.getThumbnailImagePath());
+                String thumbnailUrl = thumbnailUrls.get(route.getThumbnailImagePath());
                 // 추천 정보 조회
                 Recommendation recommendation = route.getRecommendation();
                 return RecommendationListResponse.RecommendationItemResponse.from(route, recommendation, thumbnailUrl);
@@ -67,11 +72,9 @@ public class RecommendationFacade {
         User user = userService.getUser(userId);
         Route route = routeService.copyRecommendedRoute(user,  routeId);
 
-        // 썸네일 이미지 S3 업로드
-        byte[] thumbnailBytes = geoapifyClient.getStaticMap(route.getRouteLine());
+        // 썸네일 이미지 생성 작업 등록 (같은 경로의 기존 썸네일이 있으면 복사하여 재사용)
         String thumbnailImagePath = routeService.createThumbnailImagePath(route.getRouteId().toString());
-        s3Manager.uploadByteFiles(thumbnailImagePath, thumbnailBytes, "image/png");
-        routeService.updateThumbnailImagePath(route, thumbnailImagePath);
+        thumbnailJobService.enqueue(ThumbnailTargetType.ROUTE, route.getId(), route.getRouteLine(), thumbnailImagePath);
 
         // GPX 파일 생성 및 S3 업로드
         try {
@@ -94,13 +97,13 @@ public class RecommendationFacade {
      */
     public RecommendationDetailResponse getRecommendationDetail(String routeId) {
         Route route = routeService.getRecommendationRouteWithUserByRouteId(routeId);
-        Coordinate[] coordinates = routeService.getRouteDetailList(route.getId());
+        Coordinate[] coordinates = routeService.getRouteProfile(route.getId()).toCoordinates();
 
-        List<Point> elevationProfilePoints = GeometryUtil.downsampleElevationProfile(coordinates, route.getDistance());
+        int[] elevationProfileIndices = GeometryUtil.downsampleElevationProfile(coordinates, route.getDistance());
 
         String profileImageUrl = s3Manager.getPresignedUrl(route.getUser().getProfileImagePath());
 
-        return RecommendationDetailResponse.from(route, elevationProfilePoints, profileImageUrl);
+        return RecommendationDetailResponse.from(route, coordinates, elevationProfileIndices, profileImageUrl);
     }
 
 } 
\ No newline at end of file
@@ -1,23 +1,32 @@
 package com.ridingmate.api_server.domain.route.facade;
 
+import com.ridingmate.api_server.domain.activity.enums.TrackResolution;
+import com.ridingmate.api_server.domain.activity.track.TrackSamples;
 import com.ridingmate.api_server.domain.auth.security.AuthUser;
 import com.ridingmate.api_server.domain.privacy.enums.LocationAccessType;
 import com.ridingmate.api_server.domain.route.dto.FilterRangeInfo;
 import com.ridingmate.api_server.domain.route.dto.request.AddRouteToMyRoutesRequest;
 import com.ridingmate.api_server.domain.route.dto.request.CreateRouteRequest;
+import com.ridingmate.api_server.domain.route.dto.request.RouteAreaSearchRequest;
 import com.ridingmate.api_server.domain.route.dto.request.RouteSegmentRequest;
 import com.ridingmate.api_server.domain.route.dto.request.RouteListRequest;
 import com.ridingmate.api_server.domain.route.dto.response.*;
-import com.ridingmate.api_server.domain.route.dto.response.TcxDownloadInfo;
 import com.ridingmate.api_server.domain.privacy.service.LocationDataAccessLogService;
 import com.ridingmate.api_server.domain.route.entity.Route;
 import com.ridingmate.api_server.domain.route.entity.RouteGpsLog;
+import com.ridingmate.api_server.domain.route.enums.FileDownloadMode;
+import com.ridingmate.api_server.domain.route.service.RouteAreaSearchService;
 import com.ridingmate.api_server.domain.route.service.RouteService;
+import com.ridingmate.api_server.domain.route.service.RouteTileService;
+import com.ridingmate.api_server.domain.thumbnail.dto.response.ThumbnailStatusResponse;
+import com.ridingmate.api_server.domain.thumbnail.entity.ThumbnailJob;
+import com.ridingmate.api_server.domain.thumbnail.enums.ThumbnailJobStatus;
+import com.ridingmate.api_server.domain.thumbnail.enums.ThumbnailTargetType;
+import com.ridingmate.api_server.domain.thumbnail.service.ThumbnailJobService;
 import com.ridingmate.api_server.domain.user.entity.User;
 import com.ridingmate.api_server.domain.user.service.UserService;
 import com.ridingmate.api_server.infra.kakao.KakaoMapper;
 import com.ridingmate.api_server.infra.aws.s3.S3Manager;
-import com.ridingmate.api_server.infra.geoapify.GeoapifyClient;
 import com.ridingmate.api_server.infra.kakao.KakaoClient;
 import com.ridingmate.api_server.infra.kakao.dto.request.KakaoSearchRequest;
 import com.ridingmate.api_server.infra.kakao.dto.response.KakaoSearchResponse;
@@ -26,6 +35,7 @@ import com.ridingmate.api_server.infra.ors.OrsMapper;
 import com.ridingmate.api_server.infra.ors.dto.response.OrsRouteResponse;
 import com.ridingmate.api_server.global.util.GeometryUtil;
 import com.ridingmate.api_server.global.util.GpxGenerator;
+import com.ridingmate.api_server.global.util.LttbDownsampler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Coordinate;
@@ -34,7 +44,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -43,11 +56,13 @@ import java.util.UUID;
 public class RouteFacade {
 
     private final OrsClient orsClient;
-    private final GeoapifyClient geoapifyClient;
+    private final ThumbnailJobService thumbnailJobService;
     private final KakaoClient kakaoClient;
     private final KakaoMapper kakaoMapper;
 
     private final RouteService routeService;
+    private final RouteAreaSearchService routeAreaSearchService;
+    private final RouteTileService routeTileService;
     private final S3Manager s3Manager;
     private final UserService userService;
     private final LocationDataAccessLogService locationDataAccessLogService;
@@ -62,11 +77,9 @@ public class RouteFacade {
         LineString routeLine = GeometryUtil.polylineToLineString(request.polyline());
         Route route = routeService.createRoute(authUser.id(), request, routeLine);
 
-        // 썸네일 이미지 S3 업로드
-        byte[] thumbnailBytes = geoapifyClient.getStaticMap(routeLine);
-        String thumbnailImagePath =  routeService.createThumbnailImagePath(route.getRouteId().toString());
-        s3Manager.uploadByteFiles(thumbnailImagePath ,thumbnailBytes, "image/png");
-        routeService.updateThumbnailImagePath(route, thumbnailImagePath);
+        // 썸네일 이미지 생성 작업 등록 (비동기 생성 후 S3 업로드)
+        String thumbnailImagePath = routeService.createThumbnailImagePath(route.getRouteId().toString());
+        thumbnailJobService.enqueue(ThumbnailTargetType.ROUTE, route.getId(), routeLine, thumbnailImagePath);
 
         // GPX 파일 생성 및 S3 업로드
         try {
@@ -103,13 +116,19 @@ public class RouteFacade {
         Page<Route> routePage = routeService.getRoutesByUser(authUser.id(), request);
         User user = userService.getUser(authUser.id());
 
-        // DTO 생성 시 썸네일 URL과 프로필 이미지 URL 추가
+        // 페이지 내 썸네일 URL과 프로필 이미지 URL 일괄 생성 (같은 프로필 이미지는 한 번만 서명)
+        List<String> imagePaths = new ArrayList<>();
+        for (Route route : routePage.getContent()) {
+            imagePaths.add(route.getThumbnailImagePath());
+            imagePaths.add(route.getUser().getProfileImagePath());
+        }
+        Map<String, String> imageUrls = s3Manager.getPresignedUrls(imagePaths);
+
         List<RouteListItemResponse> routeItems = routePage.getContent().stream()
-            .map(route -> {
-                String thumbnailUrl = s3Manager.getPresignedUrl(route.getThumbnailImagePath());
-                String profileImageUrl = s3Manager.getPresignedUrl(route.getUser().getProfileImagePath());
-                return RouteListItemResponse.from(route, thumbnailUrl, profileImageUrl);
-            })
+            .map(route -> RouteListItemResponse.from(
+                    route,
+                    imageUrls.get(route.getThumbnailImagePath()),
+                    imageUrls.get(route.getUser().getProfileImagePath())))
             .toList();
 
         // 전체 데이터 기준의 최대값 조회 (페이지 데이터가 아닌 전체 데이터 기준)
@@ -120,7 +139,26 @@ public class RouteFacade {
         return RouteListResponse.of(routeItems, routePage, filterRangeInfo);
     }
 
-    public RouteDetailResponse getRouteDetail(String routeId){
+    /**
+     * 경로 썸네일 생성 상태 조회
+     * @param routeId 경로 ID
+     * @return 썸네일 생성 상태 응답
+     */
+    public ThumbnailStatusResponse getRouteThumbnailStatus(String routeId) {
+        Route route = routeService.getRouteWithUserByRouteId(routeId);
+
+        if (route.getThumbnailImagePath() != null) {
+            return ThumbnailStatusResponse.of(ThumbnailJobStatus.SUCCEEDED,
+                    s3Manager.getPresignedUrl(route.getThumbnailImagePath()));
+        }
+
+        ThumbnailJobStatus status = thumbnailJobService.findLatestJob(ThumbnailTargetType.ROUTE, route.getId())
+                .map(ThumbnailJob::getStatus)
+                .orElse(null);
+        return ThumbnailStatusResponse.of(status, null);
+    }
+
+    public RouteDetailResponse getRouteDetail(String routeId, TrackResolution resolution){
         Route route = routeService.getRouteWithUserByRouteId(routeId);
         
         // 위치정보 조회 기록 생성
@@ -134,12 +172,35 @@ public class RouteFacade {
                 null   // User-Agent도 Controller에서 가져올 수 없으므로 null
         );
         
-        // Waypoint 정보를 포함한 GPS 로그 조회
-        List<RouteGpsLog> routeGpsLogs = routeService.getRouteGpsLogsWithWaypoints(route.getId());
+        // 저장된 프로필과 Waypoint 행만 조회 (GPS 로그 전체 복호화 없음)
+        TrackSamples profile = routeService.getRouteProfile(route.getId());
+        List<RouteGpsLog> waypoints = routeService.getRouteWaypoints(route.getId());
+        int[] indices = selectProfileIndices(profile, waypoints, resolution);
 
         String profileImageUrl = s3Manager.getPresignedUrl(route.getUser().getProfileImagePath());
 
-        return RouteDetailResponse.fromWithWaypoints(route, routeGpsLogs, profileImageUrl);
+        return RouteDetailResponse.fromProfile(route, profile, indices, waypoints, profileImageUrl);
+    }
+
+    /**
+     * 해상도에 맞는 프로필 인덱스 선택 (고도 프로필 모양 유지, Waypoint는 항상 포함)
+     */
+    private int[] selectProfileIndices(TrackSamples profile, List<RouteGpsLog> waypoints, TrackResolution resolution) {
+        int[] sampled = LttbDownsampler.downsample(profile.elevations(), resolution.getMaxPoints());
+        if (waypoints.isEmpty() || sampled.length == profile.size()) {
+            return sampled;
+        }
+
+        long[] times = profile.times();
+        int[] merged = Arrays.copyOf(sampled, sampled.length + waypoints.size());
+        int count = sampled.length;
+        for (RouteGpsLog waypoint : waypoints) {
+            int index = Arrays.binarySearch(times, TrackSamples.toEpochMillis(waypoint.getLogTime()));
+            if (index >= 0) {
+                merged[count++] = index;
+            }
+        }
+        return Arrays.stream(merged, 0, count).sorted().distinct().toArray();
     }
 
     public MapSearchResponse getMapSearch(String query, Double lon, Double lat) {
@@ -147,7 +208,21 @@ public class RouteFacade {
         return kakaoMapper.toMapSearchResponse(response);
     }
 
-    public GpxDownloadInfo downloadGpxFile(String routeId) {
+    /**
+     * 지도 영역 또는 위치/경로 주변 반경 안의 경로 검색
+     */
+    public RouteAreaSearchResponse searchRoutesInArea(AuthUser authUser, RouteAreaSearchRequest request) {
+        return routeAreaSearchService.search(authUser.id(), request);
+    }
+
+    /**
+     * 추천 코스 경로 벡터 타일 조회
+     */
+    public byte[] getRouteTile(int z, int x, int y) {
+        return routeTileService.getTile(z, x, y);
+    }
+
+    public RouteFileDownloadInfo downloadGpxFile(String routeId, FileDownloadMode mode, String range) {
         log.info("[RouteFacade] GPX 파일 다운로드 시작: routeId={}", routeId);
         Route route = routeService.getRouteWithUserByRouteId(routeId);  // 1번만 조회
         
@@ -162,15 +237,14 @@ public class RouteFacade {
                 null   // User-Agent 정보 없음
         );
         
-        byte[] content = routeService.downloadGpxFile(route);
-        String fileName = routeService.generateGpxFileName(route);
+        RouteFileDownloadInfo downloadInfo = routeService.downloadGpxFile(route, mode, range);
         
-        log.info("[RouteFacade] GPX 파일 다운로드 완료: routeId={}, fileName={}, size={}bytes", 
-                routeId, fileName, content.length);
-        return GpxDownloadInfo.of(content, fileName);
+        log.info("[RouteFacade] GPX 파일 다운로드 준비 완료: routeId={}, fileName={}, mode={}, redirect={}",
+                routeId, downloadInfo.fileName(), mode, downloadInfo.isRedirect());
+        return downloadInfo;
     }
 
-    public TcxDownloadInfo downloadTcxFile(String routeId) {
+    public RouteFileDownloadInfo downloadTcxFile(String routeId, FileDownloadMode mode, String range) {
         log.info("[RouteFacade] TCX 파일 다운로드 시작: routeId={}", routeId);
         Route route = routeService.getRouteWithUserByRouteId(routeId);
         
@@ -188,12 +262,11 @@ public class RouteFacade {
                 "TCX_DOWNLOAD"
         );
         
-        byte[] content = routeService.downloadTcxFile(route);
-        String fileName = routeService.generateTcxFileName(route);
+        RouteFileDownloadInfo downloadInfo = routeService.downloadTcxFile(route, mode, range);
         
-        log.info("[RouteFacade] TCX 파일 다운로드 완료: routeId={}, fileName={}, size={}bytes", 
-                routeId, fileName, content.length);
-        return TcxDownloadInfo.of(content, fileName);
+        log.info("[RouteFacade] TCX 파일 다운로드 준비 완료: routeId={}, fileName={}, mode={}, redirect={}",
+                routeId, downloadInfo.fileName(), mode, downloadInfo.isRedirect());
+        return downloadInfo;
     }
 
     /**
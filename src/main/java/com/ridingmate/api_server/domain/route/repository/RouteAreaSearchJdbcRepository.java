@@ -0,0 +1,96 @@
+package com.ridingmate.api_server.domain.route.repository;
+
+import com.ridingmate.api_server.domain.route.dto.projection.RouteAreaSearchProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * route_line 공간 검색용 JDBC 레포지토리
+ *
+ * - 검색 대상: 삭제되지 않은 추천 코스 + 요청 사용자의 경로 (다른 사용자의 개인 경로는 제외)
+ * - route_line GiST 인덱스(idx_routes_route_line)로 후보를 걸러낸 뒤 정확한 공간 조건 적용
+ * - id 기준 커서 페이지네이션 (limit은 다음 페이지 확인용으로 1개 더 조회)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RouteAreaSearchJdbcRepository {
+
+    private static final String INDEX_NAME = "idx_routes_route_line";
+
+    private static final String SELECT_SQL = """
+        SELECT r.id, r.route_id, r.title, r.distance, r.elevation_gain,
+            EXISTS (SELECT 1 FROM recommendations rec WHERE rec.route_id = r.id) AS recommended,
+            ST_AsEncodedPolyline(ST_SimplifyPreserveTopology(r.route_line, ?)) AS polyline
+        FROM routes r
+        WHERE r.is_delete = false
+        AND r.id > ?
+        AND (EXISTS (SELECT 1 FROM recommendations rec WHERE rec.route_id = r.id)
+            OR EXISTS (SELECT 1 FROM user_routes ur
+                WHERE ur.route_id = r.id AND ur.user_id = ? AND ur.is_delete = false))
+        """;
+
+    private static final String ORDER_SQL = """
+        ORDER BY r.id
+        LIMIT ?
+        """;
+
+    private static final RowMapper<RouteAreaSearchProjection> ROW_MAPPER = (rs, rowNum) ->
+            new RouteAreaSearchProjection(
+                    rs.getLong("id"),
+                    rs.getObject("route_id", UUID.class),
+                    rs.getString("title"),
+                    rs.getObject("distance", Double.class),
+                    rs.getObject("elevation_gain", Double.class),
+                    rs.getBoolean("recommended"),
+                    rs.getString("polyline")
+            );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * route_line GiST 인덱스 생성 (ST_Intersects/ST_DWithin이 인덱스 스캔으로 처리됨)
+     */
+    public void createRouteLineIndex() {
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + INDEX_NAME
+                + " ON routes USING GIST (route_line)");
+    }
+
+    /**
+     * 지도 영역(bbox)과 겹치는 경로 조회
+     * @param tolerance 표시용 단순화 허용 오차 (도 단위)
+     */
+    public List<RouteAreaSearchProjection> findIntersectingBoundingBox(Long userId,
+                                                                       double minLon, double minLat,
+                                                                       double maxLon, double maxLat,
+                                                                       double tolerance, long cursor, int limit) {
+        String sql = SELECT_SQL
+                + "AND ST_Intersects(r.route_line, ST_MakeEnvelope(?, ?, ?, ?, 4326))\n"
+                + ORDER_SQL;
+        return jdbcTemplate.query(sql, ROW_MAPPER,
+                tolerance, cursor, userId, minLon, minLat, maxLon, maxLat, limit);
+    }
+
+    /**
+     * 기준 위치/경로에서 radiusM 미터 이내를 지나는 경로 조회
+     * 도 단위로 확장한 bbox(&&)로 인덱스 후보를 구한 뒤 geography 거리로 정확히 판정
+     * @param wkt 기준 위치(POINT) 또는 경로(LINESTRING) WKT (SRID 4326)
+     * @param expandLon 반경을 경도로 환산한 값 (인덱스 후보 범위)
+     * @param expandLat 반경을 위도로 환산한 값 (인덱스 후보 범위)
+     * @param tolerance 표시용 단순화 허용 오차 (도 단위)
+     */
+    public List<RouteAreaSearchProjection> findWithinDistance(Long userId, String wkt, double radiusM,
+                                                              double expandLon, double expandLat,
+                                                              double tolerance, long cursor, int limit) {
+        String sql = SELECT_SQL
+                + "AND r.route_line && ST_Expand(ST_GeomFromText(?, 4326), ?, ?)\n"
+                + "AND ST_DWithin(r.route_line::geography, ST_GeomFromText(?, 4326)::geography, ?)\n"
+                + ORDER_SQL;
+        return jdbcTemplate.query(sql, ROW_MAPPER,
+                tolerance, cursor, userId, wkt, expandLon, expandLat, wkt, radiusM, limit);
+    }
+}
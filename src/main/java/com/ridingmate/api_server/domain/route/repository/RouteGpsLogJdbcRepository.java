@@ -0,0 +1,100 @@
+package com.ridingmate.api_server.domain.route.repository;
+
+import com.ridingmate.api_server.domain.route.entity.Route;
+import com.ridingmate.api_server.domain.route.entity.RouteGpsLog;
+import com.ridingmate.api_server.global.util.GpsEncryptionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 경로 GPS 로그 대량 저장용 JDBC 레포지토리
+ * IDENTITY 전략으로 Hibernate 배치가 불가능한 route_gps_logs를 JDBC 배치 INSERT로 저장
+ * (datasource URL에 reWriteBatchedInserts=true 설정 시 배치가 multi-row INSERT로 재작성됨, 비교: src/jmh RouteGpsLogInsertBenchmark)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RouteGpsLogJdbcRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO route_gps_logs 
+            (route_id, log_time, longitude, latitude, elevation, waypoint_type, waypoint_title, waypoint_description)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GpsEncryptionUtil gpsEncryptionUtil;
+
+    /**
+     * GPS 로그 일괄 저장
+     * 좌표는 일괄 암호화 후 BATCH_SIZE 단위로 전송
+     * @param route 저장된 경로 (ID 필요)
+     * @param routeGpsLogs 저장할 GPS 로그 (영속화되지 않은 엔티티)
+     */
+    public void batchInsert(Route route, List<RouteGpsLog> routeGpsLogs) {
+        if (routeGpsLogs.isEmpty()) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        int size = routeGpsLogs.size();
+
+        double[] longitudes = new double[size];
+        double[] latitudes = new double[size];
+        double[] elevations = new double[size];
+        for (int i = 0; i < size; i++) {
+            RouteGpsLog routeGpsLog = routeGpsLogs.get(i);
+            longitudes[i] = routeGpsLog.getLongitude();
+            latitudes[i] = routeGpsLog.getLatitude();
+            elevations[i] = routeGpsLog.getElevation() != null ? routeGpsLog.getElevation() : Double.NaN;
+        }
+
+        String[] encryptedLongitudes = gpsEncryptionUtil.encryptAll(longitudes);
+        String[] encryptedLatitudes = gpsEncryptionUtil.encryptAll(latitudes);
+        String[] encryptedElevations = gpsEncryptionUtil.encryptAll(elevations);
+
+        for (int from = 0; from < size; from += BATCH_SIZE) {
+            int offset = from;
+            int batchSize = Math.min(BATCH_SIZE, size - from);
+
+            jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    int index = offset + i;
+                    RouteGpsLog routeGpsLog = routeGpsLogs.get(index);
+
+                    ps.setLong(1, route.getId());
+                    ps.setObject(2, routeGpsLog.getLogTime());
+                    ps.setString(3, encryptedLongitudes[index]);
+                    ps.setString(4, encryptedLatitudes[index]);
+                    ps.setString(5, encryptedElevations[index]);
+                    if (routeGpsLog.getWaypointType() != null) {
+                        ps.setString(6, routeGpsLog.getWaypointType().name());
+                    } else {
+                        ps.setNull(6, Types.VARCHAR);
+                    }
+                    ps.setString(7, routeGpsLog.getWaypointTitle());
+                    ps.setString(8, routeGpsLog.getWaypointDescription());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batchSize;
+                }
+            });
+        }
+
+        log.debug("[RouteGpsLogJdbcRepository] GPS 로그 일괄 저장: routeId={}, count={}, elapsedMs={}",
+                route.getId(), size, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+}
@@ -3,6 +3,7 @@ package com.ridingmate.api_server.domain.route.repository;
 import com.ridingmate.api_server.domain.route.entity.RouteGpsLog;
 import com.ridingmate.api_server.domain.route.enums.WaypointType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,10 +15,27 @@ public interface RouteGpsLogRepository extends JpaRepository<RouteGpsLog, Long>
     List<RouteGpsLog> findByRouteIdOrderByLogTimeAsc(Long routeId);
     
     /**
-     * 특정 경로의 모든 GPS 로그 삭제
+     * 특정 경로의 모든 GPS 로그 삭제 (엔티티 로딩 없이 일괄 삭제)
      * @param routeId 경로 ID
      */
-    void deleteByRouteId(Long routeId);
+    @Modifying
+    @Query("DELETE FROM RouteGpsLog rgl WHERE rgl.route.id = :routeId")
+    void deleteByRouteId(@Param("routeId") Long routeId);
+
+    /**
+     * 경로 GPS 로그 복사 (암호문 그대로 복사, Waypoint 정보 제외)
+     * @param originalRouteId 원본 경로 ID
+     * @param newRouteId 대상 경로 ID
+     * @return 복사된 GPS 로그 수
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO route_gps_logs (route_id, log_time, longitude, latitude, elevation)
+        SELECT :newRouteId, log_time, longitude, latitude, elevation
+        FROM route_gps_logs
+        WHERE route_id = :originalRouteId
+        """, nativeQuery = true)
+    int copyGpsLogs(@Param("originalRouteId") Long originalRouteId, @Param("newRouteId") Long newRouteId);
     
     /**
      * 특정 경로의 Waypoint만 조회
@@ -0,0 +1,55 @@
+package com.ridingmate.api_server.domain.route.repository;
+
+import com.ridingmate.api_server.domain.route.entity.RouteProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RouteProfileRepository extends JpaRepository<RouteProfile, Long> {
+
+    @Query("SELECT p FROM RouteProfile p WHERE p.route.id = :routeId")
+    Optional<RouteProfile> findByRouteId(@Param("routeId") Long routeId);
+
+    /**
+     * 경로 프로필 복사 (추천 경로를 내 경로로 추가할 때)
+     * @param originalRouteId 원본 경로 ID
+     * @param newRouteId 새 경로 ID
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO route_profiles (route_id, point_count, format_version, payload)
+        SELECT :newRouteId, point_count, format_version, payload
+        FROM route_profiles
+        WHERE route_id = :originalRouteId
+        """, nativeQuery = true)
+    int copyProfile(@Param("originalRouteId") Long originalRouteId, @Param("newRouteId") Long newRouteId);
+
+    /**
+     * GPS 로그는 있지만 프로필이 없는 경로 ID 조회 (프로필 소급 생성용)
+     * @param afterRouteId 이 ID 이후부터 조회
+     * @param limit 최대 조회 수
+     * @return 경로 ID 리스트 (오름차순)
+     */
+    @Query(value = """
+        SELECT r.id
+        FROM routes r
+        WHERE r.id > :afterRouteId
+          AND r.is_delete = false
+          AND NOT EXISTS (SELECT 1 FROM route_profiles p WHERE p.route_id = r.id)
+          AND EXISTS (SELECT 1 FROM route_gps_logs l WHERE l.route_id = r.id)
+        ORDER BY r.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Long> findRouteIdsWithoutProfileAfter(@Param("afterRouteId") Long afterRouteId, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM RouteProfile p WHERE p.route.id = :routeId")
+    void deleteByRouteId(@Param("routeId") Long routeId);
+}
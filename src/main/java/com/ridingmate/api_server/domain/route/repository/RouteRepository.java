@@ -149,6 +149,53 @@ public interface RouteRepository extends JpaRepository<Route, Long> {
             @Param("maxElevationGain") Double maxElevationGain,
             Pageable pageable);
 
+    /**
+     * 추천 코스 목록을 사용자 위치에서 가까운 순으로 조회 (필터링 포함)
+     * start_point geography GiST 인덱스의 KNN(<->) 정렬로 페이지 경계와 무관하게 거리(미터) 순서 보장
+     * (geometry KNN은 도 단위 평면 거리라 경도 방향 거리를 과대평가하므로 geography로 정렬)
+     * 열거형 필터는 이름 목록으로 전달하며, 필터 미사용 시 apply 플래그를 false로 전달
+     */
+    @Query(value = """
+        SELECT r.* FROM routes r
+        JOIN recommendations rec ON rec.route_id = r.id
+        WHERE r.is_delete = false
+        AND (:applyRecommendationTypes = false OR rec.recommendation_type IN (:recommendationTypes))
+        AND (:applyRegions = false OR r.region IN (:regions))
+        AND (:applyDifficulties = false OR r.difficulty IN (:difficulties))
+        AND (CAST(:minDistance AS double precision) IS NULL OR r.distance >= :minDistance)
+        AND (CAST(:maxDistance AS double precision) IS NULL OR r.distance <= :maxDistance)
+        AND (CAST(:minElevationGain AS double precision) IS NULL OR r.elevation_gain >= :minElevationGain)
+        AND (CAST(:maxElevationGain AS double precision) IS NULL OR r.elevation_gain <= :maxElevationGain)
+        ORDER BY CAST(r.start_point AS geography) <-> CAST(ST_SetSRID(ST_MakePoint(:userLon, :userLat), 4326) AS geography), r.id
+        """,
+            countQuery = """
+        SELECT count(*) FROM routes r
+        JOIN recommendations rec ON rec.route_id = r.id
+        WHERE r.is_delete = false
+        AND (:applyRecommendationTypes = false OR rec.recommendation_type IN (:recommendationTypes))
+        AND (:applyRegions = false OR r.region IN (:regions))
+        AND (:applyDifficulties = false OR r.difficulty IN (:difficulties))
+        AND (CAST(:minDistance AS double precision) IS NULL OR r.distance >= :minDistance)
+        AND (CAST(:maxDistance AS double precision) IS NULL OR r.distance <= :maxDistance)
+        AND (CAST(:minElevationGain AS double precision) IS NULL OR r.elevation_gain >= :minElevationGain)
+        AND (CAST(:maxElevationGain AS double precision) IS NULL OR r.elevation_gain <= :maxElevationGain)
+        """,
+            nativeQuery = true)
+    Page<Route> findNearestRecommendationRoutesWithFilters(
+            @Param("applyRecommendationTypes") boolean applyRecommendationTypes,
+            @Param("recommendationTypes") List<String> recommendationTypes,
+            @Param("applyRegions") boolean applyRegions,
+            @Param("regions") List<String> regions,
+            @Param("applyDifficulties") boolean applyDifficulties,
+            @Param("difficulties") List<String> difficulties,
+            @Param("minDistance") Double minDistance,
+            @Param("maxDistance") Double maxDistance,
+            @Param("minElevationGain") Double minElevationGain,
+            @Param("maxElevationGain") Double maxElevationGain,
+            @Param("userLon") double userLon,
+            @Param("userLat") double userLat,
+            Pageable pageable);
+
         /**
          * 사용자별 전체 경로의 최대/최소 거리와 고도 조회
          */
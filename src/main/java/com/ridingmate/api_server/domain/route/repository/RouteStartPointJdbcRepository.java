@@ -0,0 +1,54 @@
+package com.ridingmate.api_server.domain.route.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * routes.start_point 관리용 JDBC 레포지토리
+ * ddl-auto로는 GiST 인덱스를 만들 수 없으므로 인덱스 생성과 기존 경로 출발 지점 소급 저장을 담당
+ *
+ * - 가까운 순 정렬은 geography 거리(미터)를 써야 위도에 따른 경도 왜곡이 없으므로
+ *   (start_point::geography) 표현식 GiST 인덱스로 KNN 정렬 (벤치마크: src/jmh RouteNearestQueryBenchmark)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RouteStartPointJdbcRepository {
+
+    private static final String INDEX_NAME = "idx_routes_start_point_geography";
+
+    /**
+     * geometry 기준 KNN에 쓰던 이전 인덱스 (geography 인덱스로 대체)
+     */
+    private static final String LEGACY_INDEX_NAME = "idx_routes_start_point";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 출발 지점 geography GiST 인덱스 생성 (geography KNN <-> 정렬이 인덱스 스캔으로 처리됨)
+     * 더 이상 사용하지 않는 geometry 인덱스는 제거
+     */
+    public void createStartPointIndex() {
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + INDEX_NAME
+                + " ON routes USING GIST ((start_point::geography))");
+        jdbcTemplate.execute("DROP INDEX IF EXISTS " + LEGACY_INDEX_NAME);
+    }
+
+    /**
+     * 출발 지점이 비어있는 경로에 route_line의 첫 좌표 저장
+     * @param limit 한 번에 처리할 경로 수
+     * @return 갱신한 경로 수
+     */
+    public int fillMissingStartPoints(int limit) {
+        return jdbcTemplate.update("""
+                UPDATE routes SET start_point = ST_StartPoint(route_line)
+                WHERE id IN (
+                    SELECT id FROM routes
+                    WHERE start_point IS NULL
+                    AND route_line IS NOT NULL
+                    ORDER BY id
+                    LIMIT ?
+                )
+                """, limit);
+    }
+}
@@ -0,0 +1,53 @@
+package com.ridingmate.api_server.domain.route.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 추천 코스 경로 벡터 타일(MVT) 생성용 JDBC 레포지토리
+ *
+ * - 타일 범위(+버퍼)를 4326으로 변환해 route_line GiST 인덱스로 후보 조회
+ * - 3857로 변환 후 줌별 허용 오차로 단순화하고 ST_AsMVTGeom으로 타일 좌표계에 클리핑
+ * - 레이어 이름: routes, 속성: route_id, title, distance, difficulty, recommendation_type
+ */
+@Repository
+@RequiredArgsConstructor
+public class RouteTileJdbcRepository {
+
+    public static final String LAYER_NAME = "routes";
+    public static final int TILE_EXTENT = 4096;
+    public static final int TILE_BUFFER = 64;
+
+    private static final String TILE_SQL = """
+        WITH mvtgeom AS (
+            SELECT ST_AsMVTGeom(
+                       ST_SimplifyPreserveTopology(ST_Transform(r.route_line, 3857), ?),
+                       ST_TileEnvelope(?, ?, ?), %d, %d, true) AS geom,
+                   r.route_id::text AS route_id,
+                   r.title,
+                   r.distance,
+                   r.difficulty,
+                   rec.recommendation_type
+            FROM routes r
+            JOIN recommendations rec ON rec.route_id = r.id
+            WHERE r.is_delete = false
+            AND r.route_line && ST_Transform(ST_TileEnvelope(?, ?, ?, margin => ?), 4326)
+        )
+        SELECT ST_AsMVT(mvtgeom.*, '%s', %d, 'geom') FROM mvtgeom WHERE geom IS NOT NULL
+        """.formatted(TILE_EXTENT, TILE_BUFFER, LAYER_NAME, TILE_EXTENT);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * z/x/y 타일 생성
+     * @param tolerance 단순화 허용 오차 (EPSG:3857 미터)
+     * @return MVT 바이트 (타일에 경로가 없으면 빈 배열)
+     */
+    public byte[] findTile(int z, int x, int y, double tolerance) {
+        double margin = (double) TILE_BUFFER / TILE_EXTENT;
+        byte[] tile = jdbcTemplate.queryForObject(TILE_SQL, byte[].class,
+                tolerance, z, x, y, z, x, y, margin);
+        return tile != null ? tile : new byte[0];
+    }
+}
@@ -0,0 +1,68 @@
+package com.ridingmate.api_server.domain.route.service;
+
+import com.ridingmate.api_server.domain.route.exception.RouteException;
+import com.ridingmate.api_server.domain.route.exception.code.RouteDetailErrorCode;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 저장된 경로 파일 스트리밍용 확정 바이트 범위 (끝 포함)
+ */
+record ByteRange(long start, long end) {
+
+    /**
+     * 지원하는 단일 바이트 범위 (bytes=0-1023, bytes=1024-, bytes=-512)
+     */
+    private static final Pattern SINGLE_BYTE_RANGE_PATTERN = Pattern.compile("bytes=(\\d{0,18})-(\\d{0,18})");
+
+    /**
+     * 단일 바이트 범위를 객체 크기에 맞춰 확정
+     * 형식이 맞지 않거나 여러 범위인 요청은 무시하고 전체 전송 (RFC 9110)
+     *
+     * @param range HTTP Range 헤더 값
+     * @param size 객체 크기
+     * @return 확정된 범위, 전체 전송이면 null
+     * @throws RouteException 범위가 객체 크기를 벗어나면 FILE_RANGE_NOT_SATISFIABLE
+     */
+    static ByteRange resolve(String range, long size) {
+        if (range == null) {
+            return null;
+        }
+        Matcher matcher = SINGLE_BYTE_RANGE_PATTERN.matcher(range.trim());
+        if (!matcher.matches() || matcher.group(1).isEmpty() && matcher.group(2).isEmpty()) {
+            return null;
+        }
+
+        if (matcher.group(1).isEmpty()) {
+            // 마지막 N바이트
+            long suffixLength = Long.parseLong(matcher.group(2));
+            if (suffixLength == 0 || size == 0) {
+                throw new RouteException(RouteDetailErrorCode.FILE_RANGE_NOT_SATISFIABLE);
+            }
+            return new ByteRange(Math.max(0, size - suffixLength), size - 1);
+        }
+
+        long start = Long.parseLong(matcher.group(1));
+        long last = matcher.group(2).isEmpty() ? Long.MAX_VALUE : Long.parseLong(matcher.group(2));
+        if (last < start) {
+            return null;
+        }
+        if (start >= size) {
+            throw new RouteException(RouteDetailErrorCode.FILE_RANGE_NOT_SATISFIABLE);
+        }
+        return new ByteRange(start, Math.min(last, size - 1));
+    }
+
+    long length() {
+        return end - start + 1;
+    }
+
+    String toRangeHeader() {
+        return "bytes=" + start + "-" + end;
+    }
+
+    String toContentRange(long size) {
+        return "bytes " + start + "-" + end + "/" + size;
+    }
+}
@@ -1,5 +1,7 @@
 package com.ridingmate.api_server.domain.route.service;
 
+import com.ridingmate.api_server.domain.activity.track.TrackAnalysis;
+import com.ridingmate.api_server.domain.activity.track.TrackAnalyzer;
 import io.jenetics.jpx.GPX;
 import io.jenetics.jpx.Track;
 import io.jenetics.jpx.TrackSegment;
@@ -42,6 +44,7 @@ public class GpxParserService {
 
             Track track = gpx.getTracks().get(0);
             List<Coordinate> coordinates = new ArrayList<>();
+            TrackAnalyzer trackAnalyzer = new TrackAnalyzer();
             LocalDateTime startTime = null;
             LocalDateTime endTime = null;
 
@@ -49,9 +52,11 @@ public class GpxParserService {
                 for (WayPoint point : segment.getPoints()) {
                     double lat = point.getLatitude().doubleValue();
                     double lon = point.getLongitude().doubleValue();
-                    double elevation = point.getElevation().map(e -> e.doubleValue()).orElse(0.0);
-                    
-                    coordinates.add(new Coordinate(lon, lat, elevation));
+                    double elevation = point.getElevation().map(e -> e.doubleValue()).orElse(Double.NaN);
+
+                    coordinates.add(new Coordinate(lon, lat, Double.isNaN(elevation) ? 0.0 : elevation));
+                    trackAnalyzer.accept(point.getTime().map(time -> time.toEpochMilli()).orElse(0L),
+                            lat, lon, elevation, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
                     
                     if (point.getTime().isPresent()) {
                         LocalDateTime pointTime = point.getTime().get()
@@ -78,8 +83,10 @@ public class GpxParserService {
                     .toArray(Coordinate[]::new);
             LineString routeLine = geometryFactory.createLineString(coords2D);
 
-            double totalDistance = calculateTotalDistance(coordinates);
-            double elevationGain = calculateElevationGain(coordinates);
+            // 거리와 상승 고도는 활동 수집과 같은 트랙 분석기로 계산
+            TrackAnalysis analysis = trackAnalyzer.result();
+            double totalDistance = analysis.distanceMeters();
+            double elevationGain = analysis.hasElevation() ? analysis.elevationGain() : 0.0;
             Duration duration = calculateDuration(startTime, endTime, coordinates.size());
 
             // Bounding box 계산
@@ -113,28 +120,6 @@ public class GpxParserService {
         }
     }
 
-    private double calculateTotalDistance(List<Coordinate> coordinates) {
-        double totalDistance = 0.0;
-        for (int i = 1; i < coordinates.size(); i++) {
-            Coordinate prev = coordinates.get(i - 1);
-            Coordinate curr = coordinates.get(i);
-            totalDistance += calculateHaversineDistance(prev.getY(), prev.getX(), curr.getY(), curr.getX());
-        }
-        return totalDistance;
-    }
-
-    private double calculateElevationGain(List<Coordinate> coordinates) {
-        double elevationGain = 0.0;
-        for (int i = 1; i < coordinates.size(); i++) {
-            double prevElevation = coordinates.get(i - 1).getZ();
-            double currElevation = coordinates.get(i).getZ();
-            if (currElevation > prevElevation) {
-                elevationGain += (currElevation - prevElevation);
-            }
-        }
-        return elevationGain;
-    }
-
     private Duration calculateDuration(LocalDateTime startTime, LocalDateTime endTime, int pointCount) {
         if (startTime != null && endTime != null) {
             return Duration.between(startTime, endTime);
@@ -144,17 +129,6 @@ public class GpxParserService {
         }
     }
 
-    private double calculateHaversineDistance(double lat1, double lon1, double lat2, double lon2) {
-        final int R = 6371; // 지구 반지름 (km)
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return R * c * 1000; // 미터 단위로 반환
-    }
-
     public record GpxParseResult(
             List<Coordinate> coordinates,
             LineString routeLine,
@@ -7,18 +7,22 @@ import com.ridingmate.api_server.domain.route.entity.RouteGpsLog;
 import com.ridingmate.api_server.domain.route.entity.UserRoute;
 import com.ridingmate.api_server.domain.route.enums.*;
 import com.ridingmate.api_server.domain.route.repository.RecommendationRepository;
-import com.ridingmate.api_server.domain.route.repository.RouteGpsLogRepository;
+import com.ridingmate.api_server.domain.route.repository.RouteGpsLogJdbcRepository;
 import com.ridingmate.api_server.domain.route.repository.RouteRepository;
 import com.ridingmate.api_server.domain.route.repository.UserRouteRepository;
+import com.ridingmate.api_server.domain.thumbnail.dto.response.ThumbnailStatusResponse;
+import com.ridingmate.api_server.domain.thumbnail.enums.ThumbnailJobStatus;
+import com.ridingmate.api_server.domain.thumbnail.enums.ThumbnailTargetType;
+import com.ridingmate.api_server.domain.thumbnail.service.ThumbnailJobService;
 import com.ridingmate.api_server.domain.user.entity.User;
 import com.ridingmate.api_server.global.util.GeometryUtil;
 import com.ridingmate.api_server.global.util.GpxGenerator;
 import com.ridingmate.api_server.infra.aws.s3.S3Manager;
-import com.ridingmate.api_server.infra.geoapify.GeoapifyClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.LineString;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -36,11 +40,13 @@ public class GpxRecommendationService {
 
     private final GpxParserService gpxParserService;
     private final RouteRepository routeRepository;
-    private final RouteGpsLogRepository routeGpsLogRepository;
+    private final RouteGpsLogJdbcRepository routeGpsLogJdbcRepository;
+    private final RouteProfileService routeProfileService;
     private final RecommendationRepository recommendationRepository;
     private final UserRouteRepository userRouteRepository;
     private final S3Manager s3Manager;
-    private final GeoapifyClient geoapifyClient;
+    private final ThumbnailJobService thumbnailJobService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public GpxUploadResponse createRecommendationFromGpx(
@@ -61,6 +67,8 @@ public class GpxRecommendationService {
 
             // 4. Recommendation 엔티티 생성 및 저장
             Recommendation recommendation = createRecommendation(route, recommendationType);
+            eventPublisher.publishEvent(new RouteGeometryChangedEvent(
+                    route.getId(), route.getMinLon(), route.getMinLat(), route.getMaxLon(), route.getMaxLat()));
 
             // 5. UserRoute 관계 생성 (OWNER 및 RECOMMENDED)
             createUserRouteRelation(user, route, RouteRelationType.OWNER);
@@ -72,9 +80,9 @@ public class GpxRecommendationService {
             routeRepository.save(route);
 
             // 7. 썸네일 이미지 처리
-            String thumbnailUrl = handleThumbnailImage(route, thumbnailImage, parseResult.coordinates());
+            ThumbnailStatusResponse thumbnail = handleThumbnailImage(route, thumbnailImage, parseResult.coordinates());
 
-            return GpxUploadResponse.from(route, recommendation, thumbnailUrl, s3Manager.getPresignedUrl(gpxFilePath));
+            return GpxUploadResponse.from(route, recommendation, thumbnail, s3Manager.getPresignedUrl(gpxFilePath));
 
         } catch (IOException e) {
             log.error("GPX 파일 처리 중 오류 발생: {}", e.getMessage(), e);
@@ -124,7 +132,8 @@ public class GpxRecommendationService {
                     .build();
             routeGpsLogs.add(routeGpsLog);
         }
-        routeGpsLogRepository.saveAll(routeGpsLogs);
+        routeGpsLogJdbcRepository.batchInsert(route, routeGpsLogs);
+        routeProfileService.save(route, routeGpsLogs);
     }
 
     private Recommendation createRecommendation(Route route, RecommendationType recommendationType) {
@@ -152,8 +161,9 @@ public class GpxRecommendationService {
 
     /**
      * 썸네일 이미지 처리 (사용자 업로드 또는 자동 생성)
+     * @return 썸네일 상태와 URL (자동 생성은 비동기이므로 PENDING 상태와 null URL)
      */
-    private String handleThumbnailImage(Route route, MultipartFile thumbnailImage, List<Coordinate> coordinates) {
+    private ThumbnailStatusResponse handleThumbnailImage(Route route, MultipartFile thumbnailImage, List<Coordinate> coordinates) {
         try {
             // 1. 사용자가 썸네일 이미지를 업로드한 경우
             if (thumbnailImage != null && !thumbnailImage.isEmpty()) {
@@ -166,14 +176,15 @@ public class GpxRecommendationService {
         } catch (Exception e) {
             log.error("썸네일 처리 실패: routeId={}, error={}", 
                     route.getId(), e.getMessage(), e);
-            return "https://via.placeholder.com/300x200?text=Thumbnail+Error";
+            return ThumbnailStatusResponse.of(ThumbnailJobStatus.FAILED,
+                    "https://via.placeholder.com/300x200?text=Thumbnail+Error");
         }
     }
 
     /**
      * 사용자 업로드 썸네일 처리
      */
-    private String uploadUserThumbnail(Route route, MultipartFile thumbnailImage) throws IOException {
+    private ThumbnailStatusResponse uploadUserThumbnail(Route route, MultipartFile thumbnailImage) throws IOException {
         // 이미지 유효성 검사
         validateImageFile(thumbnailImage);
         
@@ -188,47 +199,34 @@ public class GpxRecommendationService {
         log.info("사용자 썸네일 업로드 성공: routeId={}, path={}, fileName={}", 
                 route.getId(), thumbnailPath, thumbnailImage.getOriginalFilename());
 
-        return s3Manager.getPresignedUrl(thumbnailPath);
+        return ThumbnailStatusResponse.of(ThumbnailJobStatus.SUCCEEDED, s3Manager.getPresignedUrl(thumbnailPath));
     }
 
     /**
-     * 자동 썸네일 생성 (사용자 썸네일이 없는 경우)
+     * 자동 썸네일 생성 작업 등록 (사용자 썸네일이 없는 경우)
+     * 썸네일은 비동기로 생성되므로 PENDING 상태와 null URL 반환 (경로 썸네일 상태 조회 API로 확인)
      */
-    private String generateAutoThumbnail(Route route, List<Coordinate> coordinates) {
+    private ThumbnailStatusResponse generateAutoThumbnail(Route route, List<Coordinate> coordinates) {
         try {
             if (coordinates.size() < 2) {
                 log.warn("자동 썸네일 생성 건너뜀: routeId={}, 좌표 부족 (count={})", 
                         route.getId(), coordinates.size());
-                return "https://via.placeholder.com/300x200?text=No+Route+Data";
+                return ThumbnailStatusResponse.of(null, "https://via.placeholder.com/300x200?text=No+Route+Data");
             }
 
-            // 2D 좌표로 LineString 생성
-            Coordinate[] coords2D = coordinates.stream()
-                    .map(coord -> new Coordinate(coord.getX(), coord.getY()))
-                    .toArray(Coordinate[]::new);
-            
-            LineString routeLine = GeometryUtil.createLineStringFromCoordinates(coords2D);
-
-            // Geoapify를 통해 썸네일 생성
-            byte[] thumbnailBytes = geoapifyClient.getStaticMap(routeLine);
+            LineString routeLine = GeometryUtil.createLineStringFromCoordinates(coordinates.toArray(new Coordinate[0]));
+            thumbnailJobService.enqueue(ThumbnailTargetType.ROUTE, route.getId(), routeLine, createThumbnailImagePath(route.getId()));
 
-            // 썸네일 경로 생성 및 S3 업로드
-            String thumbnailPath = createThumbnailImagePath(route.getId());
-            s3Manager.uploadByteFiles(thumbnailPath, thumbnailBytes, "image/png");
-            
-            // Route 엔티티에 썸네일 경로 업데이트
-            route.updateThumbnailImagePath(thumbnailPath);
-            routeRepository.save(route);
-            
-            log.info("자동 썸네일 생성 성공: routeId={}, path={}, coordCount={}", 
-                    route.getId(), thumbnailPath, coordinates.size());
+            log.info("자동 썸네일 생성 작업 등록: routeId={}, coordCount={}", 
+                    route.getId(), coordinates.size());
 
-            return s3Manager.getPresignedUrl(thumbnailPath);
+            return ThumbnailStatusResponse.of(ThumbnailJobStatus.PENDING, null);
 
         } catch (Exception e) {
-            log.error("자동 썸네일 생성 실패: routeId={}, error={}", 
+            log.error("자동 썸네일 생성 작업 등록 실패: routeId={}, error={}", 
                     route.getId(), e.getMessage(), e);
-            return "https://via.placeholder.com/300x200?text=Auto+Thumbnail+Error";
+            return ThumbnailStatusResponse.of(ThumbnailJobStatus.FAILED,
+                    "https://via.placeholder.com/300x200?text=Auto+Thumbnail+Error");
         }
     }
 
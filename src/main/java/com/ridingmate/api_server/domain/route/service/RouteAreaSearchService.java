@@ -0,0 +1,129 @@
+package com.ridingmate.api_server.domain.route.service;
+
+import com.ridingmate.api_server.domain.route.dto.projection.RouteAreaSearchProjection;
+import com.ridingmate.api_server.domain.route.dto.request.RouteAreaSearchRequest;
+import com.ridingmate.api_server.domain.route.dto.response.RouteAreaSearchItemResponse;
+import com.ridingmate.api_server.domain.route.dto.response.RouteAreaSearchResponse;
+import com.ridingmate.api_server.domain.route.exception.RouteException;
+import com.ridingmate.api_server.domain.route.exception.code.RouteSearchErrorCode;
+import com.ridingmate.api_server.domain.route.repository.RouteAreaSearchJdbcRepository;
+import com.ridingmate.api_server.global.util.GeometryUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LineString;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 지도 영역(bbox) / 위치·경로 주변(반경) 경로 검색 서비스
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RouteAreaSearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final double MAX_RADIUS_METERS = 50_000;
+    private static final double METERS_PER_DEGREE_LAT = 111_320;
+    private static final double MAX_EXPAND_LATITUDE = 85.0;
+
+    /**
+     * 검색 영역 크기 대비 단순화 허용 오차 비율 (화면 폭 약 500px 기준 1px 미만 오차)
+     */
+    private static final double SIMPLIFY_RATIO = 1.0 / 512;
+
+    private final RouteAreaSearchJdbcRepository routeAreaSearchJdbcRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureRouteLineIndex() {
+        try {
+            routeAreaSearchJdbcRepository.createRouteLineIndex();
+        } catch (Exception e) {
+            log.warn("[RouteAreaSearch] 경로 공간 인덱스 생성 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 요청 영역과 겹치는 추천 코스 및 사용자 경로 조회
+     * bbox가 모두 주어지면 bbox 검색, 아니면 중심 위치 또는 기준 경로와 반경으로 검색
+     * @param userId 요청 사용자 ID
+     * @param request 영역 검색 요청 정보
+     * @return id 순 경로 목록과 다음 커서
+     */
+    public RouteAreaSearchResponse search(Long userId, RouteAreaSearchRequest request) {
+        int size = request.size() == null || request.size() <= 0
+                ? DEFAULT_PAGE_SIZE : Math.min(request.size(), MAX_PAGE_SIZE);
+        long cursor = request.cursor() != null ? request.cursor() : 0L;
+
+        List<RouteAreaSearchProjection> rows;
+        if (request.isBoundingBoxSearch()) {
+            rows = searchBoundingBox(userId, request, cursor, size + 1);
+        } else if (request.isCorridorSearch()) {
+            rows = searchCorridor(userId, request, cursor, size + 1);
+        } else {
+            throw new RouteException(RouteSearchErrorCode.SEARCH_AREA_INVALID);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<RouteAreaSearchProjection> page = hasNext ? rows.subList(0, size) : rows;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).id() : null;
+
+        List<RouteAreaSearchItemResponse> items = page.stream()
+                .map(RouteAreaSearchItemResponse::from)
+                .toList();
+        return new RouteAreaSearchResponse(items, nextCursor, hasNext);
+    }
+
+    private List<RouteAreaSearchProjection> searchBoundingBox(Long userId, RouteAreaSearchRequest request,
+                                                              long cursor, int limit) {
+        double minLon = Math.min(request.minLon(), request.maxLon());
+        double maxLon = Math.max(request.minLon(), request.maxLon());
+        double minLat = Math.min(request.minLat(), request.maxLat());
+        double maxLat = Math.max(request.minLat(), request.maxLat());
+        if (minLat < -90 || maxLat > 90 || minLon < -180 || maxLon > 180) {
+            throw new RouteException(RouteSearchErrorCode.SEARCH_AREA_INVALID);
+        }
+
+        double tolerance = Math.max(maxLon - minLon, maxLat - minLat) * SIMPLIFY_RATIO;
+        return routeAreaSearchJdbcRepository.findIntersectingBoundingBox(
+                userId, minLon, minLat, maxLon, maxLat, tolerance, cursor, limit);
+    }
+
+    private List<RouteAreaSearchProjection> searchCorridor(Long userId, RouteAreaSearchRequest request,
+                                                           long cursor, int limit) {
+        double radiusM = request.radiusM();
+        if (radiusM < 1 || radiusM > MAX_RADIUS_METERS) {
+            throw new RouteException(RouteSearchErrorCode.SEARCH_RADIUS_OUT_OF_RANGE);
+        }
+
+        String wkt;
+        Envelope envelope;
+        if (request.polyline() != null && !request.polyline().isBlank()) {
+            LineString line = GeometryUtil.polylineToLineString(request.polyline());
+            wkt = line.toText();
+            envelope = line.getEnvelopeInternal();
+        } else {
+            if (Math.abs(request.lat()) > 90 || Math.abs(request.lon()) > 180) {
+                throw new RouteException(RouteSearchErrorCode.SEARCH_AREA_INVALID);
+            }
+            wkt = "POINT(" + request.lon() + " " + request.lat() + ")";
+            envelope = new Envelope(request.lon(), request.lon(), request.lat(), request.lat());
+        }
+
+        // 반경을 도 단위로 환산 (경도는 고위도일수록 넓게, 인덱스 후보가 빠지지 않도록 여유 있게)
+        double expandLat = radiusM / METERS_PER_DEGREE_LAT;
+        double maxAbsLat = Math.min(Math.max(Math.abs(envelope.getMinY()), Math.abs(envelope.getMaxY()))
+                + expandLat, MAX_EXPAND_LATITUDE);
+        double expandLon = expandLat / Math.cos(Math.toRadians(maxAbsLat));
+
+        double tolerance = Math.max(envelope.getWidth() + expandLon * 2, envelope.getHeight() + expandLat * 2)
+                * SIMPLIFY_RATIO;
+        return routeAreaSearchJdbcRepository.findWithinDistance(
+                userId, wkt, radiusM, expandLon, expandLat, tolerance, cursor, limit);
+    }
+}
@@ -0,0 +1,13 @@
+package com.ridingmate.api_server.domain.route.service;
+
+/**
+ * 지도에 표시되는 경로 형상 변경(추천 코스 생성, 경로 삭제) 이벤트
+ * 범위 값이 없으면 변경 범위를 알 수 없는 것으로 보고 전체 타일을 무효화
+ * @param routeId 경로 PK
+ */
+public record RouteGeometryChangedEvent(Long routeId, Double minLon, Double minLat, Double maxLon, Double maxLat) {
+
+    public boolean hasBounds() {
+        return minLon != null && minLat != null && maxLon != null && maxLat != null;
+    }
+}
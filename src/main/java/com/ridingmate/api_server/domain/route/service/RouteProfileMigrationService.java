@@ -0,0 +1,68 @@
+package com.ridingmate.api_server.domain.route.service;
+
+import com.ridingmate.api_server.domain.route.repository.RouteProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로필(route_profiles)이 없는 기존 경로의 프로필 소급 생성 서비스
+ * 경로 단위로 독립 트랜잭션 처리하므로 중단 후 재실행 가능
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RouteProfileMigrationService {
+
+    private static final int ROUTE_BATCH_SIZE = 100;
+
+    private final RouteProfileRepository routeProfileRepository;
+    private final RouteProfileService routeProfileService;
+
+    /**
+     * 프로필이 없는 모든 경로의 프로필 생성
+     * @return 처리 결과 (경로 수, 포인트 수, 실패 수)
+     */
+    public Map<String, Object> buildMissingProfiles() {
+        log.info("[RouteProfileMigration] 경로 프로필 생성 시작");
+
+        long lastRouteId = 0L;
+        int builtRoutes = 0;
+        long builtPoints = 0L;
+        int failedRoutes = 0;
+
+        while (true) {
+            List<Long> routeIds = routeProfileRepository.findRouteIdsWithoutProfileAfter(lastRouteId, ROUTE_BATCH_SIZE);
+            if (routeIds.isEmpty()) {
+                break;
+            }
+
+            for (Long routeId : routeIds) {
+                try {
+                    builtPoints += routeProfileService.rebuild(routeId);
+                    builtRoutes++;
+                } catch (Exception e) {
+                    failedRoutes++;
+                    log.error("[RouteProfileMigration] 경로 프로필 생성 실패: routeId={}", routeId, e);
+                }
+                lastRouteId = routeId;
+            }
+
+            log.info("[RouteProfileMigration] 진행 상황: lastRouteId={}, routes={}, points={}, failed={}",
+                    lastRouteId, builtRoutes, builtPoints, failedRoutes);
+        }
+
+        log.info("[RouteProfileMigration] 경로 프로필 생성 완료: routes={}, points={}, failed={}",
+                builtRoutes, builtPoints, failedRoutes);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("builtRoutes", builtRoutes);
+        result.put("builtPoints", builtPoints);
+        result.put("failedRoutes", failedRoutes);
+        return result;
+    }
+}
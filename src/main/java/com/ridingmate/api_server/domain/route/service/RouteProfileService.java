@@ -0,0 +1,120 @@
+package com.ridingmate.api_server.domain.route.service;
+
+import com.ridingmate.api_server.domain.activity.track.TrackCodec;
+import com.ridingmate.api_server.domain.activity.track.TrackSamples;
+import com.ridingmate.api_server.domain.route.entity.Route;
+import com.ridingmate.api_server.domain.route.entity.RouteGpsLog;
+import com.ridingmate.api_server.domain.route.entity.RouteProfile;
+import com.ridingmate.api_server.domain.route.repository.RouteGpsLogRepository;
+import com.ridingmate.api_server.domain.route.repository.RouteProfileRepository;
+import com.ridingmate.api_server.domain.route.repository.RouteRepository;
+import com.ridingmate.api_server.global.util.GpsEncryptionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 경로 상세 조회용 트랙 프로필 관리
+ * - 경로 생성 시 GPS 로그와 함께 프로필 블롭 저장
+ * - 상세 조회는 프로필 블롭 하나만 복호화 (GPS 로그 전체 복호화는 내보내기에서만 수행)
+ * - 프로필이 아직 없는 경로는 GPS 로그에서 계산
+ * - 복사한 경로는 같은 블롭을 공유하므로 연관 데이터는 경로 ID가 아닌 테이블 단위로 지정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RouteProfileService {
+
+    /**
+     * 프로필 블롭 연관 데이터 (다른 테이블 블롭과 바꿔치기 방지)
+     */
+    public static final byte[] PROFILE_ASSOCIATED_DATA = "route_profiles".getBytes(StandardCharsets.UTF_8);
+
+    private final RouteProfileRepository routeProfileRepository;
+    private final RouteGpsLogRepository routeGpsLogRepository;
+    private final RouteRepository routeRepository;
+    private final GpsEncryptionUtil gpsEncryptionUtil;
+
+    /**
+     * 경로 프로필 저장 (기존 프로필은 대체)
+     * @param route 경로
+     * @param routeGpsLogs 시간순 경로 GPS 로그
+     */
+    @Transactional
+    public void save(Route route, List<RouteGpsLog> routeGpsLogs) {
+        routeProfileRepository.deleteByRouteId(route.getId());
+        TrackSamples samples = toSamples(routeGpsLogs);
+        if (samples.isEmpty()) {
+            return;
+        }
+
+        routeProfileRepository.save(RouteProfile.builder()
+                .route(route)
+                .pointCount(samples.size())
+                .formatVersion(TrackCodec.FORMAT_VERSION)
+                .payload(gpsEncryptionUtil.encryptBytes(TrackCodec.encode(samples), PROFILE_ASSOCIATED_DATA))
+                .build());
+
+        log.debug("[RouteProfileService] 경로 프로필 저장: routeId={}, pointCount={}", route.getId(), samples.size());
+    }
+
+    /**
+     * 경로 프로필 조회
+     * @param routeId 경로 ID
+     * @return 시간순 트랙 (시간, 위경도, 고도만 존재, 없으면 빈 트랙)
+     */
+    @Transactional(readOnly = true)
+    public TrackSamples load(Long routeId) {
+        return routeProfileRepository.findByRouteId(routeId)
+                .map(profile -> TrackCodec.decode(gpsEncryptionUtil.decryptBytes(profile.getPayload(), PROFILE_ASSOCIATED_DATA)))
+                .orElseGet(() -> {
+                    log.debug("[RouteProfileService] 경로 프로필 없음, GPS 로그에서 계산: routeId={}", routeId);
+                    return toSamples(routeGpsLogRepository.findByRouteIdOrderByLogTimeAsc(routeId));
+                });
+    }
+
+    /**
+     * 경로 프로필 복사
+     */
+    @Transactional
+    public void copy(Long originalRouteId, Long newRouteId) {
+        routeProfileRepository.copyProfile(originalRouteId, newRouteId);
+    }
+
+    /**
+     * 경로 프로필 삭제
+     */
+    @Transactional
+    public void delete(Long routeId) {
+        routeProfileRepository.deleteByRouteId(routeId);
+    }
+
+    /**
+     * GPS 로그로 경로 프로필 생성 (프로필 도입 이전 경로 소급 처리, 경로 단위 독립 트랜잭션)
+     * @param routeId 경로 ID
+     * @return 프로필 포인트 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int rebuild(Long routeId) {
+        List<RouteGpsLog> routeGpsLogs = routeGpsLogRepository.findByRouteIdOrderByLogTimeAsc(routeId);
+        save(routeRepository.getReferenceById(routeId), routeGpsLogs);
+        return routeGpsLogs.size();
+    }
+
+    private TrackSamples toSamples(List<RouteGpsLog> routeGpsLogs) {
+        TrackSamples.Builder builder = TrackSamples.builder(routeGpsLogs.size());
+        for (RouteGpsLog routeGpsLog : routeGpsLogs) {
+            if (routeGpsLog.getLatitude() == null || routeGpsLog.getLongitude() == null) {
+                continue;
+            }
+            builder.add(routeGpsLog.getLogTime(), routeGpsLog.getLatitude(), routeGpsLog.getLongitude(),
+                    routeGpsLog.getElevation(), null, null, null, null, null);
+        }
+        return builder.build();
+    }
+}
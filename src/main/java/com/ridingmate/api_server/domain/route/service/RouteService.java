@@ -1,5 +1,6 @@
 package com.ridingmate.api_server.domain.route.service;
 
+import com.ridingmate.api_server.domain.activity.track.TrackSamples;
 import com.ridingmate.api_server.domain.auth.exception.AuthErrorCode;
 import com.ridingmate.api_server.domain.auth.exception.AuthException;
 import com.ridingmate.api_server.domain.route.dto.projection.RouteFilterRangeProjection;
@@ -7,31 +8,39 @@ import com.ridingmate.api_server.domain.route.dto.request.AddRouteToMyRoutesRequ
 import com.ridingmate.api_server.domain.route.dto.request.CreateRouteRequest;
 import com.ridingmate.api_server.domain.route.dto.request.RecommendationListRequest;
 import com.ridingmate.api_server.domain.route.dto.FilterRangeInfo;
+import com.ridingmate.api_server.domain.route.dto.response.RouteFileDownloadInfo;
 import com.ridingmate.api_server.domain.route.entity.Route;
 import com.ridingmate.api_server.domain.route.entity.RouteGpsLog;
 import com.ridingmate.api_server.domain.route.entity.UserRoute;
+import com.ridingmate.api_server.domain.route.enums.FileDownloadMode;
 import com.ridingmate.api_server.domain.route.enums.RecommendationSortType;
 import com.ridingmate.api_server.domain.route.enums.RouteRelationType;
 import com.ridingmate.api_server.domain.route.enums.WaypointType;
 import com.ridingmate.api_server.domain.route.exception.code.RouteCommonErrorCode;
 import com.ridingmate.api_server.domain.route.exception.RouteException;
 import com.ridingmate.api_server.domain.route.exception.code.RouteDetailErrorCode;
+import com.ridingmate.api_server.domain.route.repository.RouteGpsLogJdbcRepository;
 import com.ridingmate.api_server.domain.route.repository.RouteGpsLogRepository;
 import com.ridingmate.api_server.domain.route.repository.RouteRepository;
 import com.ridingmate.api_server.domain.route.repository.UserRouteRepository;
 import com.ridingmate.api_server.domain.user.entity.User;
 import com.ridingmate.api_server.domain.user.repository.UserRepository;
 import com.ridingmate.api_server.global.config.AppConfigProperties;
-import com.ridingmate.api_server.global.util.GeometryUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.LineString;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
-import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -43,8 +52,6 @@ import com.ridingmate.api_server.infra.aws.s3.S3Manager;
 import com.ridingmate.api_server.global.util.GpxGenerator;
 import com.ridingmate.api_server.global.util.TcxGenerator;
 
-import java.io.InputStream;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -56,7 +63,10 @@ public class RouteService {
     private final UserRouteRepository userRouteRepository;
     private final UserRepository userRepository;
     private final RouteGpsLogRepository routeGpsLogRepository;
+    private final RouteGpsLogJdbcRepository routeGpsLogJdbcRepository;
+    private final RouteProfileService routeProfileService;
     private final S3Manager s3Manager;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Route createRoute(Long userId, CreateRouteRequest request, LineString routeLine) {
@@ -128,7 +138,8 @@ public class RouteService {
             sequence++;
         }
 
-        routeGpsLogRepository.saveAll(routeGpsLogs);
+        routeGpsLogJdbcRepository.batchInsert(route, routeGpsLogs);
+        routeProfileService.save(route, routeGpsLogs);
     }
 
     @Transactional(readOnly = true)
@@ -143,6 +154,30 @@ public class RouteService {
                 .toArray(Coordinate[]::new);
     }
     
+    /**
+     * 경로 상세 조회용 트랙 프로필 조회 (GPS 로그 행 복호화 없음)
+     * @param routeId 경로 ID
+     * @return 시간순 트랙 (시간, 위경도, 고도)
+     */
+    @Transactional(readOnly = true)
+    public TrackSamples getRouteProfile(Long routeId) {
+        TrackSamples profile = routeProfileService.load(routeId);
+        if (profile.isEmpty()) {
+            throw new RouteException(RouteDetailErrorCode.ROUTE_GPS_LOGS_INVALID);
+        }
+        return profile;
+    }
+
+    /**
+     * 경로의 Waypoint GPS 로그만 조회
+     * @param routeId 경로 ID
+     * @return 시간순 Waypoint 목록
+     */
+    @Transactional(readOnly = true)
+    public List<RouteGpsLog> getRouteWaypoints(Long routeId) {
+        return routeGpsLogRepository.findWaypointsByRouteId(routeId);
+    }
+
     @Transactional(readOnly = true)
     public List<RouteGpsLog> getRouteGpsLogsWithWaypoints(Long routeId) {
         List<RouteGpsLog> routeGpsLogs = routeGpsLogRepository.findByRouteIdOrderByLogTimeAsc(routeId);
@@ -270,17 +305,16 @@ public class RouteService {
      * @return 정렬된 추천 코스 페이지
      */
     public Page<Route> getRecommendationRoutes(RecommendationListRequest request) {
-        // NEAREST 정렬이 아닌 경우에만 데이터베이스 정렬 사용
-        Pageable pageable;
-        if (request.sortType() == RecommendationSortType.NEAREST) {
-            // NEAREST는 애플리케이션 레벨에서 정렬하므로 기본 정렬 사용
-            pageable = PageRequest.of(request.page(), request.size(), Sort.by("id").ascending());
-        } else {
-            pageable = PageRequest.of(request.page(), request.size(), request.sortType().getSort());
+        // NEAREST 정렬은 사용자 위치가 있을 때 출발 지점 KNN 정렬로 조회
+        if (request.sortType() == RecommendationSortType.NEAREST
+                && request.userLon() != null && request.userLat() != null) {
+            return getNearestRecommendationRoutes(request);
         }
 
+        Pageable pageable = PageRequest.of(request.page(), request.size(), request.sortType().getSort());
+
         // 추천 코스만 조회 (Recommendation 엔티티가 있는 Route)
-        Page<Route> routePage = routeRepository.findRecommendationRoutesWithFilters(
+        return routeRepository.findRecommendationRoutesWithFilters(
                 request.recommendationTypes(),
                 request.regions(),
                 request.difficulties(),
@@ -289,48 +323,43 @@ public class RouteService {
                 request.minElevationGain(),
                 request.maxElevationGain(),
                 pageable);
+    }
 
-        // NEAREST 정렬인 경우 거리 계산 후 정렬
-        if (request.sortType() == com.ridingmate.api_server.domain.route.enums.RecommendationSortType.NEAREST
-                && request.userLon() != null && request.userLat() != null) {
-
-            List<Route> sortedRoutes = routePage.getContent().stream()
-                    .sorted((a, b) -> {
-                        Double distanceA = calculateDistanceFromUser(a, request.userLon(), request.userLat());
-                        Double distanceB = calculateDistanceFromUser(b, request.userLon(), request.userLat());
-
-                        // null 거리는 맨 뒤로
-                        if (distanceA == null && distanceB == null) return 0;
-                        if (distanceA == null) return 1;
-                        if (distanceB == null) return -1;
-
-                        return Double.compare(distanceA, distanceB);
-                    })
-                    .toList();
-
-            // 정렬된 결과로 새로운 Page 생성
-            return new PageImpl<>(
-                    sortedRoutes,
-                    pageable,
-                    routePage.getTotalElements()
-            );
-        }
+    /**
+     * 사용자 위치에서 출발 지점이 가까운 순으로 추천 코스 조회
+     * 정렬이 쿼리에 포함되므로 모든 페이지에서 거리 순서가 이어짐 (출발 지점이 없는 경로는 마지막)
+     */
+    private Page<Route> getNearestRecommendationRoutes(RecommendationListRequest request) {
+        Pageable pageable = PageRequest.of(request.page(), request.size());
+
+        return routeRepository.findNearestRecommendationRoutesWithFilters(
+                isFilterApplied(request.recommendationTypes()),
+                toFilterNames(request.recommendationTypes()),
+                isFilterApplied(request.regions()),
+                toFilterNames(request.regions()),
+                isFilterApplied(request.difficulties()),
+                toFilterNames(request.difficulties()),
+                request.getMinDistanceInMeter(),
+                request.getMaxDistanceInMeter(),
+                request.minElevationGain(),
+                request.maxElevationGain(),
+                request.userLon(),
+                request.userLat(),
+                pageable);
+    }
 
-        return routePage;
+    private boolean isFilterApplied(List<? extends Enum<?>> values) {
+        return values != null && !values.isEmpty();
     }
 
     /**
-     * 사용자 위치로부터 Route의 출발점까지의 거리 계산 (km 단위)
+     * 네이티브 쿼리 IN 절용 열거형 이름 목록 (필터 미사용 시에도 빈 IN 절이 되지 않도록 placeholder 전달)
      */
-    private Double calculateDistanceFromUser(Route route, Double userLon, Double userLat) {
-        if (route.getRouteLine() != null) {
-            Coordinate startCoord = route.getStartCoordinate();
-            if (startCoord != null) {
-                return GeometryUtil.calculateDistance(
-                        userLon, userLat, startCoord.getX(), startCoord.getY());
-            }
+    private List<String> toFilterNames(List<? extends Enum<?>> values) {
+        if (!isFilterApplied(values)) {
+            return List.of("");
         }
-        return null;
+        return values.stream().map(Enum::name).toList();
     }
 
     /**
@@ -384,24 +413,24 @@ public class RouteService {
 
     /**
      * 경로의 GPX 파일을 다운로드합니다.
-     * S3에 저장된 파일이 있으면 다운로드하고, 없으면 새로 생성합니다.
+     * S3에 저장된 파일이 있으면 지정한 방식(스트리밍/리다이렉트)으로 전달하고, 없으면 트랙 프로필로 응답에 바로 작성합니다.
      *
      * @param route 경로
-     * @return GPX 파일의 바이트 배열
+     * @param mode 저장된 파일 전달 방식
+     * @param range HTTP Range 헤더 값 (저장된 파일 스트리밍에만 적용)
+     * @return 다운로드 정보 (트랙 데이터는 트랜잭션 안에서 미리 조회)
      */
     @Transactional(readOnly = true)
-    public byte[] downloadGpxFile(Route route) {
+    public RouteFileDownloadInfo downloadGpxFile(Route route, FileDownloadMode mode, String range) {
+        String fileName = generateGpxFileName(route);
         if (route.getGpxFilePath() != null && !route.getGpxFilePath().isEmpty()) {
-            try {
-                try (InputStream inputStream = s3Manager.downloadFile(route.getGpxFilePath())) {
-                    return inputStream.readAllBytes();
-                }
-            } catch (Exception e) {
-                return generateGpxFile(route);
+            RouteFileDownloadInfo stored = downloadStoredFile(route.getGpxFilePath(), fileName,
+                    RouteFileDownloadInfo.GPX_CONTENT_TYPE, mode, range);
+            if (stored != null) {
+                return stored;
             }
-        } else {
-            return generateGpxFile(route);
         }
+        return RouteFileDownloadInfo.generated(generateGpxFile(route), fileName, RouteFileDownloadInfo.GPX_CONTENT_TYPE);
     }
 
     /**
@@ -431,41 +460,37 @@ public class RouteService {
     }
 
     /**
-     * 경로 데이터로부터 GPX 파일을 생성합니다.
+     * 경로 트랙 프로필로 GPX 작성기를 생성합니다.
      *
      * @param route 경로 엔티티
-     * @return GPX 파일의 바이트 배열
+     * @return GPX 응답 본문 작성기
      */
-    private byte[] generateGpxFile(Route route) {
-        try {
-            // 실제 GPS 로그 데이터를 사용하여 GPX 생성
-            Coordinate[] coordinates = getRouteDetailList(route.getId());
-            return GpxGenerator.generateGpxBytesFromCoordinates(coordinates, route.getTitle());
-        } catch (Exception e) {
-            throw new RuntimeException("GPX 파일 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
-        }
+    private StreamingResponseBody generateGpxFile(Route route) {
+        TrackSamples profile = getRouteProfile(route.getId());
+        String routeTitle = route.getTitle();
+        return out -> GpxGenerator.writeGpx(out, profile, routeTitle);
     }
 
     /**
      * 경로의 TCX 파일을 다운로드합니다.
-     * S3에 저장된 파일이 있으면 다운로드하고, 없으면 새로 생성합니다.
+     * S3에 저장된 파일이 있으면 지정한 방식(스트리밍/리다이렉트)으로 전달하고, 없으면 트랙 프로필과 Waypoint로 응답에 바로 작성합니다.
      *
      * @param route 경로
-     * @return TCX 파일의 바이트 배열
+     * @param mode 저장된 파일 전달 방식
+     * @param range HTTP Range 헤더 값 (저장된 파일 스트리밍에만 적용)
+     * @return 다운로드 정보 (트랙 데이터는 트랜잭션 안에서 미리 조회)
      */
     @Transactional(readOnly = true)
-    public byte[] downloadTcxFile(Route route) {
+    public RouteFileDownloadInfo downloadTcxFile(Route route, FileDownloadMode mode, String range) {
+        String fileName = generateTcxFileName(route);
         if (route.getTcxFilePath() != null && !route.getTcxFilePath().isEmpty()) {
-            try {
-                try (InputStream inputStream = s3Manager.downloadFile(route.getTcxFilePath())) {
-                    return inputStream.readAllBytes();
-                }
-            } catch (Exception e) {
-                return generateTcxFile(route);
+            RouteFileDownloadInfo stored = downloadStoredFile(route.getTcxFilePath(), fileName,
+                    RouteFileDownloadInfo.TCX_CONTENT_TYPE, mode, range);
+            if (stored != null) {
+                return stored;
             }
-        } else {
-            return generateTcxFile(route);
         }
+        return RouteFileDownloadInfo.generated(generateTcxFile(route), fileName, RouteFileDownloadInfo.TCX_CONTENT_TYPE);
     }
 
     /**
@@ -495,19 +520,60 @@ public class RouteService {
     }
 
     /**
-     * 경로 데이터로부터 TCX 파일을 생성합니다.
+     * 경로 트랙 프로필과 Waypoint로 TCX 작성기를 생성합니다.
      *
      * @param route 경로 엔티티
-     * @return TCX 파일의 바이트 배열
+     * @return TCX 응답 본문 작성기
      */
-    private byte[] generateTcxFile(Route route) {
+    private StreamingResponseBody generateTcxFile(Route route) {
+        TrackSamples profile = getRouteProfile(route.getId());
+        List<RouteGpsLog> waypoints = getRouteWaypoints(route.getId());
+        String routeTitle = route.getTitle();
+        return out -> TcxGenerator.writeTcx(out, routeTitle, profile, waypoints);
+    }
+
+    /**
+     * S3에 저장된 경로 파일 전달 (서버 메모리에 파일을 읽지 않음)
+     * 두 방식 모두 먼저 메타데이터를 조회해 객체가 없으면 생성 파일로 대체
+     * - REDIRECT: 첨부 파일 헤더를 지정한 Presigned URL
+     * - STREAM: 본문 작성 시점에 S3 스트림을 열어 그대로 전달 (본문이 실행되지 않으면 연결도 열지 않음)
+     *   단일 Range 요청은 객체 크기로 범위를 확정해 S3에 넘기고 206 부분 응답
+     *   메타데이터 조회 후 객체가 바뀌면 ETag 불일치로 전송을 중단 (이미 보낸 길이와 본문이 어긋나지 않도록)
+     *
+     * @return 다운로드 정보, S3 조회에 실패하면 null (생성 파일로 대체)
+     */
+    private RouteFileDownloadInfo downloadStoredFile(String key, String fileName, String contentType,
+                                                     FileDownloadMode mode, String range) {
+        HeadObjectResponse head;
         try {
-            // Waypoint 정보를 포함한 GPS 로그 데이터를 사용하여 TCX 생성
-            List<RouteGpsLog> routeGpsLogs = getRouteGpsLogsWithWaypoints(route.getId());
-            return TcxGenerator.generateTcxBytesFromRoute(route, routeGpsLogs);
-        } catch (IOException e) {
-            throw new RuntimeException("TCX 파일 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
+            head = s3Manager.headFile(key);
+        } catch (Exception e) {
+            log.warn("[RouteService] 저장된 경로 파일 조회 실패, 생성 파일로 대체: key={}, error={}", key, e.getMessage());
+            return null;
+        }
+
+        if (mode == FileDownloadMode.REDIRECT) {
+            String contentDisposition = "attachment; filename=\"" + URLEncoder.encode(fileName, StandardCharsets.UTF_8) + "\"";
+            return RouteFileDownloadInfo.redirect(
+                    s3Manager.getPresignedDownloadUrl(key, contentDisposition, contentType), fileName, contentType);
         }
+
+        long size = head.contentLength();
+        String eTag = head.eTag();
+        ByteRange byteRange = ByteRange.resolve(range, size);
+        String requestedRange = byteRange != null ? byteRange.toRangeHeader() : null;
+
+        StreamingResponseBody body = out -> {
+            try (ResponseInputStream<GetObjectResponse> object = s3Manager.openFile(key, requestedRange, eTag)) {
+                object.transferTo(out);
+            }
+        };
+
+        if (byteRange == null) {
+            return RouteFileDownloadInfo.stored(body, fileName, contentType, size, null);
+        }
+        return RouteFileDownloadInfo.stored(body, fileName, contentType,
+                byteRange.length(), byteRange.toContentRange(size));
     }
 
     /**
@@ -565,6 +631,7 @@ public class RouteService {
 
         for (Route route : userRoutes) {
             // 모든 개인정보 필드 마스킹 및 소프트 삭제 처리 (통합)
+            publishGeometryChanged(route);
             route.maskPersonalDataForDeletion();
 
             log.debug("경로 사용자 정보 마스킹 및 소프트 삭제: routeId={}", route.getId());
@@ -594,6 +661,7 @@ public class RouteService {
 
                 // DB에서 모든 GPS 로그 하드 삭제
                 routeGpsLogRepository.deleteByRouteId(route.getId());
+                routeProfileService.delete(route.getId());
 
                 log.debug("경로 GPS 로그 하드 삭제 완료: routeId={}", route.getId());
             }
@@ -706,13 +774,23 @@ public class RouteService {
         log.info("OWNER/RECOMMENDED 관계 경로 삭제: routeId={}", route.getId());
 
         // 1. 경로 데이터 마스킹 및 소프트 삭제
+        publishGeometryChanged(route);
         route.maskPersonalDataForDeletion();
 
         // 2. GPS 로그 하드삭제
         routeGpsLogRepository.deleteByRouteId(route.getId());
+        routeProfileService.delete(route.getId());
         log.info("GPS 로그 하드삭제 완료: routeId={}", route.getId());
     }
 
+    /**
+     * 경로 타일 캐시 무효화용 형상 변경 이벤트 발행 (마스킹 전 범위 기준)
+     */
+    private void publishGeometryChanged(Route route) {
+        eventPublisher.publishEvent(new RouteGeometryChangedEvent(
+                route.getId(), route.getMinLon(), route.getMinLat(), route.getMaxLon(), route.getMaxLat()));
+    }
+
     /**
      * 경로 깊은 복사 생성
      */
@@ -743,21 +821,10 @@ public class RouteService {
         log.debug("GPS 로그 복사 시작: originalRouteId={}, newRouteId={}",
                 originalRoute.getId(), newRoute.getId());
 
-        List<RouteGpsLog> originalGpsLogs = routeGpsLogRepository.findByRouteIdOrderByLogTimeAsc(originalRoute.getId());
-
-        for (RouteGpsLog originalLog : originalGpsLogs) {
-            RouteGpsLog newGpsLog = RouteGpsLog.builder()
-                    .route(newRoute)
-                    .longitude(originalLog.getLongitude())
-                    .latitude(originalLog.getLatitude())
-                    .elevation(originalLog.getElevation())
-                    .logTime(originalLog.getLogTime())
-                    .build();
-
-            routeGpsLogRepository.save(newGpsLog);
-        }
+        int copiedCount = routeGpsLogRepository.copyGpsLogs(originalRoute.getId(), newRoute.getId());
+        routeProfileService.copy(originalRoute.getId(), newRoute.getId());
 
         log.debug("GPS 로그 복사 완료: originalRouteId={}, newRouteId={}, count={}",
-                originalRoute.getId(), newRoute.getId(), originalGpsLogs.size());
+                originalRoute.getId(), newRoute.getId(), copiedCount);
     }
 }
\ No newline at end of file
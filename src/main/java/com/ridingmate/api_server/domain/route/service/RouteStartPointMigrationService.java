@@ -0,0 +1,58 @@
+package com.ridingmate.api_server.domain.route.service;
+
+import com.ridingmate.api_server.domain.route.repository.RouteStartPointJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 경로 출발 지점(start_point) 인덱스 및 소급 저장 서비스
+ *
+ * - 애플리케이션 시작 시 GiST 인덱스가 없으면 생성
+ * - 출발 지점이 없는 기존 경로는 청크 단위로 route_line에서 채움 (운영자 실행, 재실행 가능)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RouteStartPointMigrationService {
+
+    private static final int UPDATE_CHUNK_SIZE = 1_000;
+
+    private final RouteStartPointJdbcRepository routeStartPointJdbcRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureStartPointIndex() {
+        try {
+            routeStartPointJdbcRepository.createStartPointIndex();
+        } catch (Exception e) {
+            log.warn("[RouteStartPoint] 출발 지점 인덱스 생성 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 출발 지점이 없는 모든 경로의 출발 지점 저장
+     * @return 처리 결과 (갱신한 경로 수)
+     */
+    public Map<String, Object> fillMissingStartPoints() {
+        log.info("[RouteStartPoint] 출발 지점 소급 저장 시작");
+
+        long updatedRoutes = 0;
+        int updated;
+        do {
+            updated = routeStartPointJdbcRepository.fillMissingStartPoints(UPDATE_CHUNK_SIZE);
+            updatedRoutes += updated;
+        } while (updated == UPDATE_CHUNK_SIZE);
+
+        routeStartPointJdbcRepository.createStartPointIndex();
+        log.info("[RouteStartPoint] 출발 지점 소급 저장 완료: updatedRoutes={}", updatedRoutes);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("updatedRoutes", updatedRoutes);
+        return result;
+    }
+}
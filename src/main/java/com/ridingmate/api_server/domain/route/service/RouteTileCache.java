@@ -0,0 +1,230 @@
+package com.ridingmate.api_server.domain.route.service;
+
+import com.ridingmate.api_server.domain.route.repository.RouteTileJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 경로 벡터 타일 메모리 캐시
+ *
+ * - 전체 타일 바이트 합이 MAX_BYTES를 넘으면 가장 오래 사용되지 않은 타일부터 제거 (LRU)
+ * - 경로 형상 변경 트랜잭션이 커밋된 뒤 변경 범위와 겹치는 타일만 제거 (범위를 모르면 전체 제거)
+ * - 변경 이벤트는 해당 인스턴스에만 전달되므로, 다른 인스턴스의 오래된 타일은 TTL(응답 Cache-Control과 동일)이 지나면 미스로 처리
+ * - 타일 생성은 락 밖에서 수행하므로 동시에 같은 타일이 미스되면 중복 생성될 수 있음 (결과는 동일)
+ * - 무효화마다 세대(generation)와 범위를 기록하여, 무효화 이전에 시작된 생성 결과가
+ *   그 범위와 겹치면 캐시에 저장하지 않음 (기록은 최근 MAX_INVALIDATIONS개만 유지, 그보다 오래된 생성 결과는 저장하지 않음)
+ */
+@Slf4j
+@Component
+public class RouteTileCache {
+
+    private static final String METRIC_NAME = "route.tile.cache";
+    private static final long MAX_BYTES = 64L * 1024 * 1024;
+    private static final int MAX_INVALIDATIONS = 256;
+
+    /**
+     * 캐시 유지 시간 (타일 응답 Cache-Control max-age와 같은 값)
+     */
+    public static final Duration TTL = Duration.ofMinutes(5);
+
+    private final LongSupplier nanoClock;
+
+    private final Map<TileKey, Entry> cache = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes = 0;
+
+    private final Deque<Invalidation> invalidations = new ArrayDeque<>();
+    private long generation = 0;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public RouteTileCache(MeterRegistry meterRegistry) {
+        this(meterRegistry, System::nanoTime);
+    }
+
+    RouteTileCache(MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.hitCounter = Counter.builder(METRIC_NAME + ".requests")
+                .description("경로 타일 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME + ".requests")
+                .description("경로 타일 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".bytes", this, RouteTileCache::currentBytes)
+                .description("경로 타일 캐시 바이트 합")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 타일 조회, 없거나 TTL이 지났으면 loader로 생성 후 저장
+     */
+    public byte[] get(int z, int x, int y, Supplier<byte[]> loader) {
+        TileKey key = new TileKey(z, x, y);
+        long loadGeneration;
+        synchronized (this) {
+            Entry cached = cache.get(key);
+            if (cached != null) {
+                if (!cached.isExpired(nanoClock.getAsLong())) {
+                    hitCounter.increment();
+                    return cached.tile();
+                }
+                cache.remove(key);
+                totalBytes -= cached.tile().length;
+            }
+            loadGeneration = generation;
+        }
+
+        missCounter.increment();
+        byte[] tile = loader.get();
+        put(key, tile, loadGeneration);
+        return tile;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRouteGeometryChanged(RouteGeometryChangedEvent event) {
+        if (!event.hasBounds()) {
+            clear();
+            log.debug("[RouteTileCache] 경로 변경으로 전체 타일 제거: routeId={}", event.routeId());
+            return;
+        }
+
+        int evicted = evictIntersecting(event.minLon(), event.minLat(), event.maxLon(), event.maxLat());
+        log.debug("[RouteTileCache] 경로 변경으로 타일 제거: routeId={}, evicted={}", event.routeId(), evicted);
+    }
+
+    public synchronized void clear() {
+        recordInvalidation(Invalidation.ALL);
+        cache.clear();
+        totalBytes = 0;
+    }
+
+    private synchronized void put(TileKey key, byte[] tile, long loadGeneration) {
+        if (tile.length > MAX_BYTES) {
+            return;
+        }
+        // 생성 도중 이 타일과 겹치는 무효화가 있었다면 변경 이전 형상일 수 있으므로 저장하지 않음
+        if (isInvalidatedSince(key, loadGeneration)) {
+            log.debug("[RouteTileCache] 생성 중 무효화된 타일 저장 생략: z={}, x={}, y={}", key.z(), key.x(), key.y());
+            return;
+        }
+        Entry previous = cache.put(key, new Entry(tile, nanoClock.getAsLong() + TTL.toNanos()));
+        totalBytes += tile.length - (previous != null ? previous.tile().length : 0);
+
+        Iterator<Map.Entry<TileKey, Entry>> iterator = cache.entrySet().iterator();
+        while (totalBytes > MAX_BYTES && iterator.hasNext()) {
+            totalBytes -= iterator.next().getValue().tile().length;
+            iterator.remove();
+        }
+    }
+
+    private synchronized int evictIntersecting(double minLon, double minLat, double maxLon, double maxLat) {
+        recordInvalidation(new Invalidation(false, minLon, minLat, maxLon, maxLat));
+        int evicted = 0;
+        Iterator<Map.Entry<TileKey, Entry>> iterator = cache.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<TileKey, Entry> entry = iterator.next();
+            if (entry.getKey().intersects(minLon, minLat, maxLon, maxLat)) {
+                totalBytes -= entry.getValue().tile().length;
+                iterator.remove();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private synchronized double currentBytes() {
+        return totalBytes;
+    }
+
+    private void recordInvalidation(Invalidation invalidation) {
+        generation++;
+        invalidations.addLast(invalidation);
+        if (invalidations.size() > MAX_INVALIDATIONS) {
+            invalidations.removeFirst();
+        }
+    }
+
+    /**
+     * loadGeneration 이후 기록된 무효화 중 타일과 겹치는 것이 있는지 확인
+     * invalidations의 마지막 원소가 현재 세대이므로, 세대 차이만큼 뒤에서부터 확인
+     */
+    private boolean isInvalidatedSince(TileKey key, long loadGeneration) {
+        long missed = generation - loadGeneration;
+        if (missed == 0) {
+            return false;
+        }
+        if (missed > invalidations.size()) {
+            return true;
+        }
+
+        Iterator<Invalidation> iterator = invalidations.descendingIterator();
+        for (long i = 0; i < missed; i++) {
+            Invalidation invalidation = iterator.next();
+            if (invalidation.all() || key.intersects(
+                    invalidation.minLon(), invalidation.minLat(), invalidation.maxLon(), invalidation.maxLat())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 캐시된 타일과 만료 시각 (System.nanoTime 기준)
+     */
+    private record Entry(byte[] tile, long expiresAtNanos) {
+
+        boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+
+    /**
+     * 무효화 범위 (all이면 전체)
+     */
+    private record Invalidation(boolean all, double minLon, double minLat, double maxLon, double maxLat) {
+
+        static final Invalidation ALL = new Invalidation(true, 0, 0, 0, 0);
+    }
+
+    /**
+     * 타일 좌표 (Web Mercator XYZ)
+     */
+    record TileKey(int z, int x, int y) {
+
+        /**
+         * 타일 버퍼를 포함한 타일 범위가 경위도 범위와 겹치는지 확인
+         */
+        boolean intersects(double minLon, double minLat, double maxLon, double maxLat) {
+            double tiles = 1 << z;
+            double margin = (double) RouteTileJdbcRepository.TILE_BUFFER / RouteTileJdbcRepository.TILE_EXTENT;
+            double tileMinLon = (x - margin) / tiles * 360.0 - 180.0;
+            double tileMaxLon = (x + 1 + margin) / tiles * 360.0 - 180.0;
+            double tileMaxLat = tileLatitude(y - margin, tiles);
+            double tileMinLat = tileLatitude(y + 1 + margin, tiles);
+            return tileMinLon <= maxLon && minLon <= tileMaxLon
+                    && tileMinLat <= maxLat && minLat <= tileMaxLat;
+        }
+
+        private static double tileLatitude(double tileY, double tiles) {
+            return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * tileY / tiles))));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.ridingmate.api_server.domain.route.service;
+
+import com.ridingmate.api_server.domain.route.exception.RouteException;
+import com.ridingmate.api_server.domain.route.exception.code.RouteSearchErrorCode;
+import com.ridingmate.api_server.domain.route.repository.RouteTileJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 추천 코스 경로 벡터 타일(MVT) 조회 서비스
+ * 타일은 모든 사용자에게 같은 내용이므로 공개 대상인 추천 코스만 포함
+ */
+@Service
+@RequiredArgsConstructor
+public class RouteTileService {
+
+    public static final int MAX_ZOOM = 20;
+
+    /**
+     * 적도 기준 EPSG:3857 전체 폭 (미터)
+     */
+    private static final double WEB_MERCATOR_WIDTH = 40_075_016.686;
+
+    private final RouteTileJdbcRepository routeTileJdbcRepository;
+    private final RouteTileCache routeTileCache;
+
+    /**
+     * z/x/y 타일 조회 (캐시 미스 시 PostGIS로 생성)
+     * @return MVT 바이트 (타일에 경로가 없으면 빈 배열)
+     */
+    public byte[] getTile(int z, int x, int y) {
+        if (z < 0 || z > MAX_ZOOM || x < 0 || y < 0 || x >= (1 << z) || y >= (1 << z)) {
+            throw new RouteException(RouteSearchErrorCode.TILE_COORDINATE_INVALID);
+        }
+        return routeTileCache.get(z, x, y, () -> routeTileJdbcRepository.findTile(z, x, y, toleranceFor(z)));
+    }
+
+    /**
+     * 줌 레벨의 타일 픽셀 1개 크기를 단순화 허용 오차로 사용 (미터)
+     */
+    private double toleranceFor(int z) {
+        return WEB_MERCATOR_WIDTH / ((double) (1 << z) * RouteTileJdbcRepository.TILE_EXTENT);
+    }
+}
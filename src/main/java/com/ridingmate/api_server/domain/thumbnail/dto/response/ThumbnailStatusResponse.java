@@ -0,0 +1,17 @@
+package com.ridingmate.api_server.domain.thumbnail.dto.response;
+
+import com.ridingmate.api_server.domain.thumbnail.enums.ThumbnailJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "썸네일 생성 상태 응답")
+public record ThumbnailStatusResponse(
+        @Schema(description = "썸네일 생성 상태 (PENDING, RUNNING, SUCCEEDED, FAILED / 생성 작업이 없으면 null)", example = "SUCCEEDED")
+        ThumbnailJobStatus status,
+
+        @Schema(description = "썸네일 이미지 URL (생성 완료 시에만 제공)", example = "https://bucket.s3.amazonaws.com/activity-thumbnails/1/thumbnail.png")
+        String thumbnailImageUrl
+) {
+    public static ThumbnailStatusResponse of(ThumbnailJobStatus status, String thumbnailImageUrl) {
+        return new ThumbnailStatusResponse(status, thumbnailImageUrl);
+    }
+}
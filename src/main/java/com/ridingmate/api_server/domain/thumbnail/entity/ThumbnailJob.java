@@ -0,0 +1,106 @@
+package com.ridingmate.api_server.domain.thumbnail.entity;
+
+import com.ridingmate.api_server.domain.thumbnail.enums.ThumbnailJobStatus;
+import com.ridingmate.api_server.domain.thumbnail.enums.ThumbnailTargetType;
+import com.ridingmate.api_server.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.locationtech.jts.geom.LineString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 썸네일 생성 작업 엔티티
+ * 요청 스레드에서 지도 렌더링을 분리하기 위해 작업을 저장하고 워커가 비동기로 처리
+ */
+@Entity
+@Table(name = "thumbnail_jobs", indexes = {
+        @Index(name = "idx_thumbnail_jobs_status_next_attempt_at", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_thumbnail_jobs_geometry_hash", columnList = "geometry_hash"),
+        @Index(name = "idx_thumbnail_jobs_target", columnList = "target_type, target_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ThumbnailJob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false)
+    private ThumbnailTargetType targetType;
+
+    /**
+     * 대상 엔티티 PK (activities.id 또는 routes.id)
+     */
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    /**
+     * 썸네일용 경로의 SHA-256 해시 (동일 경로 이미지 재사용 기준)
+     */
+    @Column(name = "geometry_hash", nullable = false, length = 64)
+    private String geometryHash;
+
+    /**
+     * 썸네일용 경로 (렌더러 전처리 적용)
+     */
+    @Column(name = "route_line", nullable = false, columnDefinition = "geometry(LineString, 4326)")
+    private LineString routeLine;
+
+    /**
+     * 썸네일을 저장할 S3 경로
+     */
+    @Column(name = "image_path", nullable = false)
+    private String imagePath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ThumbnailJobStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Builder
+    private ThumbnailJob(ThumbnailTargetType targetType, Long targetId, String geometryHash,
+                         LineString routeLine, String imagePath) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.geometryHash = geometryHash;
+        this.routeLine = routeLine;
+        this.imagePath = imagePath;
+        this.status = ThumbnailJobStatus.PENDING;
+        this.attemptCount = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void markSucceeded() {
+        this.status = ThumbnailJobStatus.SUCCEEDED;
+        this.lastError = null;
+    }
+
+    /**
+     * 실패 처리
+     * @param error 실패 사유
+     * @param nextAttemptAt 다음 재시도 시각 (null이면 재시도하지 않음)
+     */
+    public void markFailed(String error, LocalDateTime nextAttemptAt) {
+        this.lastError = error;
+        if (nextAttemptAt == null) {
+            this.status = ThumbnailJobStatus.FAILED;
+            return;
+        }
+        this.status = ThumbnailJobStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ridingmate.api_server.domain.thumbnail.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ThumbnailJobStatus {
+    PENDING("생성 대기"),
+    RUNNING("생성 중"),
+    SUCCEEDED("생성 완료"),
+    FAILED("생성 실패");
+
+    private final String description;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -0,0 +1,9 @@
+package com.ridingmate.api_server.domain.thumbnail.enums;
+
+/**
+ * 썸네일 대상 종류
+ */
+public enum ThumbnailTargetType {
+    ACTIVITY,
+    ROUTE
+}
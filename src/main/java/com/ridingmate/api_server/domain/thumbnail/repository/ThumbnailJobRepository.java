@@ -0,0 +1,115 @@
+package com.ridingmate.api_server.domain.thumbnail.repository;
+
+import com.ridingmate.api_server.domain.thumbnail.entity.ThumbnailJob;
+import com.ridingmate.api_server.domain.thumbnail.enums.ThumbnailJobStatus;
+import com.ridingmate.api_server.domain.thumbnail.enums.ThumbnailTargetType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ThumbnailJobRepository extends JpaRepository<ThumbnailJob, Long> {
+
+    Optional<ThumbnailJob> findFirstByTargetTypeAndTargetIdOrderByIdDesc(ThumbnailTargetType targetType, Long targetId);
+
+    /**
+     * 같은 경로로 이미 생성된 썸네일 작업 조회 (이미지 재사용용)
+     */
+    Optional<ThumbnailJob> findFirstByGeometryHashAndStatusAndIdNotOrderByIdDesc(
+            String geometryHash, ThumbnailJobStatus status, Long id);
+
+    /**
+     * 실행 시각이 된 대기 작업 ID 조회
+     */
+    @Query(value = """
+            SELECT id
+            FROM thumbnail_jobs
+            WHERE status = 'PENDING'
+              AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findDueJobIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 대기 작업 선점 (다른 워커/인스턴스가 이미 선점했거나 최대 시도 횟수에 도달한 경우 0 반환)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE ThumbnailJob j
+            SET j.status = :running,
+                j.attemptCount = j.attemptCount + 1,
+                j.updatedAt = :now
+            WHERE j.id = :id
+              AND j.status = :pending
+              AND j.attemptCount < :maxAttempts
+            """)
+    int claim(@Param("id") Long id,
+              @Param("pending") ThumbnailJobStatus pending,
+              @Param("running") ThumbnailJobStatus running,
+              @Param("maxAttempts") int maxAttempts,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * 최대 시도 횟수에 도달한 대기 작업을 실패 처리 (선점 실패 시 재조회되지 않도록)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE ThumbnailJob j
+            SET j.status = :failed,
+                j.lastError = :error,
+                j.updatedAt = :now
+            WHERE j.id = :id
+              AND j.status = :pending
+              AND j.attemptCount >= :maxAttempts
+            """)
+    int failExhaustedJob(@Param("id") Long id,
+                         @Param("pending") ThumbnailJobStatus pending,
+                         @Param("failed") ThumbnailJobStatus failed,
+                         @Param("maxAttempts") int maxAttempts,
+                         @Param("error") String error,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * 워커 중단 등으로 RUNNING 상태에 남은 작업을 대기 상태로 되돌림 (최대 시도 횟수에 도달한 작업 제외)
+     */
+    @Modifying
+    @Query("""
+            UPDATE ThumbnailJob j
+            SET j.status = :pending,
+                j.nextAttemptAt = :now,
+                j.updatedAt = :now
+            WHERE j.status = :running
+              AND j.updatedAt < :staleBefore
+              AND j.attemptCount < :maxAttempts
+            """)
+    int releaseStaleJobs(@Param("pending") ThumbnailJobStatus pending,
+                         @Param("running") ThumbnailJobStatus running,
+                         @Param("maxAttempts") int maxAttempts,
+                         @Param("staleBefore") LocalDateTime staleBefore,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * RUNNING 상태에 남은 작업 중 최대 시도 횟수에 도달한 작업을 실패 처리
+     */
+    @Modifying
+    @Query("""
+            UPDATE ThumbnailJob j
+            SET j.status = :failed,
+                j.lastError = :error,
+                j.updatedAt = :now
+            WHERE j.status = :running
+              AND j.updatedAt < :staleBefore
+              AND j.attemptCount >= :maxAttempts
+            """)
+    int failStaleJobs(@Param("running") ThumbnailJobStatus running,
+                      @Param("failed") ThumbnailJobStatus failed,
+                      @Param("maxAttempts") int maxAttempts,
+                      @Param("error") String error,
+                      @Param("staleBefore") LocalDateTime staleBefore,
+                      @Param("now") LocalDateTime now);
+}
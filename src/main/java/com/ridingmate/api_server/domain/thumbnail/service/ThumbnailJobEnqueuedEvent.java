@@ -0,0 +1,6 @@
+package com.ridingmate.api_server.domain.thumbnail.service;
+
+/**
+ * 썸네일 작업 등록 이벤트 (트랜잭션 커밋 후 워커에 전달)
+ */
+public record ThumbnailJobEnqueuedEvent(Long jobId) {}
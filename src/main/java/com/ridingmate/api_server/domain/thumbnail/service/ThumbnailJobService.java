@@ -0,0 +1,238 @@
+package com.ridingmate.api_server.domain.thumbnail.service;
+
+import com.ridingmate.api_server.domain.activity.repository.ActivityRepository;
+import com.ridingmate.api_server.domain.activity.service.ActivityService;
+import com.ridingmate.api_server.domain.route.repository.RouteRepository;
+import com.ridingmate.api_server.domain.thumbnail.entity.ThumbnailJob;
+import com.ridingmate.api_server.domain.thumbnail.enums.ThumbnailJobStatus;
+import com.ridingmate.api_server.domain.thumbnail.enums.ThumbnailTargetType;
+import com.ridingmate.api_server.domain.thumbnail.repository.ThumbnailJobRepository;
+import com.ridingmate.api_server.global.util.GeometryUtil;
+import com.ridingmate.api_server.infra.staticmap.StaticMapRenderer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LineString;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 썸네일 생성 작업 등록/상태 관리
+ * 실제 렌더링과 업로드는 ThumbnailJobWorker가 요청 스레드 밖에서 수행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThumbnailJobService {
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final Duration BASE_RETRY_DELAY = Duration.ofSeconds(30);
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final String ATTEMPTS_EXHAUSTED_ERROR = "최대 시도 횟수 초과";
+
+    private final ThumbnailJobRepository thumbnailJobRepository;
+    private final ActivityRepository activityRepository;
+    private final RouteRepository routeRepository;
+    private final ActivityService activityService;
+    private final StaticMapRenderer staticMapRenderer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 썸네일 생성 작업 등록
+     * 현재 트랜잭션이 커밋된 뒤 워커에 전달됨
+     * @param targetType 대상 종류
+     * @param targetId 대상 엔티티 PK
+     * @param routeLine 썸네일에 그릴 경로
+     * @param imagePath 썸네일을 저장할 S3 경로
+     * @return 등록된 작업
+     */
+    @Transactional
+    public ThumbnailJob enqueue(ThumbnailTargetType targetType, Long targetId, LineString routeLine, String imagePath) {
+        LineString thumbnailLine = staticMapRenderer.prepare(to2D(routeLine));
+
+        ThumbnailJob job = thumbnailJobRepository.save(ThumbnailJob.builder()
+                .targetType(targetType)
+                .targetId(targetId)
+                .geometryHash(hashGeometry(thumbnailLine))
+                .routeLine(thumbnailLine)
+                .imagePath(imagePath)
+                .build());
+
+        eventPublisher.publishEvent(new ThumbnailJobEnqueuedEvent(job.getId()));
+
+        log.info("[Thumbnail] 썸네일 작업 등록: jobId={}, targetType={}, targetId={}, coordCount={}",
+                job.getId(), targetType, targetId, thumbnailLine.getNumPoints());
+        return job;
+    }
+
+    /**
+     * 대상의 최근 썸네일 작업 조회 (상태 폴링용)
+     */
+    @Transactional(readOnly = true)
+    public Optional<ThumbnailJob> findLatestJob(ThumbnailTargetType targetType, Long targetId) {
+        return thumbnailJobRepository.findFirstByTargetTypeAndTargetIdOrderByIdDesc(targetType, targetId);
+    }
+
+    /**
+     * 실행 시각이 된 대기 작업 ID 조회
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findDueJobIds(int limit) {
+        return thumbnailJobRepository.findDueJobIds(LocalDateTime.now(), limit);
+    }
+
+    /**
+     * 오랫동안 RUNNING 상태로 남은 작업을 대기 상태로 복구
+     * 최대 시도 횟수에 도달한 작업은 다시 시도하지 않고 FAILED 처리
+     * @return 대기 상태로 복구한 작업 수
+     */
+    @Transactional
+    public int releaseStaleJobs(Duration staleAfter) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(staleAfter);
+
+        int failed = thumbnailJobRepository.failStaleJobs(ThumbnailJobStatus.RUNNING, ThumbnailJobStatus.FAILED,
+                MAX_ATTEMPTS, ATTEMPTS_EXHAUSTED_ERROR, staleBefore, now);
+        if (failed > 0) {
+            log.error("[Thumbnail] 중단된 썸네일 작업 최종 실패 처리: count={}, maxAttempts={}", failed, MAX_ATTEMPTS);
+        }
+
+        return thumbnailJobRepository.releaseStaleJobs(
+                ThumbnailJobStatus.PENDING, ThumbnailJobStatus.RUNNING, MAX_ATTEMPTS, staleBefore, now);
+    }
+
+    /**
+     * 작업 선점
+     * 최대 시도 횟수에 도달한 대기 작업은 선점하지 않고 FAILED 처리
+     * @return 선점한 작업, 이미 다른 워커가 선점했거나 완료/실패된 경우 empty
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<ThumbnailJob> claim(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = thumbnailJobRepository.claim(
+                jobId, ThumbnailJobStatus.PENDING, ThumbnailJobStatus.RUNNING, MAX_ATTEMPTS, now);
+        if (updated == 0) {
+            int failed = thumbnailJobRepository.failExhaustedJob(
+                    jobId, ThumbnailJobStatus.PENDING, ThumbnailJobStatus.FAILED, MAX_ATTEMPTS,
+                    ATTEMPTS_EXHAUSTED_ERROR, now);
+            if (failed > 0) {
+                log.error("[Thumbnail] 썸네일 작업 최종 실패 처리: jobId={}, maxAttempts={}", jobId, MAX_ATTEMPTS);
+            }
+            return Optional.empty();
+        }
+        return thumbnailJobRepository.findById(jobId);
+    }
+
+    /**
+     * 같은 경로로 이미 생성된 썸네일 이미지 경로 조회
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findRenderedImagePath(ThumbnailJob job) {
+        return thumbnailJobRepository.findFirstByGeometryHashAndStatusAndIdNotOrderByIdDesc(
+                        job.getGeometryHash(), ThumbnailJobStatus.SUCCEEDED, job.getId())
+                .map(ThumbnailJob::getImagePath);
+    }
+
+    /**
+     * 작업 완료 처리 및 대상 엔티티에 썸네일 경로 반영
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void complete(Long jobId) {
+        ThumbnailJob job = thumbnailJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        job.markSucceeded();
+
+        switch (job.getTargetType()) {
+            case ACTIVITY -> activityRepository.findById(job.getTargetId())
+                    .filter(activity -> !activity.isDeleted())
+                    .ifPresentOrElse(activity -> {
+                        activity.updateThumbnailImagePath(job.getImagePath());
+                        // 썸네일을 activity_images 테이블에도 추가 (displayOrder = 0으로 설정하여 가장 앞에 표시)
+                        activityService.addThumbnailToActivityImages(activity, job.getImagePath());
+                    }, () -> logTargetMissing(job));
+            case ROUTE -> routeRepository.findById(job.getTargetId())
+                    .filter(route -> !route.isDeleted())
+                    .ifPresentOrElse(route -> route.updateThumbnailImagePath(job.getImagePath()),
+                            () -> logTargetMissing(job));
+        }
+
+        log.info("[Thumbnail] 썸네일 생성 완료: jobId={}, targetType={}, targetId={}, path={}",
+                job.getId(), job.getTargetType(), job.getTargetId(), job.getImagePath());
+    }
+
+    /**
+     * 작업 실패 처리 (지수 백오프로 재시도, 최대 횟수 초과 시 FAILED)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void fail(Long jobId, Exception cause) {
+        ThumbnailJob job = thumbnailJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        String error = truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        if (job.getAttemptCount() >= MAX_ATTEMPTS) {
+            job.markFailed(error, null);
+            log.error("[Thumbnail] 썸네일 생성 최종 실패: jobId={}, targetType={}, targetId={}, attempts={}, error={}",
+                    job.getId(), job.getTargetType(), job.getTargetId(), job.getAttemptCount(), error);
+            return;
+        }
+
+        Duration delay = BASE_RETRY_DELAY.multipliedBy(1L << (job.getAttemptCount() - 1));
+        job.markFailed(error, LocalDateTime.now().plus(delay));
+        log.warn("[Thumbnail] 썸네일 생성 실패, 재시도 예약: jobId={}, attempts={}, retryIn={}s, error={}",
+                job.getId(), job.getAttemptCount(), delay.toSeconds(), error);
+    }
+
+    private void logTargetMissing(ThumbnailJob job) {
+        log.warn("[Thumbnail] 썸네일 대상이 없거나 삭제되어 반영 건너뜀: jobId={}, targetType={}, targetId={}",
+                job.getId(), job.getTargetType(), job.getTargetId());
+    }
+
+    /**
+     * 썸네일은 2D로 렌더링하므로 고도를 제거
+     */
+    private LineString to2D(LineString lineString) {
+        Coordinate[] coordinates = lineString.getCoordinates();
+        Coordinate[] coords2D = new Coordinate[coordinates.length];
+        for (int i = 0; i < coordinates.length; i++) {
+            coords2D[i] = new Coordinate(coordinates[i].getX(), coordinates[i].getY());
+        }
+        return GeometryUtil.createLineStringFromCoordinates(coords2D);
+    }
+
+    /**
+     * 렌더러 전처리를 거친 경로 좌표(소수점 6자리)의 SHA-256 해시
+     */
+    private String hashGeometry(LineString lineString) {
+        StringBuilder builder = new StringBuilder(lineString.getNumPoints() * 24);
+        for (Coordinate coordinate : lineString.getCoordinates()) {
+            builder.append(String.format(Locale.ROOT, "%.6f,%.6f;", coordinate.getX(), coordinate.getY()));
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(builder.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private String truncate(String value) {
+        return value.length() > MAX_ERROR_LENGTH ? value.substring(0, MAX_ERROR_LENGTH) : value;
+    }
+}
@@ -0,0 +1,142 @@
+package com.ridingmate.api_server.domain.thumbnail.service;
+
+import com.ridingmate.api_server.domain.thumbnail.entity.ThumbnailJob;
+import com.ridingmate.api_server.infra.aws.s3.S3Manager;
+import com.ridingmate.api_server.infra.staticmap.StaticMapRenderer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 썸네일 생성 워커
+ * - 작업 등록 트랜잭션 커밋 직후 고정 크기 스레드 풀에서 처리
+ * - 큐가 가득 차거나 서버가 재시작되어 놓친 작업은 주기적 폴링으로 다시 처리
+ * - 같은 경로로 이미 생성된 이미지가 있으면 지도 렌더링 없이 S3 복사로 재사용
+ */
+@Slf4j
+@Component
+public class ThumbnailJobWorker {
+
+    private static final int WORKER_COUNT = 2;
+    private static final int QUEUE_CAPACITY = 200;
+    private static final int POLL_BATCH_SIZE = 50;
+    private static final Duration STALE_RUNNING_TIMEOUT = Duration.ofMinutes(10);
+
+    private final ThumbnailJobService thumbnailJobService;
+    private final StaticMapRenderer staticMapRenderer;
+    private final S3Manager s3Manager;
+    private final ThreadPoolExecutor executor;
+
+    public ThumbnailJobWorker(ThumbnailJobService thumbnailJobService, StaticMapRenderer staticMapRenderer, S3Manager s3Manager) {
+        this.thumbnailJobService = thumbnailJobService;
+        this.staticMapRenderer = staticMapRenderer;
+        this.s3Manager = s3Manager;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                WORKER_COUNT, WORKER_COUNT,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobEnqueued(ThumbnailJobEnqueuedEvent event) {
+        submit(event.jobId());
+    }
+
+    /**
+     * 대기 작업 폴링 (재시도 예약 작업 및 놓친 작업 처리)
+     */
+    @Scheduled(fixedDelay = 30_000, initialDelay = 30_000)
+    public void pollDueJobs() {
+        try {
+            int released = thumbnailJobService.releaseStaleJobs(STALE_RUNNING_TIMEOUT);
+            if (released > 0) {
+                log.warn("[Thumbnail] 중단된 썸네일 작업 복구: count={}", released);
+            }
+
+            int capacity = Math.min(POLL_BATCH_SIZE, executor.getQueue().remainingCapacity());
+            if (capacity == 0) {
+                return;
+            }
+
+            List<Long> jobIds = thumbnailJobService.findDueJobIds(capacity);
+            jobIds.forEach(this::submit);
+        } catch (Exception e) {
+            log.error("[Thumbnail] 썸네일 작업 폴링 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void submit(Long jobId) {
+        try {
+            executor.execute(() -> process(jobId));
+        } catch (RejectedExecutionException e) {
+            // 작업은 PENDING 상태로 남아 다음 폴링에서 처리됨
+            log.warn("[Thumbnail] 썸네일 작업 큐가 가득 차 폴링으로 연기: jobId={}", jobId);
+        }
+    }
+
+    private void process(Long jobId) {
+        Optional<ThumbnailJob> claimed = thumbnailJobService.claim(jobId);
+        if (claimed.isEmpty()) {
+            return;
+        }
+        ThumbnailJob job = claimed.get();
+
+        try {
+            if (!reuseRenderedImage(job)) {
+                byte[] thumbnailBytes = staticMapRenderer.render(job.getRouteLine());
+                s3Manager.uploadByteFiles(job.getImagePath(), thumbnailBytes, "image/png");
+            }
+            thumbnailJobService.complete(job.getId());
+        } catch (Exception e) {
+            thumbnailJobService.fail(job.getId(), e);
+        }
+    }
+
+    /**
+     * 같은 경로의 썸네일이 이미 있으면 복사하여 재사용
+     * @return 재사용 성공 여부
+     */
+    private boolean reuseRenderedImage(ThumbnailJob job) {
+        Optional<String> renderedImagePath = thumbnailJobService.findRenderedImagePath(job);
+        if (renderedImagePath.isEmpty()) {
+            return false;
+        }
+
+        try {
+            s3Manager.copyFile(renderedImagePath.get(), job.getImagePath());
+            log.debug("[Thumbnail] 동일 경로 썸네일 재사용: jobId={}, source={}", job.getId(), renderedImagePath.get());
+            return true;
+        } catch (Exception e) {
+            // 원본 이미지가 삭제된 경우 등은 새로 렌더링
+            log.debug("[Thumbnail] 썸네일 재사용 실패, 새로 생성: jobId={}, source={}, error={}",
+                    job.getId(), renderedImagePath.get(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.ridingmate.api_server.domain.user.service;
+
+/**
+ * 사용자 삭제(소프트 삭제) 이벤트
+ * @param userId 사용자 PK
+ * @param username 인증 주체 식별자 (provider:socialId)
+ */
+public record UserDeletedEvent(Long userId, String username) {
+}
@@ -1,6 +1,7 @@
 package com.ridingmate.api_server.domain.user.service;
 
 import com.ridingmate.api_server.domain.auth.dto.SocialUserInfo;
+import com.ridingmate.api_server.domain.auth.security.AuthUser;
 import com.ridingmate.api_server.domain.user.dto.request.BirthYearUpdateRequest;
 import com.ridingmate.api_server.domain.user.dto.request.GenderUpdateRequest;
 import com.ridingmate.api_server.domain.user.dto.request.IntroduceUpdateRequest;
@@ -12,6 +13,7 @@ import com.ridingmate.api_server.domain.user.repository.UserRepository;
 import com.ridingmate.api_server.infra.aws.s3.S3Manager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -23,6 +25,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final S3Manager s3Manager;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자 조회 또는 생성
@@ -226,6 +229,9 @@ public class UserService {
         // 4. 사용자 삭제 처리 (소프트 삭제 + 개인정보 마스킹)
         user.delete();
 
+        // 5. 커밋 후 인증 캐시에서 제거
+        eventPublisher.publishEvent(new UserDeletedEvent(user.getId(), AuthUser.from(user).username()));
+
         log.info("사용자 삭제 완료: userId={}, deletedAt={}", user.getId(), user.getDeletedAt());
     }
 
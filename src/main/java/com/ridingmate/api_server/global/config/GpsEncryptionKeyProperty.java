@@ -0,0 +1,21 @@
+package com.ridingmate.api_server.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * GPS 좌표 암호화 키 설정
+ * @param key 기존 단일 키 (Base64, 32바이트). 키 버전 헤더가 없는 기존 암호문 복호화에 사용하고,
+ *            keys가 비어 있으면 버전 1 키로 사용
+ * @param keys 버전별 키 (버전 1~63, Base64, 32바이트). 키 교체 시 새 버전을 추가하고 이전 버전은
+ *             재암호화가 끝날 때까지 유지 (예: GPS_ENCRYPTION_KEYS_2)
+ * @param activeVersion 새로 암호화할 때 사용할 키 버전 (기본값 keys 중 가장 높은 버전)
+ */
+@ConfigurationProperties(prefix = "gps.encryption")
+public record GpsEncryptionKeyProperty(
+        String key,
+        Map<Integer, String> keys,
+        Integer activeVersion
+) {
+}
@@ -0,0 +1,23 @@
+package com.ridingmate.api_server.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 기존 GPS 평문 데이터 암호화 마이그레이션 설정
+ * @param workerCount 동시에 청크를 처리할 작업 스레드 수 (기본값 4)
+ * @param chunkSize 한 트랜잭션에서 처리할 GPS 로그 ID 범위 크기 (기본값 20000)
+ * @param blobChunkSize 재암호화 시 한 트랜잭션에서 처리할 트랙 블롭 ID 범위 크기 (블롭은 행당 수십~수백 KB, 기본값 200)
+ * @param updateBatchSize UPDATE ... FROM (VALUES ...) 한 문장에 담을 행 수 (기본값 1000, 최대 6000)
+ * @param maxActiveSessions 이 값 이상으로 DB 활성 세션이 있으면 대기 (마이그레이션 작업 스레드 포함, 기본값 32)
+ * @param throttleSleepMillis DB 부하로 대기할 때 다시 확인하기까지의 시간 (기본값 500)
+ */
+@ConfigurationProperties(prefix = "gps-encryption-migration")
+public record GpsEncryptionMigrationProperty(
+        Integer workerCount,
+        Integer chunkSize,
+        Integer blobChunkSize,
+        Integer updateBatchSize,
+        Integer maxActiveSessions,
+        Long throttleSleepMillis
+) {
+}
@@ -0,0 +1,27 @@
+package com.ridingmate.api_server.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * 스케줄 작업 수 (썸네일 작업 폴링, Apple JWKS 갱신, 위치정보 조회 기록 보존기간 정리)
+     * 기본 스케줄러는 스레드가 1개라 오래 걸리는 보존기간 정리가 다른 작업을 막으므로 작업마다 스레드를 둠
+     */
+    private static final int POOL_SIZE = 3;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(POOL_SIZE);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
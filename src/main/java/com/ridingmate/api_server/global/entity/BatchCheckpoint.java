@@ -0,0 +1,42 @@
+package com.ridingmate.api_server.global.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치/마이그레이션 작업 진행 위치 엔티티
+ * PK 순서로 청크 처리하는 작업이 마지막으로 처리한 ID를 저장하여 중단 후 이어서 실행
+ */
+@Entity
+@Table(name = "batch_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchCheckpoint extends BaseTimeEntity {
+
+    /**
+     * 작업 이름 (작업별 고유)
+     */
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    /**
+     * 마지막으로 처리한 ID
+     */
+    @Column(name = "last_processed_id", nullable = false)
+    private long lastProcessedId;
+
+    public BatchCheckpoint(String jobName) {
+        this.jobName = jobName;
+        this.lastProcessedId = 0L;
+    }
+
+    public void advanceTo(long lastProcessedId) {
+        this.lastProcessedId = lastProcessedId;
+    }
+}
@@ -0,0 +1,9 @@
+package com.ridingmate.api_server.global.repository;
+
+import com.ridingmate.api_server.global.entity.BatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BatchCheckpointRepository extends JpaRepository<BatchCheckpoint, String> {
+}
@@ -0,0 +1,217 @@
+package com.ridingmate.api_server.global.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * GPS 좌표 암호화/재암호화 마이그레이션용 JDBC 레포지토리
+ * - GPS 로그 PK 기준 키셋 페이지네이션으로 청크 범위 결정
+ * - 청크 내 대상 행(평문 또는 이전 키 버전 암호문)만 조회하고 UPDATE ... FROM (VALUES ...)로 일괄 갱신
+ * - 트랙 블롭 테이블은 현재 키 버전 헤더로 시작하지 않는 블롭만 조회하고 JDBC 배치 UPDATE로 갱신
+ *
+ * 테이블/컬럼 이름은 GpsDataEncryptionService에 정의된 값만 전달됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class GpsDataEncryptionJdbcRepository {
+
+    /**
+     * 십진수 표기(지수 표기 포함)면 평문 GPS 좌표 (예: 37.5665, 1.0E-4), 아니면 Base64 암호문 (예: y9XAgzW3...)
+     * 영문자 포함 여부로 판단하면 Double.toString의 지수 표기(1.0E-4)를 암호문으로 오인함
+     */
+    private static final String NUMERIC_PATTERN = "'^[-+]?([0-9]+(\\.[0-9]*)?|\\.[0-9]+)([eE][-+]?[0-9]+)?$'";
+    private static final String PLAINTEXT_CONDITION = "latitude ~ " + NUMERIC_PATTERN;
+    private static final String CIPHERTEXT_CONDITION = "latitude !~ " + NUMERIC_PATTERN;
+
+    private static final String COUNT_ACTIVE_SESSIONS_SQL = """
+        SELECT count(*) FROM pg_stat_activity
+        WHERE state = 'active' AND datname = current_database() AND pid <> pg_backend_pid()
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장된 GPS 로그 좌표 (평문 또는 암호문)
+     */
+    public record GpsCoordinateRow(long id, String longitude, String latitude, String elevation) {
+    }
+
+    /**
+     * 저장된 트랙 블롭 (연관 데이터를 다시 계산하기 위한 소유자 ID와 구분값 포함)
+     */
+    public record EncryptedBlobRow(long id, long ownerId, String partKey, byte[] payload) {
+    }
+
+    public Long findMaxId(String tableName) {
+        return jdbcTemplate.queryForObject("SELECT max(id) FROM " + tableName, Long.class);
+    }
+
+    /**
+     * afterId 다음부터 chunkSize개 행 중 마지막 ID
+     * @return 마지막 ID, 남은 행이 없으면 null
+     */
+    public Long findChunkEndId(String tableName, long afterId, int chunkSize) {
+        return jdbcTemplate.queryForObject(
+                "SELECT max(id) FROM (SELECT id FROM " + tableName + " WHERE id > ? ORDER BY id LIMIT ?) chunk",
+                Long.class, afterId, chunkSize);
+    }
+
+    /**
+     * (afterId, upToId] 범위의 평문 행 조회
+     */
+    public List<GpsCoordinateRow> findPlaintextRows(String tableName, long afterId, long upToId) {
+        return jdbcTemplate.query(
+                "SELECT id, longitude, latitude, elevation FROM " + tableName
+                        + " WHERE id > ? AND id <= ? AND " + PLAINTEXT_CONDITION,
+                (rs, rowNum) -> toCoordinateRow(rs),
+                afterId, upToId);
+    }
+
+    /**
+     * (afterId, upToId] 범위에서 현재 키 버전이 아닌 암호문 행 조회
+     * @param activeCiphertextPrefix 현재 키 버전 암호문의 Base64 접두사
+     */
+    public List<GpsCoordinateRow> findRowsNotEncryptedWith(String tableName, long afterId, long upToId,
+                                                           String activeCiphertextPrefix) {
+        return jdbcTemplate.query(
+                "SELECT id, longitude, latitude, elevation FROM " + tableName
+                        + " WHERE id > ? AND id <= ? AND " + CIPHERTEXT_CONDITION + " AND latitude NOT LIKE ?",
+                (rs, rowNum) -> toCoordinateRow(rs),
+                afterId, upToId, activeCiphertextPrefix + "%");
+    }
+
+    /**
+     * (afterId, upToId] 범위에서 현재 키 버전 헤더로 시작하지 않는 블롭 행 조회
+     * @param ownerColumn 연관 데이터의 소유자 ID 컬럼
+     * @param partKeyColumn 연관 데이터의 구분값 컬럼 (구분값이 없으면 null)
+     * @param activeHeader 현재 키 버전 블롭 헤더
+     */
+    public List<EncryptedBlobRow> findBlobsNotEncryptedWith(String tableName, String ownerColumn, String partKeyColumn,
+                                                            long afterId, long upToId, byte[] activeHeader) {
+        String partKeyExpression = partKeyColumn != null ? partKeyColumn + "::text" : "NULL";
+        return jdbcTemplate.query(
+                "SELECT id, " + ownerColumn + " AS owner_id, " + partKeyExpression + " AS part_key, payload FROM "
+                        + tableName + " WHERE id > ? AND id <= ?"
+                        + " AND substring(payload from 1 for " + activeHeader.length + ") <> ?",
+                (rs, rowNum) -> new EncryptedBlobRow(
+                        rs.getLong("id"),
+                        rs.getLong("owner_id"),
+                        rs.getString("part_key"),
+                        rs.getBytes("payload")),
+                afterId, upToId, activeHeader);
+    }
+
+    /**
+     * 다시 암호화한 블롭으로 일괄 갱신
+     * 조회 이후 다른 곳에서 바뀐 행(블롭이 조회 당시와 다른 행)은 갱신하지 않음
+     *
+     * @param ids 갱신할 행 ID
+     * @param expectedPayloads 조회 당시 저장되어 있던 블롭
+     * @param payloads 다시 암호화한 블롭
+     * @return 갱신된 행 수
+     */
+    public int updatePayloads(String tableName, long[] ids, byte[][] expectedPayloads, byte[][] payloads) {
+        int[] counts = jdbcTemplate.batchUpdate(
+                "UPDATE " + tableName + " SET payload = ? WHERE id = ? AND payload = ?",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setBytes(1, payloads[i]);
+                        ps.setLong(2, ids[i]);
+                        ps.setBytes(3, expectedPayloads[i]);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return ids.length;
+                    }
+                });
+
+        int updated = 0;
+        for (int count : counts) {
+            updated += Math.max(count, 0);
+        }
+        return updated;
+    }
+
+    /**
+     * 암호화한 좌표로 일괄 갱신 (batchSize행씩 한 문장)
+     * 조회 이후 다른 곳에서 바뀐 행(위도 값이 조회 당시와 다른 행)은 갱신하지 않음
+     *
+     * @param ids 갱신할 행 ID
+     * @param expectedLatitudes 조회 당시 저장되어 있던 위도 값
+     * @param longitudes 암호화된 경도
+     * @param latitudes 암호화된 위도
+     * @param elevations 암호화된 고도 (고도가 없으면 null)
+     * @param batchSize 한 문장에 담을 행 수
+     * @return 갱신된 행 수
+     */
+    public int updateCoordinates(String tableName, long[] ids, String[] expectedLatitudes, String[] longitudes,
+                                 String[] latitudes, String[] elevations, int batchSize) {
+        int updated = 0;
+        String fullBatchSql = null;
+
+        for (int from = 0; from < ids.length; from += batchSize) {
+            int size = Math.min(batchSize, ids.length - from);
+            String sql;
+            if (size == batchSize) {
+                if (fullBatchSql == null) {
+                    fullBatchSql = buildUpdateSql(tableName, batchSize);
+                }
+                sql = fullBatchSql;
+            } else {
+                sql = buildUpdateSql(tableName, size);
+            }
+
+            Object[] args = new Object[size * 5];
+            for (int i = 0; i < size; i++) {
+                args[i * 5] = ids[from + i];
+                args[i * 5 + 1] = expectedLatitudes[from + i];
+                args[i * 5 + 2] = longitudes[from + i];
+                args[i * 5 + 3] = latitudes[from + i];
+                args[i * 5 + 4] = elevations[from + i];
+            }
+            updated += jdbcTemplate.update(sql, args);
+        }
+        return updated;
+    }
+
+    /**
+     * 현재 DB에서 쿼리를 실행 중인 다른 세션 수 (부하 판단용)
+     */
+    public int countActiveSessions() {
+        Integer count = jdbcTemplate.queryForObject(COUNT_ACTIVE_SESSIONS_SQL, Integer.class);
+        return count != null ? count : 0;
+    }
+
+    private String buildUpdateSql(String tableName, int rowCount) {
+        StringBuilder sql = new StringBuilder()
+                .append("UPDATE ").append(tableName).append(" t")
+                .append(" SET longitude = v.longitude, latitude = v.latitude, elevation = v.elevation")
+                .append(" FROM (VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(?::bigint, ?::text, ?::text, ?::text, ?::text)");
+        }
+        return sql.append(") AS v(id, expected_latitude, longitude, latitude, elevation)")
+                .append(" WHERE t.id = v.id AND t.latitude = v.expected_latitude")
+                .toString();
+    }
+
+    private GpsCoordinateRow toCoordinateRow(ResultSet rs) throws SQLException {
+        return new GpsCoordinateRow(
+                rs.getLong("id"),
+                rs.getString("longitude"),
+                rs.getString("latitude"),
+                rs.getString("elevation"));
+    }
+}
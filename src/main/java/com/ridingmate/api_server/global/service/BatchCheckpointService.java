@@ -0,0 +1,50 @@
+package com.ridingmate.api_server.global.service;
+
+import com.ridingmate.api_server.global.entity.BatchCheckpoint;
+import com.ridingmate.api_server.global.repository.BatchCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 배치/마이그레이션 진행 위치 관리
+ * advance는 호출한 청크 트랜잭션에 참여하므로 청크 결과와 진행 위치가 함께 커밋됨
+ */
+@Service
+@RequiredArgsConstructor
+public class BatchCheckpointService {
+
+    private final BatchCheckpointRepository batchCheckpointRepository;
+
+    /**
+     * 마지막으로 처리한 ID 조회
+     * @param jobName 작업 이름
+     * @return 마지막으로 처리한 ID, 처음 실행이면 0
+     */
+    @Transactional(readOnly = true)
+    public long getLastProcessedId(String jobName) {
+        return batchCheckpointRepository.findById(jobName)
+                .map(BatchCheckpoint::getLastProcessedId)
+                .orElse(0L);
+    }
+
+    /**
+     * 진행 위치 갱신
+     * @param jobName 작업 이름
+     * @param lastProcessedId 마지막으로 처리한 ID
+     */
+    @Transactional
+    public void advance(String jobName, long lastProcessedId) {
+        BatchCheckpoint checkpoint = batchCheckpointRepository.findById(jobName)
+                .orElseGet(() -> batchCheckpointRepository.save(new BatchCheckpoint(jobName)));
+        checkpoint.advanceTo(lastProcessedId);
+    }
+
+    /**
+     * 진행 위치 초기화 (처음부터 다시 실행)
+     */
+    @Transactional
+    public void reset(String jobName) {
+        batchCheckpointRepository.deleteById(jobName);
+    }
+}
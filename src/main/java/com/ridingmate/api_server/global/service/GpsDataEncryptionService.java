@@ -1,201 +1,667 @@
 package com.ridingmate.api_server.global.service;
 
-import lombok.RequiredArgsConstructor;
+import com.ridingmate.api_server.domain.activity.enums.TrackResolution;
+import com.ridingmate.api_server.domain.activity.track.PackedTrackStore;
+import com.ridingmate.api_server.domain.route.service.RouteProfileService;
+import com.ridingmate.api_server.global.config.GpsEncryptionMigrationProperty;
+import com.ridingmate.api_server.global.repository.GpsDataEncryptionJdbcRepository;
+import com.ridingmate.api_server.global.repository.GpsDataEncryptionJdbcRepository.EncryptedBlobRow;
+import com.ridingmate.api_server.global.repository.GpsDataEncryptionJdbcRepository.GpsCoordinateRow;
+import com.ridingmate.api_server.global.util.GpsEncryptionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
 
 /**
- * 기존 GPS 데이터 암호화 마이그레이션 서비스 (대용량 데이터 최적화)
- * 주의: 한 번만 실행해야 합니다!
+ * GPS 좌표 암호화 마이그레이션 (대용량 데이터용)
+ * - 평문 암호화: 기존 평문 좌표를 암호화
+ * - 재암호화: 키 교체 후 이전 키 버전 암호문을 현재 키 버전으로 다시 암호화 (서비스 운영 중 실행)
+ *   GPS 로그 테이블 다음으로 트랙 블롭 테이블(트랙 청크, LOD, 경로 프로필)도 같은 방식으로 처리하며,
+ *   모든 테이블이 실패 없이 끝나야 이전 키를 제거할 수 있음 (getStatus의 completed)
+ *
+ * - GPS 로그 PK 기준 키셋 페이지네이션으로 (afterId, upToId] 청크를 나누고 작업 스레드들이 병렬 처리
+ * - 청크마다 대상 행만 조회 → 일괄 암호화 → UPDATE ... FROM (VALUES ...)로 갱신 (청크당 한 트랜잭션)
+ * - 조회 이후 서비스 요청으로 바뀐 행은 갱신하지 않음 (위도 값 비교)
+ * - 완료된 연속 구간의 끝을 BatchCheckpoint에 저장하여 중단 후 이어서 실행
+ *   (실패한 청크 이후로는 진행 위치를 옮기지 않으므로 다시 실행하면 실패 청크부터 재처리)
+ * - 대상 행만 갱신하므로 같은 범위를 다시 처리해도 안전
+ * - DB 활성 세션 수가 기준 이상이면 청크 시작 전 대기
+ * - 진행률/남은 시간은 getStatus와 gps_encryption_migration.* 지표로 확인
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class GpsDataEncryptionService {
 
-    private final GpsDataEncryptionBatchService batchService;
-    
-    private static final int BATCH_SIZE = 1000; // 배치 크기
-    private static final int LOG_INTERVAL = 10000; // 로그 출력 주기
+    private static final String METRIC_NAME = "gps_encryption_migration";
+    private static final List<String> TABLE_NAMES = List.of("activity_gps_logs", "route_gps_logs");
+    private static final List<String> REENCRYPT_TABLE_NAMES = List.of("activity_gps_logs", "route_gps_logs",
+            BlobTable.ACTIVITY_TRACK_CHUNKS.tableName, BlobTable.ACTIVITY_TRACK_LODS.tableName,
+            BlobTable.ROUTE_PROFILES.tableName);
+    private static final long LOAD_CHECK_INTERVAL_MILLIS = 1_000;
+
+    private static final int DEFAULT_WORKER_COUNT = 4;
+    private static final int DEFAULT_CHUNK_SIZE = 20_000;
+    private static final int DEFAULT_BLOB_CHUNK_SIZE = 200;
+    private static final int DEFAULT_UPDATE_BATCH_SIZE = 1_000;
+    private static final int MAX_UPDATE_BATCH_SIZE = 6_000; // 문장당 바인드 파라미터 32767개 제한
+    private static final int DEFAULT_MAX_ACTIVE_SESSIONS = 32;
+    private static final long DEFAULT_THROTTLE_SLEEP_MILLIS = 500;
+
+    private final GpsDataEncryptionJdbcRepository gpsDataEncryptionJdbcRepository;
+    private final BatchCheckpointService batchCheckpointService;
+    private final GpsEncryptionUtil gpsEncryptionUtil;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int workerCount;
+    private final int chunkSize;
+    private final int blobChunkSize;
+    private final int updateBatchSize;
+    private final int maxActiveSessions;
+    private final long throttleSleepMillis;
+
+    private final Map<String, TableProgress> progressByTable = new LinkedHashMap<>();
+    private final Counter throttledCounter;
+
+    private volatile boolean running;
+    private volatile MigrationMode currentMode;
+    private volatile boolean stopRequested;
+    private volatile int lastActiveSessions;
+    private long lastLoadCheckAt;
+
+    public GpsDataEncryptionService(GpsDataEncryptionJdbcRepository gpsDataEncryptionJdbcRepository,
+                                    BatchCheckpointService batchCheckpointService,
+                                    GpsEncryptionUtil gpsEncryptionUtil,
+                                    PlatformTransactionManager transactionManager,
+                                    GpsEncryptionMigrationProperty property,
+                                    MeterRegistry meterRegistry) {
+        this.gpsDataEncryptionJdbcRepository = gpsDataEncryptionJdbcRepository;
+        this.batchCheckpointService = batchCheckpointService;
+        this.gpsEncryptionUtil = gpsEncryptionUtil;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.workerCount = property.workerCount() != null ? property.workerCount() : DEFAULT_WORKER_COUNT;
+        this.chunkSize = property.chunkSize() != null ? property.chunkSize() : DEFAULT_CHUNK_SIZE;
+        this.blobChunkSize = property.blobChunkSize() != null ? property.blobChunkSize() : DEFAULT_BLOB_CHUNK_SIZE;
+        this.updateBatchSize = Math.min(MAX_UPDATE_BATCH_SIZE, property.updateBatchSize() != null
+                ? property.updateBatchSize() : DEFAULT_UPDATE_BATCH_SIZE);
+        this.maxActiveSessions = property.maxActiveSessions() != null
+                ? property.maxActiveSessions() : DEFAULT_MAX_ACTIVE_SESSIONS;
+        this.throttleSleepMillis = property.throttleSleepMillis() != null
+                ? property.throttleSleepMillis() : DEFAULT_THROTTLE_SLEEP_MILLIS;
+
+        for (String tableName : REENCRYPT_TABLE_NAMES) {
+            TableProgress progress = new TableProgress();
+            progressByTable.put(tableName, progress);
+
+            Gauge.builder(METRIC_NAME + ".progress", progress, TableProgress::progressRatio)
+                    .description("GPS 암호화 마이그레이션 진행률 (0~1)")
+                    .tag("table", tableName)
+                    .register(meterRegistry);
+            Gauge.builder(METRIC_NAME + ".eta.seconds", progress, TableProgress::etaSeconds)
+                    .description("GPS 암호화 마이그레이션 예상 남은 시간")
+                    .tag("table", tableName)
+                    .register(meterRegistry);
+            progress.encryptedCounter = Counter.builder(METRIC_NAME + ".rows")
+                    .description("GPS 암호화 마이그레이션 처리 행 수")
+                    .tag("table", tableName)
+                    .tag("result", "encrypted")
+                    .register(meterRegistry);
+            progress.failedCounter = Counter.builder(METRIC_NAME + ".rows")
+                    .description("GPS 암호화 마이그레이션 처리 행 수")
+                    .tag("table", tableName)
+                    .tag("result", "failed")
+                    .register(meterRegistry);
+        }
+        Gauge.builder(METRIC_NAME + ".db.active_sessions", this, service -> service.lastActiveSessions)
+                .description("마지막으로 확인한 DB 활성 세션 수")
+                .register(meterRegistry);
+        this.throttledCounter = Counter.builder(METRIC_NAME + ".throttled")
+                .description("DB 부하로 청크 시작을 미룬 횟수")
+                .register(meterRegistry);
+    }
 
     /**
-     * 모든 GPS 데이터 암호화
+     * 백그라운드에서 평문 암호화 시작
+     * @param fromStart true이면 저장된 진행 위치를 지우고 처음부터 실행
+     * @return 이미 실행 중이면 false
      */
-    public void encryptAllGpsData() {
-        log.info("=== 기존 GPS 데이터 암호화 시작 ===");
-        long startTime = System.currentTimeMillis();
-        
-        encryptActivityGpsLogs();
-        encryptRouteGpsLogs();
-        
-        long endTime = System.currentTimeMillis();
-        long duration = (endTime - startTime) / 1000;
-        log.info("=== 기존 GPS 데이터 암호화 완료: {}초 소요 ===", duration);
+    public boolean start(boolean fromStart) {
+        return startJob(MigrationMode.ENCRYPT_PLAINTEXT, fromStart);
     }
 
     /**
-     * ActivityGpsLog 암호화 (Activity 단위)
+     * 백그라운드에서 현재 키 버전으로 재암호화 시작 (키 버전별로 진행 위치 저장)
+     * @param fromStart true이면 저장된 진행 위치를 지우고 처음부터 실행
+     * @return 이미 실행 중이면 false
      */
-    public void encryptActivityGpsLogs() {
-        log.info("========================================");
-        log.info("[ActivityGpsLog] 암호화 시작");
-        log.info("========================================");
-        
-        long startTime = System.currentTimeMillis();
-        long totalCount = batchService.getActivityCount();
-        
-        log.info("[ActivityGpsLog] 암호화 대상 Activity: {}개", String.format("%,d", totalCount));
-        
-        if (totalCount == 0) {
-            log.info("[ActivityGpsLog] 암호화할 데이터 없음");
-            return;
+    public boolean startReencryption(boolean fromStart) {
+        return startJob(MigrationMode.REENCRYPT, fromStart);
+    }
+
+    private synchronized boolean startJob(MigrationMode mode, boolean fromStart) {
+        if (running) {
+            return false;
         }
-        
-        AtomicLong processed = new AtomicLong(0);
-        AtomicLong failed = new AtomicLong(0);
-        AtomicLong processedActivities = new AtomicLong(0);
-        long minActivityId = 0;
-        int batchCount = 0;
-        
-        // Activity 단위로 처리
-        while (true) {
-            batchCount++;
-            long batchStartTime = System.currentTimeMillis();
-            
+        running = true;
+        stopRequested = false;
+        currentMode = mode;
+
+        Thread coordinator = new Thread(() -> {
             try {
-                log.info(">>> 배치 #{} 시작: minActivityId={}, 배치크기={}", 
-                        batchCount, minActivityId, 50);
-                
-                int batchResult = batchService.processActivityBatch(
-                    minActivityId, 50, processed, failed  // 50개 Activity씩 처리
-                );
-                
-                long batchElapsed = System.currentTimeMillis() - batchStartTime;
-                log.info("<<< 배치 #{} 완료: 처리된 Activity={}, 소요시간={}ms", 
-                        batchCount, batchResult, batchElapsed);
-                
-                if (batchResult == 0) {
-                    log.info("[ActivityGpsLog] 더 이상 처리할 데이터 없음. 종료.");
-                    break; // 더 이상 데이터 없음
+                if (fromStart) {
+                    tableNames(mode).forEach(tableName -> batchCheckpointService.reset(jobName(mode, tableName)));
                 }
-                
-                processedActivities.addAndGet(batchResult);
-                minActivityId += 1000; // 다음 배치를 위한 Activity ID 증가
-                
-                // 진행 상황 로그 (매 배치마다)
-                double progress = (processedActivities.get() * 100.0) / totalCount;
-                long totalElapsed = (System.currentTimeMillis() - startTime) / 1000;
-                log.info("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-                log.info("📊 진행률: {}/{} Activity ({} %)", 
-                        String.format("%,d", processedActivities.get()), 
-                        String.format("%,d", totalCount), 
-                        String.format("%.1f", progress));
-                log.info("📦 암호화된 GPS 로그: {} 개", String.format("%,d", processed.get()));
-                log.info("❌ 실패: {} 개", failed.get());
-                log.info("⏱️  경과 시간: {}초 ({}분)", totalElapsed, totalElapsed / 60);
-                log.info("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-                
-                // 메모리 정리
-                System.gc();
-                Thread.sleep(100);
-                
+                runJob(mode);
             } catch (Exception e) {
-                log.error("❌ [ActivityGpsLog] 배치 #{} 처리 실패: minActivityId={}", batchCount, minActivityId, e);
-                failed.incrementAndGet();
-                minActivityId += 1000;
+                log.error("[GpsDataEncryption] 마이그레이션 실패: mode={}, error={}", mode, e.getMessage(), e);
+            } finally {
+                running = false;
             }
+        }, "gps-encryption-migration");
+        coordinator.setDaemon(true);
+        coordinator.start();
+        return true;
+    }
+
+    /**
+     * 실행 중인 청크까지 처리하고 중지 (진행 위치는 저장되어 다음 실행 시 이어서 처리)
+     */
+    @PreDestroy
+    public void stop() {
+        if (running) {
+            log.info("[GpsDataEncryption] 마이그레이션 중지 요청");
         }
-        
-        long totalElapsed = (System.currentTimeMillis() - startTime) / 1000;
-        log.info("========================================");
-        log.info("✅ [ActivityGpsLog] 암호화 완료!");
-        log.info("   - 처리된 Activity: {} 개", String.format("%,d", processedActivities.get()));
-        log.info("   - 암호화된 GPS 로그: {} 개", String.format("%,d", processed.get()));
-        log.info("   - 실패: {} 개", failed.get());
-        log.info("   - 총 소요시간: {}초 ({}분)", totalElapsed, totalElapsed / 60);
-        log.info("========================================");
+        stopRequested = true;
     }
 
     /**
-     * RouteGpsLog 암호화 (Route 단위)
+     * 모든 GPS 로그 테이블의 평문 암호화 (호출한 스레드에서 끝날 때까지 실행)
      */
-    public void encryptRouteGpsLogs() {
-        log.info("========================================");
-        log.info("[RouteGpsLog] 암호화 시작");
-        log.info("========================================");
-        
+    public void encryptAllGpsData() {
+        runJob(MigrationMode.ENCRYPT_PLAINTEXT);
+    }
+
+    private void runJob(MigrationMode mode) {
+        log.info("[GpsDataEncryption] GPS 데이터 {} 시작: keyVersion={}, workers={}, chunkSize={}, updateBatchSize={}",
+                mode.description, gpsEncryptionUtil.getActiveKeyVersion(), workerCount, chunkSize, updateBatchSize);
         long startTime = System.currentTimeMillis();
-        long totalCount = batchService.getRouteCount();
-        
-        log.info("[RouteGpsLog] 암호화 대상 Route: {}개", String.format("%,d", totalCount));
-        
-        if (totalCount == 0) {
-            log.info("[RouteGpsLog] 암호화할 데이터 없음");
+
+        for (String tableName : tableNames(mode)) {
+            if (stopRequested) {
+                break;
+            }
+            migrateTable(mode, tableName);
+        }
+
+        log.info("[GpsDataEncryption] GPS 데이터 {} {}: failedChunks={}, failedRows={}, {}초 소요",
+                mode.description, isCompleted(mode) ? "완료" : "미완료",
+                sumProgress(mode, progress -> progress.failedChunks.get()),
+                sumProgress(mode, progress -> progress.failedRows.get()),
+                (System.currentTimeMillis() - startTime) / 1000);
+    }
+
+    private static List<String> tableNames(MigrationMode mode) {
+        // 트랙 블롭은 저장할 때부터 암호화되므로 평문 암호화 대상이 아님
+        return mode == MigrationMode.REENCRYPT ? REENCRYPT_TABLE_NAMES : TABLE_NAMES;
+    }
+
+    /**
+     * 모든 대상 테이블을 끝까지 처리했고 실패한 청크/행이 없는지 (재암호화라면 이전 키 제거 가능)
+     */
+    private boolean isCompleted(MigrationMode mode) {
+        if (mode == null || stopRequested) {
+            return false;
+        }
+        for (String tableName : tableNames(mode)) {
+            TableProgress progress = progressByTable.get(tableName);
+            if (progress.finishedAt == 0 || progress.failedChunks.get() > 0 || progress.failedRows.get() > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long sumProgress(MigrationMode mode, ToLongFunction<TableProgress> value) {
+        return tableNames(mode).stream().map(progressByTable::get).mapToLong(value).sum();
+    }
+
+    /**
+     * 진행 상황 (테이블별 진행률, 처리 속도, 예상 남은 시간)
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", running);
+        status.put("stopRequested", stopRequested);
+        status.put("mode", currentMode);
+        status.put("completed", !running && isCompleted(currentMode));
+        status.put("activeKeyVersion", gpsEncryptionUtil.getActiveKeyVersion());
+        status.put("keyVersions", gpsEncryptionUtil.getKeyVersions());
+        status.put("activeSessions", lastActiveSessions);
+        progressByTable.forEach((tableName, progress) -> status.put(tableName, progress.toStatus()));
+        return status;
+    }
+
+    private String jobName(MigrationMode mode, String tableName) {
+        return mode == MigrationMode.REENCRYPT
+                ? "gps-reencryption:v" + gpsEncryptionUtil.getActiveKeyVersion() + ":" + tableName
+                : "gps-encryption:" + tableName;
+    }
+
+    private void migrateTable(MigrationMode mode, String tableName) {
+        String jobName = jobName(mode, tableName);
+        long startId = batchCheckpointService.getLastProcessedId(jobName);
+        Long maxId = gpsDataEncryptionJdbcRepository.findMaxId(tableName);
+
+        TableProgress progress = progressByTable.get(tableName);
+        progress.begin(startId, maxId != null ? maxId : startId);
+        log.info("[GpsDataEncryption] 테이블 {} 시작: table={}, startId={}, maxId={}",
+                mode.description, tableName, startId, maxId);
+
+        if (maxId == null || maxId <= startId) {
+            progress.finish();
+            log.info("[GpsDataEncryption] 처리할 데이터 없음: table={}", tableName);
             return;
         }
-        
-        AtomicLong processed = new AtomicLong(0);
-        AtomicLong failed = new AtomicLong(0);
-        AtomicLong processedRoutes = new AtomicLong(0);
-        long minRouteId = 0;
-        int batchCount = 0;
-        
-        while (true) {
-            batchCount++;
-            long batchStartTime = System.currentTimeMillis();
-            
+
+        int tableChunkSize = BlobTable.find(tableName) != null ? blobChunkSize : chunkSize;
+        ChunkDispatcher dispatcher = new ChunkDispatcher(tableName, jobName, tableChunkSize, startId, maxId, progress);
+        ExecutorService workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "gps-encryption-" + tableName + "-" + dispatcher.threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(() -> runWorker(mode, tableName, dispatcher, progress));
+        }
+        workers.shutdown();
+
+        try {
+            while (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                logProgress(tableName, progress);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopRequested = true;
+        }
+
+        progress.finish();
+        logProgress(tableName, progress);
+        log.info("[GpsDataEncryption] 테이블 {} {}: table={}, checkpointId={}, failedChunks={}",
+                mode.description, stopRequested ? "중지" : "완료", tableName, progress.checkpointId, progress.failedChunks.get());
+    }
+
+    private void runWorker(MigrationMode mode, String tableName, ChunkDispatcher dispatcher, TableProgress progress) {
+        while (!stopRequested) {
+            waitWhileDatabaseBusy();
+
+            long[] range = dispatcher.next();
+            if (range == null) {
+                return;
+            }
+
             try {
-                log.info(">>> 배치 #{} 시작: minRouteId={}, 배치크기={}", 
-                        batchCount, minRouteId, 50);
-                
-                int batchResult = batchService.processRouteBatch(
-                    minRouteId, 50, processed, failed  // 50개 Route씩 처리
-                );
-                
-                long batchElapsed = System.currentTimeMillis() - batchStartTime;
-                log.info("<<< 배치 #{} 완료: 처리된 Route={}, 소요시간={}ms", 
-                        batchCount, batchResult, batchElapsed);
-                
-                if (batchResult == 0) {
-                    log.info("[RouteGpsLog] 더 이상 처리할 데이터 없음. 종료.");
-                    break;
-                }
-                
-                processedRoutes.addAndGet(batchResult);
-                minRouteId += 1000;
-                
-                // 진행 상황 로그 (매 배치마다)
-                double progress = (processedRoutes.get() * 100.0) / totalCount;
-                long totalElapsed = (System.currentTimeMillis() - startTime) / 1000;
-                log.info("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-                log.info("📊 진행률: {}/{} Route ({} %)", 
-                        String.format("%,d", processedRoutes.get()), 
-                        String.format("%,d", totalCount), 
-                        String.format("%.1f", progress));
-                log.info("📦 암호화된 GPS 로그: {} 개", String.format("%,d", processed.get()));
-                log.info("❌ 실패: {} 개", failed.get());
-                log.info("⏱️  경과 시간: {}초 ({}분)", totalElapsed, totalElapsed / 60);
-                log.info("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-                
-                System.gc();
-                Thread.sleep(100);
-                
+                Integer encrypted = transactionTemplate.execute(
+                        status -> migrateChunk(mode, tableName, range[0], range[1], progress));
+                progress.encryptedRows.addAndGet(encrypted != null ? encrypted : 0);
+                progress.encryptedCounter.increment(encrypted != null ? encrypted : 0);
+                dispatcher.complete(range);
             } catch (Exception e) {
-                log.error("❌ [RouteGpsLog] 배치 #{} 처리 실패: minRouteId={}", batchCount, minRouteId, e);
-                failed.incrementAndGet();
-                minRouteId += 1000;
-            }
-        }
-        
-        long totalElapsed = (System.currentTimeMillis() - startTime) / 1000;
-        log.info("========================================");
-        log.info("✅ [RouteGpsLog] 암호화 완료!");
-        log.info("   - 처리된 Route: {} 개", String.format("%,d", processedRoutes.get()));
-        log.info("   - 암호화된 GPS 로그: {} 개", String.format("%,d", processed.get()));
-        log.info("   - 실패: {} 개", failed.get());
-        log.info("   - 총 소요시간: {}초 ({}분)", totalElapsed, totalElapsed / 60);
-        log.info("========================================");
+                progress.failedChunks.incrementAndGet();
+                log.error("[GpsDataEncryption] 청크 암호화 실패: table={}, afterId={}, upToId={}, error={}",
+                        tableName, range[0], range[1], e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * (afterId, upToId] 범위의 대상 행을 현재 키 버전으로 암호화
+     * @return 갱신된 행 수
+     */
+    private int migrateChunk(MigrationMode mode, String tableName, long afterId, long upToId, TableProgress progress) {
+        BlobTable blobTable = BlobTable.find(tableName);
+        if (blobTable != null) {
+            return reencryptBlobChunk(blobTable, afterId, upToId, progress);
+        }
+
+        List<GpsCoordinateRow> rows = mode == MigrationMode.REENCRYPT
+                ? gpsDataEncryptionJdbcRepository.findRowsNotEncryptedWith(tableName, afterId, upToId,
+                        gpsEncryptionUtil.getActiveCiphertextPrefix())
+                : gpsDataEncryptionJdbcRepository.findPlaintextRows(tableName, afterId, upToId);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        long[] ids = new long[rows.size()];
+        String[] expectedLatitudes = new String[rows.size()];
+        double[] longitudes = new double[rows.size()];
+        double[] latitudes = new double[rows.size()];
+        double[] elevations = new double[rows.size()];
+        int count = 0;
+
+        for (GpsCoordinateRow row : rows) {
+            try {
+                longitudes[count] = readCoordinate(mode, row.longitude());
+                latitudes[count] = readCoordinate(mode, row.latitude());
+                elevations[count] = readCoordinate(mode, row.elevation());
+                ids[count] = row.id();
+                expectedLatitudes[count] = row.latitude();
+                count++;
+            } catch (RuntimeException e) {
+                // 좌표로 읽을 수 없는 값은 그대로 두고 실패로 집계
+                progress.failedRows.incrementAndGet();
+                progress.failedCounter.increment();
+                log.warn("[GpsDataEncryption] 저장된 좌표 읽기 실패: table={}, id={}, error={}",
+                        tableName, row.id(), e.getMessage());
+            }
+        }
+        if (count == 0) {
+            return 0;
+        }
+        if (count < rows.size()) {
+            ids = Arrays.copyOf(ids, count);
+            expectedLatitudes = Arrays.copyOf(expectedLatitudes, count);
+            longitudes = Arrays.copyOf(longitudes, count);
+            latitudes = Arrays.copyOf(latitudes, count);
+            elevations = Arrays.copyOf(elevations, count);
+        }
+
+        return gpsDataEncryptionJdbcRepository.updateCoordinates(tableName, ids, expectedLatitudes,
+                gpsEncryptionUtil.encryptAll(longitudes),
+                gpsEncryptionUtil.encryptAll(latitudes),
+                gpsEncryptionUtil.encryptAll(elevations),
+                updateBatchSize);
+    }
+
+    /**
+     * (afterId, upToId] 범위에서 현재 키 버전이 아닌 트랙 블롭을 복호화 후 현재 키 버전으로 다시 암호화
+     * 연관 데이터는 블롭 저장 위치로 다시 계산 (이전 키 버전 블롭도 같은 위치 검증을 거쳐 복호화)
+     * @return 갱신된 행 수
+     */
+    private int reencryptBlobChunk(BlobTable blobTable, long afterId, long upToId, TableProgress progress) {
+        List<EncryptedBlobRow> rows = gpsDataEncryptionJdbcRepository.findBlobsNotEncryptedWith(
+                blobTable.tableName, blobTable.ownerColumn, blobTable.partKeyColumn, afterId, upToId,
+                gpsEncryptionUtil.getActiveBytesHeader());
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        long[] ids = new long[rows.size()];
+        byte[][] expectedPayloads = new byte[rows.size()][];
+        byte[][] payloads = new byte[rows.size()][];
+        int count = 0;
+
+        for (EncryptedBlobRow row : rows) {
+            if (gpsEncryptionUtil.isCurrentBytes(row.payload())) {
+                continue;
+            }
+            try {
+                byte[] associatedData = blobTable.associatedData.apply(row.ownerId(), row.partKey());
+                byte[] plaintext = gpsEncryptionUtil.decryptBytes(row.payload(), associatedData);
+                payloads[count] = gpsEncryptionUtil.encryptBytes(plaintext, associatedData);
+                expectedPayloads[count] = row.payload();
+                ids[count] = row.id();
+                count++;
+            } catch (RuntimeException e) {
+                // 복호화할 수 없는 블롭은 그대로 두고 실패로 집계
+                progress.failedRows.incrementAndGet();
+                progress.failedCounter.increment();
+                log.warn("[GpsDataEncryption] 저장된 블롭 읽기 실패: table={}, id={}, error={}",
+                        blobTable.tableName, row.id(), e.getMessage());
+            }
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        return gpsDataEncryptionJdbcRepository.updatePayloads(blobTable.tableName,
+                Arrays.copyOf(ids, count), Arrays.copyOf(expectedPayloads, count), Arrays.copyOf(payloads, count));
+    }
+
+    /**
+     * 저장된 좌표 값 읽기 (없는 값은 NaN)
+     */
+    private double readCoordinate(MigrationMode mode, String storedValue) {
+        if (storedValue == null || storedValue.isBlank()) {
+            return Double.NaN;
+        }
+        return mode == MigrationMode.REENCRYPT
+                ? gpsEncryptionUtil.decrypt(storedValue)
+                : Double.parseDouble(storedValue);
+    }
+
+    /**
+     * DB 활성 세션 수가 기준 이상이면 줄어들 때까지 대기 (확인은 모든 작업 스레드 합쳐 초당 한 번)
+     */
+    private void waitWhileDatabaseBusy() {
+        while (!stopRequested && isDatabaseBusy()) {
+            throttledCounter.increment();
+            try {
+                Thread.sleep(throttleSleepMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private synchronized boolean isDatabaseBusy() {
+        long now = System.currentTimeMillis();
+        if (now - lastLoadCheckAt >= LOAD_CHECK_INTERVAL_MILLIS) {
+            lastLoadCheckAt = now;
+            try {
+                lastActiveSessions = gpsDataEncryptionJdbcRepository.countActiveSessions();
+            } catch (Exception e) {
+                log.warn("[GpsDataEncryption] DB 활성 세션 조회 실패: error={}", e.getMessage());
+                lastActiveSessions = 0;
+            }
+        }
+        return lastActiveSessions >= maxActiveSessions;
+    }
+
+    private void logProgress(String tableName, TableProgress progress) {
+        log.info("[GpsDataEncryption] 진행 상황: table={}, progress={}%, encryptedRows={}, failedRows={}, etaSeconds={}",
+                tableName, String.format("%.1f", progress.progressRatio() * 100),
+                progress.encryptedRows.get(), progress.failedRows.get(), (long) progress.etaSeconds());
+    }
+
+    private enum MigrationMode {
+        ENCRYPT_PLAINTEXT("평문 암호화"),
+        REENCRYPT("재암호화");
+
+        private final String description;
+
+        MigrationMode(String description) {
+            this.description = description;
+        }
+    }
+
+    /**
+     * 재암호화 대상 트랙 블롭 테이블 (블롭을 암호화할 때 사용한 연관 데이터 계산 방법 포함)
+     */
+    private enum BlobTable {
+        ACTIVITY_TRACK_CHUNKS("activity_track_chunks", "activity_id", "chunk_index",
+                (activityId, chunkIndex) -> PackedTrackStore.chunkAssociatedData(activityId, Integer.parseInt(chunkIndex))),
+        ACTIVITY_TRACK_LODS("activity_track_lods", "activity_id", "resolution",
+                (activityId, resolution) -> PackedTrackStore.levelAssociatedData(activityId, TrackResolution.valueOf(resolution))),
+        ROUTE_PROFILES("route_profiles", "route_id", null,
+                (routeId, partKey) -> RouteProfileService.PROFILE_ASSOCIATED_DATA);
+
+        private final String tableName;
+        private final String ownerColumn;
+        private final String partKeyColumn;
+        private final BiFunction<Long, String, byte[]> associatedData;
+
+        BlobTable(String tableName, String ownerColumn, String partKeyColumn,
+                  BiFunction<Long, String, byte[]> associatedData) {
+            this.tableName = tableName;
+            this.ownerColumn = ownerColumn;
+            this.partKeyColumn = partKeyColumn;
+            this.associatedData = associatedData;
+        }
+
+        private static BlobTable find(String tableName) {
+            for (BlobTable blobTable : values()) {
+                if (blobTable.tableName.equals(tableName)) {
+                    return blobTable;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 작업 스레드에 청크 범위를 나눠주고, 완료된 연속 구간의 끝을 진행 위치로 저장
+     */
+    private final class ChunkDispatcher {
+
+        private final String tableName;
+        private final String jobName;
+        private final int chunkSize;
+        private final long maxId;
+        private final TableProgress progress;
+        private final AtomicInteger threadSeq = new AtomicInteger();
+
+        /**
+         * 나눠줬지만 아직 완료되지 않은 청크의 afterId (실패한 청크도 남아 진행 위치를 막음)
+         */
+        private final TreeSet<Long> pendingAfterIds = new TreeSet<>();
+        private long cursorId;
+        private boolean exhausted;
+
+        private ChunkDispatcher(String tableName, String jobName, int chunkSize, long startId, long maxId,
+                                TableProgress progress) {
+            this.tableName = tableName;
+            this.jobName = jobName;
+            this.chunkSize = chunkSize;
+            this.cursorId = startId;
+            this.maxId = maxId;
+            this.progress = progress;
+        }
+
+        /**
+         * 다음 청크 범위
+         * @return {afterId, upToId}, 남은 범위가 없으면 null
+         */
+        private synchronized long[] next() {
+            if (exhausted || stopRequested || cursorId >= maxId) {
+                return null;
+            }
+            Long upToId = gpsDataEncryptionJdbcRepository.findChunkEndId(tableName, cursorId, chunkSize);
+            if (upToId == null) {
+                exhausted = true;
+                return null;
+            }
+            // 시작 시점의 maxId까지만 처리 (이후 저장된 로그는 이미 암호화되어 저장됨)
+            upToId = Math.min(upToId, maxId);
+
+            long[] range = {cursorId, upToId};
+            pendingAfterIds.add(cursorId);
+            cursorId = upToId;
+            return range;
+        }
+
+        private synchronized void complete(long[] range) {
+            pendingAfterIds.remove(range[0]);
+            long watermark = pendingAfterIds.isEmpty() ? cursorId : pendingAfterIds.first();
+            if (watermark > progress.checkpointId) {
+                batchCheckpointService.advance(jobName, watermark);
+                progress.checkpointId = watermark;
+            }
+        }
+    }
+
+    /**
+     * 테이블별 진행 상황
+     */
+    private static final class TableProgress {
+
+        private final AtomicLong encryptedRows = new AtomicLong();
+        private final AtomicLong failedRows = new AtomicLong();
+        private final AtomicLong failedChunks = new AtomicLong();
+        private Counter encryptedCounter;
+        private Counter failedCounter;
+
+        private volatile long startId;
+        private volatile long maxId;
+        private volatile long checkpointId;
+        private volatile long startedAt;
+        private volatile long finishedAt;
+
+        private void begin(long startId, long maxId) {
+            this.startId = startId;
+            this.maxId = maxId;
+            this.checkpointId = startId;
+            this.startedAt = System.currentTimeMillis();
+            this.finishedAt = 0;
+            encryptedRows.set(0);
+            failedRows.set(0);
+            failedChunks.set(0);
+        }
+
+        private void finish() {
+            this.finishedAt = System.currentTimeMillis();
+        }
+
+        private double progressRatio() {
+            long total = maxId - startId;
+            if (startedAt == 0) {
+                return 0;
+            }
+            if (total <= 0) {
+                return 1;
+            }
+            return Math.min(1, (double) (checkpointId - startId) / total);
+        }
+
+        /**
+         * 지금까지의 ID 구간 처리 속도로 계산한 예상 남은 시간
+         */
+        private double etaSeconds() {
+            if (startedAt == 0 || finishedAt != 0) {
+                return 0;
+            }
+            double elapsedSeconds = (System.currentTimeMillis() - startedAt) / 1000.0;
+            long done = checkpointId - startId;
+            if (done <= 0 || elapsedSeconds <= 0) {
+                return -1;
+            }
+            return (maxId - checkpointId) / (done / elapsedSeconds);
+        }
+
+        private Map<String, Object> toStatus() {
+            Map<String, Object> status = new LinkedHashMap<>();
+            long end = finishedAt != 0 ? finishedAt : System.currentTimeMillis();
+            double elapsedSeconds = startedAt != 0 ? (end - startedAt) / 1000.0 : 0;
+
+            status.put("startId", startId);
+            status.put("maxId", maxId);
+            status.put("checkpointId", checkpointId);
+            status.put("progressPercent", Math.round(progressRatio() * 1000) / 10.0);
+            status.put("encryptedRows", encryptedRows.get());
+            status.put("failedRows", failedRows.get());
+            status.put("failedChunks", failedChunks.get());
+            status.put("rowsPerSecond", elapsedSeconds > 0 ? Math.round(encryptedRows.get() / elapsedSeconds) : 0);
+            status.put("etaSeconds", Math.round(etaSeconds()));
+            status.put("finished", finishedAt != 0);
+            return status;
+        }
     }
 }
@@ -1,17 +1,12 @@
 package com.ridingmate.api_server.global.util;
 
-import com.ggalmazor.ltdownsampling.DoublePoint;
-import com.ggalmazor.ltdownsampling.LTThreeBuckets;
-import com.ggalmazor.ltdownsampling.Point;
 import com.ridingmate.api_server.domain.route.exception.RouteException;
 import com.ridingmate.api_server.domain.route.exception.code.RouteCreationErrorCode;
 import org.locationtech.jts.geom.*;
 import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 public class GeometryUtil {
 
@@ -233,37 +228,18 @@ public class GeometryUtil {
             return lineString;
         }
 
-        // LTTB 알고리즘으로 다운샘플링
-        List<Point> points = convertCoordinatesToPointsForThumbnail(List.of(coordinates));
-        List<Point> downsampledPoints = LTThreeBuckets.sorted(points, targetPoints);
-        
-        // Point를 다시 Coordinate로 변환
-        List<Coordinate> downsampledCoords = downsampledPoints.stream()
-                .map(point -> {
-                    int index = (int) point.getX();
-                    return coordinates[index];
-                })
-                .collect(Collectors.toList());
-        
-        return geometryFactory.createLineString(downsampledCoords.toArray(new Coordinate[0]));
-    }
-
-    /**
-     * 썸네일용 좌표를 Point로 변환 (인덱스 기반)
-     * LTTB 알고리즘에서 사용할 수 있도록 각 좌표에 인덱스를 부여
-     */
-    private static List<Point> convertCoordinatesToPointsForThumbnail(List<Coordinate> coordinates) {
-        if (coordinates == null || coordinates.isEmpty()) {
-            return new ArrayList<>();
+        // LTTB 알고리즘으로 다운샘플링 (X축은 인덱스, Y축은 위도)
+        double[] latitudes = new double[coordinates.length];
+        for (int i = 0; i < coordinates.length; i++) {
+            latitudes[i] = coordinates[i].y;
         }
+        int[] indices = LttbDownsampler.downsample(latitudes, targetPoints);
 
-        return IntStream.range(0, coordinates.size())
-            .mapToObj(i -> {
-                Coordinate coordinate = coordinates.get(i);
-                // X축은 인덱스, Y축은 위도를 사용 (시각적 다운샘플링을 위해)
-                return new DoublePoint(i, coordinate.y);
-            })
-            .collect(Collectors.toList());
+        Coordinate[] downsampledCoords = new Coordinate[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            downsampledCoords[i] = coordinates[indices[i]];
+        }
+        return geometryFactory.createLineString(downsampledCoords);
     }
 
     /**
@@ -276,6 +252,16 @@ public class GeometryUtil {
         return null;
     }
 
+    /**
+     * LineString에서 출발 지점 반환 (SRID 4326 Point)
+     */
+    public static Point getStartPoint(LineString lineString) {
+        if (lineString != null && !lineString.isEmpty()) {
+            return lineString.getStartPoint();
+        }
+        return null;
+    }
+
     /**
      * LineString에서 도착 좌표 반환
      */
@@ -327,22 +313,6 @@ public class GeometryUtil {
         return List.of(simplifiedCoords);
     }
 
-    public static List<Point> convertCoordinatesToPoints(List<Coordinate> coordinates){
-        if (coordinates == null || coordinates.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        return IntStream.range(0, coordinates.size())
-            .mapToObj(i -> {
-                Coordinate coordinate = coordinates.get(i);
-
-                double elevation = Double.isNaN(coordinate.getZ()) ? 0.0 : coordinate.getZ();
-
-                return new DoublePoint(i, elevation);
-            })
-            .collect(Collectors.toList());
-    }
-
     /**
      * 자전거 경로 특성에 맞는 최적 샘플링 크기 계산
      * @param distanceKm 경로 거리 (km)
@@ -374,25 +344,20 @@ public class GeometryUtil {
      * 좌표 배열을 고도 프로필용으로 다운샘플링
      * @param coordinates 원본 좌표 배열
      * @param distanceKm 경로 거리 (km)
-     * @return 다운샘플링된 고도 포인트 목록
+     * @return 선택된 원본 좌표 인덱스 (오름차순)
      */
-    public static List<Point> downsampleElevationProfile(Coordinate[] coordinates, Double distanceKm) {
+    public static int[] downsampleElevationProfile(Coordinate[] coordinates, Double distanceKm) {
         if (coordinates == null || coordinates.length == 0) {
-            return new ArrayList<>();
+            return new int[0];
         }
 
-        // 좌표를 Point로 변환
-        List<Point> elevationPoints = convertCoordinatesToPoints(List.of(coordinates));
-        
-        // 최적 샘플링 크기 계산
-        int targetSampleSize = calculateOptimalSampleSize(distanceKm, elevationPoints.size());
-        
-        // LTTB 다운샘플링: 입력 데이터가 충분할 때만 적용
-        if (elevationPoints.size() > targetSampleSize) {
-            return LTThreeBuckets.sorted(elevationPoints, targetSampleSize);
+        double[] elevations = new double[coordinates.length];
+        for (int i = 0; i < coordinates.length; i++) {
+            elevations[i] = coordinates[i].getZ();
         }
-        
-        // 입력 데이터가 적으면 원본 데이터를 그대로 사용
-        return elevationPoints;
+
+        // 최적 샘플링 크기 계산 (입력 데이터가 적으면 원본 데이터를 그대로 사용)
+        int targetSampleSize = calculateOptimalSampleSize(distanceKm, coordinates.length);
+        return LttbDownsampler.downsample(elevations, targetSampleSize);
     }
 }
@@ -1,21 +1,38 @@
 package com.ridingmate.api_server.global.util;
 
+import com.ridingmate.api_server.global.config.GpsEncryptionKeyProperty;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.AEADBadTagException;
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * GPS 좌표 암호화/복호화 유틸리티
  * AES-256-GCM 방식 사용
+ *
+ * - Cipher 인스턴스는 스레드별로 캐싱하여 값마다 Cipher.getInstance 호출을 피함
+ * - IV는 인스턴스별 랜덤 4바이트 + 8바이트 카운터로 구성 (NIST SP 800-38D 결정적 IV 방식)
+ * - 평문은 마커(0x00) + IEEE754 8바이트 double, 기존 10진 문자열 평문도 복호화 지원
+ * - 암호문 앞에 키 버전 헤더(0x82 0x99 + 버전 1바이트)를 붙여 버전별 키로 복호화
+ *   (Base64 문자열은 항상 "gpk" + 버전 문자로 시작하므로 SQL에서 키 버전 판별 가능)
+ * - 헤더가 없는 기존 암호문은 기존 키(gps.encryption.key)로 복호화
+ * - 트랙 블롭은 저장 위치(활동 ID, 청크 순번 등)를 연관 데이터(AAD)로 묶어 암호화하고
+ *   헤더(0x82 0x9A + 버전)로 구분 (다른 행의 블롭으로 바꿔치기하면 복호화 실패)
+ *   연관 데이터 없는 블롭은 복호화하지 않음 (위치 검증을 우회하는 경로를 두지 않음)
  */
 @Slf4j
 @Component
@@ -25,20 +42,96 @@ public class GpsEncryptionUtil {
     private static final int GCM_TAG_LENGTH = 128;
     private static final int GCM_IV_LENGTH = 12;
 
-    private final SecretKey secretKey;
+    /**
+     * 바이너리 평문 마커 (10진 문자열 평문에는 0x00이 나타나지 않음)
+     */
+    private static final byte BINARY_PLAINTEXT_MARKER = 0x00;
+    private static final int BINARY_PLAINTEXT_LENGTH = 1 + Double.BYTES;
 
-    public GpsEncryptionUtil(@Value("${gps.encryption.key}") String base64Key) {
-        byte[] keyBytes;
-        try {
-            keyBytes = Base64.getDecoder().decode(base64Key.trim());
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("암호화 키(Base64)가 유효하지 않습니다.", e);
+    /**
+     * 키 버전 헤더 (Base64로 "gpk"가 되는 2바이트 + 버전 1바이트)
+     */
+    private static final byte KEY_VERSION_MAGIC_0 = (byte) 0x82;
+    private static final byte KEY_VERSION_MAGIC_1 = (byte) 0x99;
+    private static final byte BOUND_KEY_VERSION_MAGIC_1 = (byte) 0x9A;
+    private static final int KEY_VERSION_HEADER_LENGTH = 3;
+    private static final int MAX_KEY_VERSION = 63;
+
+    private static final ThreadLocal<Cipher> ENCRYPT_CIPHER = ThreadLocal.withInitial(GpsEncryptionUtil::newCipher);
+    private static final ThreadLocal<Cipher> DECRYPT_CIPHER = ThreadLocal.withInitial(GpsEncryptionUtil::newCipher);
+
+    private final Map<Integer, SecretKey> keysByVersion;
+    private final int activeVersion;
+    private final SecretKey activeKey;
+    private final SecretKey legacyKey;
+    private final int ivFixedField;
+    private final AtomicLong ivCounter;
+
+    public GpsEncryptionUtil(GpsEncryptionKeyProperty property) {
+        Map<Integer, SecretKey> keys = new HashMap<>();
+        if (property.keys() != null) {
+            property.keys().forEach((version, base64Key) -> {
+                if (version == null || version < 1 || version > MAX_KEY_VERSION) {
+                    throw new IllegalArgumentException("암호화 키 버전은 1~" + MAX_KEY_VERSION + " 사이여야 합니다: " + version);
+                }
+                keys.put(version, toSecretKey(base64Key));
+            });
         }
-        if (keyBytes.length != 32) {
-            throw new IllegalArgumentException("암호화 키는 32바이트(256비트)여야 합니다.");
+
+        SecretKey configuredLegacyKey = property.key() != null && !property.key().isBlank()
+                ? toSecretKey(property.key()) : null;
+        if (keys.isEmpty()) {
+            if (configuredLegacyKey == null) {
+                throw new IllegalArgumentException("GPS 암호화 키가 설정되지 않았습니다.");
+            }
+            keys.put(1, configuredLegacyKey);
+        }
+
+        this.keysByVersion = Map.copyOf(keys);
+        this.activeVersion = property.activeVersion() != null
+                ? property.activeVersion() : Collections.max(keysByVersion.keySet());
+        this.activeKey = keysByVersion.get(activeVersion);
+        if (activeKey == null) {
+            throw new IllegalArgumentException("사용할 암호화 키 버전이 설정되지 않았습니다: " + activeVersion);
         }
-        this.secretKey = new SecretKeySpec(keyBytes, "AES");
+        this.legacyKey = configuredLegacyKey != null
+                ? configuredLegacyKey : keysByVersion.get(Collections.min(keysByVersion.keySet()));
+
+        SecureRandom random = new SecureRandom();
+        this.ivFixedField = random.nextInt();
+        this.ivCounter = new AtomicLong(random.nextLong());
+    }
+
+    /**
+     * 새로 암호화할 때 사용하는 키 버전
+     */
+    public int getActiveKeyVersion() {
+        return activeVersion;
+    }
+
+    /**
+     * 복호화 가능한 키 버전 목록
+     */
+    public Set<Integer> getKeyVersions() {
+        return keysByVersion.keySet();
+    }
+
+    /**
+     * 현재 키 버전 암호문의 Base64 접두사 (재암호화 대상 판별용, 예: "gpkB")
+     */
+    public String getActiveCiphertextPrefix() {
+        return Base64.getEncoder().encodeToString(keyVersionHeader(activeVersion));
     }
+
+    /**
+     * 현재 키 버전 트랙 블롭의 헤더 (재암호화 대상 판별용)
+     */
+    public byte[] getActiveBytesHeader() {
+        byte[] header = keyVersionHeader(activeVersion);
+        header[1] = BOUND_KEY_VERSION_MAGIC_1;
+        return header;
+    }
+
     /**
      * GPS 좌표를 암호화
      * @param value 원본 좌표값 (latitude, longitude, elevation)
@@ -50,28 +143,7 @@ public class GpsEncryptionUtil {
         }
 
         try {
-            // IV(Initialization Vector) 생성
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            SecureRandom random = new SecureRandom();
-            random.nextBytes(iv);
-
-            // 암호화
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
-
-            // Double을 바이트 배열로 변환
-            byte[] valueBytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
-            byte[] encrypted = cipher.doFinal(valueBytes);
-
-            // IV + 암호화된 데이터를 결합
-            ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + encrypted.length);
-            byteBuffer.put(iv);
-            byteBuffer.put(encrypted);
-
-            // Base64 인코딩
-            return Base64.getEncoder().encodeToString(byteBuffer.array());
-
+            return encryptValue(ENCRYPT_CIPHER.get(), value);
         } catch (Exception e) {
             log.error("GPS 좌표 암호화 실패: {}", e.getMessage(), e);
             throw new RuntimeException("GPS 좌표 암호화 중 오류가 발생했습니다.", e);
@@ -89,34 +161,106 @@ public class GpsEncryptionUtil {
         }
 
         try {
-            // Base64 디코딩
-            byte[] decodedBytes = Base64.getDecoder().decode(encryptedValue);
-            ByteBuffer byteBuffer = ByteBuffer.wrap(decodedBytes);
+            return decryptValue(DECRYPT_CIPHER.get(), encryptedValue);
+        } catch (Exception e) {
+            log.error("GPS 좌표 복호화 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("GPS 좌표 복호화 중 오류가 발생했습니다.", e);
+        }
+    }
 
-            // IV 추출
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            byteBuffer.get(iv);
+    /**
+     * GPS 좌표 일괄 암호화
+     * @param values 원본 좌표값 배열 (NaN은 null로 저장)
+     * @return Base64 인코딩된 암호화 문자열 배열
+     */
+    public String[] encryptAll(double[] values) {
+        String[] result = new String[values.length];
+        Cipher cipher = ENCRYPT_CIPHER.get();
 
-            // 암호화된 데이터 추출
-            byte[] encrypted = new byte[byteBuffer.remaining()];
-            byteBuffer.get(encrypted);
+        try {
+            for (int i = 0; i < values.length; i++) {
+                result[i] = Double.isNaN(values[i]) ? null : encryptValue(cipher, values[i]);
+            }
+        } catch (Exception e) {
+            log.error("GPS 좌표 일괄 암호화 실패: count={}, {}", values.length, e.getMessage(), e);
+            throw new RuntimeException("GPS 좌표 암호화 중 오류가 발생했습니다.", e);
+        }
+        return result;
+    }
 
-            // 복호화
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, parameterSpec);
+    /**
+     * GPS 좌표 일괄 복호화
+     * @param encryptedValues Base64 인코딩된 암호화 문자열 배열
+     * @return 원본 좌표값 배열 (null 또는 빈 값은 NaN)
+     */
+    public double[] decryptAll(String[] encryptedValues) {
+        double[] result = new double[encryptedValues.length];
+        Cipher cipher = DECRYPT_CIPHER.get();
 
-            byte[] decrypted = cipher.doFinal(encrypted);
-            String valueStr = new String(decrypted, StandardCharsets.UTF_8);
+        try {
+            for (int i = 0; i < encryptedValues.length; i++) {
+                String encryptedValue = encryptedValues[i];
+                result[i] = encryptedValue == null || encryptedValue.isEmpty()
+                        ? Double.NaN
+                        : decryptValue(cipher, encryptedValue);
+            }
+        } catch (Exception e) {
+            log.error("GPS 좌표 일괄 복호화 실패: count={}, {}", encryptedValues.length, e.getMessage(), e);
+            throw new RuntimeException("GPS 좌표 복호화 중 오류가 발생했습니다.", e);
+        }
+        return result;
+    }
 
-            return Double.parseDouble(valueStr);
+    /**
+     * 바이너리 데이터 암호화 (트랙 블롭 저장용)
+     * @param plaintext 원본 바이트
+     * @param associatedData 블롭 저장 위치 식별값 (필수, 복호화 시 같은 값 필요)
+     * @return 연관 데이터 키 버전 헤더 + IV + 암호문(태그 포함)
+     */
+    public byte[] encryptBytes(byte[] plaintext, byte[] associatedData) {
+        if (associatedData == null) {
+            throw new IllegalArgumentException("트랙 블롭은 연관 데이터가 필요합니다.");
+        }
+        try {
+            return encryptRaw(ENCRYPT_CIPHER.get(), plaintext, associatedData);
+        } catch (Exception e) {
+            log.error("GPS 트랙 암호화 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("GPS 트랙 암호화 중 오류가 발생했습니다.", e);
+        }
+    }
 
+    /**
+     * 바이너리 데이터 복호화 (트랙 블롭 조회용)
+     * @param ciphertext 연관 데이터 헤더 + IV + 암호문(태그 포함)
+     * @param associatedData 암호화할 때 사용한 블롭 저장 위치 식별값
+     * @return 원본 바이트
+     * @throws RuntimeException 연관 데이터 헤더가 없거나 모르는 키 버전이거나 연관 데이터가 다르면
+     */
+    public byte[] decryptBytes(byte[] ciphertext, byte[] associatedData) {
+        try {
+            SecretKey boundKey = findBoundKey(ciphertext);
+            if (boundKey == null) {
+                throw new GeneralSecurityException("연관 데이터 블롭 헤더가 없거나 모르는 키 버전입니다.");
+            }
+            return decryptWith(DECRYPT_CIPHER.get(), boundKey, ciphertext, KEY_VERSION_HEADER_LENGTH, associatedData);
         } catch (Exception e) {
-            log.error("GPS 좌표 복호화 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("GPS 좌표 복호화 중 오류가 발생했습니다.", e);
+            log.error("GPS 트랙 복호화 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("GPS 트랙 복호화 중 오류가 발생했습니다.", e);
         }
     }
 
+    /**
+     * 현재 키 버전과 연관 데이터로 암호화된 블롭인지 확인 (재암호화 대상 판별용)
+     * @param ciphertext 저장된 블롭
+     * @return 연관 데이터 헤더이고 현재 키 버전이면 true
+     */
+    public boolean isCurrentBytes(byte[] ciphertext) {
+        return ciphertext.length > KEY_VERSION_HEADER_LENGTH + GCM_IV_LENGTH
+                && ciphertext[0] == KEY_VERSION_MAGIC_0
+                && ciphertext[1] == BOUND_KEY_VERSION_MAGIC_1
+                && ciphertext[2] == activeVersion;
+    }
+
     /**
      * 좌표값 암호화 (문자열 반환)
      */
@@ -124,33 +268,138 @@ public class GpsEncryptionUtil {
         if (latitude == null || longitude == null) {
             return null;
         }
-        
-        String coordinates = String.format("%f,%f,%f", 
-                latitude, 
-                longitude, 
+
+        String coordinates = String.format("%f,%f,%f",
+                latitude,
+                longitude,
                 elevation != null ? elevation : 0.0);
-        
+
         try {
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            SecureRandom random = new SecureRandom();
-            random.nextBytes(iv);
+            return encryptToBase64(ENCRYPT_CIPHER.get(), coordinates.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            log.error("좌표 암호화 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("좌표 암호화 중 오류가 발생했습니다.", e);
+        }
+    }
 
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
+    private String encryptValue(Cipher cipher, double value) throws GeneralSecurityException {
+        byte[] plaintext = ByteBuffer.allocate(BINARY_PLAINTEXT_LENGTH)
+                .put(BINARY_PLAINTEXT_MARKER)
+                .putDouble(value)
+                .array();
+        return encryptToBase64(cipher, plaintext);
+    }
 
-            byte[] encrypted = cipher.doFinal(coordinates.getBytes(StandardCharsets.UTF_8));
+    private String encryptToBase64(Cipher cipher, byte[] plaintext) throws GeneralSecurityException {
+        return Base64.getEncoder().encodeToString(encryptRaw(cipher, plaintext, null));
+    }
 
-            ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + encrypted.length);
-            byteBuffer.put(iv);
-            byteBuffer.put(encrypted);
+    private byte[] encryptRaw(Cipher cipher, byte[] plaintext, byte[] associatedData) throws GeneralSecurityException {
+        byte[] iv = nextIv();
+        cipher.init(Cipher.ENCRYPT_MODE, activeKey, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+        byte[] header = keyVersionHeader(activeVersion);
+        if (associatedData != null) {
+            cipher.updateAAD(associatedData);
+            header[1] = BOUND_KEY_VERSION_MAGIC_1;
+        }
 
-            return Base64.getEncoder().encodeToString(byteBuffer.array());
+        // 키 버전 헤더 + IV + 암호화된 데이터를 결합
+        int ivOffset = KEY_VERSION_HEADER_LENGTH;
+        byte[] output = new byte[ivOffset + GCM_IV_LENGTH + cipher.getOutputSize(plaintext.length)];
+        System.arraycopy(header, 0, output, 0, KEY_VERSION_HEADER_LENGTH);
+        System.arraycopy(iv, 0, output, ivOffset, GCM_IV_LENGTH);
+        cipher.doFinal(plaintext, 0, plaintext.length, output, ivOffset + GCM_IV_LENGTH);
+        return output;
+    }
 
-        } catch (Exception e) {
-            log.error("좌표 암호화 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("좌표 암호화 중 오류가 발생했습니다.", e);
+    private byte[] decryptRaw(Cipher cipher, byte[] ciphertext) throws GeneralSecurityException {
+        SecretKey versionedKey = findVersionedKey(ciphertext);
+        if (versionedKey != null) {
+            try {
+                return decryptWith(cipher, versionedKey, ciphertext, KEY_VERSION_HEADER_LENGTH, null);
+            } catch (AEADBadTagException e) {
+                // 헤더 없는 기존 암호문의 IV가 우연히 헤더와 같은 경우 기존 키로 복호화
+                log.debug("키 버전 헤더 복호화 실패, 기존 키로 재시도");
+            }
         }
+        return decryptWith(cipher, legacyKey, ciphertext, 0, null);
     }
-}
 
+    private byte[] decryptWith(Cipher cipher, SecretKey key, byte[] ciphertext, int ivOffset, byte[] associatedData)
+            throws GeneralSecurityException {
+        cipher.init(Cipher.DECRYPT_MODE, key,
+                new GCMParameterSpec(GCM_TAG_LENGTH, ciphertext, ivOffset, GCM_IV_LENGTH));
+        if (associatedData != null) {
+            cipher.updateAAD(associatedData);
+        }
+        int dataOffset = ivOffset + GCM_IV_LENGTH;
+        return cipher.doFinal(ciphertext, dataOffset, ciphertext.length - dataOffset);
+    }
+
+    /**
+     * 키 버전 헤더가 있으면 해당 버전의 키
+     * @return 헤더가 없거나 모르는 버전이면 null
+     */
+    private SecretKey findVersionedKey(byte[] ciphertext) {
+        if (ciphertext.length <= KEY_VERSION_HEADER_LENGTH + GCM_IV_LENGTH
+                || ciphertext[0] != KEY_VERSION_MAGIC_0 || ciphertext[1] != KEY_VERSION_MAGIC_1) {
+            return null;
+        }
+        return keysByVersion.get((int) ciphertext[2]);
+    }
+
+    /**
+     * 연관 데이터 헤더가 있으면 해당 버전의 키
+     * @return 헤더가 없거나 모르는 버전이면 null
+     */
+    private SecretKey findBoundKey(byte[] ciphertext) {
+        if (ciphertext.length <= KEY_VERSION_HEADER_LENGTH + GCM_IV_LENGTH
+                || ciphertext[0] != KEY_VERSION_MAGIC_0 || ciphertext[1] != BOUND_KEY_VERSION_MAGIC_1) {
+            return null;
+        }
+        return keysByVersion.get((int) ciphertext[2]);
+    }
+
+    private static byte[] keyVersionHeader(int version) {
+        return new byte[]{KEY_VERSION_MAGIC_0, KEY_VERSION_MAGIC_1, (byte) version};
+    }
+
+    private static SecretKey toSecretKey(String base64Key) {
+        byte[] keyBytes;
+        try {
+            keyBytes = Base64.getDecoder().decode(base64Key.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("암호화 키(Base64)가 유효하지 않습니다.", e);
+        }
+        if (keyBytes.length != 32) {
+            throw new IllegalArgumentException("암호화 키는 32바이트(256비트)여야 합니다.");
+        }
+        return new SecretKeySpec(keyBytes, "AES");
+    }
+
+    private double decryptValue(Cipher cipher, String encryptedValue) throws GeneralSecurityException {
+        byte[] decrypted = decryptRaw(cipher, Base64.getDecoder().decode(encryptedValue));
+
+        if (decrypted.length == BINARY_PLAINTEXT_LENGTH && decrypted[0] == BINARY_PLAINTEXT_MARKER) {
+            return ByteBuffer.wrap(decrypted, 1, Double.BYTES).getDouble();
+        }
+
+        // 기존 형식: 10진 문자열 평문
+        return Double.parseDouble(new String(decrypted, StandardCharsets.UTF_8));
+    }
+
+    private byte[] nextIv() {
+        return ByteBuffer.allocate(GCM_IV_LENGTH)
+                .putInt(ivFixedField)
+                .putLong(ivCounter.getAndIncrement())
+                .array();
+    }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("GPS 암호화 Cipher 생성에 실패했습니다.", e);
+        }
+    }
+}
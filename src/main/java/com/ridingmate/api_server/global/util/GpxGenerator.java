@@ -1,48 +1,26 @@
 package com.ridingmate.api_server.global.util;
 
+import com.ridingmate.api_server.domain.activity.track.TrackSamples;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.LineString;
 
 import java.io.ByteArrayOutputStream;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStream;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 /**
  * GPX 파일 생성 유틸리티 클래스
+ *
+ * - 출력 스트림에 바로 작성하므로 문서 전체를 메모리에 만들지 않음
+ * - 포인트 시각은 생성 시각(기준)부터 1초씩 증가
  */
 public class GpxGenerator {
 
-    private static final String GPX_HEADER = """
-            <?xml version="1.0" encoding="UTF-8"?>
-            <gpx version="1.1" creator="RidingMate" xmlns="http://www.topografix.com/GPX/1/1">
-                <metadata>
-                    <name>%s</name>
-                    <desc>%s</desc>
-                    <time>%s</time>
-                </metadata>
-                <trk>
-                    <name>%s</name>
-                    <desc>%s</desc>
-                    <trkseg>
-            """;
-
-    private static final String GPX_FOOTER = """
-                    </trkseg>
-                </trk>
-            </gpx>
-            """;
-
-    private static final String TRACK_POINT_TEMPLATE = """
-                        <trkpt lat="%.6f" lon="%.6f">
-                            <ele>%.2f</ele>
-                            <time>%s</time>
-                        </trkpt>
-            """;
-
     /**
      * 좌표 리스트로부터 GPX 파일을 생성합니다.
      *
@@ -57,26 +35,8 @@ public class GpxGenerator {
             throw new IllegalArgumentException("좌표 리스트가 비어있습니다.");
         }
 
-        try (FileWriter writer = new FileWriter(filePath)) {
-            // GPX 헤더 작성
-            String currentTime = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "Z";
-            writer.write(String.format(GPX_HEADER, routeName, "", currentTime, routeName, ""));
-
-            // 트랙 포인트 작성
-            for (int i = 0; i < coordinates.size(); i++) {
-                Coordinate coord = coordinates.get(i);
-                double elevation = Double.isNaN(coord.getZ()) ? 0.0 : coord.getZ();
-                
-                // 시간은 시작 시간부터 1초씩 증가
-                LocalDateTime pointTime = LocalDateTime.now().plusSeconds(i);
-                String timeStr = pointTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "Z";
-                
-                writer.write(String.format(TRACK_POINT_TEMPLATE, 
-                    coord.getY(), coord.getX(), elevation, timeStr));
-            }
-
-            // GPX 푸터 작성
-            writer.write(GPX_FOOTER);
+        try (OutputStream out = new FileOutputStream(filePath)) {
+            writeGpx(out, coordinates.toArray(new Coordinate[0]), routeName);
         }
     }
 
@@ -90,56 +50,13 @@ public class GpxGenerator {
      * @throws IOException 파일 생성 오류
      */
     public static byte[] generateGpxBytes(Long routeId, String routeTitle, LineString routeLine) throws IOException {
-        // GPX 파일을 메모리에서 생성
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (PrintWriter writer = new PrintWriter(baos)) {
-            // GPX 헤더 작성
-            String currentTime = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "Z";
-            writer.printf("""
-                <?xml version="1.0" encoding="UTF-8"?>
-                <gpx version="1.1" creator="RidingMate" xmlns="http://www.topografix.com/GPX/1/1">
-                    <metadata>
-                        <name>%s</name>
-                        <desc></desc>
-                        <time>%s</time>
-                    </metadata>
-                    <trk>
-                        <name>%s</name>
-                        <desc></desc>
-                        <trkseg>
-                """, routeTitle, currentTime, routeTitle);
-
-            // 트랙 포인트 작성
-            Coordinate[] coordinates = routeLine.getCoordinates();
-            for (int i = 0; i < coordinates.length; i++) {
-                Coordinate coord = coordinates[i];
-                double elevation = Double.isNaN(coord.getZ()) ? 0.0 : coord.getZ();
-                
-                // 시간은 시작 시간부터 1초씩 증가
-                LocalDateTime pointTime = LocalDateTime.now().plusSeconds(i);
-                String timeStr = pointTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "Z";
-                
-                writer.printf("""
-                        <trkpt lat="%.6f" lon="%.6f">
-                            <ele>%.2f</ele>
-                            <time>%s</time>
-                        </trkpt>
-                """, coord.getY(), coord.getX(), elevation, timeStr);
-            }
-
-            // GPX 푸터 작성
-            writer.write("""
-                    </trkseg>
-                </trk>
-            </gpx>
-            """);
-        }
-
+        writeGpx(baos, routeLine.getCoordinates(), routeTitle);
         return baos.toByteArray();
     }
 
     /**
-     * 좌표 배열로부터 GPX 파일을 생성하고 바이트 배열로 반환합니다.
+     * 좌표 배열로부터 GPX 파일을 생성하고 바이트 배열로 반환합니다. (S3 업로드용)
      *
      * @param coordinates 좌표 배열
      * @param routeTitle  Route 제목
@@ -151,51 +68,87 @@ public class GpxGenerator {
             throw new IllegalArgumentException("좌표 배열이 비어있습니다.");
         }
 
-        // GPX 파일을 메모리에서 생성
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (PrintWriter writer = new PrintWriter(baos)) {
-            // GPX 헤더 작성
-            String currentTime = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "Z";
-            writer.printf("""
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(coordinates.length * 110 + 512);
+        writeGpx(baos, coordinates, routeTitle);
+        return baos.toByteArray();
+    }
+
+    /**
+     * 좌표 배열을 GPX로 출력 스트림에 작성합니다.
+     *
+     * @param out         출력 스트림 (닫지 않음)
+     * @param coordinates 좌표 배열 (x: 경도, y: 위도, z: 고도)
+     * @param routeTitle  Route 제목
+     * @throws IOException 쓰기 오류
+     */
+    public static void writeGpx(OutputStream out, Coordinate[] coordinates, String routeTitle) throws IOException {
+        long baseTime = Instant.now().getEpochSecond();
+        TrackXmlWriter writer = new TrackXmlWriter(out);
+        writeHeader(writer, routeTitle, baseTime);
+        for (int i = 0; i < coordinates.length; i++) {
+            Coordinate coord = coordinates[i];
+            writeTrackPoint(writer, coord.getY(), coord.getX(), coord.getZ(), baseTime + i);
+        }
+        writeFooter(writer);
+    }
+
+    /**
+     * 트랙 프로필을 GPX로 출력 스트림에 작성합니다.
+     *
+     * @param out        출력 스트림 (닫지 않음)
+     * @param track      시간순 트랙 (위경도, 고도)
+     * @param routeTitle Route 제목
+     * @throws IOException 쓰기 오류
+     */
+    public static void writeGpx(OutputStream out, TrackSamples track, String routeTitle) throws IOException {
+        long baseTime = Instant.now().getEpochSecond();
+        double[] latitudes = track.latitudes();
+        double[] longitudes = track.longitudes();
+        double[] elevations = track.elevations();
+
+        TrackXmlWriter writer = new TrackXmlWriter(out);
+        writeHeader(writer, routeTitle, baseTime);
+        for (int i = 0; i < latitudes.length; i++) {
+            writeTrackPoint(writer, latitudes[i], longitudes[i], elevations[i], baseTime + i);
+        }
+        writeFooter(writer);
+    }
+
+    private static void writeHeader(TrackXmlWriter writer, String routeTitle, long baseTime) throws IOException {
+        writer.text("""
                 <?xml version="1.0" encoding="UTF-8"?>
                 <gpx version="1.1" creator="RidingMate" xmlns="http://www.topografix.com/GPX/1/1">
                     <metadata>
-                        <name>%s</name>
+                        <name>""").escaped(routeTitle).text("""
+                </name>
                         <desc></desc>
-                        <time>%s</time>
+                        <time>""").isoTime(baseTime).text("""
+                </time>
                     </metadata>
                     <trk>
-                        <name>%s</name>
+                        <name>""").escaped(routeTitle).text("""
+                </name>
                         <desc></desc>
                         <trkseg>
-                """, routeTitle, currentTime, routeTitle);
-
-            // 트랙 포인트 작성
-            for (int i = 0; i < coordinates.length; i++) {
-                Coordinate coord = coordinates[i];
-                double elevation = Double.isNaN(coord.getZ()) ? 0.0 : coord.getZ();
-                
-                // 시간은 시작 시간부터 1초씩 증가
-                LocalDateTime pointTime = LocalDateTime.now().plusSeconds(i);
-                String timeStr = pointTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "Z";
-                
-                writer.printf("""
-                        <trkpt lat="%.6f" lon="%.6f">
-                            <ele>%.2f</ele>
-                            <time>%s</time>
-                        </trkpt>
-                """, coord.getY(), coord.getX(), elevation, timeStr);
-            }
+                """);
+    }
 
-            // GPX 푸터 작성
-            writer.write("""
-                    </trkseg>
-                </trk>
-            </gpx>
-            """);
-        }
+    private static void writeTrackPoint(TrackXmlWriter writer, double lat, double lon, double elevation,
+                                        long epochSecond) throws IOException {
+        writer.text("            <trkpt lat=\"").fixed(lat, 6)
+                .text("\" lon=\"").fixed(lon, 6)
+                .text("\">\n                <ele>").fixed(elevation, 2)
+                .text("</ele>\n                <time>").isoTime(epochSecond)
+                .text("</time>\n            </trkpt>\n");
+    }
 
-        return baos.toByteArray();
+    private static void writeFooter(TrackXmlWriter writer) throws IOException {
+        writer.text("""
+                        </trkseg>
+                    </trk>
+                </gpx>
+                """);
+        writer.flush();
     }
 
     /**
@@ -0,0 +1,197 @@
+package com.ridingmate.api_server.global.util;
+
+/**
+ * LTTB(Largest-Triangle-Three-Buckets) 다운샘플링
+ *
+ * - x축은 원본 인덱스, y축은 채널 값
+ * - 유한하지 않은 값(NaN/Infinity)은 직전 유한 값으로 채움 (앞쪽 결측은 첫 유한 값, 유한 값이 없으면 0)
+ * - 선택된 원본 인덱스만 int[]로 반환하므로 포인트 객체를 만들지 않음
+ * - 첫/마지막 포인트는 항상 포함, 결과는 오름차순
+ */
+public final class LttbDownsampler {
+
+    private LttbDownsampler() {
+    }
+
+    /**
+     * 단일 채널 LTTB
+     * @param values 채널 값
+     * @param targetSize 선택할 포인트 수 (첫/마지막 포인트 포함)
+     * @return 오름차순 원본 인덱스 (값이 targetSize개 이하면 전체 인덱스)
+     */
+    public static int[] downsample(double[] values, int targetSize) {
+        int size = values.length;
+        if (size <= targetSize || targetSize < 3) {
+            return allIndices(size);
+        }
+        values = carryForwardFinite(values);
+
+        int[] selected = new int[targetSize];
+        double bucketWidth = (double) (size - 2) / (targetSize - 2);
+        int previous = 0;
+
+        for (int bucket = 0; bucket < targetSize - 2; bucket++) {
+            // 다음 버킷 평균점
+            int nextStart = (int) ((bucket + 1) * bucketWidth) + 1;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketWidth) + 1, size);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += i;
+                averageY += values[i];
+            }
+            int nextCount = nextEnd - nextStart;
+            averageX /= nextCount;
+            averageY /= nextCount;
+
+            // 이전 선택점, 다음 버킷 평균점과 만드는 삼각형 넓이가 가장 큰 점 선택
+            int from = (int) (bucket * bucketWidth) + 1;
+            int to = (int) ((bucket + 1) * bucketWidth) + 1;
+            double previousY = values[previous];
+            double maxArea = -1;
+            int maxIndex = from;
+            for (int i = from; i < to; i++) {
+                double area = Math.abs((previous - averageX) * (values[i] - previousY)
+                        - (previous - i) * (averageY - previousY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+
+            selected[bucket + 1] = maxIndex;
+            previous = maxIndex;
+        }
+
+        selected[targetSize - 1] = size - 1;
+        return selected;
+    }
+
+    /**
+     * 다채널 LTTB (여러 채널의 피크를 함께 유지)
+     * 채널마다 값 범위로 정규화한 삼각형 넓이의 합이 가장 큰 점을 버킷마다 선택
+     * 값이 모두 같거나 없는 채널은 선택에 영향을 주지 않음
+     * @param channels 같은 길이의 채널 값 배열들
+     * @param targetSize 선택할 포인트 수 (첫/마지막 포인트 포함)
+     * @return 오름차순 원본 인덱스 (값이 targetSize개 이하면 전체 인덱스)
+     */
+    public static int[] downsample(double[][] channels, int targetSize) {
+        if (channels.length == 1) {
+            return downsample(channels[0], targetSize);
+        }
+
+        int size = channels.length == 0 ? 0 : channels[0].length;
+        if (size <= targetSize || targetSize < 3) {
+            return allIndices(size);
+        }
+
+        int channelCount = channels.length;
+        double[][] filled = new double[channelCount][];
+        double[] offsets = new double[channelCount];
+        double[] scales = new double[channelCount];
+        for (int c = 0; c < channelCount; c++) {
+            filled[c] = carryForwardFinite(channels[c]);
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (double value : filled[c]) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            offsets[c] = max > min ? min : 0;
+            scales[c] = max > min ? 1.0 / (max - min) : 0;
+        }
+
+        int[] selected = new int[targetSize];
+        double[] averageYs = new double[channelCount];
+        double bucketWidth = (double) (size - 2) / (targetSize - 2);
+        int previous = 0;
+
+        for (int bucket = 0; bucket < targetSize - 2; bucket++) {
+            // 다음 버킷 채널별 평균점
+            int nextStart = (int) ((bucket + 1) * bucketWidth) + 1;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketWidth) + 1, size);
+            int nextCount = nextEnd - nextStart;
+            double averageX = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += i;
+            }
+            averageX /= nextCount;
+            for (int c = 0; c < channelCount; c++) {
+                double sum = 0;
+                for (int i = nextStart; i < nextEnd; i++) {
+                    sum += normalizedValueAt(filled[c], i, offsets[c], scales[c]);
+                }
+                averageYs[c] = sum / nextCount;
+            }
+
+            int from = (int) (bucket * bucketWidth) + 1;
+            int to = (int) ((bucket + 1) * bucketWidth) + 1;
+            double maxArea = -1;
+            int maxIndex = from;
+            for (int i = from; i < to; i++) {
+                double area = 0;
+                for (int c = 0; c < channelCount; c++) {
+                    if (scales[c] == 0) {
+                        continue;
+                    }
+                    double previousY = normalizedValueAt(filled[c], previous, offsets[c], scales[c]);
+                    double y = normalizedValueAt(filled[c], i, offsets[c], scales[c]);
+                    area += Math.abs((previous - averageX) * (y - previousY)
+                            - (previous - i) * (averageYs[c] - previousY));
+                }
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+
+            selected[bucket + 1] = maxIndex;
+            previous = maxIndex;
+        }
+
+        selected[targetSize - 1] = size - 1;
+        return selected;
+    }
+
+    private static int[] allIndices(int size) {
+        int[] indices = new int[size];
+        for (int i = 0; i < size; i++) {
+            indices[i] = i;
+        }
+        return indices;
+    }
+
+    /**
+     * 유한하지 않은 값을 직전 유한 값으로 채운 배열 (모두 유한하면 원본 그대로 반환)
+     */
+    private static double[] carryForwardFinite(double[] values) {
+        int firstFinite = -1;
+        boolean allFinite = true;
+        for (int i = 0; i < values.length; i++) {
+            if (Double.isFinite(values[i])) {
+                if (firstFinite < 0) {
+                    firstFinite = i;
+                }
+            } else {
+                allFinite = false;
+            }
+        }
+        if (allFinite) {
+            return values;
+        }
+
+        double[] filled = new double[values.length];
+        double last = firstFinite >= 0 ? values[firstFinite] : 0.0;
+        for (int i = 0; i < values.length; i++) {
+            if (Double.isFinite(values[i])) {
+                last = values[i];
+            }
+            filled[i] = last;
+        }
+        return filled;
+    }
+
+    private static double normalizedValueAt(double[] values, int index, double offset, double scale) {
+        return (values[index] - offset) * scale;
+    }
+}
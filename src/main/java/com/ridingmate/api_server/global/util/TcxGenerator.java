@@ -1,5 +1,6 @@
 package com.ridingmate.api_server.global.util;
 
+import com.ridingmate.api_server.domain.activity.track.TrackSamples;
 import com.ridingmate.api_server.domain.route.entity.Route;
 import com.ridingmate.api_server.domain.route.entity.RouteGpsLog;
 import com.ridingmate.api_server.domain.route.enums.WaypointType;
@@ -8,74 +9,20 @@ import org.locationtech.jts.geom.LineString;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
 /**
  * TCX 파일 생성 유틸리티 클래스
  * Garmin Training Center XML 형식으로 경로 데이터를 생성합니다.
+ * 출력 스트림에 바로 작성하므로 문서 전체를 메모리에 만들지 않습니다.
  */
 public class TcxGenerator {
 
-    private static final String TCX_HEADER = """
-            <?xml version="1.0" encoding="UTF-8"?>
-            <TrainingCenterDatabase xmlns="http://www.garmin.com/xmlschemas/TrainingCenterDatabase/v2">
-                <Folders />
-                <Courses>
-                    <Course>
-                        <Name>%s</Name>
-                        <Lap>
-                            <TotalTimeSeconds>0</TotalTimeSeconds>
-                            <DistanceMeters>%.2f</DistanceMeters>
-                            <BeginPosition>
-                                <LatitudeDegrees>%.6f</LatitudeDegrees>
-                                <LongitudeDegrees>%.6f</LongitudeDegrees>
-                            </BeginPosition>
-                            <EndPosition>
-                                <LatitudeDegrees>%.6f</LatitudeDegrees>
-                                <LongitudeDegrees>%.6f</LongitudeDegrees>
-                            </EndPosition>
-                            <Intensity>Active</Intensity>
-                        </Lap>
-                        <Track>
-            """;
-
-    private static final String TCX_FOOTER = """
-                            </Track>
-                        </Course>
-                    </Courses>
-                </TrainingCenterDatabase>
-                """;
-
-    private static final String TRACK_POINT_TEMPLATE = """
-                                <Trackpoint sectionIndex="0" pointIndex="%d" originalElevation="" isOriginalElevationFromOSM="false">
-                                    <Time>%s</Time>
-                                    <Position>
-                                        <LatitudeDegrees>%.6f</LatitudeDegrees>
-                                        <LongitudeDegrees>%.6f</LongitudeDegrees>
-                                    </Position>
-                                    <AltitudeMeters>%.1f</AltitudeMeters>
-                                    <DistanceMeters>%.2f</DistanceMeters>
-                                </Trackpoint>
-            """;
-
-    private static final String COURSE_POINT_TEMPLATE = """
-                                <CoursePoint sectionIndex="0" pointIndex="%d">
-                                    <Name>%s</Name>
-                                    <Time>%s</Time>
-                                    <Position>
-                                        <LatitudeDegrees>%.6f</LatitudeDegrees>
-                                        <LongitudeDegrees>%.6f</LongitudeDegrees>
-                                    </Position>
-                                    <AltitudeMeters>%.1f</AltitudeMeters>
-                                    <PointType>%s</PointType>
-                                    <Notes>%s</Notes>
-                                </CoursePoint>
-            """;
-
     /**
      * Route 엔티티와 GPS 로그 목록으로부터 TCX 파일을 생성합니다.
      * RouteGpsLog를 시간순으로 정렬하여 정확한 순서로 TCX를 생성합니다.
@@ -111,70 +58,129 @@ public class TcxGenerator {
             throw new IllegalArgumentException("GPS 로그 목록이 비어있습니다.");
         }
 
-        // TCX 파일을 메모리에서 생성
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (PrintWriter writer = new PrintWriter(baos)) {
-            // TCX 헤더 작성
-            String currentTime = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "Z";
-            double totalDistance = calculateTotalDistanceFromGpsLogs(gpsLogs);
-            
-            // 시작점과 종료점 좌표
-            RouteGpsLog firstLog = gpsLogs.get(0);
-            RouteGpsLog lastLog = gpsLogs.get(gpsLogs.size() - 1);
-            
-            writer.printf(TCX_HEADER, routeTitle, totalDistance, 
-                firstLog.getLatitude(), firstLog.getLongitude(),
-                lastLog.getLatitude(), lastLog.getLongitude());
-
-            // GPS 로그를 순서대로 처리
-            double cumulativeDistance = 0.0;
-            for (int i = 0; i < gpsLogs.size(); i++) {
-                RouteGpsLog gpsLog = gpsLogs.get(i);
-                
-                // 시간 정보 (실제 GPS 로그 시간 사용)
-                String timeStr = gpsLog.getLogTime().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "Z";
-                
-                // 누적 거리 계산
-                if (i > 0) {
-                    RouteGpsLog prevLog = gpsLogs.get(i - 1);
-                    cumulativeDistance += calculateDistance(
-                        prevLog.getLatitude(), prevLog.getLongitude(),
-                        gpsLog.getLatitude(), gpsLog.getLongitude()
-                    );
-                }
-                
-                writer.printf(TRACK_POINT_TEMPLATE, 
-                    i, timeStr, gpsLog.getLatitude(), gpsLog.getLongitude(), 
-                    gpsLog.getElevation() != null ? gpsLog.getElevation() : 0.0, 
-                    cumulativeDistance);
+        TrackSamples.Builder builder = TrackSamples.builder(gpsLogs.size());
+        for (RouteGpsLog gpsLog : gpsLogs) {
+            if (gpsLog.getLatitude() == null || gpsLog.getLongitude() == null) {
+                continue;
             }
+            builder.add(gpsLog.getLogTime(), gpsLog.getLatitude(), gpsLog.getLongitude(), gpsLog.getElevation(),
+                    null, null, null, null, null);
+        }
+        List<RouteGpsLog> waypoints = gpsLogs.stream().filter(RouteGpsLog::isWaypoint).toList();
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(gpsLogs.size() * 400 + 1024);
+        writeTcx(baos, routeTitle, builder.build(), waypoints);
+        return baos.toByteArray();
+    }
+
+    /**
+     * 트랙 프로필과 Waypoint 목록을 TCX로 출력 스트림에 작성합니다.
+     * 누적 거리는 작성하면서 계산하므로 포인트별 배열을 만들지 않습니다.
+     *
+     * @param out        출력 스트림 (닫지 않음)
+     * @param routeTitle Route 제목
+     * @param track      시간순 트랙 (시간, 위경도, 고도)
+     * @param waypoints  시간순 Waypoint GPS 로그 (트랙과 같은 시각의 포인트에 CoursePoint로 연결)
+     * @throws IOException 쓰기 오류
+     */
+    public static void writeTcx(OutputStream out, String routeTitle, TrackSamples track,
+                                List<RouteGpsLog> waypoints) throws IOException {
+        if (track.isEmpty()) {
+            throw new IllegalArgumentException("GPS 로그 목록이 비어있습니다.");
+        }
+
+        long[] times = track.times();
+        double[] latitudes = track.latitudes();
+        double[] longitudes = track.longitudes();
+        double[] elevations = track.elevations();
+        int last = latitudes.length - 1;
+
+        double totalDistance = 0.0;
+        for (int i = 1; i <= last; i++) {
+            totalDistance += calculateDistance(latitudes[i - 1], longitudes[i - 1], latitudes[i], longitudes[i]);
+        }
+
+        TrackXmlWriter writer = new TrackXmlWriter(out);
+        writer.text("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <TrainingCenterDatabase xmlns="http://www.garmin.com/xmlschemas/TrainingCenterDatabase/v2">
+                    <Folders />
+                    <Courses>
+                        <Course>
+                            <Name>""").escaped(routeTitle).text("""
+                </Name>
+                            <Lap>
+                                <TotalTimeSeconds>0</TotalTimeSeconds>
+                                <DistanceMeters>""").fixed(totalDistance, 2).text("""
+                </DistanceMeters>
+                                <BeginPosition>
+                """);
+        writePosition(writer, "                    ", latitudes[0], longitudes[0]);
+        writer.text("""
+                                </BeginPosition>
+                                <EndPosition>
+                """);
+        writePosition(writer, "                    ", latitudes[last], longitudes[last]);
+        writer.text("""
+                                </EndPosition>
+                                <Intensity>Active</Intensity>
+                            </Lap>
+                            <Track>
+                """);
 
-            // CoursePoint 추가 (Waypoint가 있는 GPS 로그들)
-            int coursePointIndex = 0;
-            for (int i = 0; i < gpsLogs.size(); i++) {
-                RouteGpsLog gpsLog = gpsLogs.get(i);
-                if (gpsLog.isWaypoint()) {
-                    String timeStr = gpsLog.getLogTime().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "Z";
-                    String pointType = mapWaypointTypeToCoursePointType(gpsLog.getWaypointType());
-                    String notes = gpsLog.getWaypointDescription() != null ? gpsLog.getWaypointDescription() : "";
-                    
-                    writer.printf(COURSE_POINT_TEMPLATE,
-                        i, // Trackpoint의 실제 인덱스 사용
-                        gpsLog.getWaypointTitle() != null ? gpsLog.getWaypointTitle() : "Waypoint",
-                        timeStr,
-                        gpsLog.getLatitude(), gpsLog.getLongitude(),
-                        gpsLog.getElevation() != null ? gpsLog.getElevation() : 0.0,
-                        pointType,
-                        notes);
-                    coursePointIndex++;
-                }
+        double cumulativeDistance = 0.0;
+        for (int i = 0; i <= last; i++) {
+            if (i > 0) {
+                cumulativeDistance += calculateDistance(
+                        latitudes[i - 1], longitudes[i - 1], latitudes[i], longitudes[i]);
             }
+            writer.text("                <Trackpoint sectionIndex=\"0\" pointIndex=\"").integer(i)
+                    .text("\" originalElevation=\"\" isOriginalElevationFromOSM=\"false\">\n")
+                    .text("                    <Time>").isoTime(Math.floorDiv(times[i], 1000L)).text("</Time>\n")
+                    .text("                    <Position>\n");
+            writePosition(writer, "                        ", latitudes[i], longitudes[i]);
+            writer.text("                    </Position>\n")
+                    .text("                    <AltitudeMeters>").fixed(elevations[i], 1).text("</AltitudeMeters>\n")
+                    .text("                    <DistanceMeters>").fixed(cumulativeDistance, 2).text("</DistanceMeters>\n")
+                    .text("                </Trackpoint>\n");
+        }
 
-            // TCX 푸터 작성
-            writer.write(TCX_FOOTER);
+        // CoursePoint 추가 (Waypoint와 같은 시각의 Trackpoint 인덱스 사용)
+        for (RouteGpsLog waypoint : waypoints) {
+            int index = Arrays.binarySearch(times, TrackSamples.toEpochMillis(waypoint.getLogTime()));
+            if (index < 0 || waypoint.getLatitude() == null || waypoint.getLongitude() == null) {
+                continue;
+            }
+            writer.text("                <CoursePoint sectionIndex=\"0\" pointIndex=\"").integer(index).text("\">\n")
+                    .text("                    <Name>")
+                    .escaped(waypoint.getWaypointTitle() != null ? waypoint.getWaypointTitle() : "Waypoint")
+                    .text("</Name>\n")
+                    .text("                    <Time>").isoTime(Math.floorDiv(times[index], 1000L)).text("</Time>\n")
+                    .text("                    <Position>\n");
+            writePosition(writer, "                        ", waypoint.getLatitude(), waypoint.getLongitude());
+            writer.text("                    </Position>\n")
+                    .text("                    <AltitudeMeters>")
+                    .fixed(waypoint.getElevation() != null ? waypoint.getElevation() : 0.0, 1)
+                    .text("</AltitudeMeters>\n")
+                    .text("                    <PointType>").text(mapWaypointTypeToCoursePointType(waypoint.getWaypointType()))
+                    .text("</PointType>\n")
+                    .text("                    <Notes>").escaped(waypoint.getWaypointDescription()).text("</Notes>\n")
+                    .text("                </CoursePoint>\n");
         }
 
-        return baos.toByteArray();
+        writer.text("""
+                            </Track>
+                        </Course>
+                    </Courses>
+                </TrainingCenterDatabase>
+                """);
+        writer.flush();
+    }
+
+    private static void writePosition(TrackXmlWriter writer, String indent, double latitude, double longitude)
+            throws IOException {
+        writer.text(indent).text("<LatitudeDegrees>").fixed(latitude, 6).text("</LatitudeDegrees>\n")
+                .text(indent).text("<LongitudeDegrees>").fixed(longitude, 6).text("</LongitudeDegrees>\n");
     }
 
     /**
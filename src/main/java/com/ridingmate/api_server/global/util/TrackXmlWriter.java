@@ -0,0 +1,134 @@
+package com.ridingmate.api_server.global.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * GPX/TCX 트랙 XML 스트리밍 작성기
+ *
+ * - 포인트마다 String.format/DateTimeFormatter를 쓰지 않고 숫자와 시각을 버퍼에 직접 작성
+ * - 시각은 epoch 초로 받아 날짜 부분만 날짜가 바뀔 때 다시 계산 (UTC, "yyyy-MM-ddTHH:mm:ssZ")
+ * - 출력 스트림은 닫지 않고 flush만 수행 (호출한 쪽에서 관리)
+ */
+final class TrackXmlWriter {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000};
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    private final Writer writer;
+    private final char[] digits = new char[20];
+
+    private long cachedEpochDay = Long.MIN_VALUE;
+    private String cachedDatePrefix;
+
+    TrackXmlWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    TrackXmlWriter text(String text) throws IOException {
+        writer.write(text);
+        return this;
+    }
+
+    /**
+     * XML 특수문자를 이스케이프해서 작성 (null은 빈 문자열)
+     * XML 1.0에서 허용되지 않는 제어 문자(탭/줄바꿈 제외)는 문서가 깨지지 않도록 제외
+     */
+    TrackXmlWriter escaped(String text) throws IOException {
+        if (text == null) {
+            return this;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> writer.write("&amp;");
+                case '<' -> writer.write("&lt;");
+                case '>' -> writer.write("&gt;");
+                case '"' -> writer.write("&quot;");
+                case '\'' -> writer.write("&apos;");
+                case '\t', '\n', '\r' -> writer.write(c);
+                default -> {
+                    if (c >= 0x20 && c != 0xFFFE && c != 0xFFFF) {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        return this;
+    }
+
+    TrackXmlWriter integer(long value) throws IOException {
+        if (value < 0) {
+            writer.write('-');
+            value = -value;
+        }
+        int position = digits.length;
+        do {
+            digits[--position] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        writer.write(digits, position, digits.length - position);
+        return this;
+    }
+
+    /**
+     * 소수점 고정 자릿수로 작성 (반올림, NaN/무한대는 0)
+     * @param decimals 소수점 자릿수 (0~7)
+     */
+    TrackXmlWriter fixed(double value, int decimals) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            value = 0.0;
+        }
+        long scale = POWERS_OF_TEN[decimals];
+        long scaled = Math.round(Math.abs(value) * scale);
+        if (value < 0 && scaled != 0) {
+            writer.write('-');
+        }
+        integer(scaled / scale);
+        if (decimals > 0) {
+            long fraction = scaled % scale;
+            writer.write('.');
+            for (int i = digits.length - 1; i >= digits.length - decimals; i--) {
+                digits[i] = (char) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+            writer.write(digits, digits.length - decimals, decimals);
+        }
+        return this;
+    }
+
+    /**
+     * UTC 시각 작성 ("yyyy-MM-ddTHH:mm:ssZ")
+     */
+    TrackXmlWriter isoTime(long epochSecond) throws IOException {
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        if (epochDay != cachedEpochDay) {
+            cachedEpochDay = epochDay;
+            cachedDatePrefix = LocalDate.ofEpochDay(epochDay) + "T";
+        }
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        writer.write(cachedDatePrefix);
+        twoDigits(secondOfDay / 3600);
+        writer.write(':');
+        twoDigits(secondOfDay / 60 % 60);
+        writer.write(':');
+        twoDigits(secondOfDay % 60);
+        writer.write('Z');
+        return this;
+    }
+
+    void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void twoDigits(int value) throws IOException {
+        writer.write('0' + value / 10);
+        writer.write('0' + value % 10);
+    }
+}
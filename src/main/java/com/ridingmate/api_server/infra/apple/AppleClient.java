@@ -4,7 +4,6 @@ import com.ridingmate.api_server.global.exception.BusinessException;
 import com.ridingmate.api_server.infra.apple.dto.response.AppleJwksResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.core.codec.CodecException;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
@@ -17,7 +16,6 @@ import java.security.spec.InvalidKeySpecException;
 import java.security.spec.RSAPublicKeySpec;
 import java.util.Base64;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Apple API 클라이언트
@@ -29,10 +27,9 @@ public class AppleClient {
     private final WebClient appleWebClient;
 
     /**
-     * Apple JWKS 정보 조회 (캐시 적용)
-     * 캐시 TTL: 1시간 (Apple의 키 로테이션 주기 고려)
+     * Apple JWKS 정보 조회 (매 호출마다 Apple 요청)
+     * 토큰 검증에는 변환된 공개키를 보관하는 AppleJwksKeyStore를 사용
      */
-    @Cacheable(value = "appleJwks", unless = "#result == null")
     public AppleJwksResponse getJwks() {
         return appleWebClient.get()
                 .uri("/auth/keys")
@@ -62,27 +59,6 @@ public class AppleClient {
                 .block();
     }
 
-    /**
-     * 특정 Key ID로 JWK 키 조회
-     */
-    public Optional<AppleJwksResponse.JwkKey> getJwkByKeyId(String keyId) {
-        if (keyId == null || keyId.isBlank()) {
-            log.warn("Key ID is null or blank");
-            return Optional.empty();
-        }
-
-        AppleJwksResponse jwks = getJwks();
-        if (jwks == null || jwks.keys() == null) {
-            log.warn("JWKS response is null or empty");
-            return Optional.empty();
-        }
-
-        return jwks.keys().stream()
-                .filter(key -> keyId.equals(key.keyId()))
-                .filter(AppleJwksResponse.JwkKey::isValidForSignatureVerification)
-                .findFirst();
-    }
-
     /**
      * JWK를 RSA PublicKey로 변환
      */
@@ -111,14 +87,6 @@ public class AppleClient {
         }
     }
 
-    /**
-     * Key ID로 RSA PublicKey 직접 조회
-     */
-    public Optional<PublicKey> getPublicKeyByKeyId(String keyId) {
-        return getJwkByKeyId(keyId)
-                .map(this::convertJwkToPublicKey);
-    }
-
     /**
      * 사용 가능한 모든 Key ID 목록 조회
      */
@@ -0,0 +1,123 @@
+package com.ridingmate.api_server.infra.apple;
+
+import com.ridingmate.api_server.infra.apple.dto.response.AppleJwksResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Apple JWKS 공개키 저장소
+ *
+ * - JWKS를 kid별 RSA PublicKey로 변환해 보관하여 로그인 시 Apple 호출/키 변환을 하지 않음
+ * - 만료 전에 백그라운드 스케줄러가 주기적으로 갱신하고, 갱신 실패 시 기존 키를 계속 사용
+ * - 모르는 kid(키 로테이션 직후)는 즉시 다시 조회하되 동시 요청은 한 번만 조회하고 최소 간격을 둠
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AppleJwksKeyStore {
+
+    private static final Duration REFRESH_INTERVAL = Duration.ofHours(1);
+    private static final Duration MIN_REFETCH_INTERVAL = Duration.ofSeconds(10);
+
+    private final AppleClient appleClient;
+    private final Object refreshLock = new Object();
+
+    private volatile Map<String, PublicKey> publicKeys = Map.of();
+    private volatile long lastRefreshedAt;
+    private long lastFetchAttemptAt;
+
+    /**
+     * kid에 해당하는 공개키 조회
+     * 저장소에 없으면 JWKS를 다시 조회 (최소 간격 이내 재조회는 생략)
+     * @param keyId JWT 헤더의 kid
+     * @return 공개키, 없으면 empty
+     */
+    public Optional<PublicKey> getPublicKey(String keyId) {
+        if (keyId == null || keyId.isBlank()) {
+            return Optional.empty();
+        }
+
+        PublicKey publicKey = publicKeys.get(keyId);
+        if (publicKey != null) {
+            return Optional.of(publicKey);
+        }
+
+        synchronized (refreshLock) {
+            // 대기하는 동안 다른 요청이 갱신했으면 다시 조회하지 않음
+            publicKey = publicKeys.get(keyId);
+            if (publicKey != null) {
+                return Optional.of(publicKey);
+            }
+            if (System.currentTimeMillis() - lastFetchAttemptAt < MIN_REFETCH_INTERVAL.toMillis()) {
+                log.warn("[Apple] 알 수 없는 kid, 최근 JWKS를 조회하여 재조회 생략: keyId={}", keyId);
+                return Optional.empty();
+            }
+
+            log.info("[Apple] 알 수 없는 kid로 JWKS 재조회: keyId={}", keyId);
+            refresh();
+            return Optional.ofNullable(publicKeys.get(keyId));
+        }
+    }
+
+    /**
+     * 갱신 주기가 지난 경우 백그라운드에서 JWKS 갱신 (기동 직후 최초 1회 포함)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void refreshIfStale() {
+        if (System.currentTimeMillis() - lastRefreshedAt < REFRESH_INTERVAL.toMillis()) {
+            return;
+        }
+
+        try {
+            synchronized (refreshLock) {
+                refresh();
+            }
+        } catch (Exception e) {
+            log.warn("[Apple] JWKS 백그라운드 갱신 실패, 기존 키 유지: keyCount={}, error={}",
+                    publicKeys.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * JWKS 조회 후 서명 검증용 키만 변환하여 교체 (refreshLock 보유 상태에서 호출)
+     */
+    private void refresh() {
+        lastFetchAttemptAt = System.currentTimeMillis();
+
+        AppleJwksResponse jwks = appleClient.getJwks();
+        if (jwks == null || jwks.keys() == null || jwks.keys().isEmpty()) {
+            log.warn("[Apple] JWKS 응답이 비어 있어 기존 키 유지");
+            return;
+        }
+
+        Map<String, PublicKey> refreshedKeys = new HashMap<>();
+        for (AppleJwksResponse.JwkKey jwkKey : jwks.keys()) {
+            if (!jwkKey.isValidForSignatureVerification()) {
+                continue;
+            }
+            try {
+                refreshedKeys.put(jwkKey.keyId(), appleClient.convertJwkToPublicKey(jwkKey));
+            } catch (AppleException e) {
+                // 변환에 실패한 키만 제외하고 나머지 키는 사용
+                log.warn("[Apple] JWK 변환 실패로 제외: keyId={}", jwkKey.keyId());
+            }
+        }
+
+        if (refreshedKeys.isEmpty()) {
+            log.warn("[Apple] 사용 가능한 JWK가 없어 기존 키 유지");
+            return;
+        }
+
+        publicKeys = Map.copyOf(refreshedKeys);
+        lastRefreshedAt = System.currentTimeMillis();
+        log.info("[Apple] JWKS 갱신 완료: keyIds={}", publicKeys.keySet());
+    }
+}
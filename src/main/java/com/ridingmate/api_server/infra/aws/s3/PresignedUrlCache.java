@@ -0,0 +1,77 @@
+package com.ridingmate.api_server.infra.aws.s3;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * S3 객체 키별 Presigned URL 캐시
+ *
+ * - 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ * - 캐시 유효 시간은 서명 유효 시간보다 짧게 두어, 캐시에서 꺼낸 URL도 최소 (서명 - 캐시) 시간 이상 유효
+ * - 서명은 락 밖에서 수행하므로 동시에 같은 키가 미스되면 중복 서명될 수 있음 (결과는 동일하게 유효)
+ */
+class PresignedUrlCache {
+
+    private static final String METRIC_NAME = "s3.presigned_url.cache";
+
+    private final long ttlMillis;
+    private final Map<String, CachedUrl> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    PresignedUrlCache(int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this.ttlMillis = ttl.toMillis();
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedUrl> eldest) {
+                return size() > maxSize;
+            }
+        });
+
+        this.hitCounter = Counter.builder(METRIC_NAME + ".requests")
+                .description("Presigned URL 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME + ".requests")
+                .description("Presigned URL 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", cache, Map::size)
+                .description("Presigned URL 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 URL 조회, 없거나 만료되었으면 서명 후 저장
+     * @param key S3 객체 키
+     * @param signer 캐시 미스 시 호출할 서명 함수
+     * @return Presigned URL
+     */
+    String get(String key, Function<String, String> signer) {
+        long now = System.currentTimeMillis();
+        CachedUrl cached = cache.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            hitCounter.increment();
+            return cached.url();
+        }
+
+        missCounter.increment();
+        String url = signer.apply(key);
+        cache.put(key, new CachedUrl(url, now + ttlMillis));
+        return url;
+    }
+
+    void evict(String key) {
+        cache.remove(key);
+    }
+
+    private record CachedUrl(String url, long expiresAt) {
+    }
+}
@@ -1,29 +1,57 @@
 package com.ridingmate.api_server.infra.aws.s3;
 
 import com.ridingmate.api_server.infra.aws.AwsProperty;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class S3Manager {
 
+    private static final Duration PRESIGNED_URL_DURATION = Duration.ofMinutes(30);
+
+    /**
+     * 다운로드 리다이렉트용 URL은 바로 사용되므로 짧게 서명 (캐시하지 않음)
+     */
+    private static final Duration DOWNLOAD_URL_DURATION = Duration.ofMinutes(5);
+
+    /**
+     * 캐시에서 꺼낸 URL도 최소 10분은 유효하도록 서명 유효 시간보다 짧게 유지
+     */
+    private static final Duration PRESIGNED_URL_CACHE_TTL = Duration.ofMinutes(20);
+    private static final int PRESIGNED_URL_CACHE_SIZE = 10_000;
+
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
     private final AwsProperty awsProperty;
+    private final PresignedUrlCache presignedUrlCache;
+
+    public S3Manager(S3Client s3Client, S3Presigner s3Presigner, AwsProperty awsProperty, MeterRegistry meterRegistry) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.awsProperty = awsProperty;
+        this.presignedUrlCache = new PresignedUrlCache(PRESIGNED_URL_CACHE_SIZE, PRESIGNED_URL_CACHE_TTL, meterRegistry);
+    }
 
     //TODO 예외처리 로직 생성필요
     public void uploadFile(String key, MultipartFile file) {
@@ -57,7 +85,49 @@ public class S3Manager {
         log.info("S3 업로드 완료: {}", key);
     }
 
+    /**
+     * 같은 버킷 내 객체 복사 (서버 측 복사로 데이터를 내려받지 않음)
+     */
+    public void copyFile(String sourceKey, String destinationKey) {
+        CopyObjectRequest request = CopyObjectRequest.builder()
+                .sourceBucket(awsProperty.s3().bucket())
+                .sourceKey(sourceKey)
+                .destinationBucket(awsProperty.s3().bucket())
+                .destinationKey(destinationKey)
+                .build();
+
+        s3Client.copyObject(request);
+        log.info("S3 복사 완료: {} -> {}", sourceKey, destinationKey);
+    }
+
+    /**
+     * 객체 조회용 Presigned URL (같은 키는 캐시된 URL 재사용)
+     * @param key S3 객체 키
+     * @return Presigned URL, 키가 null이면 null
+     */
     public String getPresignedUrl(String key) {
+        if (key == null) {
+            return null;
+        }
+        return presignedUrlCache.get(key, this::presign);
+    }
+
+    /**
+     * 여러 객체의 Presigned URL 일괄 조회 (중복 키는 한 번만 서명)
+     * @param keys S3 객체 키 목록 (null은 무시)
+     * @return 키별 Presigned URL
+     */
+    public Map<String, String> getPresignedUrls(Collection<String> keys) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (String key : keys) {
+            if (key != null && !urls.containsKey(key)) {
+                urls.put(key, presignedUrlCache.get(key, this::presign));
+            }
+        }
+        return urls;
+    }
+
+    private String presign(String key) {
         GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                 .bucket(awsProperty.s3().bucket())
                 .key(key)
@@ -65,12 +135,68 @@ public class S3Manager {
 
         GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
                 .getObjectRequest(getObjectRequest)
-                .signatureDuration(Duration.ofMinutes(30))
+                .signatureDuration(PRESIGNED_URL_DURATION)
                 .build();
 
         return s3Presigner.presignGetObject(presignRequest).url().toString();
     }
 
+    /**
+     * 첨부 파일 다운로드용 Presigned URL (응답 Content-Type/Content-Disposition 지정)
+     * @param key S3 객체 키
+     * @param contentDisposition 응답 Content-Disposition
+     * @param contentType 응답 Content-Type
+     * @return Presigned URL
+     */
+    public String getPresignedDownloadUrl(String key, String contentDisposition, String contentType) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(awsProperty.s3().bucket())
+                .key(key)
+                .responseContentDisposition(contentDisposition)
+                .responseContentType(contentType)
+                .build();
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .getObjectRequest(getObjectRequest)
+                .signatureDuration(DOWNLOAD_URL_DURATION)
+                .build();
+
+        return s3Presigner.presignGetObject(presignRequest).url().toString();
+    }
+
+    /**
+     * 객체 메타데이터 조회 (본문은 열지 않음)
+     * @param key S3 객체 키
+     * @return 메타데이터 (Content-Length, ETag)
+     * @throws software.amazon.awssdk.services.s3.model.S3Exception 객체가 없으면 404
+     */
+    public HeadObjectResponse headFile(String key) {
+        HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                .bucket(awsProperty.s3().bucket())
+                .key(key)
+                .build();
+
+        return s3Client.headObject(headObjectRequest);
+    }
+
+    /**
+     * 객체 본문 스트림 조회 (메모리에 읽지 않고 그대로 전달할 때 사용, 호출한 쪽에서 닫아야 함)
+     * @param key S3 객체 키
+     * @param range HTTP Range 헤더 값 (예: bytes=0-1023), null이면 전체
+     * @param eTag 메타데이터 조회 시점의 ETag (null이면 확인하지 않음, 객체가 바뀌었으면 412)
+     * @return 본문 스트림과 응답 메타데이터 (Content-Length, Content-Range)
+     */
+    public ResponseInputStream<GetObjectResponse> openFile(String key, String range, String eTag) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(awsProperty.s3().bucket())
+                .key(key)
+                .range(range)
+                .ifMatch(eTag)
+                .build();
+
+        return s3Client.getObject(getObjectRequest);
+    }
+
     public InputStream downloadFile(String key) {
         GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                 .bucket(awsProperty.s3().bucket())
@@ -87,6 +213,7 @@ public class S3Manager {
                 .build();
 
         s3Client.deleteObject(deleteRequest);
+        presignedUrlCache.evict(key);
         log.info("S3 삭제 완료: {}", key);
     }
 }
\ No newline at end of file
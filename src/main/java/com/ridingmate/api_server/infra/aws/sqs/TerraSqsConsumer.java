@@ -1,99 +1,70 @@
 package com.ridingmate.api_server.infra.aws.sqs;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ridingmate.api_server.domain.activity.service.TerraWebhookProcessingService;
 import com.ridingmate.api_server.infra.terra.TerraErrorCode;
 import com.ridingmate.api_server.infra.terra.TerraException;
+import com.ridingmate.api_server.infra.terra.TerraPayloadReader;
+import com.ridingmate.api_server.infra.terra.TerraPayloadSource;
 import io.awspring.cloud.sqs.annotation.SqsListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TerraSqsConsumer {
 
-    private final ObjectMapper objectMapper;
+    private final TerraPayloadReader terraPayloadReader;
     private final WebClient webClient;
     private final TerraWebhookProcessingService terraWebhookProcessingService;
 
     @SqsListener("${cloud.aws.sqs.terra-queue-name}")
     public void receiveMessage(String payload) {
+        Path downloadedFile = null;
         try {
             log.info("SQS로부터 Terra 메시지 수신");
             log.debug("수신 페이로드: {}", payload);
 
-            JsonNode rootNode = objectMapper.readTree(payload);
-            String type = rootNode.path("type").asText();
+            TerraPayloadSource source = TerraPayloadSource.ofString(payload);
+            TerraPayloadReader.Header header = terraPayloadReader.readHeader(source);
 
-            String finalPayload = payload;
-            String originalType = type;
-
-            if ("s3_payload".equals(type)) {
-                String downloadUrl = rootNode.path("url").asText();
+            if ("s3_payload".equals(header.type())) {
+                String downloadUrl = header.url();
                 log.info("S3 페이로드 감지, URL에서 데이터 다운로드 시작: {}", downloadUrl);
 
-                try {
-                    // 대용량 페이로드를 위한 스트리밍 처리
-                    finalPayload = webClient.get()
-                            .uri(URI.create(downloadUrl))
-                            .retrieve()
-                            .bodyToMono(String.class)
-                            .timeout(java.time.Duration.ofMinutes(5)) // 5분 타임아웃
-                            .block();
-
-                    if (finalPayload == null || finalPayload.isEmpty()) {
-                        log.error("S3에서 페이로드를 다운로드하지 못했습니다. URL: {}", downloadUrl);
-                        throw new TerraException(TerraErrorCode.TERRA_PAYLOAD_DOWNLOAD_FAILED);
-                    }
-
-                    log.info("S3 페이로드 다운로드 완료");
-                    log.debug("다운로드한 S3 페이로드: {}", finalPayload);
-                    originalType = objectMapper.readTree(finalPayload).path("type").asText();
-                    
-                } catch (WebClientResponseException e) {
-                    if (e.getStatusCode() == HttpStatus.FORBIDDEN) {
-                        log.warn("Terra S3 URL 만료로 인한 403 Forbidden 에러 (메시지 무시): URL={}, error={}", 
-                                downloadUrl, e.getMessage());
-                        log.info("만료된 Terra 요청을 건너뜀 - 새로운 요청을 기다립니다.");
-                        return; // 메시지 처리를 중단하고 정상적으로 종료
-                    } else if (e.getStatusCode().is4xxClientError()) {
-                        log.error("Terra S3 URL 클라이언트 에러 (4xx): URL={}, status={}, error={}", 
-                                downloadUrl, e.getStatusCode(), e.getMessage());
-                        throw new TerraException(TerraErrorCode.TERRA_S3_URL_CLIENT_ERROR);
-                    } else if (e.getStatusCode().is5xxServerError()) {
-                        log.error("Terra S3 URL 서버 에러 (5xx): URL={}, status={}, error={}", 
-                                downloadUrl, e.getStatusCode(), e.getMessage());
-                        throw new TerraException(TerraErrorCode.TERRA_S3_URL_SERVER_ERROR);
-                    } else {
-                        log.error("Terra S3 URL 기타 HTTP 에러: URL={}, status={}, error={}", 
-                                downloadUrl, e.getStatusCode(), e.getMessage());
-                        throw new TerraException(TerraErrorCode.TERRA_PAYLOAD_DOWNLOAD_FAILED);
-                    }
-                } catch (Exception e) {
-                    log.error("Terra S3 URL 다운로드 중 예상치 못한 에러: URL={}, error={}", 
-                            downloadUrl, e.getMessage(), e);
-                    throw new TerraException(TerraErrorCode.TERRA_PAYLOAD_DOWNLOAD_FAILED);
+                downloadedFile = downloadPayload(downloadUrl);
+                if (downloadedFile == null) {
+                    return; // 만료된 URL - 메시지 처리를 중단하고 정상적으로 종료
                 }
+
+                source = TerraPayloadSource.ofFile(downloadedFile);
+                header = terraPayloadReader.readHeader(source);
             }
 
             // 타입에 따라 적절한 서비스 메소드 호출
+            String originalType = header.type();
             switch (originalType) {
                 case "auth":
                     log.info("Auth 이벤트 처리 시작");
-                    terraWebhookProcessingService.processAuthEvent(finalPayload);
+                    terraWebhookProcessingService.processAuthEvent(header.user());
                     break;
                 case "activity":
                     log.info("Activity 이벤트 처리 시작");
-                    terraWebhookProcessingService.processActivityEvent(finalPayload);
+                    terraWebhookProcessingService.processActivityEvent(header.user(), source);
                     break;
                 case "body":
                 case "daily":
@@ -102,7 +73,7 @@ public class TerraSqsConsumer {
                     //TODO 기타 활동 처리
                     break;
                 case "user_reauth":
-                    log.warn("사용자 재인증 필요 이벤트 수신: {}", finalPayload);
+                    log.warn("사용자 재인증 필요 이벤트 수신: user={}", header.user());
                     break;
                 default:
                     log.warn("알 수 없는 Terra 이벤트 타입 수신: '{}'", originalType);
@@ -117,6 +88,76 @@ public class TerraSqsConsumer {
             log.error("Terra SQS 메시지 처리 중 예상치 못한 오류 발생: {}", payload, e);
             // 기타 모든 예외도 DLQ로 보내 재처리 시도 또는 수동 분석
             throw new RuntimeException("Unexpected error during SQS message processing", e);
+        } finally {
+            deleteQuietly(downloadedFile);
+        }
+    }
+
+    /**
+     * 대용량 S3 페이로드를 문자열로 버퍼링하지 않고 임시 파일로 스트리밍 저장
+     * @return 저장된 임시 파일 경로, URL 만료(403)로 건너뛰는 경우 null
+     */
+    private Path downloadPayload(String downloadUrl) {
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("terra-payload-", ".json");
+
+            Flux<DataBuffer> body = webClient.get()
+                    .uri(URI.create(downloadUrl))
+                    .retrieve()
+                    .bodyToFlux(DataBuffer.class);
+
+            DataBufferUtils.write(body, tempFile)
+                    .timeout(Duration.ofMinutes(5)) // 5분 타임아웃
+                    .block();
+
+            if (Files.size(tempFile) == 0) {
+                log.error("S3에서 페이로드를 다운로드하지 못했습니다. URL: {}", downloadUrl);
+                throw new TerraException(TerraErrorCode.TERRA_PAYLOAD_DOWNLOAD_FAILED);
+            }
+
+            log.info("S3 페이로드 다운로드 완료: size={}bytes", Files.size(tempFile));
+            return tempFile;
+
+        } catch (WebClientResponseException e) {
+            deleteQuietly(tempFile);
+            if (e.getStatusCode() == HttpStatus.FORBIDDEN) {
+                log.warn("Terra S3 URL 만료로 인한 403 Forbidden 에러 (메시지 무시): URL={}, error={}",
+                        downloadUrl, e.getMessage());
+                log.info("만료된 Terra 요청을 건너뜀 - 새로운 요청을 기다립니다.");
+                return null;
+            } else if (e.getStatusCode().is4xxClientError()) {
+                log.error("Terra S3 URL 클라이언트 에러 (4xx): URL={}, status={}, error={}",
+                        downloadUrl, e.getStatusCode(), e.getMessage());
+                throw new TerraException(TerraErrorCode.TERRA_S3_URL_CLIENT_ERROR);
+            } else if (e.getStatusCode().is5xxServerError()) {
+                log.error("Terra S3 URL 서버 에러 (5xx): URL={}, status={}, error={}",
+                        downloadUrl, e.getStatusCode(), e.getMessage());
+                throw new TerraException(TerraErrorCode.TERRA_S3_URL_SERVER_ERROR);
+            } else {
+                log.error("Terra S3 URL 기타 HTTP 에러: URL={}, status={}, error={}",
+                        downloadUrl, e.getStatusCode(), e.getMessage());
+                throw new TerraException(TerraErrorCode.TERRA_PAYLOAD_DOWNLOAD_FAILED);
+            }
+        } catch (TerraException e) {
+            deleteQuietly(tempFile);
+            throw e;
+        } catch (Exception e) {
+            deleteQuietly(tempFile);
+            log.error("Terra S3 URL 다운로드 중 예상치 못한 에러: URL={}, error={}",
+                    downloadUrl, e.getMessage(), e);
+            throw new TerraException(TerraErrorCode.TERRA_PAYLOAD_DOWNLOAD_FAILED);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Terra 페이로드 임시 파일 삭제 실패: path={}, error={}", path, e.getMessage());
         }
     }
 }
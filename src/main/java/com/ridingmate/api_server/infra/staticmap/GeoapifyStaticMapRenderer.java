@@ -0,0 +1,32 @@
+package com.ridingmate.api_server.infra.staticmap;
+
+import com.ridingmate.api_server.global.util.GeometryUtil;
+import com.ridingmate.api_server.infra.geoapify.GeoapifyClient;
+import lombok.RequiredArgsConstructor;
+import org.locationtech.jts.geom.LineString;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Geoapify Static Maps API 기반 렌더러
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "static-map", name = "renderer", havingValue = "geoapify", matchIfMissing = true)
+public class GeoapifyStaticMapRenderer implements StaticMapRenderer {
+
+    private final GeoapifyClient geoapifyClient;
+
+    @Override
+    public byte[] render(LineString routeLine) {
+        return geoapifyClient.getStaticMap(routeLine);
+    }
+
+    /**
+     * URL 길이 제한 회피를 위해 좌표 수를 줄임
+     */
+    @Override
+    public LineString prepare(LineString routeLine) {
+        return GeometryUtil.simplifyForThumbnail(routeLine);
+    }
+}
@@ -0,0 +1,226 @@
+package com.ridingmate.api_server.infra.staticmap;
+
+import com.ridingmate.api_server.global.util.GeometryUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LineString;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 서버 내 Java2D 기반 정적 지도 렌더러 (외부 API 호출 없음)
+ *
+ * - Geoapify와 같은 BBOX 여백/줌 레벨 계산을 사용하여 동일한 축척으로 렌더링
+ * - 배경은 로컬 타일 디렉터리({z}/{x}/{y}.png, 256px)의 타일을 사용하고 없으면 단색 배경
+ * - 경로는 픽셀 단위로 중복 점을 제거하므로 좌표 간소화 없이 전체 경로를 그림
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "static-map", name = "renderer", havingValue = "local")
+public class LocalStaticMapRenderer implements StaticMapRenderer {
+
+    private static final int WIDTH = 600;
+    private static final int HEIGHT = 450;
+    private static final int TILE_SIZE = 256;
+
+    /**
+     * Geoapify 줌 레벨과 같은 축척을 위해 512px 기준 월드 크기 사용 (256px 타일 기준 줌 + 1)
+     */
+    private static final int WORLD_TILE_SIZE = 512;
+    private static final double MAX_LATITUDE = 85.05112878;
+    private static final double MIN_SEGMENT_PIXELS = 0.5;
+    private static final int DEFAULT_TILE_CACHE_SIZE = 256;
+
+    private static final Color BACKGROUND_COLOR = new Color(0xF2, 0xEF, 0xE9);
+    private static final Color ROUTE_CASING_COLOR = Color.WHITE;
+    private static final Color ROUTE_COLOR = new Color(0xFF, 0x00, 0x00);
+    private static final BasicStroke ROUTE_CASING_STROKE = new BasicStroke(5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+    private static final BasicStroke ROUTE_STROKE = new BasicStroke(3f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+
+    private final Path tileDirectory;
+    private final Map<String, Optional<BufferedImage>> tileCache;
+
+    public LocalStaticMapRenderer(StaticMapProperty staticMapProperty) {
+        this.tileDirectory = staticMapProperty.tileDirectory() != null && !staticMapProperty.tileDirectory().isBlank()
+                ? Paths.get(staticMapProperty.tileDirectory())
+                : null;
+
+        int cacheSize = staticMapProperty.tileCacheSize() != null
+                ? staticMapProperty.tileCacheSize()
+                : DEFAULT_TILE_CACHE_SIZE;
+        this.tileCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Optional<BufferedImage>> eldest) {
+                return size() > cacheSize;
+            }
+        });
+
+        log.info("[StaticMap] 로컬 정적 지도 렌더러 사용: tileDirectory={}", tileDirectory);
+    }
+
+    @Override
+    public byte[] render(LineString routeLine) {
+        if (routeLine == null || routeLine.getNumPoints() < 2) {
+            throw new IllegalArgumentException("정적 지도를 그리려면 최소 2개의 좌표가 필요합니다.");
+        }
+
+        Envelope bbox = GeometryUtil.getBoundingBoxWithPadding(routeLine);
+        Coordinate center = GeometryUtil.getCenterCoordinate(bbox);
+        int zoom = GeometryUtil.getZoomLevel(bbox);
+
+        double worldSize = WORLD_TILE_SIZE * Math.pow(2, zoom);
+        double originX = projectX(center.x, worldSize) - WIDTH / 2.0;
+        double originY = projectY(center.y, worldSize) - HEIGHT / 2.0;
+
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+
+            drawBackground(graphics, zoom, originX, originY);
+
+            Path2D path = buildPath(routeLine, worldSize, originX, originY);
+            graphics.setColor(ROUTE_CASING_COLOR);
+            graphics.setStroke(ROUTE_CASING_STROKE);
+            graphics.draw(path);
+            graphics.setColor(ROUTE_COLOR);
+            graphics.setStroke(ROUTE_STROKE);
+            graphics.draw(path);
+        } finally {
+            graphics.dispose();
+        }
+
+        log.debug("[StaticMap] 로컬 썸네일 생성: 좌표 {}개, zoom={}", routeLine.getNumPoints(), zoom);
+        return toPng(image);
+    }
+
+    private void drawBackground(Graphics2D graphics, int zoom, double originX, double originY) {
+        graphics.setColor(BACKGROUND_COLOR);
+        graphics.fillRect(0, 0, WIDTH, HEIGHT);
+
+        if (tileDirectory == null) {
+            return;
+        }
+
+        // 512px 월드 기준 픽셀 좌표 = 256px 타일 기준 (zoom + 1) 픽셀 좌표
+        int tileZoom = zoom + 1;
+        int tileCount = 1 << tileZoom;
+        int minTileX = (int) Math.floor(originX / TILE_SIZE);
+        int maxTileX = (int) Math.floor((originX + WIDTH - 1) / TILE_SIZE);
+        int minTileY = (int) Math.floor(originY / TILE_SIZE);
+        int maxTileY = (int) Math.floor((originY + HEIGHT - 1) / TILE_SIZE);
+
+        for (int tileY = minTileY; tileY <= maxTileY; tileY++) {
+            if (tileY < 0 || tileY >= tileCount) {
+                continue;
+            }
+            for (int tileX = minTileX; tileX <= maxTileX; tileX++) {
+                int wrappedTileX = Math.floorMod(tileX, tileCount);
+                int drawX = (int) Math.round(tileX * (double) TILE_SIZE - originX);
+                int drawY = (int) Math.round(tileY * (double) TILE_SIZE - originY);
+                loadTile(tileZoom, wrappedTileX, tileY)
+                        .ifPresent(tile -> graphics.drawImage(tile, drawX, drawY, TILE_SIZE, TILE_SIZE, null));
+            }
+        }
+    }
+
+    /**
+     * 타일 이미지 조회 (없으면 디스크에서 읽어 캐시)
+     * 디스크 읽기/디코딩은 캐시 락 밖에서 수행하므로 동시에 같은 타일이 미스되면 중복으로 읽을 수 있음 (먼저 저장된 결과 사용)
+     */
+    private Optional<BufferedImage> loadTile(int zoom, int x, int y) {
+        String key = zoom + "/" + x + "/" + y;
+        Optional<BufferedImage> cached = tileCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Optional<BufferedImage> tile = readTile(zoom, x, y);
+        Optional<BufferedImage> previous = tileCache.putIfAbsent(key, tile);
+        return previous != null ? previous : tile;
+    }
+
+    private Optional<BufferedImage> readTile(int zoom, int x, int y) {
+        Path tilePath = tileDirectory.resolve(String.valueOf(zoom))
+                .resolve(String.valueOf(x))
+                .resolve(y + ".png");
+        if (!Files.isRegularFile(tilePath)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(ImageIO.read(tilePath.toFile()));
+        } catch (IOException e) {
+            log.debug("[StaticMap] 타일 로드 실패: path={}, error={}", tilePath, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 경로를 이미지 픽셀 좌표의 Path로 변환 (0.5px 미만 이동은 생략)
+     */
+    private Path2D buildPath(LineString routeLine, double worldSize, double originX, double originY) {
+        Coordinate[] coordinates = routeLine.getCoordinates();
+        Path2D.Double path = new Path2D.Double(Path2D.WIND_NON_ZERO, coordinates.length);
+
+        double lastX = projectX(coordinates[0].x, worldSize) - originX;
+        double lastY = projectY(coordinates[0].y, worldSize) - originY;
+        path.moveTo(lastX, lastY);
+
+        for (int i = 1; i < coordinates.length; i++) {
+            double x = projectX(coordinates[i].x, worldSize) - originX;
+            double y = projectY(coordinates[i].y, worldSize) - originY;
+            boolean isLast = i == coordinates.length - 1;
+            if (!isLast && Math.abs(x - lastX) < MIN_SEGMENT_PIXELS && Math.abs(y - lastY) < MIN_SEGMENT_PIXELS) {
+                continue;
+            }
+            path.lineTo(x, y);
+            lastX = x;
+            lastY = y;
+        }
+        return path;
+    }
+
+    /**
+     * Web Mercator 경도 → 월드 픽셀 X
+     */
+    private double projectX(double longitude, double worldSize) {
+        return (longitude + 180.0) / 360.0 * worldSize;
+    }
+
+    /**
+     * Web Mercator 위도 → 월드 픽셀 Y
+     */
+    private double projectY(double latitude, double worldSize) {
+        double clamped = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude));
+        double sin = Math.sin(Math.toRadians(clamped));
+        return (0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI)) * worldSize;
+    }
+
+    private byte[] toPng(BufferedImage image) {
+        try (ByteArrayOutputStream output = new ByteArrayOutputStream(64 * 1024)) {
+            ImageIO.write(image, "png", output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("정적 지도 PNG 인코딩에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.ridingmate.api_server.infra.staticmap;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 정적 지도 렌더러 설정
+ * @param renderer 렌더러 종류 (geoapify: 외부 API, local: 서버 내 Java2D 렌더링), 기본값 geoapify
+ * @param tileDirectory local 렌더러 배경 타일 디렉터리 ({z}/{x}/{y}.png 구조), 없으면 단색 배경
+ * @param tileCacheSize local 렌더러 메모리 타일 캐시 크기 (기본값 256)
+ */
+@ConfigurationProperties(prefix = "static-map")
+public record StaticMapProperty(
+        String renderer,
+        String tileDirectory,
+        Integer tileCacheSize
+) {
+}
@@ -0,0 +1,25 @@
+package com.ridingmate.api_server.infra.staticmap;
+
+import org.locationtech.jts.geom.LineString;
+
+/**
+ * 경로 썸네일(정적 지도 이미지) 렌더러
+ * static-map.renderer 설정으로 구현체 선택 (geoapify | local)
+ */
+public interface StaticMapRenderer {
+
+    /**
+     * 경로를 그린 PNG 이미지 생성
+     * @param routeLine 경로 (경도, 위도)
+     * @return PNG 바이트
+     */
+    byte[] render(LineString routeLine);
+
+    /**
+     * 렌더링 전 경로 전처리 (기본: 그대로 사용)
+     * 썸네일 작업 저장 및 동일 경로 판별에 전처리된 경로를 사용
+     */
+    default LineString prepare(LineString routeLine) {
+        return routeLine;
+    }
+}
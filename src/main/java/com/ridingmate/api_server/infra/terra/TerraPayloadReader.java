@@ -0,0 +1,100 @@
+package com.ridingmate.api_server.infra.terra;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ridingmate.api_server.infra.terra.dto.response.TerraPayload;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Jackson 스트리밍 파서 기반 Terra 페이로드 리더
+ * 전체 페이로드를 메모리에 올리지 않고 헤더(type, user, url)와 data[] 항목을 순차적으로 읽음
+ */
+@Component
+@RequiredArgsConstructor
+public class TerraPayloadReader {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 페이로드 헤더 정보
+     * @param type 이벤트 타입
+     * @param user Terra 사용자 정보
+     * @param url s3_payload 다운로드 URL
+     */
+    public record Header(String type, TerraPayload.User user, String url) {}
+
+    /**
+     * 최상위 type, user, url 필드만 읽고 나머지(data[] 등)는 건너뜀
+     */
+    public Header readHeader(TerraPayloadSource source) throws IOException {
+        String type = null;
+        TerraPayload.User user = null;
+        String url = null;
+
+        try (InputStream inputStream = source.open();
+             JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            expectStartObject(parser);
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+
+                switch (fieldName) {
+                    case "type" -> type = parser.getValueAsString();
+                    case "url" -> url = parser.getValueAsString();
+                    case "user" -> user = valueToken == JsonToken.VALUE_NULL
+                            ? null
+                            : objectMapper.readValue(parser, TerraPayload.User.class);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        return new Header(type != null ? type : "", user, url);
+    }
+
+    /**
+     * data[] 항목을 하나씩 역직렬화하여 전달
+     * @return 처리한 항목 수
+     */
+    public int readData(TerraPayloadSource source, Consumer<TerraPayload.Data> consumer) throws IOException {
+        int count = 0;
+
+        try (InputStream inputStream = source.open();
+             JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            expectStartObject(parser);
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+
+                if (!"data".equals(fieldName) || valueToken != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    TerraPayload.Data data = objectMapper.readValue(parser, TerraPayload.Data.class);
+                    if (data != null) {
+                        consumer.accept(data);
+                        count++;
+                    }
+                }
+            }
+        }
+
+        return count;
+    }
+
+    private void expectStartObject(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new TerraException(TerraErrorCode.TERRA_MAPPING_FAILED);
+        }
+    }
+}
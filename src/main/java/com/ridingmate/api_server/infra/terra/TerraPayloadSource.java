@@ -0,0 +1,27 @@
+package com.ridingmate.api_server.infra.terra;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 여러 번 열어 읽을 수 있는 Terra 페이로드 원본
+ * (헤더 확인과 data[] 스트리밍을 별도 패스로 수행하기 위함)
+ */
+@FunctionalInterface
+public interface TerraPayloadSource {
+
+    InputStream open() throws IOException;
+
+    static TerraPayloadSource ofString(String payload) {
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        return () -> new ByteArrayInputStream(bytes);
+    }
+
+    static TerraPayloadSource ofFile(Path path) {
+        return () -> Files.newInputStream(path);
+    }
+}
@@ -0,0 +1,126 @@
+package com.ridingmate.api_server.domain.activity.track;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SampleAlignerTest {
+
+    private static final double NaN = Double.NaN;
+
+    private static SampleAligner.Series series(long[] times, double[] values) {
+        SampleAligner.Series.Builder builder = SampleAligner.series(times.length);
+        for (int i = 0; i < times.length; i++) {
+            builder.add(times[i], values[i]);
+        }
+        return builder.build();
+    }
+
+    @Test
+    @DisplayName("NEAREST는 가장 가까운 샘플을, 거리가 같으면 이후 샘플을 사용한다")
+    void nearestPicksClosestSample() {
+        SampleAligner.Series heartRates = series(new long[]{1_000, 2_000, 3_000}, new double[]{100, 110, 120});
+
+        double[] aligned = SampleAligner.align(
+                new long[]{0, 1_400, 1_500, 1_600, 3_000, 5_000}, heartRates, SampleAligner.Mode.NEAREST);
+
+        assertArrayEquals(new double[]{100, 100, 110, 110, 120, 120}, aligned, 0.0);
+    }
+
+    @Test
+    @DisplayName("PREVIOUS는 직전 샘플 값을 사용하고 첫 샘플 이전은 NaN이다")
+    void previousCarriesLastValue() {
+        SampleAligner.Series cadences = series(new long[]{1_000, 2_000}, new double[]{80, 90});
+
+        double[] aligned = SampleAligner.align(
+                new long[]{500, 1_000, 1_999, 2_000, 9_000}, cadences, SampleAligner.Mode.PREVIOUS);
+
+        assertArrayEquals(new double[]{NaN, 80, 80, 90, 90}, aligned, 0.0);
+    }
+
+    @Test
+    @DisplayName("LINEAR는 앞뒤 샘플 사이를 보간하고 범위 밖은 양 끝 값을 사용한다")
+    void linearInterpolatesAndClamps() {
+        SampleAligner.Series powers = series(new long[]{1_000, 3_000}, new double[]{100, 200});
+
+        double[] aligned = SampleAligner.align(
+                new long[]{0, 1_000, 1_500, 2_000, 3_000, 4_000}, powers, SampleAligner.Mode.LINEAR);
+
+        assertArrayEquals(new double[]{100, 100, 125, 150, 200, 200}, aligned, 1e-9);
+    }
+
+    @Test
+    @DisplayName("빈 스트림은 모든 위치가 NaN이다")
+    void emptySeriesAlignsToNaN() {
+        SampleAligner.Series empty = SampleAligner.series(0).build();
+
+        double[] aligned = SampleAligner.align(new long[]{1_000, 2_000}, empty, SampleAligner.Mode.LINEAR);
+
+        assertTrue(empty.isEmpty());
+        assertArrayEquals(new double[]{NaN, NaN}, aligned, 0.0);
+    }
+
+    @Test
+    @DisplayName("null/NaN 값은 샘플에서 제외된다")
+    void missingValuesAreSkipped() {
+        SampleAligner.Series series = SampleAligner.series(4)
+                .add(1_000, 100.0)
+                .add(2_000, (Double) null)
+                .add(3_000, NaN)
+                .add(4_000, 130.0)
+                .build();
+
+        double[] aligned = SampleAligner.align(new long[]{2_500}, series, SampleAligner.Mode.LINEAR);
+
+        assertEquals(2, series.size());
+        assertEquals(115.0, aligned[0], 1e-9);
+    }
+
+    @Test
+    @DisplayName("정렬되지 않은 입력은 시간순으로 정렬되고 중복 시각은 먼저 추가된 값을 유지한다")
+    void unorderedInputIsSortedStably() {
+        SampleAligner.Series series = series(
+                new long[]{3_000, 1_000, 2_000, 1_000, 3_000, 2_000},
+                new double[]{30, 10, 20, 11, 31, 21});
+
+        double[] aligned = SampleAligner.align(
+                new long[]{1_000, 2_000, 3_000}, series, SampleAligner.Mode.PREVIOUS);
+
+        assertEquals(3, series.size());
+        assertArrayEquals(new double[]{10, 20, 30}, aligned, 0.0);
+    }
+
+    @Test
+    @DisplayName("역순으로 추가된 대량 입력도 시간순으로 정렬된다")
+    void largeReversedInputIsSorted() {
+        int count = 1_000;
+        SampleAligner.Series.Builder builder = SampleAligner.series(count);
+        for (int i = count - 1; i >= 0; i--) {
+            builder.add(i * 1_000L, i);
+        }
+        SampleAligner.Series series = builder.build();
+
+        long[] targets = new long[count];
+        double[] expected = new double[count];
+        for (int i = 0; i < count; i++) {
+            targets[i] = i * 1_000L;
+            expected[i] = i;
+        }
+
+        assertArrayEquals(expected, SampleAligner.align(targets, series, SampleAligner.Mode.PREVIOUS), 0.0);
+    }
+
+    @Test
+    @DisplayName("기준 시간축이 역행해도 올바른 값을 찾는다")
+    void rewindingTargetsAreRepositioned() {
+        SampleAligner.Series series = series(new long[]{1_000, 2_000, 3_000, 4_000}, new double[]{1, 2, 3, 4});
+
+        double[] aligned = SampleAligner.align(
+                new long[]{1_000, 4_000, 2_000, 3_500, 1_500}, series, SampleAligner.Mode.PREVIOUS);
+
+        assertArrayEquals(new double[]{1, 4, 2, 3, 1}, aligned, 0.0);
+    }
+}
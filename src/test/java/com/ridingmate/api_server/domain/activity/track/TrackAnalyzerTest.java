@@ -0,0 +1,139 @@
+package com.ridingmate.api_server.domain.activity.track;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrackAnalyzerTest {
+
+    private static final double NaN = Double.NaN;
+    private static final long START = 1_700_000_000_000L;
+    private static final double LATITUDE = 37.5;
+    private static final double LONGITUDE = 127.0;
+    private static final double METERS_PER_DEGREE_LATITUDE = 111_194.93;
+
+    private static double latitudeAfter(double meters) {
+        return LATITUDE + meters / METERS_PER_DEGREE_LATITUDE;
+    }
+
+    @Test
+    @DisplayName("상승/하강 고도는 3m 이상 벗어난 변화만 누적한다")
+    void elevationGainAndLossUseHysteresis() {
+        TrackAnalyzer analyzer = new TrackAnalyzer();
+        double[] elevations = {100, 102, 104, 103, 101, 100.5, 110};
+        for (int i = 0; i < elevations.length; i++) {
+            analyzer.accept(START + i * 1_000L, LATITUDE, LONGITUDE, elevations[i], NaN, NaN, NaN, NaN);
+        }
+
+        TrackAnalysis analysis = analyzer.result();
+
+        assertTrue(analysis.hasElevation());
+        assertEquals(4 + 9, analysis.elevationGain(), 1e-9);
+        assertEquals(3, analysis.elevationLoss(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("고도 값이 없으면 상승/하강 고도는 NaN이다")
+    void missingElevationIsNaN() {
+        TrackAnalyzer analyzer = new TrackAnalyzer();
+        analyzer.accept(START, LATITUDE, LONGITUDE, NaN, NaN, NaN, NaN, NaN);
+        analyzer.accept(START + 1_000, latitudeAfter(5), LONGITUDE, NaN, NaN, NaN, NaN, NaN);
+
+        TrackAnalysis analysis = analyzer.result();
+
+        assertFalse(analysis.hasElevation());
+        assertTrue(Double.isNaN(analysis.elevationLoss()));
+    }
+
+    @Test
+    @DisplayName("이동 시간은 정지 구간을 제외하고 평균 속도는 이동 시간 기준이다")
+    void movingTimeExcludesStops() {
+        TrackAnalyzer analyzer = new TrackAnalyzer();
+        long time = START;
+        double meters = 0;
+        analyzer.accept(time, LATITUDE, LONGITUDE, NaN, 5.0, NaN, NaN, NaN);
+        for (int i = 0; i < 10; i++) {
+            time += 1_000;
+            meters += 5;
+            analyzer.accept(time, latitudeAfter(meters), LONGITUDE, NaN, 5.0, NaN, NaN, NaN);
+        }
+        for (int i = 0; i < 10; i++) {
+            time += 1_000;
+            analyzer.accept(time, latitudeAfter(meters), LONGITUDE, NaN, 0.0, NaN, NaN, NaN);
+        }
+
+        TrackAnalysis analysis = analyzer.result();
+
+        assertEquals(10, analysis.movingTimeSeconds());
+        assertEquals(50, analysis.distanceMeters(), 0.01);
+        assertEquals(5.0, analysis.averageSpeed(), 0.01);
+        assertEquals(5.0, analysis.maxSpeed(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("샘플 간격이 길면 센서 속도 대신 좌표로 계산한 속도로 이동 여부를 판단한다")
+    void longGapUsesDerivedSpeed() {
+        TrackAnalyzer analyzer = new TrackAnalyzer();
+        analyzer.accept(START, LATITUDE, LONGITUDE, NaN, 0.0, NaN, NaN, NaN);
+        analyzer.accept(START + 60_000, latitudeAfter(600), LONGITUDE, NaN, 0.0, NaN, NaN, NaN);
+
+        assertEquals(60, analyzer.result().movingTimeSeconds());
+    }
+
+    @Test
+    @DisplayName("센서 속도가 없으면 좌표로 계산한 최고 속도를 쓰고 비현실적인 튐은 제외한다")
+    void derivedMaxSpeedSkipsGpsJumps() {
+        TrackAnalyzer analyzer = new TrackAnalyzer();
+        analyzer.accept(START, LATITUDE, LONGITUDE, NaN, NaN, NaN, NaN, NaN);
+        analyzer.accept(START + 1_000, latitudeAfter(8), LONGITUDE, NaN, NaN, NaN, NaN, NaN);
+        analyzer.accept(START + 2_000, latitudeAfter(1_008), LONGITUDE, NaN, NaN, NaN, NaN, NaN);
+
+        assertEquals(8, analyzer.result().maxSpeed(), 0.01);
+    }
+
+    @Test
+    @DisplayName("센서 채널 평균/최대는 NaN을 제외하고 값이 없으면 NaN이다")
+    void channelStatsSkipMissingValues() {
+        TrackAnalyzer analyzer = new TrackAnalyzer();
+        analyzer.accept(START, LATITUDE, LONGITUDE, NaN, NaN, 100, NaN, 200);
+        analyzer.accept(START + 1_000, LATITUDE, LONGITUDE, NaN, NaN, NaN, NaN, 300);
+        analyzer.accept(START + 2_000, LATITUDE, LONGITUDE, NaN, NaN, 120, NaN, NaN);
+
+        TrackAnalysis analysis = analyzer.result();
+
+        assertEquals(110, analysis.averageHeartRate(), 1e-9);
+        assertEquals(120, analysis.maxHeartRate(), 1e-9);
+        assertEquals(250, analysis.averagePower(), 1e-9);
+        assertEquals(300, analysis.maxPower(), 1e-9);
+        assertTrue(Double.isNaN(analysis.averageCadence()));
+        assertTrue(Double.isNaN(analysis.maxCadence()));
+    }
+
+    @Test
+    @DisplayName("analyze는 트랙 샘플을 순서대로 한 번 분석한다")
+    void analyzeTrackSamples() {
+        TrackSamples samples = TrackSamples.builder(3)
+                .addRaw(START, LATITUDE, LONGITUDE, 50, 4.0, NaN, 90, 80, 150)
+                .addRaw(START + 1_000, latitudeAfter(4), LONGITUDE, 54, 4.0, NaN, 92, 82, 160)
+                .addRaw(START + 2_000, latitudeAfter(8), LONGITUDE, 50, 4.0, NaN, 94, 84, 170)
+                .build();
+
+        TrackAnalysis analysis = TrackAnalyzer.analyze(samples);
+
+        assertEquals(8, analysis.distanceMeters(), 0.01);
+        assertEquals(4, analysis.elevationGain(), 1e-9);
+        assertEquals(4, analysis.elevationLoss(), 1e-9);
+        assertEquals(2, analysis.movingTimeSeconds());
+        assertEquals(92, analysis.averageHeartRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("위도 1도 거리는 약 111.19km이다")
+    void haversineOneDegreeLatitude() {
+        assertEquals(METERS_PER_DEGREE_LATITUDE,
+                TrackAnalyzer.haversineMeters(37.0, 127.0, 38.0, 127.0), 1.0);
+    }
+}
@@ -0,0 +1,127 @@
+package com.ridingmate.api_server.domain.activity.track;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrackCodecTest {
+
+    private static final double NaN = Double.NaN;
+
+    @Test
+    @DisplayName("모든 채널이 양자화 정밀도 안에서 복원된다")
+    void roundTripKeepsValuesWithinQuantization() {
+        TrackSamples samples = TrackSamples.builder(3)
+                .addRaw(1_700_000_000_000L, 37.5665123, 126.9780456, 38.25, 5.123, 0.0, 120, 85, 210.5)
+                .addRaw(1_700_000_001_000L, 37.5665891, 126.9781234, 38.31, 5.456, 8.47, 121, 86, 215.2)
+                .addRaw(1_700_000_002_000L, 37.5666702, 126.9782011, 38.12, 5.789, 16.93, 123, 88, 220.9)
+                .build();
+
+        TrackSamples decoded = TrackCodec.decode(TrackCodec.encode(samples));
+
+        assertArrayEquals(samples.times(), decoded.times());
+        assertArrayEquals(samples.latitudes(), decoded.latitudes(), 1e-7);
+        assertArrayEquals(samples.longitudes(), decoded.longitudes(), 1e-7);
+        assertArrayEquals(samples.elevations(), decoded.elevations(), 0.01);
+        assertArrayEquals(samples.speeds(), decoded.speeds(), 0.001);
+        assertArrayEquals(samples.distances(), decoded.distances(), 0.01);
+        assertArrayEquals(samples.heartRates(), decoded.heartRates(), 0.1);
+        assertArrayEquals(samples.cadences(), decoded.cadences(), 0.1);
+        assertArrayEquals(samples.powers(), decoded.powers(), 0.1);
+    }
+
+    @Test
+    @DisplayName("결측치 위치가 채널별로 그대로 복원된다")
+    void roundTripKeepsMissingValues() {
+        TrackSamples samples = TrackSamples.builder(10)
+                .addRaw(0L, 37.0, 127.0, NaN, 1.0, NaN, NaN, 80, NaN)
+                .addRaw(1_000L, 37.1, 127.1, 10.0, 2.0, NaN, NaN, NaN, NaN)
+                .addRaw(2_000L, 37.2, 127.2, NaN, 3.0, NaN, NaN, 82, NaN)
+                .addRaw(3_000L, 37.3, 127.3, 12.0, 4.0, NaN, NaN, NaN, NaN)
+                .addRaw(4_000L, 37.4, 127.4, NaN, 5.0, NaN, NaN, NaN, NaN)
+                .addRaw(5_000L, 37.5, 127.5, NaN, 6.0, NaN, NaN, NaN, NaN)
+                .addRaw(6_000L, 37.6, 127.6, NaN, 7.0, NaN, NaN, NaN, NaN)
+                .addRaw(7_000L, 37.7, 127.7, NaN, 8.0, NaN, NaN, NaN, NaN)
+                .addRaw(8_000L, 37.8, 127.8, 15.0, 9.0, NaN, NaN, NaN, NaN)
+                .build();
+
+        TrackSamples decoded = TrackCodec.decode(TrackCodec.encode(samples));
+
+        assertArrayEquals(samples.elevations(), decoded.elevations(), 0.01);
+        assertArrayEquals(samples.cadences(), decoded.cadences(), 0.1);
+        assertArrayEquals(samples.speeds(), decoded.speeds(), 0.001);
+        for (int i = 0; i < samples.size(); i++) {
+            assertTrue(Double.isNaN(decoded.distances()[i]));
+            assertTrue(Double.isNaN(decoded.heartRates()[i]));
+            assertTrue(Double.isNaN(decoded.powers()[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("감소하는 값, 큰 시간 간격, 역순 시간도 차분 인코딩으로 복원된다")
+    void roundTripKeepsNegativeAndLargeDeltas() {
+        TrackSamples samples = TrackSamples.builder(4)
+                .addRaw(Long.MIN_VALUE / 4, -89.9999999, -179.9999999, -430.5, 0, 0, 0, 0, 0)
+                .addRaw(0L, 89.9999999, 179.9999999, 8848.86, 0, 0, 0, 0, 0)
+                .addRaw(Long.MAX_VALUE / 4, -0.0000001, 0.0000001, 0, 0, 0, 0, 0, 0)
+                .addRaw(-1L, 0, 0, 0, 0, 0, 0, 0, 0)
+                .build();
+
+        TrackSamples decoded = TrackCodec.decode(TrackCodec.encode(samples));
+
+        assertArrayEquals(samples.times(), decoded.times());
+        assertArrayEquals(samples.latitudes(), decoded.latitudes(), 1e-7);
+        assertArrayEquals(samples.longitudes(), decoded.longitudes(), 1e-7);
+        assertArrayEquals(samples.elevations(), decoded.elevations(), 0.01);
+    }
+
+    @Test
+    @DisplayName("빈 트랙과 단일 포인트 트랙을 인코딩할 수 있다")
+    void roundTripEmptyAndSingleSample() {
+        assertEquals(0, TrackCodec.decode(TrackCodec.encode(TrackSamples.empty())).size());
+
+        TrackSamples single = TrackSamples.builder(1)
+                .addRaw(42L, 37.0, 127.0, NaN, NaN, NaN, NaN, NaN, NaN)
+                .build();
+        TrackSamples decoded = TrackCodec.decode(TrackCodec.encode(single));
+
+        assertEquals(1, decoded.size());
+        assertEquals(42L, decoded.times()[0]);
+        assertTrue(Double.isNaN(decoded.elevations()[0]));
+    }
+
+    @Test
+    @DisplayName("수천 포인트 트랙도 복원된다")
+    void roundTripLargeTrack() {
+        int size = 10_017;
+        TrackSamples.Builder builder = TrackSamples.builder(size);
+        for (int i = 0; i < size; i++) {
+            builder.addRaw(i * 1_000L, 37.0 + i * 1e-5, 127.0 - i * 1e-5, 20 + Math.sin(i) * 5,
+                    i % 7 == 0 ? NaN : 6.0, i * 5.0, 140, 90, 200);
+        }
+        TrackSamples samples = builder.build();
+
+        TrackSamples decoded = TrackCodec.decode(TrackCodec.encode(samples));
+
+        assertArrayEquals(samples.times(), decoded.times());
+        assertArrayEquals(samples.latitudes(), decoded.latitudes(), 1e-7);
+        assertArrayEquals(samples.speeds(), decoded.speeds(), 0.001);
+    }
+
+    @Test
+    @DisplayName("손상된 데이터는 예외를 던진다")
+    void decodeRejectsCorruptPayload() {
+        byte[] payload = TrackCodec.encode(TrackSamples.builder(1)
+                .addRaw(0L, 37.0, 127.0, 1, 1, 1, 1, 1, 1)
+                .build());
+
+        assertThrows(IllegalStateException.class,
+                () -> TrackCodec.decode(Arrays.copyOf(payload, payload.length / 2)));
+    }
+}
@@ -0,0 +1,70 @@
+package com.ridingmate.api_server.domain.route.service;
+
+import com.ridingmate.api_server.domain.route.exception.RouteException;
+import com.ridingmate.api_server.domain.route.exception.code.RouteDetailErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ByteRangeTest {
+
+    private static final long SIZE = 1000;
+
+    private static void assertNotSatisfiable(String range, long size) {
+        RouteException exception = assertThrows(RouteException.class, () -> ByteRange.resolve(range, size));
+        assertEquals(RouteDetailErrorCode.FILE_RANGE_NOT_SATISFIABLE, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("시작과 끝이 있는 범위는 그대로 확정한다")
+    void resolvesClosedRange() {
+        ByteRange range = ByteRange.resolve("bytes=0-99", SIZE);
+
+        assertEquals(new ByteRange(0, 99), range);
+        assertEquals(100, range.length());
+        assertEquals("bytes=0-99", range.toRangeHeader());
+        assertEquals("bytes 0-99/1000", range.toContentRange(SIZE));
+    }
+
+    @Test
+    @DisplayName("끝이 없는 범위는 객체 끝까지 확정한다")
+    void resolvesOpenEndedRange() {
+        assertEquals(new ByteRange(100, 999), ByteRange.resolve("bytes=100-", SIZE));
+    }
+
+    @Test
+    @DisplayName("마지막 N바이트 범위는 객체 크기를 넘으면 전체로 줄인다")
+    void resolvesSuffixRange() {
+        assertEquals(new ByteRange(950, 999), ByteRange.resolve("bytes=-50", SIZE));
+        assertEquals(new ByteRange(0, 999), ByteRange.resolve("bytes=-5000", SIZE));
+    }
+
+    @Test
+    @DisplayName("끝이 객체 크기를 넘으면 마지막 바이트까지로 줄인다")
+    void clampsEndToSize() {
+        assertEquals(new ByteRange(900, 999), ByteRange.resolve(" bytes=900-2000 ", SIZE));
+    }
+
+    @Test
+    @DisplayName("시작이 객체 크기 이상이거나 빈 범위면 416 예외를 던진다")
+    void rejectsUnsatisfiableRange() {
+        assertNotSatisfiable("bytes=1000-", SIZE);
+        assertNotSatisfiable("bytes=-0", SIZE);
+        assertNotSatisfiable("bytes=0-", 0);
+        assertNotSatisfiable("bytes=-10", 0);
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않거나 여러 범위인 요청은 전체 전송한다")
+    void ignoresUnsupportedRange() {
+        assertNull(ByteRange.resolve(null, SIZE));
+        assertNull(ByteRange.resolve("bytes=5-2", SIZE));
+        assertNull(ByteRange.resolve("bytes=-", SIZE));
+        assertNull(ByteRange.resolve("bytes=0-10,20-30", SIZE));
+        assertNull(ByteRange.resolve("items=0-10", SIZE));
+        assertNull(ByteRange.resolve("bytes=99999999999999999999-", SIZE));
+    }
+}
@@ -0,0 +1,165 @@
+package com.ridingmate.api_server.domain.route.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteTileCacheTest {
+
+    /**
+     * z=10에서 서울(127.0, 37.5)을 포함하는 타일 (경도 범위 약 126.914 ~ 127.266)
+     */
+    private static final RouteTileCache.TileKey SEOUL_TILE = new RouteTileCache.TileKey(10, 873, 396);
+
+    private static final RouteGeometryChangedEvent SEOUL_CHANGE =
+            new RouteGeometryChangedEvent(1L, 126.99, 37.49, 127.01, 37.51);
+    private static final RouteGeometryChangedEvent BUSAN_CHANGE =
+            new RouteGeometryChangedEvent(2L, 129.0, 35.0, 129.1, 35.1);
+
+    private static byte[] loadCounting(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new byte[]{1, 2, 3};
+    }
+
+    @Test
+    @DisplayName("타일 범위 안/밖의 변경 범위를 구분한다")
+    void tileKeyIntersectsBounds() {
+        assertTrue(SEOUL_TILE.intersects(126.99, 37.49, 127.01, 37.51));
+        assertTrue(SEOUL_TILE.intersects(120.0, 30.0, 135.0, 45.0));
+        assertFalse(SEOUL_TILE.intersects(129.0, 35.0, 129.1, 35.1));
+        assertFalse(SEOUL_TILE.intersects(126.0, 37.49, 126.90, 37.51));
+    }
+
+    @Test
+    @DisplayName("타일 버퍼 범위에 걸친 변경도 겹치는 것으로 본다")
+    void tileKeyIntersectsIncludesBuffer() {
+        assertTrue(SEOUL_TILE.intersects(126.0, 37.49, 126.912, 37.51));
+    }
+
+    @Test
+    @DisplayName("z=0 타일은 어떤 범위와도 겹친다")
+    void worldTileIntersectsEverything() {
+        RouteTileCache.TileKey world = new RouteTileCache.TileKey(0, 0, 0);
+
+        assertTrue(world.intersects(-179.0, -80.0, -178.0, -79.0));
+        assertTrue(world.intersects(127.0, 37.5, 127.0, 37.5));
+    }
+
+    @Test
+    @DisplayName("캐시된 타일은 다시 생성하지 않고 겹치는 변경 후에는 다시 생성한다")
+    void cachedTileIsEvictedByIntersectingChange() {
+        RouteTileCache cache = new RouteTileCache(new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(10, 873, 396, () -> loadCounting(loads));
+        cache.get(10, 873, 396, () -> loadCounting(loads));
+        cache.onRouteGeometryChanged(BUSAN_CHANGE);
+        cache.get(10, 873, 396, () -> loadCounting(loads));
+        assertEquals(1, loads.get());
+
+        cache.onRouteGeometryChanged(SEOUL_CHANGE);
+        cache.get(10, 873, 396, () -> loadCounting(loads));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("생성 도중 겹치는 범위가 무효화되면 생성 결과를 캐시에 저장하지 않는다")
+    void loadStartedBeforeIntersectingChangeIsDropped() {
+        RouteTileCache cache = new RouteTileCache(new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(10, 873, 396, () -> {
+            cache.onRouteGeometryChanged(SEOUL_CHANGE);
+            return loadCounting(loads);
+        });
+        cache.get(10, 873, 396, () -> loadCounting(loads));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("생성 도중 겹치지 않는 범위만 무효화되면 생성 결과를 저장한다")
+    void loadStartedBeforeUnrelatedChangeIsKept() {
+        RouteTileCache cache = new RouteTileCache(new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(10, 873, 396, () -> {
+            cache.onRouteGeometryChanged(BUSAN_CHANGE);
+            return loadCounting(loads);
+        });
+        cache.get(10, 873, 396, () -> loadCounting(loads));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("생성 도중 범위를 모르는 변경(전체 무효화)이 있으면 생성 결과를 저장하지 않는다")
+    void loadStartedBeforeClearIsDropped() {
+        RouteTileCache cache = new RouteTileCache(new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(10, 873, 396, () -> {
+            cache.onRouteGeometryChanged(new RouteGeometryChangedEvent(3L, null, null, null, null));
+            return loadCounting(loads);
+        });
+        cache.get(10, 873, 396, () -> loadCounting(loads));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("생성 도중 무효화 기록 보관 수보다 많은 변경이 있으면 겹치지 않더라도 저장하지 않는다")
+    void loadOlderThanInvalidationHistoryIsDropped() {
+        RouteTileCache cache = new RouteTileCache(new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(10, 873, 396, () -> {
+            for (int i = 0; i < 300; i++) {
+                cache.onRouteGeometryChanged(BUSAN_CHANGE);
+            }
+            return loadCounting(loads);
+        });
+        cache.get(10, 873, 396, () -> loadCounting(loads));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 타일은 미스로 보고 다시 생성한다")
+    void expiredTileIsReloaded() {
+        AtomicLong now = new AtomicLong();
+        RouteTileCache cache = new RouteTileCache(new SimpleMeterRegistry(), now::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(10, 873, 396, () -> loadCounting(loads));
+        now.addAndGet(RouteTileCache.TTL.toNanos() - 1);
+        cache.get(10, 873, 396, () -> loadCounting(loads));
+        assertEquals(1, loads.get());
+
+        now.incrementAndGet();
+        cache.get(10, 873, 396, () -> loadCounting(loads));
+        cache.get(10, 873, 396, () -> loadCounting(loads));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("만료된 타일을 다시 생성해도 캐시 바이트 합은 한 번만 센다")
+    void expiredTileBytesAreReleased() {
+        AtomicLong now = new AtomicLong();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RouteTileCache cache = new RouteTileCache(meterRegistry, now::get);
+
+        cache.get(10, 873, 396, () -> new byte[]{1, 2, 3});
+        now.addAndGet(RouteTileCache.TTL.toNanos());
+        cache.get(10, 873, 396, () -> new byte[]{1, 2, 3, 4});
+
+        assertEquals(4.0, meterRegistry.get("route.tile.cache.bytes").gauge().value());
+    }
+}
@@ -0,0 +1,177 @@
+package com.ridingmate.api_server.global.util;
+
+import com.ridingmate.api_server.global.config.GpsEncryptionKeyProperty;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GpsEncryptionUtilTest {
+
+    private static final String KEY_1 = base64Key(1);
+    private static final String KEY_2 = base64Key(2);
+
+    private static String base64Key(int seed) {
+        byte[] key = new byte[32];
+        Arrays.fill(key, (byte) seed);
+        return Base64.getEncoder().encodeToString(key);
+    }
+
+    private static GpsEncryptionUtil util(String legacyKey, Map<Integer, String> keys, Integer activeVersion) {
+        return new GpsEncryptionUtil(new GpsEncryptionKeyProperty(legacyKey, keys, activeVersion));
+    }
+
+    /**
+     * 키 버전 헤더 도입 전 형식 (IV + 암호문)
+     */
+    private static byte[] encryptWithoutHeader(String base64Key, byte[] plaintext) throws Exception {
+        byte[] iv = new byte[12];
+        Arrays.fill(iv, (byte) 7);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(Base64.getDecoder().decode(base64Key), "AES"),
+                new GCMParameterSpec(128, iv));
+        byte[] encrypted = cipher.doFinal(plaintext);
+
+        byte[] output = new byte[iv.length + encrypted.length];
+        System.arraycopy(iv, 0, output, 0, iv.length);
+        System.arraycopy(encrypted, 0, output, iv.length, encrypted.length);
+        return output;
+    }
+
+    @Test
+    @DisplayName("좌표 문자열 암호화 후 복호화하면 원래 값이 나오고, 암호문은 현재 키 버전 접두사로 시작한다")
+    void stringRoundTrip() {
+        GpsEncryptionUtil util = util(null, Map.of(1, KEY_1), null);
+
+        String encrypted = util.encrypt(37.5665123);
+
+        assertTrue(encrypted.startsWith(util.getActiveCiphertextPrefix()));
+        assertTrue(encrypted.startsWith("gpk"));
+        assertEquals(37.5665123, util.decrypt(encrypted), 0.0);
+        assertNull(util.encrypt(null));
+        assertNull(util.decrypt(null));
+    }
+
+    @Test
+    @DisplayName("일괄 암호화는 NaN을 null로 저장하고 일괄 복호화는 null을 NaN으로 돌려준다")
+    void batchRoundTripKeepsMissingValues() {
+        GpsEncryptionUtil util = util(null, Map.of(1, KEY_1), null);
+
+        String[] encrypted = util.encryptAll(new double[]{126.978, Double.NaN, -0.0001});
+
+        assertNull(encrypted[1]);
+        assertArrayEquals(new double[]{126.978, Double.NaN, -0.0001}, util.decryptAll(encrypted), 0.0);
+    }
+
+    @Test
+    @DisplayName("키 교체 후에도 이전 키 버전 암호문을 복호화하고, 새 암호문은 새 키 버전 접두사를 쓴다")
+    void decryptsPreviousKeyVersionAfterRotation() {
+        GpsEncryptionUtil before = util(null, Map.of(1, KEY_1), null);
+        GpsEncryptionUtil after = util(null, Map.of(1, KEY_1, 2, KEY_2), 2);
+
+        String oldCiphertext = before.encrypt(127.0276);
+
+        assertEquals(2, after.getActiveKeyVersion());
+        assertNotEquals(before.getActiveCiphertextPrefix(), after.getActiveCiphertextPrefix());
+        assertFalse(oldCiphertext.startsWith(after.getActiveCiphertextPrefix()));
+        assertTrue(after.encrypt(127.0276).startsWith(after.getActiveCiphertextPrefix()));
+        assertEquals(127.0276, after.decrypt(oldCiphertext), 0.0);
+    }
+
+    @Test
+    @DisplayName("헤더 없는 기존 암호문(10진 문자열 평문)은 기존 단일 키로 복호화한다")
+    void decryptsLegacyHeaderlessDecimalString() throws Exception {
+        GpsEncryptionUtil util = util(KEY_1, Map.of(2, KEY_2), 2);
+        String legacy = Base64.getEncoder().encodeToString(
+                encryptWithoutHeader(KEY_1, "37.123456".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(37.123456, util.decrypt(legacy), 0.0);
+        assertArrayEquals(new double[]{37.123456}, util.decryptAll(new String[]{legacy}), 0.0);
+    }
+
+    @Test
+    @DisplayName("트랙 블롭은 같은 연관 데이터로만 복호화되고 현재 키 버전 헤더가 붙는다")
+    void bytesAreBoundToAssociatedData() {
+        GpsEncryptionUtil util = util(null, Map.of(1, KEY_1), null);
+        byte[] plaintext = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+        byte[] chunk0 = "10:0".getBytes(StandardCharsets.UTF_8);
+        byte[] chunk1 = "10:1".getBytes(StandardCharsets.UTF_8);
+
+        byte[] encrypted = util.encryptBytes(plaintext, chunk0);
+
+        assertArrayEquals(util.getActiveBytesHeader(), Arrays.copyOf(encrypted, 3));
+        assertTrue(util.isCurrentBytes(encrypted));
+        assertArrayEquals(plaintext, util.decryptBytes(encrypted, chunk0));
+        assertThrows(RuntimeException.class, () -> util.decryptBytes(encrypted, chunk1));
+    }
+
+    @Test
+    @DisplayName("키 교체 후 이전 키 버전 블롭은 재암호화 대상이지만 복호화는 가능하다")
+    void previousVersionBytesAreNotCurrent() {
+        GpsEncryptionUtil before = util(null, Map.of(1, KEY_1), null);
+        GpsEncryptionUtil after = util(null, Map.of(1, KEY_1, 2, KEY_2), 2);
+        byte[] associatedData = "route_profiles".getBytes(StandardCharsets.UTF_8);
+        byte[] plaintext = {42, 43, 44};
+
+        byte[] oldBlob = before.encryptBytes(plaintext, associatedData);
+
+        assertFalse(after.isCurrentBytes(oldBlob));
+        assertArrayEquals(plaintext, after.decryptBytes(oldBlob, associatedData));
+        assertTrue(after.isCurrentBytes(after.encryptBytes(plaintext, associatedData)));
+    }
+
+    @Test
+    @DisplayName("연관 데이터 헤더가 없는 블롭은 복호화하지 않는다")
+    void rejectsUnboundBytes() throws Exception {
+        GpsEncryptionUtil util = util(KEY_1, Map.of(1, KEY_1), null);
+        byte[] plaintext = {9, 8, 7, 6};
+        byte[] associatedData = "1:0".getBytes(StandardCharsets.UTF_8);
+
+        byte[] headerless = encryptWithoutHeader(KEY_1, plaintext);
+        byte[] unboundHeader = Base64.getDecoder().decode(util.encrypt(37.5));
+
+        assertFalse(util.isCurrentBytes(headerless));
+        assertThrows(RuntimeException.class, () -> util.decryptBytes(headerless, associatedData));
+        assertThrows(RuntimeException.class, () -> util.decryptBytes(unboundHeader, associatedData));
+        assertThrows(IllegalArgumentException.class, () -> util.encryptBytes(plaintext, null));
+    }
+
+    @Test
+    @DisplayName("연관 데이터 블롭의 헤더를 바꿔도 연관 데이터 검증을 우회할 수 없다")
+    void boundBytesCannotBeDowngraded() {
+        GpsEncryptionUtil util = util(KEY_1, Map.of(1, KEY_1), null);
+        byte[] associatedData = "1:0".getBytes(StandardCharsets.UTF_8);
+        byte[] encrypted = util.encryptBytes(new byte[]{1, 2, 3}, associatedData);
+
+        byte[] downgraded = encrypted.clone();
+        downgraded[1] = (byte) 0x99;
+        byte[] stripped = Arrays.copyOfRange(encrypted, 3, encrypted.length);
+
+        assertThrows(RuntimeException.class, () -> util.decryptBytes(downgraded, associatedData));
+        assertThrows(RuntimeException.class, () -> util.decryptBytes(stripped, associatedData));
+    }
+
+    @Test
+    @DisplayName("키 설정이 잘못되면 생성 시 실패한다")
+    void rejectsInvalidKeyConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> util(null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> util(null, Map.of(1, KEY_1), 2));
+        assertThrows(IllegalArgumentException.class, () -> util(null, Map.of(64, KEY_1), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> util(Base64.getEncoder().encodeToString(new byte[16]), null, null));
+    }
+}
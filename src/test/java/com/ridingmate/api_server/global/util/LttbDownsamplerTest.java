@@ -0,0 +1,130 @@
+package com.ridingmate.api_server.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LttbDownsamplerTest {
+
+    private static final double NaN = Double.NaN;
+
+    private static double[] sine(int size) {
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = Math.sin(i / 50.0) * 100;
+        }
+        return values;
+    }
+
+    private static void assertStrictlyAscending(int[] indices) {
+        for (int i = 1; i < indices.length; i++) {
+            assertTrue(indices[i - 1] < indices[i], "index " + i + " is not ascending");
+        }
+    }
+
+    private static boolean contains(int[] indices, int index) {
+        for (int value : indices) {
+            if (value == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    @DisplayName("목표 개수만큼 오름차순 인덱스를 고르고 첫/마지막 포인트를 포함한다")
+    void keepsEndpointsAndTargetSize() {
+        int[] indices = LttbDownsampler.downsample(sine(10_000), 500);
+
+        assertEquals(500, indices.length);
+        assertEquals(0, indices[0]);
+        assertEquals(9_999, indices[indices.length - 1]);
+        assertStrictlyAscending(indices);
+    }
+
+    @Test
+    @DisplayName("포인트 수가 목표 이하이거나 목표가 3 미만이면 전체 인덱스를 반환한다")
+    void returnsAllIndicesWhenNothingToDrop() {
+        assertArrayEquals(new int[]{0, 1, 2}, LttbDownsampler.downsample(new double[]{1, 2, 3}, 5));
+        assertArrayEquals(new int[]{0, 1, 2, 3}, LttbDownsampler.downsample(new double[]{1, 2, 3, 4}, 2));
+        assertArrayEquals(new int[0], LttbDownsampler.downsample(new double[0], 10));
+    }
+
+    @Test
+    @DisplayName("단일 샘플 피크를 유지한다")
+    void keepsSingleSpike() {
+        double[] values = new double[1_000];
+        values[437] = 500;
+
+        assertTrue(contains(LttbDownsampler.downsample(values, 50), 437));
+    }
+
+    @Test
+    @DisplayName("NaN/Infinity는 0이 아니라 직전 유한 값으로 취급해 가짜 골짜기를 만들지 않는다")
+    void nonFiniteValuesCarryForward() {
+        double[] values = new double[1_000];
+        Arrays.fill(values, 100);
+        values[200] = NaN;
+        values[400] = Double.POSITIVE_INFINITY;
+        values[700] = 300;
+
+        int[] indices = LttbDownsampler.downsample(values, 20);
+
+        assertEquals(20, indices.length);
+        assertTrue(contains(indices, 700));
+        assertFalse(contains(indices, 200));
+        assertFalse(contains(indices, 400));
+    }
+
+    @Test
+    @DisplayName("앞쪽 결측과 전체 결측 채널도 목표 개수와 양 끝을 지킨다")
+    void leadingAndAllMissingValues() {
+        double[] values = sine(1_000);
+        for (int i = 0; i < 100; i++) {
+            values[i] = NaN;
+        }
+        double[] missing = new double[1_000];
+        Arrays.fill(missing, NaN);
+
+        int[] leading = LttbDownsampler.downsample(values, 100);
+        int[] allMissing = LttbDownsampler.downsample(missing, 100);
+
+        assertEquals(100, leading.length);
+        assertStrictlyAscending(leading);
+        assertEquals(100, allMissing.length);
+        assertEquals(0, allMissing[0]);
+        assertEquals(999, allMissing[99]);
+        assertStrictlyAscending(allMissing);
+    }
+
+    @Test
+    @DisplayName("다채널은 어느 채널의 피크든 유지하고 결측 채널은 선택에 영향을 주지 않는다")
+    void multiChannelKeepsPeaksOfEveryChannel() {
+        int size = 2_000;
+        double[] elevations = new double[size];
+        double[] speeds = new double[size];
+        double[] heartRates = new double[size];
+        Arrays.fill(heartRates, NaN);
+        for (int i = 0; i < size; i++) {
+            elevations[i] = 50;
+            speeds[i] = 5;
+        }
+        elevations[321] = 80;
+        speeds[1_234] = 20;
+
+        int[] indices = LttbDownsampler.downsample(new double[][]{elevations, speeds, heartRates}, 40);
+
+        assertEquals(40, indices.length);
+        assertEquals(0, indices[0]);
+        assertEquals(size - 1, indices[indices.length - 1]);
+        assertStrictlyAscending(indices);
+        assertTrue(contains(indices, 321));
+        assertTrue(contains(indices, 1_234));
+    }
+}
@@ -0,0 +1,80 @@
+package com.ridingmate.api_server.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TrackXmlWriterTest {
+
+    private interface WriteAction {
+        void write(TrackXmlWriter writer) throws IOException;
+    }
+
+    private static String write(WriteAction action) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TrackXmlWriter writer = new TrackXmlWriter(out);
+        action.write(writer);
+        writer.flush();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("XML 특수문자 다섯 개를 엔티티로 이스케이프한다")
+    void escapesXmlSpecialCharacters() throws IOException {
+        assertEquals("Tom &amp; Jerry &lt;3&gt; &quot;한강&quot; &apos;라이딩&apos;",
+                write(writer -> writer.escaped("Tom & Jerry <3> \"한강\" '라이딩'")));
+    }
+
+    @Test
+    @DisplayName("이미 이스케이프된 문자열도 다시 이스케이프한다")
+    void escapesExistingEntities() throws IOException {
+        assertEquals("&amp;amp;&amp;lt;", write(writer -> writer.escaped("&amp;&lt;")));
+    }
+
+    @Test
+    @DisplayName("null은 아무것도 쓰지 않고 text는 이스케이프하지 않는다")
+    void nullAndRawText() throws IOException {
+        assertEquals("<name></name>",
+                write(writer -> writer.text("<name>").escaped(null).text("</name>")));
+    }
+
+    @Test
+    @DisplayName("XML 1.0에서 허용되지 않는 제어 문자는 제외하고 탭/줄바꿈과 한글/이모지는 유지한다")
+    void dropsInvalidControlCharacters() throws IOException {
+        assertEquals("a\tb\nc\rd 출근길 🚲",
+                write(writer -> writer.escaped("a\tb\nc\rd\u0000\u0001\u001F\uFFFE 출근길 🚲")));
+    }
+
+    @Test
+    @DisplayName("고정 소수점은 반올림하고 음수 0과 NaN/무한대는 0으로 쓴다")
+    void writesFixedDecimals() throws IOException {
+        assertEquals("37.5665123", write(writer -> writer.fixed(37.56651234, 7)));
+        assertEquals("-126.9780000", write(writer -> writer.fixed(-126.978, 7)));
+        assertEquals("0.0", write(writer -> writer.fixed(-0.04, 1)));
+        assertEquals("1.00", write(writer -> writer.fixed(0.999, 2)));
+        assertEquals("0.00", write(writer -> writer.fixed(Double.NaN, 2)));
+        assertEquals("0", write(writer -> writer.fixed(Double.POSITIVE_INFINITY, 0)));
+    }
+
+    @Test
+    @DisplayName("정수는 부호를 포함해 쓴다")
+    void writesIntegers() throws IOException {
+        assertEquals("0 -42 1234567890", write(writer -> writer
+                .integer(0).text(" ").integer(-42).text(" ").integer(1_234_567_890)));
+    }
+
+    @Test
+    @DisplayName("UTC 시각은 날짜가 바뀌어도 올바르게 쓰고 1970년 이전도 처리한다")
+    void writesIsoTimeAcrossDays() throws IOException {
+        assertEquals("2023-11-14T23:59:59Z 2023-11-15T00:00:00Z 1969-12-31T23:59:59Z",
+                write(writer -> writer
+                        .isoTime(1_700_006_399L).text(" ")
+                        .isoTime(1_700_006_400L).text(" ")
+                        .isoTime(-1L)));
+    }
+}